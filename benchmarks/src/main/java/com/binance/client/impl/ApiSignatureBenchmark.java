@@ -0,0 +1,67 @@
+package com.binance.client.impl;
+
+import com.binance.client.impl.utils.UrlParamsBuilder;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Signing of a typical postOrder query: the pooled per-thread signer against the
+ * previous Mac.getInstance / SecretKeySpec / Hex.encodeHex implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ApiSignatureBenchmark {
+
+    private static final String API_KEY = "vmPUZE6mv9SD5VNHk4HlWFsOr6aKE2zvsw0MuIgwCIPy6utIco14y7Ju91duEh8A";
+    private static final String SECRET_KEY = "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+
+    private final ApiSignature apiSignature = new ApiSignature();
+
+    private UrlParamsBuilder orderParams() {
+        return UrlParamsBuilder.build()
+                .putToUrl("symbol", "BTCUSDT")
+                .putToUrl("side", "BUY")
+                .putToUrl("type", "LIMIT")
+                .putToUrl("timeInForce", "GTC")
+                .putToUrl("quantity", "0.001")
+                .putToUrl("price", "9000.10")
+                .putToUrl("newClientOrderId", "quote-000123")
+                .putToUrl("recvWindow", "5000")
+                .putToUrl("timestamp", "1591702613943");
+    }
+
+    @Benchmark
+    public String pooledSigner() {
+        return ApiSignature.signer().sign(SECRET_KEY, orderParams());
+    }
+
+    @Benchmark
+    public String legacySigner() throws Exception {
+        Mac hmacSha256 = Mac.getInstance("HmacSHA256");
+        hmacSha256.init(new SecretKeySpec(SECRET_KEY.getBytes(), "HmacSHA256"));
+        String payload = orderParams().buildSignature();
+        return new String(Hex.encodeHex(hmacSha256.doFinal(payload.getBytes())));
+    }
+
+    @Benchmark
+    public String createSignature() {
+        UrlParamsBuilder builder = orderParams();
+        apiSignature.createSignature(API_KEY, SECRET_KEY, 1591702613943L, builder);
+        return builder.buildUrl();
+    }
+}
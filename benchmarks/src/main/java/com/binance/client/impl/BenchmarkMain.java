@@ -0,0 +1,32 @@
+package com.binance.client.impl;
+
+import java.util.Arrays;
+import org.openjdk.jmh.Main;
+
+/**
+ * Entry point of benchmarks.jar: the JMH launcher with the gc profiler always
+ * on, so every run reports the allocation rate next to the time. The usual JMH
+ * options are accepted.
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        Main.main(hasGcProfiler(args) ? args : withGcProfiler(args));
+    }
+
+    private static boolean hasGcProfiler(String[] args) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("-prof") && args[i + 1].startsWith("gc")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] withGcProfiler(String[] args) {
+        String[] result = Arrays.copyOf(args, args.length + 2);
+        result[args.length] = "-prof";
+        result[args.length + 1] = "gc";
+        return result;
+    }
+}
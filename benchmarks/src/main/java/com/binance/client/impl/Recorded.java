@@ -0,0 +1,52 @@
+package com.binance.client.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+/**
+ * Recorded REST responses and stream frames, kept as one-line JSON under
+ * resources/recorded so the benchmarks parse what the exchange sends.
+ */
+final class Recorded {
+
+    private Recorded() {
+    }
+
+    /**
+     * @return The body of a /fapi/v1 response, like "depth" or "account".
+     */
+    static String rest(String name) {
+        return load("/recorded/rest/" + name + ".json");
+    }
+
+    /**
+     * @return The payload of a stream frame, like "aggTrade" or "depthUpdate".
+     */
+    static String frame(String name) {
+        return load("/recorded/ws/" + name + ".json");
+    }
+
+    /**
+     * @return The frame as the combined stream endpoint wraps it.
+     */
+    static String combinedFrame(String streamName, String name) {
+        return "{\"stream\":\"" + streamName + "\",\"data\":" + frame(name) + "}";
+    }
+
+    private static String load(String resource) {
+        InputStream in = Recorded.class.getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalArgumentException("No recorded payload " + resource);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n")).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.binance.client.impl;
+
+import com.binance.client.RequestOptions;
+import com.binance.client.impl.utils.JsonWrapper;
+import com.binance.client.model.enums.CandlestickInterval;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of recorded /fapi/v1 responses: JsonWrapper.parseFromString alone, and
+ * with the jsonParser of the RestApiRequestImpl request building the model, as
+ * RestApiInvoker does for a body read as text.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RestResponseBenchmark {
+
+    static final String API_KEY = "vmPUZE6mv9SD5VNHk4HlWFsOr6aKE2zvsw0MuIgwCIPy6utIco14y7Ju91duEh8A";
+    static final String SECRET_KEY = "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+
+    @Param({"depth", "aggTrades", "klines", "ticker24hr", "premiumIndex", "order", "account"})
+    public String endpoint;
+
+    private String body;
+    private RestApiRequest<?> request;
+
+    @Setup
+    public void setUp() {
+        body = Recorded.rest(endpoint);
+        request = request(new RestApiRequestImpl(API_KEY, SECRET_KEY, new RequestOptions()), endpoint);
+    }
+
+    static RestApiRequest<?> request(RestApiRequestImpl requestImpl, String endpoint) {
+        switch (endpoint) {
+            case "depth":
+                return requestImpl.getOrderBook("BTCUSDT", 20);
+            case "aggTrades":
+                return requestImpl.getAggregateTrades("BTCUSDT", null, null, null, 10);
+            case "klines":
+                return requestImpl.getCandlestick("BTCUSDT", CandlestickInterval.ONE_MINUTE, null, null, 10);
+            case "ticker24hr":
+                return requestImpl.get24hrTickerPriceChange("BTCUSDT");
+            case "premiumIndex":
+                return requestImpl.getMarkPrice("BTCUSDT");
+            case "order":
+                return requestImpl.postOrder("BTCUSDT", null, null, null, null, "0.001", "9000.10", null,
+                        "quote-000123", null, null, null, null, 1591702613943L);
+            default:
+                return requestImpl.getAccountInformation(1591702613943L);
+        }
+    }
+
+    @Benchmark
+    public JsonWrapper parseFromString() {
+        return JsonWrapper.parseFromString(body);
+    }
+
+    @Benchmark
+    public Object jsonParser() {
+        return request.jsonParser.parseJson(JsonWrapper.parseFromString(body));
+    }
+}
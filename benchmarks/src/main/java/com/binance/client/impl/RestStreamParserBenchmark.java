@@ -0,0 +1,57 @@
+package com.binance.client.impl;
+
+import com.binance.client.RequestOptions;
+import com.binance.client.impl.utils.JsonStreamReader;
+import com.binance.client.impl.utils.JsonWrapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The responses RestApiInvoker parses straight from the body stream: the
+ * streamParser reading the received bytes against decoding them to a String
+ * and going through JsonWrapper and the jsonParser.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RestStreamParserBenchmark {
+
+    @Param({"depth", "aggTrades", "klines"})
+    public String endpoint;
+
+    private byte[] body;
+    private RestApiRequest<?> request;
+
+    @Setup
+    public void setUp() {
+        body = Recorded.rest(endpoint).getBytes(StandardCharsets.UTF_8);
+        request = RestResponseBenchmark.request(new RestApiRequestImpl(RestResponseBenchmark.API_KEY,
+                RestResponseBenchmark.SECRET_KEY, new RequestOptions()), endpoint);
+    }
+
+    @Benchmark
+    public Object streamParser() throws IOException {
+        return request.streamParser.parseStream(new JsonStreamReader(new Buffer().write(body)));
+    }
+
+    @Benchmark
+    public Object jsonParser() {
+        return request.jsonParser.parseJson(JsonWrapper.parseFromString(new String(body, StandardCharsets.UTF_8)));
+    }
+}
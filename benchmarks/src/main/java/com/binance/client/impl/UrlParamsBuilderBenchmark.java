@@ -0,0 +1,68 @@
+package com.binance.client.impl;
+
+import com.binance.client.impl.utils.UrlParamsBuilder;
+import com.binance.client.model.enums.CandlestickInterval;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building the query of typical requests, parameters included: a klines query,
+ * the payload signed for postOrder, and a batchOrders query whose JSON value
+ * has to be url-encoded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UrlParamsBuilderBenchmark {
+
+    private static final String BATCH_ORDERS = "[{\"symbol\":\"BTCUSDT\",\"side\":\"BUY\",\"type\":\"LIMIT\","
+            + "\"quantity\":\"0.001\",\"price\":\"9000.10\",\"timeInForce\":\"GTC\"},"
+            + "{\"symbol\":\"BTCUSDT\",\"side\":\"SELL\",\"type\":\"LIMIT\","
+            + "\"quantity\":\"0.001\",\"price\":\"9900.10\",\"timeInForce\":\"GTC\"}]";
+
+    @Benchmark
+    public String buildUrl() {
+        return UrlParamsBuilder.build()
+                .putToUrl("symbol", "BTCUSDT")
+                .putToUrl("interval", CandlestickInterval.ONE_MINUTE)
+                .putToUrl("startTime", 1591702560000L)
+                .putToUrl("endTime", 1591702619999L)
+                .putToUrl("limit", 500)
+                .buildUrl();
+    }
+
+    @Benchmark
+    public String buildSignature() {
+        return UrlParamsBuilder.build()
+                .putToUrl("symbol", "BTCUSDT")
+                .putToUrl("side", "BUY")
+                .putToUrl("type", "LIMIT")
+                .putToUrl("timeInForce", "GTC")
+                .putToUrl("quantity", "0.001")
+                .putToUrl("price", "9000.10")
+                .putToUrl("newClientOrderId", "quote-000123")
+                .putToUrl("recvWindow", "5000")
+                .putToUrl("timestamp", "1591702613943")
+                .buildSignature();
+    }
+
+    @Benchmark
+    public String buildEncodedUrl() {
+        return UrlParamsBuilder.build()
+                .putToUrl("batchOrders", BATCH_ORDERS)
+                .putToUrl("recvWindow", "5000")
+                .putToUrl("timestamp", "1591702613943")
+                .buildUrl();
+    }
+}
@@ -0,0 +1,80 @@
+package com.binance.client.impl;
+
+import com.binance.client.exception.BinanceApiException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A recorded frame through WebSocketConnection.onMessage, from the text okhttp
+ * hands over to the listener: routing, parsing and the listener call, on a
+ * single stream connection and on a combined stream connection carrying two
+ * streams. Without a dispatcher all of it runs on the calling thread, which is
+ * the work a dispatcher only moves to its own threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WebSocketConnectionBenchmark {
+
+    @Param({"single", "combined"})
+    public String connectionType;
+
+    @Param({"aggTrade", "depthUpdate"})
+    public String stream;
+
+    @Param({"false", "true"})
+    public boolean frameParsing;
+
+    private String frame;
+    private WebSocketConnection connection;
+    private volatile BinanceApiException error = null;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        WebsocketRequestImpl requestImpl = new WebsocketRequestImpl(false, false, frameParsing);
+        WebsocketRequest<?> aggTrade = requestImpl.subscribeAggregateTradeEvent("btcusdt",
+                blackhole::consume, e -> error = e);
+        WebsocketRequest<?> depth = requestImpl.subscribeDiffDepthEvent("btcusdt",
+                blackhole::consume, e -> error = e);
+        WebsocketRequest<?> request = stream.equals("aggTrade") ? aggTrade : depth;
+        if (connectionType.equals("single")) {
+            connection = new WebSocketConnection(request, null, null);
+            frame = Recorded.frame(stream);
+        } else {
+            connection = new WebSocketConnection(null, null);
+            connection.addStream(aggTrade);
+            connection.addStream(depth);
+            frame = Recorded.combinedFrame(request.streamName, stream);
+        }
+    }
+
+    @TearDown
+    public void checkErrors() {
+        if (error != null) {
+            throw error;
+        }
+        if (connection.getState() == WebSocketConnection.ConnectionState.CLOSED_ON_ERROR) {
+            throw new IllegalStateException("Connection closed on error");
+        }
+    }
+
+    @Benchmark
+    public void onMessage() {
+        connection.onMessage(null, frame);
+    }
+}
@@ -0,0 +1,93 @@
+package com.binance.client.impl;
+
+import com.binance.client.impl.utils.JsonWrapper;
+import com.binance.client.model.enums.CandlestickInterval;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of one recorded frame by each WebsocketRequestImpl parser: the
+ * JsonWrapper tree and the jsonParser lambda against the schema-specific frame
+ * parser, with new and with reused events.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WebsocketFrameParserBenchmark {
+
+    @Param({"aggTrade", "markPriceUpdate", "kline", "24hrMiniTicker", "allMiniTickers", "24hrTicker",
+            "allTickers", "bookTicker", "forceOrder", "depth5", "depthUpdate", "priceLevels", "ACCOUNT_UPDATE",
+            "ORDER_TRADE_UPDATE"})
+    public String stream;
+
+    private String frame;
+    private WebsocketRequest<?> request;
+    private WebsocketRequest<?> flyweightRequest;
+
+    @Setup
+    public void setUp() {
+        frame = Recorded.frame(stream.equals("priceLevels") ? "depthUpdate" : stream);
+        request = subscribe(new WebsocketRequestImpl(false, false, true), stream);
+        flyweightRequest = subscribe(new WebsocketRequestImpl(false, true, true), stream);
+    }
+
+    static WebsocketRequest<?> subscribe(WebsocketRequestImpl requestImpl, String stream) {
+        switch (stream) {
+            case "aggTrade":
+                return requestImpl.subscribeAggregateTradeEvent("btcusdt", event -> { }, null);
+            case "markPriceUpdate":
+                return requestImpl.subscribeMarkPriceEvent("btcusdt", event -> { }, null);
+            case "kline":
+                return requestImpl.subscribeCandlestickEvent("btcusdt", CandlestickInterval.ONE_MINUTE,
+                        event -> { }, null);
+            case "24hrMiniTicker":
+                return requestImpl.subscribeSymbolMiniTickerEvent("btcusdt", event -> { }, null);
+            case "allMiniTickers":
+                return requestImpl.subscribeAllMiniTickerEvent(event -> { }, null);
+            case "24hrTicker":
+                return requestImpl.subscribeSymbolTickerEvent("btcusdt", event -> { }, null);
+            case "allTickers":
+                return requestImpl.subscribeAllTickerEvent(event -> { }, null);
+            case "bookTicker":
+                return requestImpl.subscribeSymbolBookTickerEvent("btcusdt", event -> { }, null);
+            case "forceOrder":
+                return requestImpl.subscribeSymbolLiquidationOrderEvent("btcusdt", event -> { }, null);
+            case "depth5":
+                return requestImpl.subscribeBookDepthEvent("btcusdt", 5, event -> { }, null);
+            case "depthUpdate":
+                return requestImpl.subscribeDiffDepthEvent("btcusdt", event -> { }, null);
+            case "priceLevels":
+                return requestImpl.subscribeDiffDepthEvent("btcusdt", 2, 3, event -> { }, null);
+            default:
+                return requestImpl.subscribeUserDataEvent("listenKey", event -> { }, null);
+        }
+    }
+
+    @Benchmark
+    public Object jsonTree() {
+        return request.jsonParser.parseJson(JsonWrapper.parseFromString(frame));
+    }
+
+    @Benchmark
+    public Object frameParser() {
+        return request.frameParser.parseFrame(frame);
+    }
+
+    @Benchmark
+    public Object flyweightFrameParser() {
+        return flyweightRequest.frameParser.parseFrame(frame);
+    }
+}
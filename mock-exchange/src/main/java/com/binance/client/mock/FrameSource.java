@@ -0,0 +1,40 @@
+package com.binance.client.mock;
+
+import com.binance.client.exception.BinanceApiException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The payloads a {@link MockExchange} pushes on a stream.
+ */
+@FunctionalInterface
+public interface FrameSource {
+
+    /**
+     * @param streamName The stream the frame is sent on, like "btcusdt@aggTrade".
+     * @param sequence   The number of frames sent on the stream of this
+     *                   connection so far.
+     * @param eventTime  The current time in milliseconds, for the "E" field.
+     * @return The payload, without the combined stream wrapper.
+     */
+    String nextFrame(String streamName, long sequence, long eventTime);
+
+    /**
+     * @return Frames of the kind of each stream, with moving prices and
+     *         consecutive update ids, see {@link GeneratedFrames}.
+     */
+    static FrameSource generated() {
+        return new GeneratedFrames();
+    }
+
+    /**
+     * @return The given frames in turn, starting over after the last one.
+     */
+    static FrameSource scripted(List<String> frames) {
+        if (frames == null || frames.isEmpty()) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "[Mock] No frames to script");
+        }
+        List<String> copy = new ArrayList<>(frames);
+        return (streamName, sequence, eventTime) -> copy.get((int) (sequence % copy.size()));
+    }
+}
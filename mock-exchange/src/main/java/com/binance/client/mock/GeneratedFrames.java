@@ -0,0 +1,270 @@
+package com.binance.client.mock;
+
+import java.util.Locale;
+
+/**
+ * Frames of the kind the stream name asks for: aggTrade, markPrice, kline_*,
+ * miniTicker, ticker, bookTicker, forceOrder, partial (depth5/10/20) and diff
+ * depth, and the all market arrays. Any other name is taken as a listen key and
+ * gets ORDER_TRADE_UPDATE events. Values are derived from the sequence number,
+ * so a run is repeatable, and diff depth update ids are consecutive so a local
+ * book stays in sync.
+ */
+class GeneratedFrames implements FrameSource {
+
+    private static final String[] MARKET_SYMBOLS = {"BTCUSDT", "ETHUSDT", "BCHUSDT", "XRPUSDT", "EOSUSDT"};
+
+    private static final long FIRST_UPDATE_ID = 1027025;
+
+    @Override
+    public String nextFrame(String streamName, long sequence, long eventTime) {
+        int at = streamName.indexOf('@');
+        String symbol = at > 0 && streamName.charAt(0) != '!'
+                ? streamName.substring(0, at).toUpperCase(Locale.ROOT) : MARKET_SYMBOLS[0];
+        String kind = at >= 0 ? streamName.substring(at + 1) : "";
+        if (streamName.startsWith("!miniTicker")) {
+            return array(sequence, eventTime, true);
+        }
+        if (streamName.startsWith("!ticker")) {
+            return array(sequence, eventTime, false);
+        }
+        if (streamName.startsWith("!bookTicker")) {
+            return bookTicker(MARKET_SYMBOLS[(int) (sequence % MARKET_SYMBOLS.length)], sequence, eventTime);
+        }
+        if (streamName.startsWith("!forceOrder")) {
+            return forceOrder(MARKET_SYMBOLS[(int) (sequence % MARKET_SYMBOLS.length)], sequence, eventTime);
+        }
+        if (kind.startsWith("aggTrade")) {
+            return aggTrade(symbol, sequence, eventTime);
+        }
+        if (kind.startsWith("markPrice")) {
+            return markPrice(symbol, sequence, eventTime);
+        }
+        if (kind.startsWith("kline_")) {
+            int end = kind.indexOf('@');
+            return kline(symbol, end > 0 ? kind.substring(6, end) : kind.substring(6), sequence, eventTime);
+        }
+        if (kind.startsWith("miniTicker")) {
+            return ticker(new StringBuilder(), symbol, sequence, eventTime, true).toString();
+        }
+        if (kind.startsWith("ticker")) {
+            return ticker(new StringBuilder(), symbol, sequence, eventTime, false).toString();
+        }
+        if (kind.startsWith("bookTicker")) {
+            return bookTicker(symbol, sequence, eventTime);
+        }
+        if (kind.startsWith("forceOrder")) {
+            return forceOrder(symbol, sequence, eventTime);
+        }
+        if (kind.startsWith("depth")) {
+            int levels = 0;
+            for (int i = 5; i < kind.length() && Character.isDigit(kind.charAt(i)); i++) {
+                levels = levels * 10 + kind.charAt(i) - '0';
+            }
+            return depth(symbol, sequence, eventTime, levels);
+        }
+        return orderUpdate(sequence, eventTime);
+    }
+
+    private static String aggTrade(String symbol, long sequence, long eventTime) {
+        StringBuilder sb = new StringBuilder(192);
+        sb.append("{\"e\":\"aggTrade\",\"E\":").append(eventTime)
+                .append(",\"s\":\"").append(symbol)
+                .append("\",\"a\":").append(26129 + sequence)
+                .append(",\"p\":\"");
+        price(sb, sequence);
+        sb.append("\",\"q\":\"");
+        qty(sb, sequence);
+        sb.append("\",\"f\":").append(100 + 2 * sequence)
+                .append(",\"l\":").append(101 + 2 * sequence)
+                .append(",\"T\":").append(eventTime)
+                .append(",\"m\":").append(sequence % 2 == 0)
+                .append('}');
+        return sb.toString();
+    }
+
+    private static String markPrice(String symbol, long sequence, long eventTime) {
+        StringBuilder sb = new StringBuilder(192);
+        sb.append("{\"e\":\"markPriceUpdate\",\"E\":").append(eventTime)
+                .append(",\"s\":\"").append(symbol)
+                .append("\",\"p\":\"");
+        price(sb, sequence);
+        sb.append("\",\"i\":\"");
+        price(sb, sequence + 1);
+        sb.append("\",\"r\":\"0.00010000\",\"T\":").append((eventTime / 28_800_000 + 1) * 28_800_000)
+                .append('}');
+        return sb.toString();
+    }
+
+    private static String kline(String symbol, String interval, long sequence, long eventTime) {
+        long openTime = eventTime / 60_000 * 60_000;
+        StringBuilder sb = new StringBuilder(384);
+        sb.append("{\"e\":\"kline\",\"E\":").append(eventTime)
+                .append(",\"s\":\"").append(symbol)
+                .append("\",\"k\":{\"t\":").append(openTime)
+                .append(",\"T\":").append(openTime + 59_999)
+                .append(",\"s\":\"").append(symbol)
+                .append("\",\"i\":\"").append(interval)
+                .append("\",\"f\":26000,\"L\":").append(26000 + sequence)
+                .append(",\"o\":\"9690.00\",\"c\":\"");
+        price(sb, sequence);
+        sb.append("\",\"h\":\"9695.00\",\"l\":\"9589.10\",\"v\":\"");
+        qty(sb, sequence);
+        sb.append("\",\"n\":").append(sequence + 1)
+                .append(",\"x\":false,\"q\":\"408220.10\",\"V\":\"20.003\",\"Q\":\"193877.41\",\"B\":\"0\"}}");
+        return sb.toString();
+    }
+
+    private static StringBuilder ticker(StringBuilder sb, String symbol, long sequence, long eventTime,
+            boolean mini) {
+        sb.append("{\"e\":\"").append(mini ? "24hrMiniTicker" : "24hrTicker")
+                .append("\",\"E\":").append(eventTime)
+                .append(",\"s\":\"").append(symbol)
+                .append("\",\"c\":\"");
+        price(sb, sequence);
+        sb.append("\",\"o\":\"9788.51\",\"h\":\"9851.00\",\"l\":\"9589.10\",\"v\":\"193811.512\""
+                + ",\"q\":\"1882311925.95\"");
+        if (!mini) {
+            sb.append(",\"p\":\"-94.99\",\"P\":\"-0.972\",\"w\":\"9712.21\",\"Q\":\"");
+            qty(sb, sequence);
+            sb.append("\",\"O\":").append(eventTime - 86_400_000)
+                    .append(",\"C\":").append(eventTime)
+                    .append(",\"F\":26000,\"L\":").append(26000 + sequence)
+                    .append(",\"n\":").append(sequence + 1);
+        }
+        return sb.append('}');
+    }
+
+    private static String array(long sequence, long eventTime, boolean mini) {
+        StringBuilder sb = new StringBuilder(MARKET_SYMBOLS.length * 320);
+        sb.append('[');
+        for (int i = 0; i < MARKET_SYMBOLS.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            ticker(sb, MARKET_SYMBOLS[i], sequence + i, eventTime, mini);
+        }
+        return sb.append(']').toString();
+    }
+
+    private static String bookTicker(String symbol, long sequence, long eventTime) {
+        StringBuilder sb = new StringBuilder(192);
+        sb.append("{\"e\":\"bookTicker\",\"u\":").append(400900217 + sequence)
+                .append(",\"E\":").append(eventTime)
+                .append(",\"T\":").append(eventTime)
+                .append(",\"s\":\"").append(symbol)
+                .append("\",\"b\":\"");
+        price(sb, sequence);
+        sb.append("\",\"B\":\"");
+        qty(sb, sequence);
+        sb.append("\",\"a\":\"");
+        price(sb, sequence + 1);
+        sb.append("\",\"A\":\"");
+        qty(sb, sequence + 1);
+        sb.append("\"}");
+        return sb.toString();
+    }
+
+    private static String forceOrder(String symbol, long sequence, long eventTime) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"e\":\"forceOrder\",\"E\":").append(eventTime)
+                .append(",\"o\":{\"s\":\"").append(symbol)
+                .append("\",\"S\":\"").append(sequence % 2 == 0 ? "SELL" : "BUY")
+                .append("\",\"o\":\"LIMIT\",\"f\":\"IOC\",\"q\":\"");
+        qty(sb, sequence);
+        sb.append("\",\"p\":\"");
+        price(sb, sequence);
+        sb.append("\",\"ap\":\"");
+        price(sb, sequence);
+        sb.append("\",\"X\":\"FILLED\",\"l\":\"");
+        qty(sb, sequence);
+        sb.append("\",\"z\":\"");
+        qty(sb, sequence);
+        sb.append("\",\"T\":").append(eventTime).append("}}");
+        return sb.toString();
+    }
+
+    /**
+     * @param levels The number of levels per side of a partial book, 0 for a
+     *               diff depth update of a few levels.
+     */
+    private static String depth(String symbol, long sequence, long eventTime, int levels) {
+        long lastUpdateId = FIRST_UPDATE_ID + 3 * sequence + 2;
+        StringBuilder sb = new StringBuilder(levels > 0 ? 96 + 60 * levels : 320);
+        sb.append("{\"e\":\"depthUpdate\",\"E\":").append(eventTime)
+                .append(",\"T\":").append(eventTime)
+                .append(",\"s\":\"").append(symbol)
+                .append("\",\"U\":").append(lastUpdateId - 2)
+                .append(",\"u\":").append(lastUpdateId)
+                .append(",\"pu\":").append(lastUpdateId - 3)
+                .append(",\"b\":");
+        levels(sb, sequence, levels > 0 ? levels : 3, -1);
+        sb.append(",\"a\":");
+        levels(sb, sequence + 1, levels > 0 ? levels : 3, 1);
+        return sb.append('}').toString();
+    }
+
+    private static void levels(StringBuilder sb, long sequence, int count, int side) {
+        sb.append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("[\"");
+            appendCents(sb, 969_350 + side * (5 + 10 * i + sequence % 5));
+            sb.append("\",\"");
+            // Every seventh level is removed, the way diff depth sends a zero quantity.
+            if ((sequence + i) % 7 == 0) {
+                sb.append("0.000");
+            } else {
+                qty(sb, sequence + i);
+            }
+            sb.append("\"]");
+        }
+        sb.append(']');
+    }
+
+    private static String orderUpdate(long sequence, long eventTime) {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("{\"e\":\"ORDER_TRADE_UPDATE\",\"E\":").append(eventTime)
+                .append(",\"T\":").append(eventTime)
+                .append(",\"o\":{\"s\":\"BTCUSDT\",\"c\":\"mock-").append(sequence)
+                .append("\",\"S\":\"").append(sequence % 2 == 0 ? "BUY" : "SELL")
+                .append("\",\"o\":\"LIMIT\",\"f\":\"GTC\",\"q\":\"0.001\",\"p\":\"");
+        price(sb, sequence);
+        sb.append("\",\"ap\":\"0\",\"sp\":\"0\",\"x\":\"NEW\",\"X\":\"NEW\",\"i\":").append(8886774 + sequence)
+                .append(",\"l\":\"0\",\"z\":\"0\",\"L\":\"0\",\"N\":\"USDT\",\"n\":\"0\",\"T\":").append(eventTime)
+                .append(",\"t\":0,\"b\":\"9.00010\",\"a\":\"0\",\"m\":false,\"R\":false,\"wt\":\"CONTRACT_PRICE\""
+                        + ",\"ot\":\"LIMIT\",\"ps\":\"BOTH\",\"cp\":false,\"rp\":\"0\"}}");
+        return sb.toString();
+    }
+
+    /**
+     * A price moving around 9693.50 by steps of up to a dollar.
+     */
+    private static void price(StringBuilder sb, long sequence) {
+        appendCents(sb, 969_350 + (sequence * 37) % 201 - 100);
+    }
+
+    private static void qty(StringBuilder sb, long sequence) {
+        long thousandths = 1 + (sequence * 7919) % 12_000;
+        sb.append(thousandths / 1000).append('.');
+        long fraction = thousandths % 1000;
+        if (fraction < 100) {
+            sb.append('0');
+        }
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+
+    private static void appendCents(StringBuilder sb, long cents) {
+        sb.append(cents / 100).append('.');
+        long fraction = cents % 100;
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+}
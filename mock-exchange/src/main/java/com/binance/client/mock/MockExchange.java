@@ -0,0 +1,345 @@
+package com.binance.client.mock;
+
+import com.binance.client.exception.BinanceApiException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A local futures exchange for tests without network and for load tests. It
+ * serves the /fapi/v1 REST endpoints, checking API keys and signatures, and
+ * the /ws and /stream endpoints, pushing frames on the subscribed streams at a
+ * configurable rate. Latency, 429 answers and dropped connections can be
+ * injected.
+ *
+ * <pre>
+ * MockExchange exchange = new MockExchange();
+ * exchange.addApiKey(apiKey, secretKey);
+ * exchange.setFramesPerSecond(1_000);
+ * exchange.start();
+ *
+ * RequestOptions requestOptions = new RequestOptions();
+ * requestOptions.setUrl(exchange.getRestUrl());
+ * SubscriptionOptions subscriptionOptions = new SubscriptionOptions();
+ * subscriptionOptions.setUri(exchange.getStreamUri());
+ * </pre>
+ */
+public class MockExchange implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(MockExchange.class);
+
+    private final MockWebServer server = new MockWebServer();
+    private final RestEndpoints restEndpoints = new RestEndpoints();
+    private final Set<StreamSession> sessions = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Map<String, FrameSource> frameSources = new ConcurrentHashMap<>();
+    private final Map<String, Double> streamFramesPerSecond = new ConcurrentHashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong frameCount = new AtomicLong();
+    private ScheduledExecutorService pusher = null;
+
+    private volatile FrameSource frameSource = FrameSource.generated();
+    private volatile double framesPerSecond = 0;
+    private volatile long latencyMs = 0;
+    private volatile long streamLatencyMs = 0;
+    private volatile int rateLimitEvery = 0;
+    private volatile int retryAfterSeconds = 1;
+    private volatile int disconnectEvery = 0;
+    private volatile long streamDisconnectAfterFrames = 0;
+
+    public MockExchange() {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return MockExchange.this.dispatch(request);
+            }
+        });
+    }
+
+    /**
+     * Accept requests signed with a key pair.
+     */
+    public void addApiKey(String apiKey, String secretKey) {
+        restEndpoints.addApiKey(apiKey, secretKey);
+    }
+
+    /**
+     * Replace the canned response of an endpoint.
+     *
+     * @param method The HTTP method, like "GET".
+     * @param path   The path, like "/fapi/v1/depth".
+     * @param body   The JSON body.
+     */
+    public void setResponse(String method, String path, String body) {
+        restEndpoints.setResponse(method, path, body);
+    }
+
+    /**
+     * Set the delay before each REST response.
+     */
+    public void setLatencyMs(long latencyMs) {
+        if (latencyMs < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "[Mock] The latency should not be negative");
+        }
+        this.latencyMs = latencyMs;
+    }
+
+    /**
+     * Set how long before sending a frame its event happened. The frames carry
+     * an event time this much in the past, as if the exchange had been slow to
+     * publish them.
+     */
+    public void setStreamLatencyMs(long streamLatencyMs) {
+        if (streamLatencyMs < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "[Mock] The latency should not be negative");
+        }
+        this.streamLatencyMs = streamLatencyMs;
+    }
+
+    /**
+     * Answer every n-th REST request with 429 and a Retry-After header.
+     *
+     * @param rateLimitEvery The period in requests, 0 to never limit.
+     */
+    public void setRateLimitEvery(int rateLimitEvery) {
+        this.rateLimitEvery = Math.max(rateLimitEvery, 0);
+    }
+
+    public void setRetryAfterSeconds(int retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Drop the connection of every n-th REST request without answering.
+     *
+     * @param disconnectEvery The period in requests, 0 to never drop.
+     */
+    public void setDisconnectEvery(int disconnectEvery) {
+        this.disconnectEvery = Math.max(disconnectEvery, 0);
+    }
+
+    /**
+     * Drop each stream connection after it has sent this many frames.
+     *
+     * @param streamDisconnectAfterFrames The number of frames, 0 to never drop.
+     */
+    public void setStreamDisconnectAfterFrames(long streamDisconnectAfterFrames) {
+        this.streamDisconnectAfterFrames = Math.max(streamDisconnectAfterFrames, 0);
+    }
+
+    /**
+     * Set the source of the frames of all streams without their own source.
+     * Frames are generated by default.
+     */
+    public void setFrameSource(FrameSource frameSource) {
+        this.frameSource = frameSource != null ? frameSource : FrameSource.generated();
+    }
+
+    public void setFrameSource(String streamName, FrameSource frameSource) {
+        if (frameSource == null) {
+            frameSources.remove(streamName);
+        } else {
+            frameSources.put(streamName, frameSource);
+        }
+    }
+
+    /**
+     * Set the rate of each subscribed stream of each connection, for the
+     * streams without their own rate. The default 0 only sends the frames
+     * given to {@link #push(String, String)}.
+     */
+    public void setFramesPerSecond(double framesPerSecond) {
+        this.framesPerSecond = Math.max(framesPerSecond, 0);
+    }
+
+    public void setFramesPerSecond(String streamName, double framesPerSecond) {
+        streamFramesPerSecond.put(streamName, Math.max(framesPerSecond, 0));
+    }
+
+    public synchronized void start() throws IOException {
+        start(0);
+    }
+
+    /**
+     * Start listening on the loopback interface.
+     *
+     * @param port The port, 0 for any free one.
+     */
+    public synchronized void start(int port) throws IOException {
+        server.start(InetAddress.getLoopbackAddress(), port);
+        pusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mock-exchange-pusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pusher.scheduleAtFixedRate(this::tick, 1, 1, TimeUnit.MILLISECONDS);
+        log.info("[Mock] Exchange listening on " + getRestUrl());
+    }
+
+    /**
+     * @return The URL for RequestOptions.setUrl.
+     */
+    public String getRestUrl() {
+        return "http://" + server.getHostName() + ":" + server.getPort();
+    }
+
+    /**
+     * @return The URI for SubscriptionOptions.setUri.
+     */
+    public String getStreamUri() {
+        return "ws://" + server.getHostName() + ":" + server.getPort();
+    }
+
+    /**
+     * Send a frame on a stream to every connection subscribed to it.
+     *
+     * @return The number of connections it was sent to.
+     */
+    public int push(String streamName, String payload) {
+        int count = 0;
+        for (StreamSession session : sessions) {
+            if (session.push(streamName, payload)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Drop all stream connections without a close handshake.
+     */
+    public void disconnectStreams() {
+        for (StreamSession session : new ArrayList<>(sessions)) {
+            session.disconnect();
+        }
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getFrameCount() {
+        return frameCount.get();
+    }
+
+    public int getStreamConnectionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (pusher != null) {
+            pusher.shutdownNow();
+            pusher = null;
+        }
+        disconnectStreams();
+        server.shutdown();
+    }
+
+    private MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+        // MockWebServer queues every request for takeRequest(); drain it so long runs keep a flat heap.
+        server.takeRequest();
+        String path = request.getPath();
+        if ("websocket".equalsIgnoreCase(request.getHeader("Upgrade"))) {
+            return upgrade(path);
+        }
+        long count = requestCount.incrementAndGet();
+        if (latencyMs > 0) {
+            Thread.sleep(latencyMs);
+        }
+        if (disconnectEvery > 0 && count % disconnectEvery == 0) {
+            return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START);
+        }
+        if (rateLimitEvery > 0 && count % rateLimitEvery == 0) {
+            return RestEndpoints.error(429, -1003, "Too many requests; current limit is 2400 requests per minute.")
+                    .setHeader("Retry-After", retryAfterSeconds);
+        }
+        return restEndpoints.handle(request);
+    }
+
+    /**
+     * Open a stream connection: /ws and /ws/name for raw frames, /stream and
+     * /stream?streams=a/b for wrapped ones.
+     */
+    private MockResponse upgrade(String path) {
+        List<String> streamNames = new ArrayList<>();
+        boolean combined;
+        if (path.startsWith("/stream")) {
+            combined = true;
+            int query = path.indexOf("streams=");
+            if (query >= 0) {
+                for (String name : path.substring(query + "streams=".length()).split("/")) {
+                    if (!name.isEmpty()) {
+                        streamNames.add(name);
+                    }
+                }
+            }
+        } else if (path.startsWith("/ws")) {
+            combined = false;
+            if (path.length() > "/ws/".length()) {
+                streamNames.add(path.substring("/ws/".length()));
+            }
+        } else {
+            return RestEndpoints.error(404, -1000, "Unknown stream endpoint " + path);
+        }
+        return new MockResponse().withWebSocketUpgrade(new StreamSession(this, combined, streamNames));
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        for (StreamSession session : sessions) {
+            try {
+                session.tick(now);
+            } catch (Exception e) {
+                log.warn("[Mock] Failed to push frames: " + e.getMessage());
+                session.disconnect();
+            }
+        }
+    }
+
+    void onSessionOpened(StreamSession session) {
+        sessions.add(session);
+    }
+
+    void onSessionClosed(StreamSession session) {
+        sessions.remove(session);
+    }
+
+    void onFrameSent() {
+        frameCount.incrementAndGet();
+    }
+
+    FrameSource frameSource(String streamName) {
+        FrameSource source = frameSources.get(streamName);
+        return source != null ? source : frameSource;
+    }
+
+    double framesPerSecond(String streamName) {
+        Double rate = streamFramesPerSecond.get(streamName);
+        return rate != null ? rate : framesPerSecond;
+    }
+
+    long eventTime() {
+        return System.currentTimeMillis() - streamLatencyMs;
+    }
+
+    long getStreamDisconnectAfterFrames() {
+        return streamDisconnectAfterFrames;
+    }
+}
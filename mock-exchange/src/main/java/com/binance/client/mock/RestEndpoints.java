@@ -0,0 +1,204 @@
+package com.binance.client.mock;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * The /fapi/v1 endpoints of RestApiRequestImpl. Responses are canned, from
+ * resources/exchange/METHOD/path.json unless replaced, except the server time
+ * and new listen keys. Requests are checked the way the exchange does: API key
+ * for the endpoints that need one, HMAC SHA256 signature and recvWindow for the
+ * signed ones. Every response reports the weight used in the current minute.
+ */
+class RestEndpoints {
+
+    private static final Set<String> SIGNED = new HashSet<>(Arrays.asList(
+            "GET /fapi/v1/account", "GET /fapi/v1/allOrders", "GET /fapi/v1/balance", "GET /fapi/v1/income",
+            "GET /fapi/v1/openOrders", "GET /fapi/v1/order", "GET /fapi/v1/positionRisk",
+            "GET /fapi/v1/positionSide/dual", "GET /fapi/v1/userTrades",
+            "POST /fapi/v1/order", "POST /fapi/v1/batchOrders", "POST /fapi/v1/positionSide/dual",
+            "POST /fapi/v1/marginType", "POST /fapi/v1/positionMargin", "POST /fapi/v1/leverage",
+            "POST /fapi/v1/listenKey", "PUT /fapi/v1/listenKey", "DELETE /fapi/v1/listenKey",
+            "DELETE /fapi/v1/order", "DELETE /fapi/v1/batchOrders", "DELETE /fapi/v1/allOpenOrders"));
+
+    private static final Set<String> API_KEY_ONLY = new HashSet<>(Arrays.asList(
+            "GET /fapi/v1/historicalTrades", "GET /fapi/v1/allForceOrders"));
+
+    private static final Set<String> ORDERS = new HashSet<>(Arrays.asList(
+            "POST /fapi/v1/order", "POST /fapi/v1/batchOrders"));
+
+    private static final long DEFAULT_RECV_WINDOW_MS = 5_000;
+
+    private final Map<String, String> secretKeys = new ConcurrentHashMap<>();
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+    private final AtomicLong listenKeyCounter = new AtomicLong();
+
+    private long minute = 0;
+    private long usedWeight = 0;
+    private long orderCount = 0;
+
+    void addApiKey(String apiKey, String secretKey) {
+        secretKeys.put(apiKey, secretKey);
+    }
+
+    void setResponse(String method, String path, String body) {
+        responses.put(method + " " + path, body);
+    }
+
+    MockResponse handle(RecordedRequest request) {
+        String target = request.getPath();
+        int queryStart = target.indexOf('?');
+        String path = queryStart >= 0 ? target.substring(0, queryStart) : target;
+        String query = queryStart >= 0 ? target.substring(queryStart + 1) : "";
+        String endpoint = request.getMethod() + " " + path;
+
+        MockResponse response = check(endpoint, request.getHeader("X-MBX-APIKEY"), query);
+        if (response == null) {
+            String body = body(endpoint);
+            response = body != null ? json(200, body) : error(404, -1000, "Unknown endpoint " + endpoint);
+        }
+        synchronized (this) {
+            long now = System.currentTimeMillis() / 60_000;
+            if (now != minute) {
+                minute = now;
+                usedWeight = 0;
+                orderCount = 0;
+            }
+            usedWeight++;
+            if (ORDERS.contains(endpoint)) {
+                orderCount++;
+            }
+            response.addHeader("X-MBX-USED-WEIGHT-1M", usedWeight);
+            if (ORDERS.contains(endpoint)) {
+                response.addHeader("X-MBX-ORDER-COUNT-1M", orderCount);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * @return The error response of a request failing the API key or signature
+     *         checks, or null.
+     */
+    private MockResponse check(String endpoint, String apiKey, String query) {
+        boolean signed = SIGNED.contains(endpoint);
+        if (!signed && !API_KEY_ONLY.contains(endpoint)) {
+            return null;
+        }
+        String secretKey = apiKey != null ? secretKeys.get(apiKey) : null;
+        if (secretKey == null) {
+            return error(401, -2015, "Invalid API-key, IP, or permissions for action.");
+        }
+        if (!signed) {
+            return null;
+        }
+        int signatureAt = query.lastIndexOf("signature=");
+        if (signatureAt < 0 || (signatureAt > 0 && query.charAt(signatureAt - 1) != '&')) {
+            return error(400, -1102, "Mandatory parameter 'signature' was not sent, was empty/null, or malformed.");
+        }
+        String payload = signatureAt > 0 ? query.substring(0, signatureAt - 1) : "";
+        String signature = query.substring(signatureAt + "signature=".length());
+        if (!MessageDigest.isEqual(sign(secretKey, payload).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII))) {
+            return error(400, -1022, "Signature for this request is not valid.");
+        }
+        long timestamp = parameter(payload, "timestamp", -1);
+        long recvWindow = parameter(payload, "recvWindow", DEFAULT_RECV_WINDOW_MS);
+        long now = System.currentTimeMillis();
+        if (timestamp < 0) {
+            return error(400, -1102, "Mandatory parameter 'timestamp' was not sent, was empty/null, or malformed.");
+        }
+        if (timestamp > now + 1_000 || now - timestamp > recvWindow) {
+            return error(400, -1021, "Timestamp for this request is outside of the recvWindow.");
+        }
+        return null;
+    }
+
+    private String body(String endpoint) {
+        String body = responses.get(endpoint);
+        if (body != null) {
+            return body;
+        }
+        switch (endpoint) {
+            case "GET /fapi/v1/time":
+                return "{\"serverTime\":" + System.currentTimeMillis() + "}";
+            case "POST /fapi/v1/listenKey":
+                return "{\"listenKey\":\"mockListenKey" + listenKeyCounter.incrementAndGet() + "\"}";
+            default:
+                String canned = responses.computeIfAbsent(endpoint, RestEndpoints::load);
+                return canned.isEmpty() ? null : canned;
+        }
+    }
+
+    /**
+     * @return The canned response of an endpoint, null if there is none. The
+     *         missing ones are kept as an empty string so they are looked up once.
+     */
+    private static String load(String endpoint) {
+        String resource = "/exchange/" + endpoint.replace(' ', '/').replace("//", "/") + ".json";
+        InputStream in = RestEndpoints.class.getResourceAsStream(resource);
+        if (in == null) {
+            return "";
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n")).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long parameter(String query, String name, long defaultValue) {
+        for (String pair : query.split("&")) {
+            if (pair.startsWith(name + "=")) {
+                try {
+                    return Long.parseLong(pair.substring(name.length() + 1));
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private static String sign(String secretKey, String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static MockResponse json(int code, String body) {
+        return new MockResponse().setResponseCode(code)
+                .setHeader("Content-Type", "application/json;charset=UTF-8")
+                .setBody(body);
+    }
+
+    static MockResponse error(int httpCode, int code, String msg) {
+        return json(httpCode, "{\"code\":" + code + ",\"msg\":\"" + msg + "\"}");
+    }
+}
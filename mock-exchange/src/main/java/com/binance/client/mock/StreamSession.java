@@ -0,0 +1,168 @@
+package com.binance.client.mock;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+
+/**
+ * One stream connection: the streams it subscribed, with SUBSCRIBE and
+ * UNSUBSCRIBE requests or in the connection path, and the frames pushed on
+ * them. On the /stream endpoint frames are wrapped as {"stream", "data"}.
+ */
+class StreamSession extends WebSocketListener {
+
+    /**
+     * Frames sent on one stream of the connection, paced from when it was
+     * subscribed.
+     */
+    private static final class StreamState {
+
+        final long startNanos;
+        long sent = 0;
+
+        StreamState(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+
+    /**
+     * The most frames sent on one stream per tick, so a stalled pusher does
+     * not flood the connection when it catches up.
+     */
+    private static final long MAX_FRAMES_PER_TICK = 10_000;
+
+    private final MockExchange exchange;
+    private final boolean combined;
+    private final Map<String, StreamState> streams = new ConcurrentHashMap<>();
+    private volatile WebSocket webSocket = null;
+    private long framesSent = 0;
+
+    StreamSession(MockExchange exchange, boolean combined, Iterable<String> streamNames) {
+        this.exchange = exchange;
+        this.combined = combined;
+        long now = System.nanoTime();
+        for (String streamName : streamNames) {
+            streams.put(streamName, new StreamState(now));
+        }
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket, Response response) {
+        this.webSocket = webSocket;
+        exchange.onSessionOpened(this);
+    }
+
+    @Override
+    public void onMessage(WebSocket webSocket, String text) {
+        JSONObject request;
+        try {
+            request = JSON.parseObject(text);
+        } catch (Exception e) {
+            webSocket.send("{\"error\":{\"code\":3,\"msg\":\"Invalid JSON\"},\"id\":null}");
+            return;
+        }
+        Object id = request.get("id");
+        String method = request.getString("method");
+        JSONArray params = request.getJSONArray("params");
+        if ("SUBSCRIBE".equals(method) && params != null) {
+            long now = System.nanoTime();
+            for (int i = 0; i < params.size(); i++) {
+                streams.putIfAbsent(params.getString(i), new StreamState(now));
+            }
+            webSocket.send("{\"result\":null,\"id\":" + id + "}");
+        } else if ("UNSUBSCRIBE".equals(method) && params != null) {
+            for (int i = 0; i < params.size(); i++) {
+                streams.remove(params.getString(i));
+            }
+            webSocket.send("{\"result\":null,\"id\":" + id + "}");
+        } else if ("LIST_SUBSCRIPTIONS".equals(method)) {
+            webSocket.send("{\"result\":" + JSON.toJSONString(streams.keySet()) + ",\"id\":" + id + "}");
+        } else {
+            webSocket.send("{\"error\":{\"code\":2,\"msg\":\"Invalid request: unknown method\"},\"id\":" + id + "}");
+        }
+    }
+
+    @Override
+    public void onClosing(WebSocket webSocket, int code, String reason) {
+        webSocket.close(1000, null);
+    }
+
+    @Override
+    public void onClosed(WebSocket webSocket, int code, String reason) {
+        exchange.onSessionClosed(this);
+    }
+
+    @Override
+    public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+        exchange.onSessionClosed(this);
+    }
+
+    /**
+     * Send the frames due on each stream at its rate. Called by the pusher
+     * thread only.
+     */
+    void tick(long nowNanos) {
+        WebSocket socket = webSocket;
+        if (socket == null) {
+            return;
+        }
+        for (Map.Entry<String, StreamState> entry : streams.entrySet()) {
+            double rate = exchange.framesPerSecond(entry.getKey());
+            if (rate <= 0) {
+                continue;
+            }
+            StreamState state = entry.getValue();
+            long due = (long) ((nowNanos - state.startNanos) * rate / 1e9) - state.sent;
+            if (due > MAX_FRAMES_PER_TICK) {
+                state.sent += due - MAX_FRAMES_PER_TICK;
+                due = MAX_FRAMES_PER_TICK;
+            }
+            FrameSource source = exchange.frameSource(entry.getKey());
+            for (long i = 0; i < due; i++) {
+                String payload = source.nextFrame(entry.getKey(), state.sent, exchange.eventTime());
+                state.sent++;
+                if (!send(socket, entry.getKey(), payload)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return True if the connection has the stream and the frame was queued.
+     */
+    boolean push(String streamName, String payload) {
+        WebSocket socket = webSocket;
+        return socket != null && streams.containsKey(streamName) && send(socket, streamName, payload);
+    }
+
+    /**
+     * Drop the connection without a close handshake, like a network failure.
+     */
+    void disconnect() {
+        WebSocket socket = webSocket;
+        if (socket != null) {
+            socket.cancel();
+        }
+    }
+
+    private synchronized boolean send(WebSocket socket, String streamName, String payload) {
+        String frame = combined ? "{\"stream\":\"" + streamName + "\",\"data\":" + payload + "}" : payload;
+        if (!socket.send(frame)) {
+            return false;
+        }
+        framesSent++;
+        exchange.onFrameSent();
+        long disconnectAfter = exchange.getStreamDisconnectAfterFrames();
+        if (disconnectAfter > 0 && framesSent >= disconnectAfter) {
+            socket.cancel();
+            return false;
+        }
+        return true;
+    }
+}
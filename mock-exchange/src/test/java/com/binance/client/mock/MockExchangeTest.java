@@ -0,0 +1,77 @@
+package com.binance.client.mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import com.binance.client.RequestOptions;
+import com.binance.client.SubscriptionClient;
+import com.binance.client.SubscriptionOptions;
+import com.binance.client.SyncRequestClient;
+import com.binance.client.model.event.AggregateTradeEvent;
+import com.binance.client.model.market.OrderBook;
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs the request and subscription clients against the mock.
+ */
+public class MockExchangeTest {
+
+    private static final String API_KEY = "test-api-key";
+    private static final String SECRET_KEY = "test-secret-key";
+
+    private MockExchange exchange;
+
+    @Before
+    public void startExchange() throws IOException {
+        exchange = new MockExchange();
+        exchange.addApiKey(API_KEY, SECRET_KEY);
+        exchange.setFramesPerSecond(100);
+        exchange.start();
+    }
+
+    @After
+    public void closeExchange() throws IOException {
+        exchange.close();
+    }
+
+    @Test
+    public void testGetOrderBook() {
+        RequestOptions options = new RequestOptions();
+        options.setUrl(exchange.getRestUrl());
+        SyncRequestClient client = SyncRequestClient.create(API_KEY, SECRET_KEY, options);
+
+        OrderBook orderBook = client.getOrderBook("BTCUSDT", 20);
+
+        assertEquals(Long.valueOf(1027024), orderBook.getLastUpdateId());
+        assertFalse(orderBook.getBids().isEmpty());
+        assertFalse(orderBook.getAsks().isEmpty());
+        assertEquals(1, exchange.getRequestCount());
+    }
+
+    @Test
+    public void testSubscribeAggregateTradeEvent() throws Exception {
+        SubscriptionOptions options = new SubscriptionOptions();
+        options.setUri(exchange.getStreamUri());
+        SubscriptionClient client = SubscriptionClient.create(options);
+        BlockingQueue<AggregateTradeEvent> events = new LinkedBlockingQueue<>();
+        try {
+            client.subscribeAggregateTradeEvent("btcusdt", events::add, null).get(10, TimeUnit.SECONDS);
+
+            AggregateTradeEvent event = events.poll(10, TimeUnit.SECONDS);
+
+            assertNotNull(event);
+            assertEquals("BTCUSDT", event.getSymbol());
+            assertNotNull(event.getPrice());
+            assertEquals(1, exchange.getStreamConnectionCount());
+        } finally {
+            client.unsubscribeAll();
+        }
+    }
+}
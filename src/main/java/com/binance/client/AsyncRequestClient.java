@@ -0,0 +1,640 @@
+package com.binance.client;
+
+import com.alibaba.fastjson.JSONObject;
+import com.binance.client.impl.BinanceApiInternalFactory;
+import com.binance.client.model.ResponseResult;
+import com.binance.client.model.market.*;
+import com.binance.client.model.enums.*;
+import com.binance.client.model.trade.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous request interface, invoking Binance RestAPI without blocking the
+ * calling thread.<br>
+ * Every method of {@link SyncRequestClient} is mirrored twice: once returning a
+ * {@link CompletableFuture} and once delivering the result to a
+ * {@link ResponseCallback}. The HTTP round trip runs on the OkHttp dispatcher and
+ * the response is parsed on the executor set by
+ * {@link RequestOptions#setAsyncExecutor(java.util.concurrent.Executor)}.
+ * <p>
+ * If the invoking failed or timeout, the future completes exceptionally with a
+ * {@link com.binance.client.exception.BinanceApiException}.
+ */
+public interface AsyncRequestClient {
+
+    /**
+     * Create the asynchronous client. All interfaces defined in asynchronous client
+     * are implemented by asynchronous mode.
+     *
+     * @return The instance of asynchronous client.
+     */
+    static AsyncRequestClient create() {
+        return create("", "", new RequestOptions());
+    }
+
+    /**
+     * Create the asynchronous client. All interfaces defined in asynchronous client
+     * are implemented by asynchronous mode.
+     *
+     * @param apiKey    The public key applied from binance.
+     * @param secretKey The private key applied from binance.
+     * @return The instance of asynchronous client.
+     */
+    static AsyncRequestClient create(String apiKey, String secretKey) {
+        return BinanceApiInternalFactory.getInstance().createAsyncRequestClient(apiKey, secretKey, new RequestOptions());
+    }
+
+    /**
+     * Create the asynchronous client. All interfaces defined in asynchronous client
+     * are implemented by asynchronous mode.
+     *
+     * @param apiKey    The public key applied from binance.
+     * @param secretKey The private key applied from binance.
+     * @param options   The request option.
+     * @return The instance of asynchronous client.
+     */
+    static AsyncRequestClient create(String apiKey, String secretKey, RequestOptions options) {
+        return BinanceApiInternalFactory.getInstance().createAsyncRequestClient(apiKey, secretKey, options);
+    }
+
+
+    /**
+     * Fetch the server time. The result also updates the clock offset used to
+     * stamp signed requests.
+     *
+     * @return The server time in millisecond.
+     */
+    CompletableFuture<Long> getServerTime();
+
+    /**
+     * Fetch the server time. The result also updates the clock offset used to
+     * stamp signed requests.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getServerTime(ResponseCallback<Long> callback);
+
+    /**
+     * Fetch current exchange trading rules and symbol information.
+     *
+     * @return Current exchange trading rules and symbol information.
+     */
+    CompletableFuture<ExchangeInformation> getExchangeInformation();
+
+    /**
+     * Fetch current exchange trading rules and symbol information.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getExchangeInformation(ResponseCallback<ExchangeInformation> callback);
+
+    /**
+     * Fetch order book.
+     *
+     * @return Order book.
+     */
+    CompletableFuture<OrderBook> getOrderBook(String symbol, Integer limit);
+
+    /**
+     * Fetch order book.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getOrderBook(String symbol, Integer limit, ResponseCallback<OrderBook> callback);
+
+    /**
+     * Get recent trades.
+     *
+     * @return Recent trades.
+     */
+    CompletableFuture<List<Trade>> getRecentTrades(String symbol, Integer limit);
+
+    /**
+     * Get recent trades.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getRecentTrades(String symbol, Integer limit, ResponseCallback<List<Trade>> callback);
+
+    /**
+     * Get old Trade.
+     *
+     * @return Old trades.
+     */
+    CompletableFuture<List<Trade>> getOldTrades(String symbol, Integer limit, Long fromId);
+
+    /**
+     * Get old Trade.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getOldTrades(String symbol, Integer limit, Long fromId, ResponseCallback<List<Trade>> callback);
+
+    /**
+     * Get compressed, aggregate trades.
+     *
+     * @return Aggregate trades.
+     */
+    CompletableFuture<List<AggregateTrade>> getAggregateTrades(String symbol, Long fromId, Long startTime, Long endTime, Integer limit);
+
+    /**
+     * Get compressed, aggregate trades.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getAggregateTrades(String symbol, Long fromId, Long startTime, Long endTime, Integer limit, ResponseCallback<List<AggregateTrade>> callback);
+
+    /**
+     * Get kline/candlestick bars for a symbol.
+     *
+     * @return Kline/candlestick bars for a symbol.
+     */
+    CompletableFuture<List<Candlestick>> getCandlestick(String symbol, CandlestickInterval interval, Long startTime, Long endTime, Integer limit);
+
+    /**
+     * Get kline/candlestick bars for a symbol.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getCandlestick(String symbol, CandlestickInterval interval, Long startTime, Long endTime, Integer limit, ResponseCallback<List<Candlestick>> callback);
+
+    /**
+     * Get mark price for a symbol.
+     *
+     * @return Mark price for a symbol.
+     */
+    CompletableFuture<List<MarkPrice>> getMarkPrice(String symbol);
+
+    /**
+     * Get mark price for a symbol.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getMarkPrice(String symbol, ResponseCallback<List<MarkPrice>> callback);
+
+    /**
+     * Get funding rate history.
+     *
+     * @return funding rate history.
+     */
+    CompletableFuture<List<FundingRate>> getFundingRate(String symbol, Long startTime, Long endTime, Integer limit);
+
+    /**
+     * Get funding rate history.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getFundingRate(String symbol, Long startTime, Long endTime, Integer limit, ResponseCallback<List<FundingRate>> callback);
+
+    /**
+     * Get 24 hour rolling window price change statistics.
+     *
+     * @return 24 hour rolling window price change statistics.
+     */
+    CompletableFuture<List<PriceChangeTicker>> get24hrTickerPriceChange(String symbol);
+
+    /**
+     * Get 24 hour rolling window price change statistics.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void get24hrTickerPriceChange(String symbol, ResponseCallback<List<PriceChangeTicker>> callback);
+
+    /**
+     * Get latest price for a symbol or symbols.
+     *
+     * @return Latest price for a symbol or symbols.
+     */
+    CompletableFuture<List<SymbolPrice>> getSymbolPriceTicker(String symbol);
+
+    /**
+     * Get latest price for a symbol or symbols.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getSymbolPriceTicker(String symbol, ResponseCallback<List<SymbolPrice>> callback);
+
+    /**
+     * Get best price/qty on the order book for a symbol or symbols.
+     *
+     * @return Best price/qty on the order book for a symbol or symbols.
+     */
+    CompletableFuture<List<SymbolOrderBook>> getSymbolOrderBookTicker(String symbol);
+
+    /**
+     * Get best price/qty on the order book for a symbol or symbols.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getSymbolOrderBookTicker(String symbol, ResponseCallback<List<SymbolOrderBook>> callback);
+
+    /**
+     * Get all liquidation orders.
+     *
+     * @return All liquidation orders.
+     */
+    CompletableFuture<List<LiquidationOrder>> getLiquidationOrders(String symbol, Long startTime, Long endTime, Integer limit);
+
+    /**
+     * Get all liquidation orders.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getLiquidationOrders(String symbol, Long startTime, Long endTime, Integer limit, ResponseCallback<List<LiquidationOrder>> callback);
+
+    /**
+     * Place new orders
+     * @param batchOrders
+     * @return
+     */
+    CompletableFuture<List<Object>> postBatchOrders(String batchOrders, Long timestamp);
+
+    /**
+     * Place new orders
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void postBatchOrders(String batchOrders, Long timestamp, ResponseCallback<List<Object>> callback);
+
+    /**
+     * Send in a new order.
+     *
+     * @return Order.
+     */
+    CompletableFuture<Order> postOrder(String symbol, OrderSide side, PositionSide positionSide, OrderType orderType,
+            TimeInForce timeInForce, String quantity, String price, String reduceOnly,
+            String newClientOrderId, String stopPrice, WorkingType workingType, NewOrderRespType newOrderRespType,
+            String closePosition, Long timestamp);
+
+    /**
+     * Send in a new order.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void postOrder(String symbol, OrderSide side, PositionSide positionSide, OrderType orderType,
+            TimeInForce timeInForce, String quantity, String price, String reduceOnly,
+            String newClientOrderId, String stopPrice, WorkingType workingType, NewOrderRespType newOrderRespType,
+            String closePosition, Long timestamp,
+            ResponseCallback<Order> callback);
+
+    /**
+     * Cancel an active order.
+     *
+     * @return Order.
+     */
+    CompletableFuture<Order> cancelOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp);
+
+    /**
+     * Cancel an active order.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void cancelOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp, ResponseCallback<Order> callback);
+
+    /**
+     * Cancel all open orders.
+     *
+     * @return ResponseResult.
+     */
+    CompletableFuture<ResponseResult> cancelAllOpenOrder(String symbol, Long timestamp);
+
+    /**
+     * Cancel all open orders.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void cancelAllOpenOrder(String symbol, Long timestamp, ResponseCallback<ResponseResult> callback);
+
+    /**
+     * Batch cancel orders.
+     *
+     * @return Order.
+     */
+    CompletableFuture<List<Object>> batchCancelOrders(String symbol, String orderIdList, String origClientOrderIdList, Long timestamp);
+
+    /**
+     * Batch cancel orders.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void batchCancelOrders(String symbol, String orderIdList, String origClientOrderIdList, Long timestamp, ResponseCallback<List<Object>> callback);
+
+    /**
+     * Switch position side. (true == dual, false == both)
+     *
+     * @return ResponseResult.
+     */
+    CompletableFuture<ResponseResult> changePositionSide(boolean dual, Long timestamp);
+
+    /**
+     * Switch position side. (true == dual, false == both)
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void changePositionSide(boolean dual, Long timestamp, ResponseCallback<ResponseResult> callback);
+
+    /**
+     * Change margin type (ISOLATED, CROSSED)
+     * @param symbolName
+     * @param marginType
+     * @return
+     */
+    CompletableFuture<ResponseResult> changeMarginType(String symbolName, String marginType, Long timestamp);
+
+    /**
+     * Change margin type (ISOLATED, CROSSED)
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void changeMarginType(String symbolName, String marginType, Long timestamp, ResponseCallback<ResponseResult> callback);
+
+    /**
+     * add isolated position margin
+     * @param symbolName
+     * @param type
+     * @param amount
+     * @param positionSide SHORT, LONG, BOTH
+     * @return
+     */
+    CompletableFuture<JSONObject> addIsolatedPositionMargin(String symbolName, int type, String amount, PositionSide positionSide, Long timestamp);
+
+    /**
+     * add isolated position margin
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void addIsolatedPositionMargin(String symbolName, int type, String amount, PositionSide positionSide, Long timestamp, ResponseCallback<JSONObject> callback);
+
+    /**
+     *  get position margin history
+     * @param symbolName
+     * @param type
+     * @param startTime
+     * @param endTime
+     * @param limit
+     * @return
+     */
+    CompletableFuture<List<WalletDeltaLog>> getPositionMarginHistory(String symbolName, int type, long startTime, long endTime, int limit);
+
+    /**
+     * get position margin history
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getPositionMarginHistory(String symbolName, int type, long startTime, long endTime, int limit, ResponseCallback<List<WalletDeltaLog>> callback);
+
+    /**
+     * Get if changed to HEDGE mode. (true == hedge mode, false == one-way mode)
+     *
+     * @return ResponseResult.
+     */
+    CompletableFuture<JSONObject> getPositionSide(Long timestamp);
+
+    /**
+     * Get if changed to HEDGE mode. (true == hedge mode, false == one-way mode)
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getPositionSide(Long timestamp, ResponseCallback<JSONObject> callback);
+
+    /**
+     * Check an order's status.
+     *
+     * @return Order status.
+     */
+    CompletableFuture<Order> getOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp);
+
+    /**
+     * Check an order's status.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp, ResponseCallback<Order> callback);
+
+    /**
+     * Get all open orders on a symbol. Careful when accessing this with no symbol.
+     *
+     * @return Open orders.
+     */
+    CompletableFuture<List<Order>> getOpenOrders(String symbol, Long timestamp);
+
+    /**
+     * Get all open orders on a symbol. Careful when accessing this with no symbol.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getOpenOrders(String symbol, Long timestamp, ResponseCallback<List<Order>> callback);
+
+    /**
+     * Get all account orders; active, canceled, or filled.
+     *
+     * @return All orders.
+     */
+    CompletableFuture<List<Order>> getAllOrders(String symbol, Long orderId, Long startTime, Long endTime, Integer limit, Long timestamp);
+
+    /**
+     * Get all account orders; active, canceled, or filled.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getAllOrders(String symbol, Long orderId, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<Order>> callback);
+
+    /**
+     * Get account balances.
+     *
+     * @return Balances.
+     */
+    CompletableFuture<List<AccountBalance>> getBalance(Long timestamp);
+
+    /**
+     * Get account balances.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getBalance(Long timestamp, ResponseCallback<List<AccountBalance>> callback);
+
+    /**
+     * Get current account information.
+     *
+     * @return Current account information.
+     */
+    CompletableFuture<AccountInformation> getAccountInformation(Long timestamp);
+
+    /**
+     * Get current account information.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getAccountInformation(Long timestamp, ResponseCallback<AccountInformation> callback);
+
+    /**
+     * Change initial leverage.
+     *
+     * @return Leverage.
+     */
+    CompletableFuture<Leverage> changeInitialLeverage(String symbol, Integer leverage, Long timestamp);
+
+    /**
+     * Change initial leverage.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void changeInitialLeverage(String symbol, Integer leverage, Long timestamp, ResponseCallback<Leverage> callback);
+
+    /**
+     * Get position.
+     *
+     * @return Position.
+     */
+    CompletableFuture<List<PositionRisk>> getPositionRisk(String symbol, Long timestamp);
+
+    /**
+     * Get position.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getPositionRisk(String symbol, Long timestamp, ResponseCallback<List<PositionRisk>> callback);
+
+    /**
+     * Get trades for a specific account and symbol.
+     *
+     * @return Trades.
+     */
+    CompletableFuture<List<MyTrade>> getAccountTrades(String symbol, Long startTime, Long endTime, Long fromId, Integer limit, Long timestamp);
+
+    /**
+     * Get trades for a specific account and symbol.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getAccountTrades(String symbol, Long startTime, Long endTime, Long fromId, Integer limit, Long timestamp, ResponseCallback<List<MyTrade>> callback);
+
+    /**
+     * Get income history.
+     *
+     * @return Income history.
+     */
+    CompletableFuture<List<Income>> getIncomeHistory(String symbol, IncomeType incomeType, Long startTime, Long endTime, Integer limit, Long timestamp);
+
+    /**
+     * Get income history.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getIncomeHistory(String symbol, IncomeType incomeType, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<Income>> callback);
+
+    /**
+     * Start user data stream.
+     *
+     * @return listenKey.
+     */
+    CompletableFuture<String> startUserDataStream(Long timestamp);
+
+    /**
+     * Start user data stream.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void startUserDataStream(Long timestamp, ResponseCallback<String> callback);
+
+    /**
+     * Keep user data stream.
+     *
+     * @return null.
+     */
+    CompletableFuture<String> keepUserDataStream(String listenKey, Long timestamp);
+
+    /**
+     * Keep user data stream.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void keepUserDataStream(String listenKey, Long timestamp, ResponseCallback<String> callback);
+
+    /**
+     * Close user data stream.
+     *
+     * @return null.
+     */
+    CompletableFuture<String> closeUserDataStream(String listenKey, Long timestamp);
+
+    /**
+     * Close user data stream.
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void closeUserDataStream(String listenKey, Long timestamp, ResponseCallback<String> callback);
+
+    /**
+     * Open Interest Stat (MARKET DATA)
+     *
+     * @return Open Interest Stat.
+     */
+    CompletableFuture<List<OpenInterestStat>> getOpenInterestStat(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp);
+
+    /**
+     * Open Interest Stat (MARKET DATA)
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getOpenInterestStat(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<OpenInterestStat>> callback);
+
+    /**
+     * Top Trader Long/Short Ratio (Accounts) (MARKET DATA)
+     *
+     * @return Top Trader Long/Short Ratio (Accounts).
+     */
+    CompletableFuture<List<CommonLongShortRatio>> getTopTraderAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp);
+
+    /**
+     * Top Trader Long/Short Ratio (Accounts) (MARKET DATA)
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getTopTraderAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<CommonLongShortRatio>> callback);
+
+    /**
+     * Top Trader Long/Short Ratio (Positions) (MARKET DATA)
+     *
+     * @return Top Trader Long/Short Ratio (Positions).
+     */
+    CompletableFuture<List<CommonLongShortRatio>> getTopTraderPositionRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp);
+
+    /**
+     * Top Trader Long/Short Ratio (Positions) (MARKET DATA)
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getTopTraderPositionRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<CommonLongShortRatio>> callback);
+
+    /**
+     * Long/Short Ratio (MARKET DATA)
+     *
+     * @return global Long/Short Ratio. 
+     */
+    CompletableFuture<List<CommonLongShortRatio>> getGlobalAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp);
+
+    /**
+     * Long/Short Ratio (MARKET DATA)
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getGlobalAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<CommonLongShortRatio>> callback);
+
+    /**
+     * Taker Long/Short Ratio (MARKET DATA)
+     *
+     * @return Taker Long/Short Ratio. 
+     */
+    CompletableFuture<List<TakerLongShortStat>> getTakerLongShortRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp);
+
+    /**
+     * Taker Long/Short Ratio (MARKET DATA)
+     *
+     * @param callback Invoked with the result when the request completes.
+     */
+    void getTakerLongShortRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<TakerLongShortStat>> callback);
+
+}
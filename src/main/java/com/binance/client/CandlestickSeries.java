@@ -0,0 +1,95 @@
+package com.binance.client;
+
+import com.binance.client.exception.BinanceApiException;
+import java.nio.ByteBuffer;
+
+/**
+ * A read-only range of candlesticks served from a {@link CandlestickStore}. The
+ * values are read from the memory-mapped columns on every call, so iterating a
+ * series allocates nothing.
+ * <p>
+ * A series is a snapshot of the store as of its query: rows fetched later, at
+ * either end, are not part of it, and its indices keep referring to the same
+ * rows. Query again to see them.
+ */
+public class CandlestickSeries {
+
+    static final int OPEN_TIME = 0;
+    static final int OPEN = 1;
+    static final int HIGH = 2;
+    static final int LOW = 3;
+    static final int CLOSE = 4;
+    static final int VOLUME = 5;
+    static final int CLOSE_TIME = 6;
+    static final int QUOTE_ASSET_VOLUME = 7;
+    static final int NUM_TRADES = 8;
+    static final int TAKER_BUY_BASE_ASSET_VOLUME = 9;
+    static final int TAKER_BUY_QUOTE_ASSET_VOLUME = 10;
+    static final int COLUMN_COUNT = 11;
+
+    private final ByteBuffer[] columns;
+    private final int offset;
+    private final int size;
+
+    CandlestickSeries(ByteBuffer[] columns, int offset, int size) {
+        this.columns = columns;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getOpenTime(int index) {
+        return columns[OPEN_TIME].getLong(position(index, 8));
+    }
+
+    public double getOpen(int index) {
+        return columns[OPEN].getDouble(position(index, 8));
+    }
+
+    public double getHigh(int index) {
+        return columns[HIGH].getDouble(position(index, 8));
+    }
+
+    public double getLow(int index) {
+        return columns[LOW].getDouble(position(index, 8));
+    }
+
+    public double getClose(int index) {
+        return columns[CLOSE].getDouble(position(index, 8));
+    }
+
+    public double getVolume(int index) {
+        return columns[VOLUME].getDouble(position(index, 8));
+    }
+
+    public long getCloseTime(int index) {
+        return columns[CLOSE_TIME].getLong(position(index, 8));
+    }
+
+    public double getQuoteAssetVolume(int index) {
+        return columns[QUOTE_ASSET_VOLUME].getDouble(position(index, 8));
+    }
+
+    public int getNumTrades(int index) {
+        return columns[NUM_TRADES].getInt(position(index, 4));
+    }
+
+    public double getTakerBuyBaseAssetVolume(int index) {
+        return columns[TAKER_BUY_BASE_ASSET_VOLUME].getDouble(position(index, 8));
+    }
+
+    public double getTakerBuyQuoteAssetVolume(int index) {
+        return columns[TAKER_BUY_QUOTE_ASSET_VOLUME].getDouble(position(index, 8));
+    }
+
+    private int position(int index, int width) {
+        if (index < 0 || index >= size) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "[Store] Index " + index + " is out of bound, size is " + size);
+        }
+        return (offset + index) * width;
+    }
+}
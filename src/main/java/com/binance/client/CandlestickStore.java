@@ -0,0 +1,379 @@
+package com.binance.client;
+
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.enums.CandlestickInterval;
+import com.binance.client.model.market.Candlestick;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A local candlestick cache keyed by symbol and interval. Every series is kept in
+ * a directory of memory-mapped column files (open time, OHLCV as doubles, trade
+ * count, ...) together with the time range already fetched, so a request only
+ * downloads the part of the range that is missing and range queries are served
+ * from disk without allocating per row.
+ *
+ * <p>Only closed candlesticks are stored. The range fetched for a series always
+ * stays contiguous: a request ending before or starting after the stored range
+ * also fetches the gap in between.
+ */
+public class CandlestickStore implements Closeable {
+
+    private static final long MAGIC = 0x4B4C494E45530001L;
+    private static final int HEADER_SIZE = 32;
+    private static final int ROWS_OFFSET = 8;
+    private static final int COVERED_START_OFFSET = 16;
+    private static final int COVERED_END_OFFSET = 24;
+    private static final int INITIAL_ROWS = 1024;
+    private static final String[] COLUMN_FILES = {"openTime", "open", "high", "low", "close", "volume",
+        "closeTime", "quoteAssetVolume", "numTrades", "takerBuyBaseAssetVolume", "takerBuyQuoteAssetVolume"};
+    // The symbol names a directory, so nothing that could leave the store.
+    private static final Pattern SYMBOL = Pattern.compile("[A-Z0-9_]+");
+
+    private final Path directory;
+    private final HistoryPaginator paginator;
+    private final Map<String, Series> series = new HashMap<>();
+
+    /**
+     * @param directory The directory the series are stored in, created if missing.
+     * @param paginator Fetches the missing ranges, null for a read-only store.
+     */
+    public CandlestickStore(Path directory, HistoryPaginator paginator) {
+        this.directory = directory;
+        this.paginator = paginator;
+    }
+
+    /**
+     * Get the closed candlesticks opened in [startTime, endTime], fetching the part
+     * of the range that is not stored yet.
+     */
+    public CandlestickSeries getCandlestick(String symbol, CandlestickInterval interval, long startTime,
+            long endTime) {
+        if (paginator == null) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "[Store] The store is read-only");
+        }
+        Series stored = series(symbol, interval);
+        synchronized (stored) {
+            stored.topUp(startTime, endTime);
+            return stored.query(startTime, endTime);
+        }
+    }
+
+    /**
+     * Get the stored candlesticks opened in [startTime, endTime] without any network call.
+     */
+    public CandlestickSeries query(String symbol, CandlestickInterval interval, long startTime, long endTime) {
+        Series stored = series(symbol, interval);
+        synchronized (stored) {
+            return stored.query(startTime, endTime);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Series stored : series.values()) {
+            synchronized (stored) {
+                stored.close();
+            }
+        }
+        series.clear();
+    }
+
+    private synchronized Series series(String symbol, CandlestickInterval interval) {
+        symbol = symbol(symbol);
+        String key = symbol + "/" + interval.name();
+        Series stored = series.get(key);
+        if (stored == null) {
+            stored = new Series(directory.resolve(symbol).resolve(interval.name()), symbol, interval);
+            series.put(key, stored);
+        }
+        return stored;
+    }
+
+    /**
+     * @return The symbol in upper case, so "btcusdt" and "BTCUSDT" share a series.
+     */
+    private static String symbol(String symbol) {
+        String normalized = symbol != null ? symbol.toUpperCase(Locale.ROOT) : "";
+        if (!SYMBOL.matcher(normalized).matches()) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "[Store] The symbol should only contain letters, digits and underscores: " + symbol);
+        }
+        return normalized;
+    }
+
+    private static BinanceApiException ioError(String message, IOException e) {
+        return new BinanceApiException(BinanceApiException.SYS_ERROR, "[Store] " + message + ": " + e.getMessage(), e);
+    }
+
+    /**
+     * One mapped column file, grown by remapping when it is full.
+     */
+    private static final class Column {
+
+        final FileChannel channel;
+        final int width;
+        MappedByteBuffer buffer;
+
+        Column(Path path, int width) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.width = width;
+            long size = Math.max(channel.size(), (long) INITIAL_ROWS * width);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+
+        void ensureCapacity(int rows) throws IOException {
+            long required = (long) rows * width;
+            if (required > buffer.capacity()) {
+                long size = Math.max(required, (long) buffer.capacity() * 2);
+                if (size > Integer.MAX_VALUE) {
+                    throw new BinanceApiException(BinanceApiException.SYS_ERROR, "[Store] Column file is full");
+                }
+                buffer.force();
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        }
+
+        void close() throws IOException {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    private final class Series {
+
+        private final Path path;
+        private final String symbol;
+        private final CandlestickInterval interval;
+        private FileChannel headerChannel;
+        private MappedByteBuffer header;
+        private Column[] columns;
+        private int rows;
+
+        Series(Path path, String symbol, CandlestickInterval interval) {
+            this.path = path;
+            this.symbol = symbol;
+            this.interval = interval;
+            open();
+        }
+
+        private void open() {
+            try {
+                Files.createDirectories(path);
+                headerChannel = FileChannel.open(path.resolve("header"), StandardOpenOption.CREATE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+                boolean created = headerChannel.size() == 0;
+                header = headerChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+                if (created) {
+                    header.putLong(0, MAGIC);
+                    header.putLong(ROWS_OFFSET, 0);
+                    header.putLong(COVERED_START_OFFSET, Long.MAX_VALUE);
+                    header.putLong(COVERED_END_OFFSET, Long.MIN_VALUE);
+                } else if (header.getLong(0) != MAGIC) {
+                    throw new BinanceApiException(BinanceApiException.SYS_ERROR,
+                            "[Store] Not a candlestick store: " + path);
+                }
+                rows = (int) header.getLong(ROWS_OFFSET);
+                columns = new Column[CandlestickSeries.COLUMN_COUNT];
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = new Column(path.resolve(COLUMN_FILES[i]),
+                            i == CandlestickSeries.NUM_TRADES ? 4 : 8);
+                }
+            } catch (IOException e) {
+                throw ioError("Cannot open " + path, e);
+            }
+        }
+
+        void close() {
+            try {
+                for (Column column : columns) {
+                    column.close();
+                }
+                header.force();
+                headerChannel.close();
+            } catch (IOException e) {
+                throw ioError("Cannot close " + path, e);
+            }
+        }
+
+        long coveredStart() {
+            return header.getLong(COVERED_START_OFFSET);
+        }
+
+        long coveredEnd() {
+            return header.getLong(COVERED_END_OFFSET);
+        }
+
+        void topUp(long startTime, long endTime) {
+            long now = System.currentTimeMillis();
+            long end = Math.min(endTime, now - interval.getDurationMs());
+            if (end < startTime) {
+                return;
+            }
+            if (coveredStart() > coveredEnd()) {
+                append(startTime, end, now);
+                header.putLong(COVERED_START_OFFSET, startTime);
+                header.putLong(COVERED_END_OFFSET, end);
+                return;
+            }
+            if (startTime < coveredStart()) {
+                prepend(startTime, coveredStart() - 1, now);
+                header.putLong(COVERED_START_OFFSET, startTime);
+            }
+            if (end > coveredEnd()) {
+                append(coveredEnd() + 1, end, now);
+                header.putLong(COVERED_END_OFFSET, end);
+            }
+        }
+
+        private void append(long startTime, long endTime, long now) {
+            paginator.getCandlestick(symbol, interval, startTime, endTime).forEach(candlestick -> {
+                if (candlestick.getCloseTime() < now
+                        && (rows == 0 || candlestick.getOpenTime() > columns[0].buffer.getLong((rows - 1) * 8))) {
+                    write(candlestick);
+                }
+            });
+            header.putLong(ROWS_OFFSET, rows);
+        }
+
+        /**
+         * Write the fetched rows into a new series and copy the stored rows after
+         * them, then move the new files over the old ones.
+         */
+        private void prepend(long startTime, long endTime, long now) {
+            Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+            deleteFiles(tmpPath);
+            Series merged = new Series(tmpPath, symbol, interval);
+            try {
+                merged.append(startTime, endTime, now);
+                merged.copyFrom(this);
+                merged.header.putLong(COVERED_START_OFFSET, startTime);
+                merged.header.putLong(COVERED_END_OFFSET, coveredEnd());
+            } finally {
+                merged.close();
+            }
+            close();
+            try {
+                for (String file : COLUMN_FILES) {
+                    Files.move(tmpPath.resolve(file), path.resolve(file), StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.move(tmpPath.resolve("header"), path.resolve("header"), StandardCopyOption.REPLACE_EXISTING);
+                Files.delete(tmpPath);
+            } catch (IOException e) {
+                throw ioError("Cannot rewrite " + path, e);
+            } finally {
+                open();
+            }
+        }
+
+        private void deleteFiles(Path directory) {
+            try {
+                if (Files.isDirectory(directory)) {
+                    for (String file : COLUMN_FILES) {
+                        Files.deleteIfExists(directory.resolve(file));
+                    }
+                    Files.deleteIfExists(directory.resolve("header"));
+                }
+            } catch (IOException e) {
+                throw ioError("Cannot delete " + directory, e);
+            }
+        }
+
+        private void copyFrom(Series other) {
+            try {
+                for (int i = 0; i < columns.length; i++) {
+                    Column column = columns[i];
+                    column.ensureCapacity(rows + other.rows);
+                    ByteBuffer source = other.columns[i].buffer.duplicate();
+                    ((Buffer) source).limit(other.rows * column.width);
+                    ByteBuffer target = column.buffer.duplicate();
+                    ((Buffer) target).position(rows * column.width);
+                    target.put(source);
+                }
+            } catch (IOException e) {
+                throw ioError("Cannot copy " + other.path, e);
+            }
+            rows += other.rows;
+            header.putLong(ROWS_OFFSET, rows);
+        }
+
+        private void write(Candlestick candlestick) {
+            try {
+                for (Column column : columns) {
+                    column.ensureCapacity(rows + 1);
+                }
+            } catch (IOException e) {
+                throw ioError("Cannot grow " + path, e);
+            }
+            int position = rows * 8;
+            columns[CandlestickSeries.OPEN_TIME].buffer.putLong(position, candlestick.getOpenTime());
+            columns[CandlestickSeries.OPEN].buffer.putDouble(position, toDouble(candlestick.getOpen()));
+            columns[CandlestickSeries.HIGH].buffer.putDouble(position, toDouble(candlestick.getHigh()));
+            columns[CandlestickSeries.LOW].buffer.putDouble(position, toDouble(candlestick.getLow()));
+            columns[CandlestickSeries.CLOSE].buffer.putDouble(position, toDouble(candlestick.getClose()));
+            columns[CandlestickSeries.VOLUME].buffer.putDouble(position, toDouble(candlestick.getVolume()));
+            columns[CandlestickSeries.CLOSE_TIME].buffer.putLong(position, candlestick.getCloseTime());
+            columns[CandlestickSeries.QUOTE_ASSET_VOLUME].buffer.putDouble(position,
+                    toDouble(candlestick.getQuoteAssetVolume()));
+            columns[CandlestickSeries.NUM_TRADES].buffer.putInt(rows * 4,
+                    candlestick.getNumTrades() != null ? candlestick.getNumTrades() : 0);
+            columns[CandlestickSeries.TAKER_BUY_BASE_ASSET_VOLUME].buffer.putDouble(position,
+                    toDouble(candlestick.getTakerBuyBaseAssetVolume()));
+            columns[CandlestickSeries.TAKER_BUY_QUOTE_ASSET_VOLUME].buffer.putDouble(position,
+                    toDouble(candlestick.getTakerBuyQuoteAssetVolume()));
+            rows++;
+        }
+
+        /**
+         * The series gets views of the current mappings and a fixed row range.
+         * Appends only write past the stored rows, a grown column is remapped into
+         * a new buffer and a prepend writes new files, so the rows it sees are
+         * never changed under it.
+         */
+        CandlestickSeries query(long startTime, long endTime) {
+            int from = lowerBound(startTime);
+            int to = endTime == Long.MAX_VALUE ? rows : lowerBound(endTime + 1);
+            ByteBuffer[] buffers = new ByteBuffer[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                buffers[i] = columns[i].buffer.asReadOnlyBuffer();
+            }
+            return new CandlestickSeries(buffers, from, Math.max(0, to - from));
+        }
+
+        /**
+         * @return The first row opened at or after the given time.
+         */
+        private int lowerBound(long openTime) {
+            ByteBuffer openTimes = columns[CandlestickSeries.OPEN_TIME].buffer;
+            int low = 0;
+            int high = rows;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (openTimes.getLong(mid * 8) < openTime) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+}
@@ -0,0 +1,71 @@
+package com.binance.client;
+
+/**
+ * Receives the measurements of the request and subscription clients, see
+ * {@link RequestOptions#setMetrics(ClientMetrics)} and
+ * {@link SubscriptionOptions#setMetrics(ClientMetrics)}. Every method does
+ * nothing by default, so an implementation overrides only what it records.
+ * <p>
+ * The methods are called on the network and dispatch threads of the clients,
+ * once per request or message, with constants and primitives only. They must be
+ * thread safe and return quickly, and should not allocate.
+ */
+public interface ClientMetrics {
+
+    /**
+     * Records nothing, the default of the clients.
+     */
+    ClientMetrics NOOP = new ClientMetrics() {
+    };
+
+    /**
+     * A REST request got a response, successful or not.
+     *
+     * @param path          The endpoint path, like "/fapi/v1/depth".
+     * @param status        The HTTP status code.
+     * @param latencyNanos  The time from sending the request to receiving the
+     *                      response headers.
+     * @param responseBytes The number of bytes read from the response body, or
+     *                      -1 if there was none.
+     * @param parseNanos    The time to read and parse the response body.
+     * @param weight        The weight of the request.
+     * @param usedWeight    The weight used in the current minute as reported by
+     *                      the exchange, or -1 if not reported.
+     */
+    default void onRequest(String path, int status, long latencyNanos, long responseBytes, long parseNanos,
+            int weight, long usedWeight) {
+    }
+
+    /**
+     * A request or a subscription failed.
+     *
+     * @param source  The endpoint path of a request, or the stream name of a
+     *                subscription.
+     * @param errType The error type, one of the BinanceApiException codes like
+     *                {@link com.binance.client.exception.BinanceApiException#EXEC_ERROR}.
+     */
+    default void onError(String source, String errType) {
+    }
+
+    /**
+     * A lost websocket connection is about to be reconnected.
+     */
+    default void onReconnect(int connectionId) {
+    }
+
+    /**
+     * A subscription received a message.
+     *
+     * @param streamName The stream name, like "btcusdt@aggTrade".
+     */
+    default void onMessage(String streamName) {
+    }
+
+    /**
+     * A message was queued for dispatch.
+     *
+     * @param depth The number of messages in the connection's dispatch queue.
+     */
+    default void onDispatchQueueDepth(int connectionId, int depth) {
+    }
+}
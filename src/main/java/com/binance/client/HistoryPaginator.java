@@ -0,0 +1,301 @@
+package com.binance.client;
+
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.enums.CandlestickInterval;
+import com.binance.client.model.enums.IncomeType;
+import com.binance.client.model.market.AggregateTrade;
+import com.binance.client.model.market.Candlestick;
+import com.binance.client.model.market.FundingRate;
+import com.binance.client.model.market.LiquidationOrder;
+import com.binance.client.model.trade.Income;
+import com.binance.client.model.trade.MyTrade;
+import com.binance.client.model.trade.Order;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Fetches the history endpoints over ranges larger than one page. The range is cut
+ * into time slices that are fetched concurrently, each slice is paged until it is
+ * complete, and the records are de-duplicated and returned as one stream ordered
+ * by time.
+ *
+ * <p>Requests go through the given {@link AsyncRequestClient}, so enable its rate
+ * limiter with {@link RequestOptions#setRateLimitEnabled(boolean)} to keep a
+ * backfill within the request weight limits.
+ */
+public class HistoryPaginator {
+
+    private static final long HOUR_MS = 3_600_000L;
+    private static final long DAY_MS = 24 * HOUR_MS;
+
+    private final AsyncRequestClient client;
+    private final int concurrency;
+
+    /**
+     * One page request: the slice bounds, or the id to continue from when the
+     * previous page was full.
+     */
+    @FunctionalInterface
+    private interface PageFetcher<T> {
+
+        CompletableFuture<List<T>> fetch(long startTime, long endTime, Long fromId);
+    }
+
+    private static final class Endpoint<T> {
+
+        final long sliceMs;
+        final int limit;
+        final Function<T, Long> time;
+        final Function<T, Object> key;
+        final Function<T, Long> id;
+        final boolean idReplacesTime;
+        final boolean uniqueTime;
+        final PageFetcher<T> fetcher;
+
+        /**
+         * @param id             The id to continue from on a full page, null to continue by time.
+         * @param idReplacesTime True if pages requested by id are not bounded by time on the server.
+         * @param uniqueTime     True if no two records share a time, so paging can resume after the last time.
+         */
+        Endpoint(long sliceMs, int limit, Function<T, Long> time, Function<T, Object> key, Function<T, Long> id,
+                boolean idReplacesTime, boolean uniqueTime, PageFetcher<T> fetcher) {
+            this.sliceMs = sliceMs;
+            this.limit = limit;
+            this.time = time;
+            this.key = key;
+            this.id = id;
+            this.idReplacesTime = idReplacesTime;
+            this.uniqueTime = uniqueTime;
+            this.fetcher = fetcher;
+        }
+    }
+
+    public HistoryPaginator(AsyncRequestClient client) {
+        this(client, 4);
+    }
+
+    /**
+     * @param client      The client the pages are fetched with.
+     * @param concurrency The number of slices fetched at the same time.
+     */
+    public HistoryPaginator(AsyncRequestClient client, int concurrency) {
+        if (concurrency < 1) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The concurrency must be at least 1");
+        }
+        this.client = client;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Aggregate trades in [startTime, endTime]. Slices are one hour, the widest
+     * window the endpoint accepts, and full pages continue with fromId.
+     */
+    public Stream<AggregateTrade> getAggregateTrades(String symbol, long startTime, long endTime) {
+        return stream(new Endpoint<>(HOUR_MS, 1000, AggregateTrade::getTime, AggregateTrade::getId,
+                AggregateTrade::getId, true, false,
+                (start, end, fromId) -> fromId != null
+                        ? client.getAggregateTrades(symbol, fromId, null, null, 1000)
+                        : client.getAggregateTrades(symbol, null, start, end, 1000)), startTime, endTime);
+    }
+
+    /**
+     * Candlesticks opened in [startTime, endTime], one page of 1500 per slice.
+     */
+    public Stream<Candlestick> getCandlestick(String symbol, CandlestickInterval interval, long startTime,
+            long endTime) {
+        return stream(new Endpoint<>(interval.getDurationMs() * 1500, 1500, Candlestick::getOpenTime,
+                Candlestick::getOpenTime, null, false, true,
+                (start, end, fromId) -> client.getCandlestick(symbol, interval, start, end, 1500)),
+                startTime, endTime);
+    }
+
+    /**
+     * Orders created in [startTime, endTime], ordered by orderId. Slices are seven
+     * days, the widest window the endpoint accepts, and full pages continue from
+     * the next orderId.
+     */
+    public Stream<Order> getAllOrders(String symbol, long startTime, long endTime) {
+        return stream(new Endpoint<>(7 * DAY_MS, 1000, Order::getOrderId, Order::getOrderId, Order::getOrderId,
+                false, false, (start, end, fromId) -> client.getAllOrders(symbol, fromId, start, end, 1000, null)),
+                startTime, endTime);
+    }
+
+    /**
+     * Account trades in [startTime, endTime]. Slices are seven days and full pages
+     * continue with fromId.
+     */
+    public Stream<MyTrade> getAccountTrades(String symbol, long startTime, long endTime) {
+        return stream(new Endpoint<>(7 * DAY_MS, 1000, MyTrade::getTime,
+                trade -> trade.getId() != null ? trade.getId() : trade.toString(), MyTrade::getId, true, false,
+                (start, end, fromId) -> fromId != null
+                        ? client.getAccountTrades(symbol, null, null, fromId, 1000, null)
+                        : client.getAccountTrades(symbol, start, end, null, 1000, null)), startTime, endTime);
+    }
+
+    /**
+     * Income records in [startTime, endTime], de-duplicated by tranId. The
+     * stream fails if more than a page of records share one time, since they
+     * cannot all be fetched.
+     */
+    public Stream<Income> getIncomeHistory(String symbol, IncomeType incomeType, long startTime, long endTime) {
+        return stream(new Endpoint<>(7 * DAY_MS, 1000, Income::getTime,
+                income -> income.getTranId() != null ? income.getTranId() : income.toString(), null, false, false,
+                (start, end, fromId) -> client.getIncomeHistory(symbol, incomeType, start, end, 1000, null)),
+                startTime, endTime);
+    }
+
+    /**
+     * Funding rates in [startTime, endTime].
+     */
+    public Stream<FundingRate> getFundingRate(String symbol, long startTime, long endTime) {
+        return stream(new Endpoint<>(1000 * 8 * HOUR_MS, 1000, FundingRate::getFundingTime,
+                FundingRate::getFundingTime, null, false, true,
+                (start, end, fromId) -> client.getFundingRate(symbol, start, end, 1000)), startTime, endTime);
+    }
+
+    /**
+     * Liquidation orders in [startTime, endTime]. Records carry no id, so
+     * duplicates are recognized by their content. The stream fails if more than
+     * a page of records share one time, since they cannot all be fetched.
+     */
+    public Stream<LiquidationOrder> getLiquidationOrders(String symbol, long startTime, long endTime) {
+        return stream(new Endpoint<>(DAY_MS, 1000, LiquidationOrder::getTime, LiquidationOrder::toString, null,
+                false, false, (start, end, fromId) -> client.getLiquidationOrders(symbol, start, end, 1000)),
+                startTime, endTime);
+    }
+
+    private <T> Stream<T> stream(Endpoint<T> endpoint, long startTime, long endTime) {
+        if (startTime > endTime) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The start time is after the end time");
+        }
+        Iterator<T> iterator = new SliceIterator<>(endpoint, startTime, endTime);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Keeps up to {@code concurrency} slices in flight and hands out the records
+     * of the oldest slice once it is complete.
+     */
+    private final class SliceIterator<T> implements Iterator<T> {
+
+        private final Endpoint<T> endpoint;
+        private final long endTime;
+        private final Deque<CompletableFuture<List<T>>> inFlight = new ArrayDeque<>();
+        private long nextSliceStart;
+        private Iterator<T> current = Collections.emptyIterator();
+
+        SliceIterator(Endpoint<T> endpoint, long startTime, long endTime) {
+            this.endpoint = endpoint;
+            this.endTime = endTime;
+            this.nextSliceStart = startTime;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                while (inFlight.size() < concurrency && nextSliceStart <= endTime) {
+                    long sliceEnd = endTime - nextSliceStart < endpoint.sliceMs
+                            ? endTime : nextSliceStart + endpoint.sliceMs - 1;
+                    inFlight.add(fetchSlice(endpoint, nextSliceStart, sliceEnd));
+                    nextSliceStart = sliceEnd + 1;
+                }
+                if (inFlight.isEmpty()) {
+                    return false;
+                }
+                try {
+                    current = inFlight.poll().join().iterator();
+                } catch (CompletionException e) {
+                    inFlight.forEach(future -> future.cancel(false));
+                    inFlight.clear();
+                    nextSliceStart = endTime + 1;
+                    if (e.getCause() instanceof BinanceApiException) {
+                        throw (BinanceApiException) e.getCause();
+                    }
+                    throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                            "[Paginator] Failed to fetch page: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    private <T> CompletableFuture<List<T>> fetchSlice(Endpoint<T> endpoint, long startTime, long endTime) {
+        Map<Object, T> records = new LinkedHashMap<>();
+        return fetchPage(endpoint, startTime, endTime, null, records).thenApply(ignored -> {
+            List<T> result = new ArrayList<>(records.values());
+            result.sort(Comparator.comparing(endpoint.time));
+            return result;
+        });
+    }
+
+    private <T> CompletableFuture<Void> fetchPage(Endpoint<T> endpoint, long startTime, long endTime, Long fromId,
+            Map<Object, T> records) {
+        return endpoint.fetcher.fetch(startTime, endTime, fromId).thenCompose(page -> {
+            // Pages continued by id alone are not bounded by the slice on the server.
+            boolean filter = fromId != null && endpoint.idReplacesTime;
+            boolean pastEnd = false;
+            long firstTime = Long.MAX_VALUE;
+            long lastTime = Long.MIN_VALUE;
+            Long lastId = null;
+            for (T record : page) {
+                long time = endpoint.time.apply(record);
+                firstTime = Math.min(firstTime, time);
+                lastTime = Math.max(lastTime, time);
+                Long id = endpoint.id != null ? endpoint.id.apply(record) : null;
+                if (id != null && (lastId == null || id > lastId)) {
+                    lastId = id;
+                }
+                if (filter && time > endTime) {
+                    pastEnd = true;
+                } else if (!filter || time >= startTime) {
+                    records.putIfAbsent(endpoint.key.apply(record), record);
+                }
+            }
+            if (page.size() < endpoint.limit || pastEnd) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (lastId != null) {
+                return fetchPage(endpoint, startTime, endTime, lastId + 1, records);
+            }
+            // Without an id, resume at the last time seen and let de-duplication drop
+            // the overlap. A full page sharing one time cannot be narrowed further,
+            // and skipping past it would silently drop the records beyond the page.
+            if (!endpoint.uniqueTime && firstTime == lastTime) {
+                CompletableFuture<Void> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                        "[Paginator] More than " + endpoint.limit + " records at time " + lastTime
+                                + ", the history cannot be fetched completely"));
+                return failed;
+            }
+            long next = endpoint.uniqueTime ? lastTime + 1 : lastTime;
+            if (next > endTime) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return fetchPage(endpoint, next, endTime, null, records);
+        });
+    }
+}
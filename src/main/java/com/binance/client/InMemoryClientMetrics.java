@@ -0,0 +1,150 @@
+package com.binance.client;
+
+import com.binance.client.model.EndpointMetrics;
+import com.binance.client.model.LatencyRecorder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the measurements of the clients in memory: counters, and latency
+ * histograms per endpoint. Only the first request to an endpoint, message of a
+ * stream or error of a type allocates; recording is lock free after that. The
+ * values add up from the creation of the instance, which may be shared by
+ * several clients.
+ */
+public class InMemoryClientMetrics implements ClientMetrics {
+
+    /**
+     * The counters and histograms of one endpoint.
+     */
+    private static final class Endpoint {
+
+        final String path;
+        final LongAdder requests = new LongAdder();
+        final LongAdder responseBytes = new LongAdder();
+        final LongAdder weight = new LongAdder();
+        final LatencyRecorder latency = LatencyRecorder.create();
+        final LatencyRecorder parseTime = LatencyRecorder.create();
+
+        Endpoint(String path) {
+            this.path = path;
+        }
+    }
+
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> messages = new ConcurrentHashMap<>();
+    private final LongAdder reconnects = new LongAdder();
+    private final AtomicInteger maxDispatchQueueDepth = new AtomicInteger();
+    private volatile long usedWeight = -1;
+
+    @Override
+    public void onRequest(String path, int status, long latencyNanos, long responseBytes, long parseNanos,
+            int weight, long usedWeight) {
+        Endpoint endpoint = endpoints.get(path);
+        if (endpoint == null) {
+            endpoint = endpoints.computeIfAbsent(path, Endpoint::new);
+        }
+        endpoint.requests.increment();
+        if (responseBytes > 0) {
+            endpoint.responseBytes.add(responseBytes);
+        }
+        endpoint.weight.add(weight);
+        endpoint.latency.record(latencyNanos);
+        endpoint.parseTime.record(parseNanos);
+        if (usedWeight >= 0) {
+            this.usedWeight = usedWeight;
+        }
+    }
+
+    @Override
+    public void onError(String source, String errType) {
+        increment(errors, errType);
+    }
+
+    @Override
+    public void onReconnect(int connectionId) {
+        reconnects.increment();
+    }
+
+    @Override
+    public void onMessage(String streamName) {
+        increment(messages, streamName);
+    }
+
+    @Override
+    public void onDispatchQueueDepth(int connectionId, int depth) {
+        int max;
+        while (depth > (max = maxDispatchQueueDepth.get()) && !maxDispatchQueueDepth.compareAndSet(max, depth)) {
+            // Retry, another thread raised the maximum meanwhile.
+        }
+    }
+
+    private static void increment(ConcurrentMap<String, LongAdder> counters, String key) {
+        if (key == null) {
+            key = "";
+        }
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, ignored -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static Map<String, Long> snapshot(ConcurrentMap<String, LongAdder> counters) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((key, counter) -> snapshot.put(key, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * @return The requests per endpoint, sorted by path.
+     */
+    public List<EndpointMetrics> getEndpointMetrics() {
+        List<EndpointMetrics> metrics = new ArrayList<>();
+        for (Endpoint endpoint : new TreeMap<>(endpoints).values()) {
+            metrics.add(new EndpointMetrics(endpoint.path, endpoint.requests.sum(), endpoint.responseBytes.sum(),
+                    endpoint.weight.sum(), endpoint.latency.snapshot(false), endpoint.parseTime.snapshot(false)));
+        }
+        return metrics;
+    }
+
+    /**
+     * @return The number of errors per BinanceApiException error type.
+     */
+    public Map<String, Long> getErrorCounts() {
+        return snapshot(errors);
+    }
+
+    /**
+     * @return The number of messages per stream name.
+     */
+    public Map<String, Long> getMessageCounts() {
+        return snapshot(messages);
+    }
+
+    public long getReconnects() {
+        return reconnects.sum();
+    }
+
+    /**
+     * @return The weight used in the current minute as last reported by the
+     *         exchange, or -1 if never reported.
+     */
+    public long getUsedWeight() {
+        return usedWeight;
+    }
+
+    /**
+     * @return The deepest any dispatch queue has been.
+     */
+    public int getMaxDispatchQueueDepth() {
+        return maxDispatchQueueDepth.get();
+    }
+}
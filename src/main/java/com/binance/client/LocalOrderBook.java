@@ -0,0 +1,381 @@
+package com.binance.client;
+
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.impl.utils.Channels;
+import com.binance.client.model.event.OrderBookEvent;
+import com.binance.client.model.market.OrderBook;
+import com.binance.client.model.market.OrderBookEntry;
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A local copy of the order book of one symbol, kept in sync from the diff depth
+ * stream. Diffs are buffered while the REST snapshot is fetched and applied in
+ * order after it. A gap in the update ids, a diff whose "pu" is not the previous
+ * diff's "u", drops the book and starts over from a new snapshot.
+ *
+ * <p>Readers never block the thread applying the diffs: a read runs without a
+ * lock and is retried if a diff was applied meanwhile, so every answer reflects
+ * the book between two whole diffs.
+ *
+ * <p>The book owns the diff depth stream of its symbol on its subscription
+ * client: {@link #close()} unsubscribes the whole stream, so give the book a
+ * client on which nothing else listens to "&lt;symbol&gt;@depth".
+ */
+public class LocalOrderBook implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalOrderBook.class);
+    private static final long SNAPSHOT_RETRY_MS = 1_000L;
+
+    private enum State {
+        WAITING_SNAPSHOT, BRIDGING, SYNCED, CLOSED
+    }
+
+    private final String symbol;
+    private final String streamName;
+    private final SubscriptionClient subscriptionClient;
+    private final AsyncRequestClient requestClient;
+    private final int snapshotLimit;
+
+    private final NavigableMap<BigDecimal, BigDecimal> bids = new ConcurrentSkipListMap<>(Collections.reverseOrder());
+    private final NavigableMap<BigDecimal, BigDecimal> asks = new ConcurrentSkipListMap<>();
+    // Odd while a diff is being applied.
+    private volatile long version = 0;
+
+    private final Deque<OrderBookEvent> buffer = new ArrayDeque<>();
+    private final CompletableFuture<Void> firstSync = new CompletableFuture<>();
+    private volatile State state = State.WAITING_SNAPSHOT;
+    private volatile long lastUpdateId = 0;
+    private volatile long resyncCount = 0;
+    private boolean snapshotInFlight = false;
+    private long lastSnapshotRequestMs = 0;
+    private int snapshotGeneration = 0;
+    private volatile SubscriptionListener<LocalOrderBook> updateListener = null;
+
+    public LocalOrderBook(String symbol, SubscriptionClient subscriptionClient, AsyncRequestClient requestClient) {
+        this(symbol, subscriptionClient, requestClient, 1000);
+    }
+
+    /**
+     * @param symbol             The symbol, like "btcusdt".
+     * @param subscriptionClient The client the diff depth stream is subscribed with,
+     *                           with no other listener of that stream.
+     * @param requestClient      The client the snapshots are fetched with.
+     * @param snapshotLimit      The depth of the snapshots, see
+     *                           {@link AsyncRequestClient#getOrderBook(String, Integer)}.
+     */
+    public LocalOrderBook(String symbol, SubscriptionClient subscriptionClient, AsyncRequestClient requestClient,
+            int snapshotLimit) {
+        if (symbol == null || subscriptionClient == null || requestClient == null) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "[LocalOrderBook] The symbol and the clients are required");
+        }
+        this.symbol = symbol.toUpperCase(Locale.ROOT);
+        this.streamName = Channels.diffDepthStream(symbol.toLowerCase(Locale.ROOT));
+        this.subscriptionClient = subscriptionClient;
+        this.requestClient = requestClient;
+        this.snapshotLimit = snapshotLimit;
+    }
+
+    /**
+     * Subscribe the diff depth stream and start synchronizing.
+     *
+     * @return A future completed when the book is first in sync, or failed if the
+     *         subscription is rejected or not acknowledged.
+     */
+    public CompletableFuture<Void> start() {
+        subscriptionClient.subscribeDiffDepthEvent(symbol.toLowerCase(Locale.ROOT), this::onEvent, this::onError)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        firstSync.completeExceptionally(e);
+                    }
+                });
+        return firstSync;
+    }
+
+    /**
+     * Call the listener on the updating thread after each diff applied in sync.
+     */
+    public void setUpdateListener(SubscriptionListener<LocalOrderBook> updateListener) {
+        this.updateListener = updateListener;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return True if the book matches the exchange as of {@link #getLastUpdateId()}.
+     *         While resynchronizing the book is empty.
+     */
+    public boolean isSynced() {
+        return state == State.SYNCED;
+    }
+
+    public long getLastUpdateId() {
+        return lastUpdateId;
+    }
+
+    /**
+     * @return The number of times the book was dropped and fetched again.
+     */
+    public long getResyncCount() {
+        return resyncCount;
+    }
+
+    /**
+     * @return The highest bid, or null if there is none.
+     */
+    public OrderBookEntry getBestBid() {
+        return read(() -> entry(bids.firstEntry()));
+    }
+
+    /**
+     * @return The lowest ask, or null if there is none.
+     */
+    public OrderBookEntry getBestAsk() {
+        return read(() -> entry(asks.firstEntry()));
+    }
+
+    /**
+     * @return The bid quantity at the price, zero if there is no such level.
+     */
+    public BigDecimal getBidQty(BigDecimal price) {
+        return read(() -> bids.getOrDefault(price, BigDecimal.ZERO));
+    }
+
+    /**
+     * @return The ask quantity at the price, zero if there is no such level.
+     */
+    public BigDecimal getAskQty(BigDecimal price) {
+        return read(() -> asks.getOrDefault(price, BigDecimal.ZERO));
+    }
+
+    /**
+     * @return Up to the given number of bids, the highest first.
+     */
+    public List<OrderBookEntry> getTopBids(int count) {
+        return read(() -> top(bids, count));
+    }
+
+    /**
+     * @return Up to the given number of asks, the lowest first.
+     */
+    public List<OrderBookEntry> getTopAsks(int count) {
+        return read(() -> top(asks, count));
+    }
+
+    /**
+     * Unsubscribe the diff depth stream, along with any other listener of it on
+     * the same client. The book keeps its last state.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            state = State.CLOSED;
+            buffer.clear();
+        }
+        firstSync.completeExceptionally(new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                "[LocalOrderBook] Closed before in sync"));
+        subscriptionClient.unsubscribe(streamName);
+    }
+
+    private synchronized void onEvent(OrderBookEvent event) {
+        switch (state) {
+            case SYNCED:
+                if (event.getLastUpdateIdInlastStream() == null
+                        || event.getLastUpdateIdInlastStream() != lastUpdateId) {
+                    log.warn("[LocalOrderBook] " + symbol + " missed diffs after " + lastUpdateId + ", resync");
+                    resync(event);
+                    return;
+                }
+                apply(event);
+                break;
+            case BRIDGING:
+                if (event.getLastUpdateId() < lastUpdateId) {
+                    return;
+                }
+                if (event.getFirstUpdateId() > lastUpdateId) {
+                    log.warn("[LocalOrderBook] " + symbol + " snapshot " + lastUpdateId + " is too old, resync");
+                    resync(event);
+                    return;
+                }
+                apply(event);
+                state = State.SYNCED;
+                firstSync.complete(null);
+                break;
+            case WAITING_SNAPSHOT:
+                buffer.add(copy(event));
+                requestSnapshot();
+                return;
+            default:
+                return;
+        }
+        SubscriptionListener<LocalOrderBook> listener = updateListener;
+        if (listener != null) {
+            listener.onReceive(this);
+        }
+    }
+
+    private void onError(BinanceApiException e) {
+        log.warn("[LocalOrderBook] " + symbol + " stream error, resync: " + e.getMessage());
+        synchronized (this) {
+            if (state != State.CLOSED) {
+                resync(null);
+            }
+        }
+    }
+
+    private void resync(OrderBookEvent event) {
+        resyncCount++;
+        state = State.WAITING_SNAPSHOT;
+        write(() -> {
+            bids.clear();
+            asks.clear();
+        });
+        buffer.clear();
+        if (event != null) {
+            buffer.add(copy(event));
+            requestSnapshot();
+        }
+    }
+
+    private void requestSnapshot() {
+        long now = System.currentTimeMillis();
+        if (snapshotInFlight || now - lastSnapshotRequestMs < SNAPSHOT_RETRY_MS) {
+            return;
+        }
+        snapshotInFlight = true;
+        lastSnapshotRequestMs = now;
+        int generation = ++snapshotGeneration;
+        requestClient.getOrderBook(symbol, snapshotLimit)
+                .whenComplete((snapshot, e) -> onSnapshot(generation, snapshot, e));
+    }
+
+    private synchronized void onSnapshot(int generation, OrderBook snapshot, Throwable e) {
+        if (generation != snapshotGeneration || state != State.WAITING_SNAPSHOT) {
+            return;
+        }
+        snapshotInFlight = false;
+        if (e != null) {
+            log.warn("[LocalOrderBook] " + symbol + " failed to get snapshot: " + e.getMessage());
+            return;
+        }
+        write(() -> {
+            bids.clear();
+            asks.clear();
+            snapshot.getBids().forEach(entry -> update(bids, entry));
+            snapshot.getAsks().forEach(entry -> update(asks, entry));
+        });
+        lastUpdateId = snapshot.getLastUpdateId();
+        state = State.BRIDGING;
+        List<OrderBookEvent> pending = new ArrayList<>(buffer);
+        buffer.clear();
+        pending.forEach(this::onEvent);
+    }
+
+    private void apply(OrderBookEvent event) {
+        write(() -> {
+            event.getBids().forEach(entry -> update(bids, entry));
+            event.getAsks().forEach(entry -> update(asks, entry));
+        });
+        lastUpdateId = event.getLastUpdateId();
+    }
+
+    /**
+     * Copy the ids and levels of a diff before buffering it, since with
+     * {@link SubscriptionOptions#setFlyweightEvents(boolean)} the stream overwrites
+     * the event with the next message.
+     */
+    private static OrderBookEvent copy(OrderBookEvent event) {
+        OrderBookEvent copy = new OrderBookEvent();
+        copy.setFirstUpdateId(event.getFirstUpdateId());
+        copy.setLastUpdateId(event.getLastUpdateId());
+        copy.setLastUpdateIdInlastStream(event.getLastUpdateIdInlastStream());
+        copy.setBids(copy(event.getBids()));
+        copy.setAsks(copy(event.getAsks()));
+        return copy;
+    }
+
+    private static List<OrderBookEntry> copy(List<OrderBookEntry> levels) {
+        List<OrderBookEntry> copy = new ArrayList<>(levels.size());
+        for (OrderBookEntry level : levels) {
+            OrderBookEntry entry = new OrderBookEntry();
+            entry.setPrice(level.getPrice());
+            entry.setQty(level.getQty());
+            copy.add(entry);
+        }
+        return copy;
+    }
+
+    private static void update(NavigableMap<BigDecimal, BigDecimal> side, OrderBookEntry entry) {
+        if (entry.getQty().signum() == 0) {
+            side.remove(entry.getPrice());
+        } else {
+            side.put(entry.getPrice(), entry.getQty());
+        }
+    }
+
+    /**
+     * Apply a change to the book. Called with the lock held, so there is one writer.
+     */
+    private void write(Runnable change) {
+        version++;
+        try {
+            change.run();
+        } finally {
+            version++;
+        }
+    }
+
+    /**
+     * Run a query until no change overlaps it. The maps are concurrent, so a query
+     * racing a change returns a mixed answer rather than failing, and the version
+     * check discards it.
+     */
+    private <T> T read(Supplier<T> query) {
+        while (true) {
+            long before = version;
+            if ((before & 1) == 0) {
+                T result = query.get();
+                if (version == before) {
+                    return result;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    private static OrderBookEntry entry(Map.Entry<BigDecimal, BigDecimal> level) {
+        if (level == null) {
+            return null;
+        }
+        OrderBookEntry entry = new OrderBookEntry();
+        entry.setPrice(level.getKey());
+        entry.setQty(level.getValue());
+        return entry;
+    }
+
+    private static List<OrderBookEntry> top(NavigableMap<BigDecimal, BigDecimal> side, int count) {
+        List<OrderBookEntry> levels = new ArrayList<>(Math.max(0, Math.min(count, 1000)));
+        Iterator<Map.Entry<BigDecimal, BigDecimal>> it = side.entrySet().iterator();
+        while (levels.size() < count && it.hasNext()) {
+            levels.add(entry(it.next()));
+        }
+        return levels;
+    }
+}
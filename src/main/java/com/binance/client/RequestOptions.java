@@ -2,7 +2,13 @@ package com.binance.client;
 
 import com.binance.client.constant.BinanceApiConstants;
 import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.market.RateLimit;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 
 /**
  * The configuration for the request APIs
@@ -10,12 +16,48 @@ import java.net.URL;
 public class RequestOptions {
 
     private String url = BinanceApiConstants.API_BASE_URL;
+    private Executor asyncExecutor = null;
+    private OkHttpClient httpClient = null;
+    private int maxIdleConnections = 5;
+    private long keepAliveDurationMs = 300_000L;
+    private int maxRequests = 64;
+    private int maxRequestsPerHost = 5;
+    private long connectTimeoutMs = 10_000L;
+    private long readTimeoutMs = 10_000L;
+    private long writeTimeoutMs = 10_000L;
+    private List<Protocol> protocols = null;
+    private boolean rateLimitEnabled = false;
+    private List<RateLimit> rateLimits = null;
+    private long rateLimitMaxWaitMs = 60_000L;
+    private long orderBatchWindowMicros = 0L;
+    private boolean timeSyncEnabled = false;
+    private long timeSyncIntervalMs = 60_000L;
+    private long recvWindowMs = BinanceApiConstants.DEFAULT_RECEIVING_WINDOW;
+    private ClientMetrics metrics = ClientMetrics.NOOP;
 
     public RequestOptions() {
     }
 
     public RequestOptions(RequestOptions option) {
         this.url = option.url;
+        this.asyncExecutor = option.asyncExecutor;
+        this.httpClient = option.httpClient;
+        this.maxIdleConnections = option.maxIdleConnections;
+        this.keepAliveDurationMs = option.keepAliveDurationMs;
+        this.maxRequests = option.maxRequests;
+        this.maxRequestsPerHost = option.maxRequestsPerHost;
+        this.connectTimeoutMs = option.connectTimeoutMs;
+        this.readTimeoutMs = option.readTimeoutMs;
+        this.writeTimeoutMs = option.writeTimeoutMs;
+        this.protocols = option.protocols;
+        this.rateLimitEnabled = option.rateLimitEnabled;
+        this.rateLimits = option.rateLimits;
+        this.rateLimitMaxWaitMs = option.rateLimitMaxWaitMs;
+        this.orderBatchWindowMicros = option.orderBatchWindowMicros;
+        this.timeSyncEnabled = option.timeSyncEnabled;
+        this.timeSyncIntervalMs = option.timeSyncIntervalMs;
+        this.recvWindowMs = option.recvWindowMs;
+        this.metrics = option.metrics;
     }
 
     /**
@@ -36,4 +78,272 @@ public class RequestOptions {
     public String getUrl() {
         return url;
     }
+
+    /**
+     * Set the executor used by {@link AsyncRequestClient} to parse responses and
+     * complete futures. If not set, responses are parsed on the OkHttp dispatcher
+     * thread that received them.
+     *
+     * @param asyncExecutor The executor for response parsing.
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Use the given OkHttp client as transport. When set, the pool, dispatcher,
+     * timeout and protocol settings of these options are ignored and the client is
+     * used as it is, so several request clients can share one connection pool.
+     *
+     * @param httpClient The OkHttp client, or null to let the factory build one.
+     */
+    public void setHttpClient(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Set the connection pool size and how long idle connections are kept alive.
+     *
+     * @param maxIdleConnections  The maximum number of idle connections kept in the pool.
+     * @param keepAliveDurationMs The keep-alive time of an idle connection in millisecond.
+     */
+    public void setConnectionPool(int maxIdleConnections, long keepAliveDurationMs) {
+        if (maxIdleConnections < 0 || keepAliveDurationMs <= 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "The connection pool size and keep-alive duration must be positive");
+        }
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveDurationMs = keepAliveDurationMs;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public long getKeepAliveDurationMs() {
+        return keepAliveDurationMs;
+    }
+
+    /**
+     * Set the concurrency of asynchronous requests on the dispatcher.
+     *
+     * @param maxRequests        The maximum number of requests executing concurrently.
+     * @param maxRequestsPerHost The maximum number of requests executing concurrently for one host.
+     */
+    public void setDispatcherLimits(int maxRequests, int maxRequestsPerHost) {
+        if (maxRequests < 1 || maxRequestsPerHost < 1) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "The dispatcher limits must be at least 1");
+        }
+        this.maxRequests = maxRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Set the connect, read and write timeouts. Zero means no timeout.
+     *
+     * @param connectTimeoutMs The connect timeout in millisecond.
+     * @param readTimeoutMs    The read timeout in millisecond.
+     * @param writeTimeoutMs   The write timeout in millisecond.
+     */
+    public void setTimeouts(long connectTimeoutMs, long readTimeoutMs, long writeTimeoutMs) {
+        if (connectTimeoutMs < 0 || readTimeoutMs < 0 || writeTimeoutMs < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The timeouts must not be negative");
+        }
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+        this.writeTimeoutMs = writeTimeoutMs;
+    }
+
+    public long getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    public long getReadTimeoutMs() {
+        return readTimeoutMs;
+    }
+
+    public long getWriteTimeoutMs() {
+        return writeTimeoutMs;
+    }
+
+    /**
+     * Set the protocols to negotiate, in order of preference. For example
+     * [HTTP_1_1] disables HTTP/2. By default OkHttp prefers HTTP/2 and falls back
+     * to HTTP/1.1.
+     *
+     * @param protocols The protocols, must contain HTTP_1_1 or only H2_PRIOR_KNOWLEDGE.
+     */
+    public void setProtocols(List<Protocol> protocols) {
+        if (protocols == null || protocols.isEmpty()) {
+            this.protocols = null;
+            return;
+        }
+        boolean priorKnowledgeOnly = protocols.size() == 1 && protocols.contains(Protocol.H2_PRIOR_KNOWLEDGE);
+        if (!priorKnowledgeOnly && !protocols.contains(Protocol.HTTP_1_1)) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "The protocols must contain HTTP_1_1 or only H2_PRIOR_KNOWLEDGE: " + protocols);
+        }
+        this.protocols = new ArrayList<>(protocols);
+    }
+
+    public List<Protocol> getProtocols() {
+        return protocols;
+    }
+
+    /**
+     * Enable the client side rate limiter. Every request counts its endpoint weight
+     * (and order count for order placement) against the current window of each
+     * limit before it is sent, and waits for the window to roll once it is full.
+     * Windows are aligned to the interval like on the server, and the used weight
+     * and order count headers returned by the server replace the local count.
+     * Calling getExchangeInformation refreshes the limits.
+     *
+     * @param rateLimitEnabled The boolean flag, true for enable, false for disable.
+     */
+    public void setRateLimitEnabled(boolean rateLimitEnabled) {
+        this.rateLimitEnabled = rateLimitEnabled;
+    }
+
+    public boolean isRateLimitEnabled() {
+        return rateLimitEnabled;
+    }
+
+    /**
+     * Set the limits enforced by the rate limiter, usually
+     * {@link com.binance.client.model.market.ExchangeInformation#getRateLimits()}.
+     * If not set, the default futures limits are used until exchange information
+     * is fetched.
+     *
+     * @param rateLimits The REQUEST_WEIGHT and ORDERS limits.
+     */
+    public void setRateLimits(List<RateLimit> rateLimits) {
+        this.rateLimits = rateLimits != null ? new ArrayList<>(rateLimits) : null;
+    }
+
+    public List<RateLimit> getRateLimits() {
+        return rateLimits;
+    }
+
+    /**
+     * Set how long a request may be queued locally waiting for the rate limit.
+     * Requests that would wait longer are rejected with
+     * {@link BinanceApiException#RATE_LIMIT_ERROR}. Zero rejects immediately.
+     *
+     * @param rateLimitMaxWaitMs The maximum wait time in millisecond.
+     */
+    public void setRateLimitMaxWaitMs(long rateLimitMaxWaitMs) {
+        if (rateLimitMaxWaitMs < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The maximum wait must not be negative");
+        }
+        this.rateLimitMaxWaitMs = rateLimitMaxWaitMs;
+    }
+
+    public long getRateLimitMaxWaitMs() {
+        return rateLimitMaxWaitMs;
+    }
+
+    /**
+     * Enable micro-batching of {@link AsyncRequestClient#postOrder} and
+     * {@link AsyncRequestClient#cancelOrder} calls. Calls arriving within the window
+     * are sent together through /fapi/v1/batchOrders (up to 5 orders, or 10 cancels
+     * of one symbol) and every caller receives the future of its own order. Calls
+     * with an explicit timestamp are never batched. Zero disables batching.
+     *
+     * @param orderBatchWindowMicros The batching window in microsecond.
+     */
+    public void setOrderBatchWindowMicros(long orderBatchWindowMicros) {
+        if (orderBatchWindowMicros < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The batch window must not be negative");
+        }
+        this.orderBatchWindowMicros = orderBatchWindowMicros;
+    }
+
+    public long getOrderBatchWindowMicros() {
+        return orderBatchWindowMicros;
+    }
+
+    /**
+     * Enable server time synchronization. The client samples /fapi/v1/time in the
+     * background and also uses the serverTime of every getExchangeInformation and
+     * getServerTime response. Signed requests without an explicit timestamp are
+     * then stamped with the local time corrected by the estimated server offset.
+     *
+     * @param timeSyncEnabled The boolean flag, true for enable, false for disable.
+     */
+    public void setTimeSyncEnabled(boolean timeSyncEnabled) {
+        this.timeSyncEnabled = timeSyncEnabled;
+    }
+
+    public boolean isTimeSyncEnabled() {
+        return timeSyncEnabled;
+    }
+
+    /**
+     * Set how often the server time is sampled when time synchronization is
+     * enabled. Zero disables background sampling, the offset is then only updated
+     * by explicit getServerTime and getExchangeInformation calls.
+     *
+     * @param timeSyncIntervalMs The sampling interval in millisecond.
+     */
+    public void setTimeSyncIntervalMs(long timeSyncIntervalMs) {
+        if (timeSyncIntervalMs < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The sync interval must not be negative");
+        }
+        this.timeSyncIntervalMs = timeSyncIntervalMs;
+    }
+
+    public long getTimeSyncIntervalMs() {
+        return timeSyncIntervalMs;
+    }
+
+    /**
+     * Set the recvWindow sent with every signed request. With time synchronization
+     * enabled the window can be kept tight, a few hundred milliseconds is usually
+     * enough.
+     *
+     * @param recvWindowMs The receiving window in millisecond, at most 60000.
+     */
+    public void setRecvWindowMs(long recvWindowMs) {
+        if (recvWindowMs <= 0 || recvWindowMs > BinanceApiConstants.DEFAULT_RECEIVING_WINDOW) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "The recvWindow must be between 1 and " + BinanceApiConstants.DEFAULT_RECEIVING_WINDOW);
+        }
+        this.recvWindowMs = recvWindowMs;
+    }
+
+    public long getRecvWindowMs() {
+        return recvWindowMs;
+    }
+
+    /**
+     * Report the count, latency, response size, parse time and weight of each
+     * request, and the errors, to a metrics implementation, like
+     * {@link InMemoryClientMetrics}.
+     *
+     * @param metrics The metrics, or null to record nothing.
+     */
+    public void setMetrics(ClientMetrics metrics) {
+        this.metrics = metrics != null ? metrics : ClientMetrics.NOOP;
+    }
+
+    public ClientMetrics getMetrics() {
+        return metrics;
+    }
 }
@@ -1,11 +1,12 @@
 package com.binance.client;
 
+import com.binance.client.exception.BinanceApiException;
+
 /**
  * The interface for define asynchronous invoking callback.<br> If you want to ues the asynchronous
  * invoking, you must implement the ResponseCallback yourself. <br> The onResponse method is
- * mandatory, when the asynchronous invoking completed, this method will be called.<br> You should
- * check the AsyncResult to know whether the asynchronous invoking is successful or not, and get the
- * response data from AsyncResult.
+ * mandatory, when the asynchronous invoking completed, this method will be called.<br> Override
+ * onFailure to be notified when the asynchronous invoking failed, by default failures are ignored.
  */
 @FunctionalInterface
 public interface ResponseCallback<T> {
@@ -13,7 +14,15 @@ public interface ResponseCallback<T> {
   /**
    * Be called when the request successful.
    *
-   * @param response The {@link AsyncResult} of the asynchronous invoking.
+   * @param response The response data of the asynchronous invoking.
    */
   void onResponse(T response);
+
+  /**
+   * Be called when the request failed.
+   *
+   * @param exception The error of the asynchronous invoking.
+   */
+  default void onFailure(BinanceApiException exception) {
+  }
 }
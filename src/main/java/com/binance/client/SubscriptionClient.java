@@ -1,17 +1,24 @@
 package com.binance.client;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.client.impl.BinanceApiInternalFactory;
+import com.binance.client.model.DispatchQueueStats;
+import com.binance.client.model.FeedLegStats;
+import com.binance.client.model.StreamLatencyStats;
 import com.binance.client.model.enums.CandlestickInterval;
 import com.binance.client.model.event.AggregateTradeEvent;
 import com.binance.client.model.event.CandlestickEvent;
 import com.binance.client.model.event.LiquidationOrderEvent;
 import com.binance.client.model.event.MarkPriceEvent;
 import com.binance.client.model.event.OrderBookEvent;
+import com.binance.client.model.event.PriceLevelUpdate;
 import com.binance.client.model.event.SymbolBookTickerEvent;
 import com.binance.client.model.event.SymbolMiniTickerEvent;
 import com.binance.client.model.event.SymbolTickerEvent;
+import com.binance.client.model.market.ExchangeInfoEntry;
+import com.binance.client.model.market.PriceLevelBook;
 import com.binance.client.model.user.UserDataUpdateEvent;
 
 /***
@@ -42,10 +49,49 @@ public interface SubscriptionClient {
     }
 
     /**
-     * Unsubscribe all subscription.
+     * Get the dispatch queue of every connection, empty unless dispatch is
+     * enabled, see {@link SubscriptionOptions#setDispatchEnabled(boolean)}.
+     *
+     * @return The queue statistics, one per connection.
+     */
+    List<DispatchQueueStats> getDispatchQueueStats();
+
+    /**
+     * Get the legs of every redundant subscription, empty unless redundancy is
+     * enabled, see {@link SubscriptionOptions#setRedundantConnections(int)}.
+     *
+     * @return The leg statistics, one per connection.
+     */
+    List<FeedLegStats> getFeedLegStats();
+
+    /**
+     * Get the latency histograms of every subscription, empty unless latency
+     * tracking is enabled, see
+     * {@link SubscriptionOptions#setLatencyTrackingEnabled(boolean)}.
+     *
+     * @param reset True to start the histograms over, so the next call covers
+     *              the messages received from now on.
+     * @return The latency statistics, one per subscription.
+     */
+    List<StreamLatencyStats> getStreamLatencyStats(boolean reset);
+
+    /**
+     * Unsubscribe all subscription, and stop the dispatch threads. They start
+     * again with the next subscription.
      */
     void unsubscribeAll();
 
+    /**
+     * Unsubscribe one stream and drop its listeners. A stream sharing a
+     * multiplexed connection is unsubscribed on the open connection, otherwise its
+     * connection is closed.
+     *
+     * @param streamName The stream name, like "btcusdt@aggTrade" or
+     *                   "btcusdt@kline_1m".
+     * @return A future completed when the server acknowledges the unsubscription.
+     */
+    CompletableFuture<Void> unsubscribe(String streamName);
+
     /**
      * Subscribe aggregate trade event. If the aggregate trade is updated,
      * server will send the data to client and onReceive in callback will be called.
@@ -55,8 +101,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeAggregateTradeEvent(String symbol,
+    CompletableFuture<Void> subscribeAggregateTradeEvent(String symbol,
             SubscriptionListener<AggregateTradeEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
@@ -68,8 +115,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeMarkPriceEvent(String symbol,
+    CompletableFuture<Void> subscribeMarkPriceEvent(String symbol,
             SubscriptionListener<MarkPriceEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
@@ -82,8 +130,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeCandlestickEvent(String symbol, CandlestickInterval interval,
+    CompletableFuture<Void> subscribeCandlestickEvent(String symbol, CandlestickInterval interval,
             SubscriptionListener<CandlestickEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
@@ -95,8 +144,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeSymbolMiniTickerEvent(String symbol,
+    CompletableFuture<Void> subscribeSymbolMiniTickerEvent(String symbol,
             SubscriptionListener<SymbolMiniTickerEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
@@ -107,8 +157,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeAllMiniTickerEvent(SubscriptionListener<List<SymbolMiniTickerEvent>> callback, SubscriptionErrorHandler errorHandler);
+    CompletableFuture<Void> subscribeAllMiniTickerEvent(SubscriptionListener<List<SymbolMiniTickerEvent>> callback, SubscriptionErrorHandler errorHandler);
 
     /**
      * Subscribe individual symbol ticker event. If the symbol ticker is updated,
@@ -119,8 +170,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeSymbolTickerEvent(String symbol,
+    CompletableFuture<Void> subscribeSymbolTickerEvent(String symbol,
             SubscriptionListener<SymbolTickerEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
@@ -131,8 +183,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeAllTickerEvent(SubscriptionListener<List<SymbolTickerEvent>> callback, SubscriptionErrorHandler errorHandler);
+    CompletableFuture<Void> subscribeAllTickerEvent(SubscriptionListener<List<SymbolTickerEvent>> callback, SubscriptionErrorHandler errorHandler);
 
     /**
      * Subscribe individual symbol book ticker event. If the symbol book ticker is updated,
@@ -143,8 +196,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeSymbolBookTickerEvent(String symbol,
+    CompletableFuture<Void> subscribeSymbolBookTickerEvent(String symbol,
             SubscriptionListener<SymbolBookTickerEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
@@ -155,8 +209,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeAllBookTickerEvent(SubscriptionListener<SymbolBookTickerEvent> callback, SubscriptionErrorHandler errorHandler);
+    CompletableFuture<Void> subscribeAllBookTickerEvent(SubscriptionListener<SymbolBookTickerEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
      * Subscribe individual symbol book ticker event. If the symbol book ticker is updated,
@@ -167,8 +222,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeSymbolLiquidationOrderEvent(String symbol,
+    CompletableFuture<Void> subscribeSymbolLiquidationOrderEvent(String symbol,
             SubscriptionListener<LiquidationOrderEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
@@ -179,8 +235,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeAllLiquidationOrderEvent(SubscriptionListener<LiquidationOrderEvent> callback, SubscriptionErrorHandler errorHandler);
+    CompletableFuture<Void> subscribeAllLiquidationOrderEvent(SubscriptionListener<LiquidationOrderEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
      * Subscribe partial book depth event. If the book depth is updated,
@@ -192,8 +249,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeBookDepthEvent(String symbol, Integer limit,
+    CompletableFuture<Void> subscribeBookDepthEvent(String symbol, Integer limit,
             SubscriptionListener<OrderBookEvent> callback, SubscriptionErrorHandler errorHandler);
 
     /**
@@ -205,10 +263,27 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeDiffDepthEvent(String symbol,
+    CompletableFuture<Void> subscribeDiffDepthEvent(String symbol,
             SubscriptionListener<OrderBookEvent> callback, SubscriptionErrorHandler errorHandler);
 
+    /**
+     * Subscribe diff depth event with the levels parsed straight into primitive
+     * ticks and lots, scaled by the symbol's price and quantity precision. Apply
+     * the updates to a {@link PriceLevelBook} of the same symbol.
+     *
+     * @param symbol      The symbol, like "btcusdt".
+     * @param symbolInfo   The symbol's entry of the exchange information.
+     * @param callback     The implementation is required. onReceive will be called
+     *                     if receive server's update.
+     * @param errorHandler The error handler will be called if subscription failed
+     *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
+     */
+    CompletableFuture<Void> subscribeDiffDepthEvent(String symbol, ExchangeInfoEntry symbolInfo,
+            SubscriptionListener<PriceLevelUpdate> callback, SubscriptionErrorHandler errorHandler);
+
     /**
      * Subscribe user data event. If the user data is updated,
      * server will send the data to client and onReceive in callback will be called.
@@ -218,8 +293,9 @@ public interface SubscriptionClient {
      *                     if receive server's update.
      * @param errorHandler The error handler will be called if subscription failed
      *                     or error happen between client and Binance server.
+     * @return A future completed when the server acknowledges the subscription.
      */
-    void subscribeUserDataEvent(String listenKey,
+    CompletableFuture<Void> subscribeUserDataEvent(String listenKey,
             SubscriptionListener<UserDataUpdateEvent> callback, SubscriptionErrorHandler errorHandler);
 
 
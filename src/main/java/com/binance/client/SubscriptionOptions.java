@@ -1,32 +1,88 @@
 package com.binance.client;
 
 import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.enums.DispatchOverflowPolicy;
+import com.binance.client.model.enums.DispatchWaitStrategy;
+import com.binance.client.model.enums.ReconnectPriority;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import okhttp3.OkHttpClient;
 
 /**
  * The configuration for the subscription APIs
  */
 public class SubscriptionOptions {
 
-    private String uri = "wss://api.binance.pro/";
+    private String uri = "wss://fstream.binance.com";
     private boolean isAutoReconnect = true;
     private int receiveLimitMs = 300_000;
+    private Map<String, Integer> streamReceiveLimits = new HashMap<>();
     private int connectionDelayOnFailure = 15;
+    private long reconnectInitialDelayMs = 500L;
+    private double connectionsPerSecond = 10;
+    private Map<String, ReconnectPriority> streamReconnectPriorities = new HashMap<>();
+    private int redundantConnections = 1;
+    private List<String> standbyUris = new ArrayList<>();
+    private OkHttpClient httpClient = null;
+    private long connectTimeoutMs = 10_000L;
+    private long pingIntervalMs = 0L;
+    private boolean multiplexEnabled = false;
+    private int maxStreamsPerConnection = 200;
+    private boolean dispatchEnabled = false;
+    private int dispatchQueueCapacity = 4096;
+    private int dispatchThreads = 1;
+    private DispatchWaitStrategy dispatchWaitStrategy = DispatchWaitStrategy.PARK;
+    private DispatchOverflowPolicy overflowPolicy = DispatchOverflowPolicy.BLOCK;
+    private Map<String, DispatchOverflowPolicy> streamOverflowPolicies = new HashMap<>();
+    private boolean conflationEnabled = false;
+    private boolean fixedPointDecimals = false;
+    private boolean flyweightEvents = false;
+    private boolean frameParsingEnabled = false;
+    private boolean latencyTrackingEnabled = false;
+    private ClientMetrics metrics = ClientMetrics.NOOP;
 
     public SubscriptionOptions(SubscriptionOptions options) {
         this.uri = options.uri;
         this.isAutoReconnect = options.isAutoReconnect;
         this.receiveLimitMs = options.receiveLimitMs;
+        this.streamReceiveLimits = new HashMap<>(options.streamReceiveLimits);
         this.connectionDelayOnFailure = options.connectionDelayOnFailure;
+        this.reconnectInitialDelayMs = options.reconnectInitialDelayMs;
+        this.connectionsPerSecond = options.connectionsPerSecond;
+        this.streamReconnectPriorities = new HashMap<>(options.streamReconnectPriorities);
+        this.redundantConnections = options.redundantConnections;
+        this.standbyUris = new ArrayList<>(options.standbyUris);
+        this.httpClient = options.httpClient;
+        this.connectTimeoutMs = options.connectTimeoutMs;
+        this.pingIntervalMs = options.pingIntervalMs;
+        this.multiplexEnabled = options.multiplexEnabled;
+        this.maxStreamsPerConnection = options.maxStreamsPerConnection;
+        this.dispatchEnabled = options.dispatchEnabled;
+        this.dispatchQueueCapacity = options.dispatchQueueCapacity;
+        this.dispatchThreads = options.dispatchThreads;
+        this.dispatchWaitStrategy = options.dispatchWaitStrategy;
+        this.overflowPolicy = options.overflowPolicy;
+        this.streamOverflowPolicies = new HashMap<>(options.streamOverflowPolicies);
+        this.conflationEnabled = options.conflationEnabled;
+        this.fixedPointDecimals = options.fixedPointDecimals;
+        this.flyweightEvents = options.flyweightEvents;
+        this.frameParsingEnabled = options.frameParsingEnabled;
+        this.latencyTrackingEnabled = options.latencyTrackingEnabled;
+        this.metrics = options.metrics;
     }
 
     public SubscriptionOptions() {
     }
 
     /**
-     * Set the URI for subscription.
+     * Set the URI of the stream server. Single streams connect to its /ws
+     * endpoint and multiplexed streams to its /stream endpoint.
      *
-     * @param uri The URI name like "wss://api.binance.pro".
+     * @param uri The URI name like "wss://fstream.binance.com".
      */
     public void setUri(String uri) {
         try {
@@ -38,6 +94,58 @@ public class SubscriptionOptions {
         this.uri = uri;
     }
 
+    /**
+     * Carry each subscription on several connections at once and pass the
+     * listener only the first arrival of each event, so one stalled connection
+     * neither delays nor loses events. The connections, or legs, connect in turn
+     * to the URI and to the standby URIs, see {@link #setStandbyUris(List)}, and
+     * their statistics are given by
+     * {@link SubscriptionClient#getFeedLegStats()}.
+     * <p>
+     * Redundant subscriptions have their own connections even if multiplexing is
+     * enabled. They always dispatch, see {@link #setDispatchEnabled(boolean)}: the
+     * legs of a subscription share one dispatch queue, so the listener is called
+     * from one dispatch thread at a time with the overflow policy and conflation
+     * of the subscription.
+     *
+     * @param redundantConnections The number of connections per subscription,
+     *                             from 1 to 8, 1 to disable redundancy.
+     */
+    public void setRedundantConnections(int redundantConnections) {
+        if (redundantConnections < 1 || redundantConnections > 8) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "The redundant connections must be between 1 and 8");
+        }
+        this.redundantConnections = redundantConnections;
+    }
+
+    public int getRedundantConnections() {
+        return redundantConnections;
+    }
+
+    /**
+     * Set more stream servers for the legs of redundant subscriptions, so they
+     * do not share a network path.
+     *
+     * @param standbyUris The URIs, like "wss://fstream-auth.binance.com".
+     */
+    public void setStandbyUris(List<String> standbyUris) {
+        List<String> uris = new ArrayList<>();
+        for (String uri : standbyUris) {
+            try {
+                uris.add(new URI(uri).toString());
+            } catch (Exception e) {
+                throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                        "The URI is incorrect: " + e.getMessage());
+            }
+        }
+        this.standbyUris = uris;
+    }
+
+    public List<String> getStandbyUris() {
+        return new ArrayList<>(standbyUris);
+    }
+
     /**
      * Set the receive limit in millisecond. If no message is received within this
      * limit time, the connection will be disconnected.
@@ -49,14 +157,115 @@ public class SubscriptionOptions {
     }
 
     /**
-     * If auto reconnect is enabled, specify the delay time before reconnect.
+     * Set the receive limit of one subscription. On a multiplexed connection,
+     * the connection is reconnected when a stream with its own limit stays silent
+     * past it, even if the other streams still receive messages. The streams
+     * without their own limit are only watched together, through the last
+     * message of the connection, so a naturally sparse stream does not cost its
+     * neighbours a reconnect.
+     *
+     * @param streamName     The stream name, like "btcusdt@depth".
+     * @param receiveLimitMs The receive limit in millisecond, or 0 to use the
+     *                       default one.
+     */
+    public void setReceiveLimitMs(String streamName, int receiveLimitMs) {
+        if (streamName == null) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The stream name is required");
+        }
+        if (receiveLimitMs < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The receive limit must not be negative");
+        }
+        if (receiveLimitMs == 0) {
+            streamReceiveLimits.remove(streamName.toLowerCase(Locale.ROOT));
+        } else {
+            streamReceiveLimits.put(streamName.toLowerCase(Locale.ROOT), receiveLimitMs);
+        }
+    }
+
+    /**
+     * If auto reconnect is enabled, specify the longest delay time before
+     * reconnect. The delay doubles with each failed attempt, from
+     * {@link #setReconnectInitialDelayMs(long)} up to this limit, and a random
+     * delay up to it is taken so connections lost together do not reconnect
+     * together.
      *
      * @param connectionDelayOnFailure The delay time in second.
      */
     public void setConnectionDelayOnFailure(int connectionDelayOnFailure) {
+        if (connectionDelayOnFailure < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The delay must not be negative");
+        }
         this.connectionDelayOnFailure = connectionDelayOnFailure;
     }
 
+    /**
+     * Set the delay limit of the first reconnect attempt after a connection is
+     * lost, see {@link #setConnectionDelayOnFailure(int)}.
+     *
+     * @param reconnectInitialDelayMs The delay in millisecond.
+     */
+    public void setReconnectInitialDelayMs(long reconnectInitialDelayMs) {
+        if (reconnectInitialDelayMs < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The delay must not be negative");
+        }
+        this.reconnectInitialDelayMs = reconnectInitialDelayMs;
+    }
+
+    public long getReconnectInitialDelayMs() {
+        return reconnectInitialDelayMs;
+    }
+
+    /**
+     * Limit how many connections the client opens per second, connects and
+     * reconnects together, so connections lost at once do not trip the
+     * exchange's connection limit when they come back. Connections waiting for
+     * their turn are opened by priority, see
+     * {@link #setReconnectPriority(String, ReconnectPriority)}.
+     *
+     * @param connectionsPerSecond The number of connections per second, with a
+     *                             burst of as many, or 0 for no limit.
+     */
+    public void setConnectionsPerSecond(double connectionsPerSecond) {
+        if (connectionsPerSecond < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "The connections per second must not be negative");
+        }
+        this.connectionsPerSecond = connectionsPerSecond;
+    }
+
+    public double getConnectionsPerSecond() {
+        return connectionsPerSecond;
+    }
+
+    /**
+     * Set the reconnect priority of one subscription. By default user data and
+     * depth streams are {@link ReconnectPriority#HIGH}, tickers
+     * {@link ReconnectPriority#LOW} and the others
+     * {@link ReconnectPriority#NORMAL}.
+     *
+     * @param streamName        The stream name, like "btcusdt@ticker".
+     * @param reconnectPriority The priority, or null to use the default one.
+     */
+    public void setReconnectPriority(String streamName, ReconnectPriority reconnectPriority) {
+        if (streamName == null) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The stream name is required");
+        }
+        if (reconnectPriority == null) {
+            streamReconnectPriorities.remove(streamName.toLowerCase(Locale.ROOT));
+        } else {
+            streamReconnectPriorities.put(streamName.toLowerCase(Locale.ROOT), reconnectPriority);
+        }
+    }
+
+    /**
+     * @param streamName The stream name.
+     * @return The reconnect priority set for the subscription, or null if it
+     *         has the default one of its stream.
+     */
+    public ReconnectPriority getReconnectPriority(String streamName) {
+        return streamName != null ? streamReconnectPriorities.get(streamName.toLowerCase(Locale.ROOT)) : null;
+    }
+
     /**
      * When the connection lost is happening on the subscription line, specify
      * whether the client reconnect to server automatically.
@@ -77,6 +286,308 @@ public class SubscriptionOptions {
         return this;
     }
 
+    /**
+     * Use the given OkHttp client for the websocket connections. When set, the
+     * timeout and ping settings of these options are ignored.
+     *
+     * @param httpClient The OkHttp client, or null to let the factory build one.
+     */
+    public void setHttpClient(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Set the connect timeout of the websocket handshake.
+     *
+     * @param connectTimeoutMs The connect timeout in millisecond.
+     */
+    public void setConnectTimeoutMs(long connectTimeoutMs) {
+        if (connectTimeoutMs < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The timeout must not be negative");
+        }
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+
+    /**
+     * Set the interval of websocket ping frames sent by the client. Zero disables
+     * client pings.
+     *
+     * @param pingIntervalMs The ping interval in millisecond.
+     */
+    public void setPingIntervalMs(long pingIntervalMs) {
+        if (pingIntervalMs < 0) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The ping interval must not be negative");
+        }
+        this.pingIntervalMs = pingIntervalMs;
+    }
+
+    /**
+     * Carry the subscriptions on shared connections to the combined stream
+     * endpoint instead of opening one connection per subscription. Every
+     * connection takes streams until it reaches the per-connection limit, see
+     * {@link #setMaxStreamsPerConnection(int)}.
+     *
+     * @param multiplexEnabled The boolean flag, true for enable, false for disable.
+     */
+    public void setMultiplexEnabled(boolean multiplexEnabled) {
+        this.multiplexEnabled = multiplexEnabled;
+    }
+
+    /**
+     * Set how many streams a multiplexed connection carries, 200 by default which
+     * is the exchange's limit per connection.
+     *
+     * @param maxStreamsPerConnection The number of streams, from 1 to 1024.
+     */
+    public void setMaxStreamsPerConnection(int maxStreamsPerConnection) {
+        if (maxStreamsPerConnection < 1 || maxStreamsPerConnection > 1024) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "The streams per connection must be between 1 and 1024");
+        }
+        this.maxStreamsPerConnection = maxStreamsPerConnection;
+    }
+
+    /**
+     * Parse messages and call the listeners on dispatch threads instead of the
+     * socket reader thread, so a slow listener does not stall the connection.
+     * Each connection queues its messages in a bounded ring, see
+     * {@link #setDispatchQueueCapacity(int)}.
+     *
+     * @param dispatchEnabled The boolean flag, true for enable, false for disable.
+     */
+    public void setDispatchEnabled(boolean dispatchEnabled) {
+        this.dispatchEnabled = dispatchEnabled;
+    }
+
+    /**
+     * Set the number of messages each connection can queue for dispatch.
+     *
+     * @param dispatchQueueCapacity The capacity, from 2 to 1048576, rounded up to a
+     *                              power of two.
+     */
+    public void setDispatchQueueCapacity(int dispatchQueueCapacity) {
+        if (dispatchQueueCapacity < 2 || dispatchQueueCapacity > 1 << 20) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "The dispatch queue capacity must be between 2 and 1048576");
+        }
+        this.dispatchQueueCapacity = dispatchQueueCapacity;
+    }
+
+    /**
+     * Set the number of dispatch threads. The queue of a connection is always
+     * drained by the same thread, so listeners of one connection are called in
+     * order.
+     *
+     * @param dispatchThreads The number of threads, from 1 to 64.
+     */
+    public void setDispatchThreads(int dispatchThreads) {
+        if (dispatchThreads < 1 || dispatchThreads > 64) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "The dispatch threads must be between 1 and 64");
+        }
+        this.dispatchThreads = dispatchThreads;
+    }
+
+    /**
+     * Set how dispatch threads wait for messages, {@link DispatchWaitStrategy#PARK}
+     * by default.
+     *
+     * @param dispatchWaitStrategy The wait strategy.
+     */
+    public void setDispatchWaitStrategy(DispatchWaitStrategy dispatchWaitStrategy) {
+        if (dispatchWaitStrategy == null) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The wait strategy is required");
+        }
+        this.dispatchWaitStrategy = dispatchWaitStrategy;
+    }
+
+    /**
+     * Set what happens to the messages of a subscription when its dispatch queue
+     * is full, {@link DispatchOverflowPolicy#BLOCK} by default.
+     *
+     * @param overflowPolicy The policy of the subscriptions without their own.
+     */
+    public void setOverflowPolicy(DispatchOverflowPolicy overflowPolicy) {
+        if (overflowPolicy == null) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The overflow policy is required");
+        }
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Set the overflow policy of one subscription.
+     *
+     * @param streamName     The stream name, like "btcusdt@markPrice".
+     * @param overflowPolicy The policy, or null to use the default one.
+     */
+    public void setOverflowPolicy(String streamName, DispatchOverflowPolicy overflowPolicy) {
+        if (streamName == null) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR, "The stream name is required");
+        }
+        if (overflowPolicy == null) {
+            streamOverflowPolicies.remove(streamName.toLowerCase(Locale.ROOT));
+        } else {
+            streamOverflowPolicies.put(streamName.toLowerCase(Locale.ROOT), overflowPolicy);
+        }
+    }
+
+    /**
+     * Deliver the latest-value subscriptions, mark price, book ticker and mini
+     * ticker, conflated by symbol: a slow listener gets the newest event of each
+     * symbol, and the frames it skips are never parsed. Conflation runs on the
+     * dispatch stage, which is used with it even if not enabled by
+     * {@link #setDispatchEnabled(boolean)}.
+     *
+     * @param conflationEnabled The boolean flag, true for enable, false for disable.
+     */
+    public void setConflationEnabled(boolean conflationEnabled) {
+        this.conflationEnabled = conflationEnabled;
+    }
+
+    public boolean isConflationEnabled() {
+        return conflationEnabled;
+    }
+
+    /**
+     * Parse the prices and quantities of the market events as
+     * {@link com.binance.client.model.Decimal} instead of BigDecimal. The events
+     * are then read with the Decimal getters, like getPriceDecimal(); the
+     * BigDecimal getters still work but convert on each first call. User data
+     * events are not affected.
+     *
+     * @param fixedPointDecimals The boolean flag, true for enable, false for disable.
+     */
+    public void setFixedPointDecimals(boolean fixedPointDecimals) {
+        this.fixedPointDecimals = fixedPointDecimals;
+    }
+
+    public boolean isFixedPointDecimals() {
+        return fixedPointDecimals;
+    }
+
+    /**
+     * Reuse one event instance per subscription, overwritten in place for each
+     * message, instead of creating new events. The events are then parsed from
+     * the frame text, see {@link #setFrameParsingEnabled(boolean)}. User data
+     * events are not reused.
+     * <p>
+     * The event passed to a listener is only valid until the listener returns:
+     * a listener must copy whatever it keeps, and must not hand the event to
+     * another thread. {@link LocalOrderBook} keeps diffs across messages while it
+     * waits for its snapshot, and copies them for this reason.
+     * <p>
+     * To keep the hot path free of allocation, read numbers through the
+     * primitive getters where an event has them, like
+     * {@link com.binance.client.model.event.AggregateTradeEvent#getIdValue()};
+     * the boxed getters allocate for most values.
+     *
+     * @param flyweightEvents The boolean flag, true for enable, false for disable.
+     */
+    public void setFlyweightEvents(boolean flyweightEvents) {
+        this.flyweightEvents = flyweightEvents;
+    }
+
+    public boolean isFlyweightEvents() {
+        return flyweightEvents;
+    }
+
+    /**
+     * Parse the events straight from the text of each frame, with a parser per
+     * stream schema, instead of building a JSON tree and looking up every field
+     * by name.
+     *
+     * @param frameParsingEnabled The boolean flag, true for enable, false for disable.
+     */
+    public void setFrameParsingEnabled(boolean frameParsingEnabled) {
+        this.frameParsingEnabled = frameParsingEnabled;
+    }
+
+    public boolean isFrameParsingEnabled() {
+        return frameParsingEnabled;
+    }
+
+    /**
+     * Record the latencies of every subscription in histograms, from the event
+     * time to the receipt of each message, from its receipt to the end of its
+     * parsing and through the listener, see
+     * {@link SubscriptionClient#getStreamLatencyStats(boolean)}. Recording
+     * costs two clock reads and a few atomic adds per message.
+     *
+     * @param latencyTrackingEnabled The boolean flag, true for enable, false for disable.
+     */
+    public void setLatencyTrackingEnabled(boolean latencyTrackingEnabled) {
+        this.latencyTrackingEnabled = latencyTrackingEnabled;
+    }
+
+    public boolean isLatencyTrackingEnabled() {
+        return latencyTrackingEnabled;
+    }
+
+    /**
+     * Report the messages of each stream, the reconnects, the dispatch queue
+     * depths and the errors to a metrics implementation, like
+     * {@link InMemoryClientMetrics}.
+     *
+     * @param metrics The metrics, or null to record nothing.
+     */
+    public void setMetrics(ClientMetrics metrics) {
+        this.metrics = metrics != null ? metrics : ClientMetrics.NOOP;
+    }
+
+    public ClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    public boolean isDispatchEnabled() {
+        return dispatchEnabled;
+    }
+
+    public int getDispatchQueueCapacity() {
+        return dispatchQueueCapacity;
+    }
+
+    public int getDispatchThreads() {
+        return dispatchThreads;
+    }
+
+    public DispatchWaitStrategy getDispatchWaitStrategy() {
+        return dispatchWaitStrategy;
+    }
+
+    /**
+     * @param streamName The stream name, or null for the default policy.
+     * @return The overflow policy of the subscription.
+     */
+    public DispatchOverflowPolicy getOverflowPolicy(String streamName) {
+        if (streamName != null) {
+            DispatchOverflowPolicy policy = streamOverflowPolicies.get(streamName.toLowerCase(Locale.ROOT));
+            if (policy != null) {
+                return policy;
+            }
+        }
+        return overflowPolicy;
+    }
+
+    public boolean isMultiplexEnabled() {
+        return multiplexEnabled;
+    }
+
+    public int getMaxStreamsPerConnection() {
+        return maxStreamsPerConnection;
+    }
+
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public long getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    public long getPingIntervalMs() {
+        return pingIntervalMs;
+    }
+
     public boolean isAutoReconnect() {
         return isAutoReconnect;
     }
@@ -85,6 +596,16 @@ public class SubscriptionOptions {
         return receiveLimitMs;
     }
 
+    /**
+     * @param streamName The stream name.
+     * @return The receive limit set for the subscription in millisecond, or 0 if
+     *         it has none and takes the default one.
+     */
+    public int getReceiveLimitMs(String streamName) {
+        Integer limit = streamName != null ? streamReceiveLimits.get(streamName.toLowerCase(Locale.ROOT)) : null;
+        return limit != null ? limit : 0;
+    }
+
     public int getConnectionDelayOnFailure() {
         return connectionDelayOnFailure;
     }
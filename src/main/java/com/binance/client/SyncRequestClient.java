@@ -55,6 +55,14 @@ public interface SyncRequestClient {
     }
 
 
+    /**
+     * Fetch the server time. The result also updates the clock offset used to
+     * stamp signed requests.
+     *
+     * @return The server time in millisecond.
+     */
+    Long getServerTime();
+
     /**
      * Fetch current exchange trading rules and symbol information.
      *
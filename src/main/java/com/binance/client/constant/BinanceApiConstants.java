@@ -17,6 +17,11 @@ public class BinanceApiConstants {
      */
     public static final String WS_API_BASE_URL = "wss://fstream.binance.com/ws";
 
+    /**
+     * Combined streaming API base URL, frames are wrapped as {"stream": name, "data": payload}.
+     */
+    public static final String WS_COMBINED_API_BASE_URL = "wss://fstream.binance.com/stream";
+
     /**
      * HTTP Header to be used for API-KEY authentication.
      */
@@ -3,11 +3,14 @@ package com.binance.client.impl;
 import com.binance.client.exception.BinanceApiException;
 import com.binance.client.constant.BinanceApiConstants;
 import com.binance.client.impl.utils.UrlParamsBuilder;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
-import org.apache.commons.codec.binary.Hex;
 
 class ApiSignature {
 
@@ -16,31 +19,114 @@ class ApiSignature {
     private static final String signatureMethodValue = "HmacSHA256";
     public static final String signatureVersionValue = "2";
 
+    private static final int MAX_KEYS_PER_THREAD = 16;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<Signer> signers = ThreadLocal.withInitial(Signer::new);
+
+    /**
+     * Per thread signing state: one initialized Mac per secret key and the buffers
+     * the payload, digest and hex signature are written into.
+     */
+    static final class Signer {
+
+        private final Map<String, Mac> macs = new HashMap<>();
+        private final StringBuilder query = new StringBuilder(256);
+        private byte[] payload = new byte[256];
+        private final byte[] digest = new byte[32];
+        private final char[] hex = new char[64];
+
+        String sign(String secretKey, UrlParamsBuilder builder) {
+            query.setLength(0);
+            builder.appendQuery(query);
+            return sign(secretKey, query);
+        }
+
+        String sign(String secretKey, CharSequence data) {
+            Mac mac = mac(secretKey);
+            int length = data.length();
+            if (payload.length < length) {
+                payload = new byte[Math.max(length, payload.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = data.charAt(i);
+                if (c > 0x7f) {
+                    byte[] bytes = data.toString().getBytes(StandardCharsets.UTF_8);
+                    mac.update(bytes);
+                    return finish(mac);
+                }
+                payload[i] = (byte) c;
+            }
+            mac.update(payload, 0, length);
+            return finish(mac);
+        }
+
+        private String finish(Mac mac) {
+            try {
+                mac.doFinal(digest, 0);
+            } catch (ShortBufferException e) {
+                throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                        "[Signature] Digest buffer too small: " + e.getMessage());
+            }
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0x0f];
+                hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0x0f];
+            }
+            return new String(hex);
+        }
+
+        private Mac mac(String secretKey) {
+            Mac mac = macs.get(secretKey);
+            if (mac == null) {
+                try {
+                    mac = Mac.getInstance(signatureMethodValue);
+                    mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), signatureMethodValue));
+                } catch (NoSuchAlgorithmException e) {
+                    throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                            "[Signature] No such algorithm: " + e.getMessage());
+                } catch (InvalidKeyException e) {
+                    throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                            "[Signature] Invalid key: " + e.getMessage());
+                }
+                if (macs.size() >= MAX_KEYS_PER_THREAD) {
+                    macs.clear();
+                }
+                macs.put(secretKey, mac);
+            }
+            return mac;
+        }
+    }
+
+    private final ServerClock serverClock;
+    private final long recvWindowMs;
+
+    ApiSignature() {
+        this(null, BinanceApiConstants.DEFAULT_RECEIVING_WINDOW);
+    }
+
+    /**
+     * @param serverClock  The clock stamping requests without an explicit timestamp, null for the local clock.
+     * @param recvWindowMs The recvWindow sent with every signed request.
+     */
+    ApiSignature(ServerClock serverClock, long recvWindowMs) {
+        this.serverClock = serverClock;
+        this.recvWindowMs = recvWindowMs;
+    }
+
+    static Signer signer() {
+        return signers.get();
+    }
+
     void createSignature(String accessKey, String secretKey, Long timestamp, UrlParamsBuilder builder) {
 
         if (accessKey == null || "".equals(accessKey) || secretKey == null || "".equals(secretKey)) {
             throw new BinanceApiException(BinanceApiException.KEY_MISSING, "API key and secret key are required");
         }
 
-        builder.putToUrl("recvWindow", Long.toString(BinanceApiConstants.DEFAULT_RECEIVING_WINDOW))
-                .putToUrl("timestamp", timestamp != null ? timestamp.toString() : Long.toString(System.currentTimeMillis()));
-
-        Mac hmacSha256;
-        try {
-            hmacSha256 = Mac.getInstance(signatureMethodValue);
-            SecretKeySpec secKey = new SecretKeySpec(secretKey.getBytes(), signatureMethodValue);
-            hmacSha256.init(secKey);
-        } catch (NoSuchAlgorithmException e) {
-            throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
-                    "[Signature] No such algorithm: " + e.getMessage());
-        } catch (InvalidKeyException e) {
-            throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
-                    "[Signature] Invalid key: " + e.getMessage());
-        }
-        String payload = builder.buildSignature();
-        String actualSign = new String(Hex.encodeHex(hmacSha256.doFinal(payload.getBytes())));
+        long now = serverClock != null ? serverClock.currentTimeMillis() : System.currentTimeMillis();
+        builder.putToUrl("recvWindow", Long.toString(recvWindowMs))
+                .putToUrl("timestamp", timestamp != null ? timestamp.toString() : Long.toString(now));
 
-        builder.putToUrl("signature", actualSign);
+        builder.putToUrl("signature", signer().sign(secretKey, builder));
 
     }
 
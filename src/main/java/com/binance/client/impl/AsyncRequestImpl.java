@@ -0,0 +1,514 @@
+package com.binance.client.impl;
+
+import com.alibaba.fastjson.JSONObject;
+import com.binance.client.AsyncRequestClient;
+import com.binance.client.ResponseCallback;
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.ResponseResult;
+import com.binance.client.model.market.*;
+import com.binance.client.model.enums.*;
+import com.binance.client.model.trade.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+public class AsyncRequestImpl implements AsyncRequestClient {
+
+    private final RestApiRequestImpl requestImpl;
+    private final RestApiInvoker invoker;
+    private final Executor executor;
+    private final OrderBatcher orderBatcher;
+
+    AsyncRequestImpl(RestApiRequestImpl requestImpl, RestApiInvoker invoker, Executor executor,
+            OrderBatcher orderBatcher) {
+        this.requestImpl = requestImpl;
+        this.invoker = invoker;
+        this.executor = executor;
+        this.orderBatcher = orderBatcher;
+    }
+
+    private <T> CompletableFuture<T> call(Supplier<RestApiRequest<T>> requestSupplier) {
+        return call(requestSupplier, null);
+    }
+
+    /**
+     * @param then Applied to the result with the request, to read what the
+     *             invoker stamped on it, or null.
+     */
+    private <T> CompletableFuture<T> call(Supplier<RestApiRequest<T>> requestSupplier,
+            BiFunction<RestApiRequest<T>, T, T> then) {
+        RestApiRequest<T> request;
+        try {
+            request = requestSupplier.get();
+        } catch (BinanceApiException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        CompletableFuture<T> future = invoker.callAsync(request, executor);
+        return then != null ? future.thenApply(result -> then.apply(request, result)) : future;
+    }
+
+    private static <T> void deliver(CompletableFuture<T> future, ResponseCallback<T> callback) {
+        future.whenComplete((result, error) -> {
+            if (error == null) {
+                callback.onResponse(result);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                callback.onFailure(cause instanceof BinanceApiException ? (BinanceApiException) cause
+                        : new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                                "[Invoking] Unexpected error: " + cause.getMessage(), cause));
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> getServerTime() {
+        return call(() -> requestImpl.getServerTime(), (request, serverTime) -> {
+            requestImpl.getServerClock().addSample(request, serverTime);
+            return serverTime;
+        });
+    }
+
+    @Override
+    public void getServerTime(ResponseCallback<Long> callback) {
+        deliver(getServerTime(), callback);
+    }
+
+    @Override
+    public CompletableFuture<ExchangeInformation> getExchangeInformation() {
+        return call(() -> requestImpl.getExchangeInformation(), (request, exchangeInformation) -> {
+            requestImpl.getServerClock().addSample(request, exchangeInformation.getServerTime());
+            invoker.updateRateLimits(exchangeInformation.getRateLimits());
+            return exchangeInformation;
+        });
+    }
+
+    @Override
+    public void getExchangeInformation(ResponseCallback<ExchangeInformation> callback) {
+        deliver(getExchangeInformation(), callback);
+    }
+
+    @Override
+    public CompletableFuture<OrderBook> getOrderBook(String symbol, Integer limit) {
+        return call(() -> requestImpl.getOrderBook(symbol, limit));
+    }
+
+    @Override
+    public void getOrderBook(String symbol, Integer limit, ResponseCallback<OrderBook> callback) {
+        deliver(getOrderBook(symbol, limit), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<Trade>> getRecentTrades(String symbol, Integer limit) {
+        return call(() -> requestImpl.getRecentTrades(symbol, limit));
+    }
+
+    @Override
+    public void getRecentTrades(String symbol, Integer limit, ResponseCallback<List<Trade>> callback) {
+        deliver(getRecentTrades(symbol, limit), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<Trade>> getOldTrades(String symbol, Integer limit, Long fromId) {
+        return call(() -> requestImpl.getOldTrades(symbol, limit, fromId));
+    }
+
+    @Override
+    public void getOldTrades(String symbol, Integer limit, Long fromId, ResponseCallback<List<Trade>> callback) {
+        deliver(getOldTrades(symbol, limit, fromId), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<AggregateTrade>> getAggregateTrades(String symbol, Long fromId, Long startTime, Long endTime, Integer limit) {
+        return call(() -> requestImpl.getAggregateTrades(symbol, fromId, startTime, endTime, limit));
+    }
+
+    @Override
+    public void getAggregateTrades(String symbol, Long fromId, Long startTime, Long endTime, Integer limit, ResponseCallback<List<AggregateTrade>> callback) {
+        deliver(getAggregateTrades(symbol, fromId, startTime, endTime, limit), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<Candlestick>> getCandlestick(String symbol, CandlestickInterval interval, Long startTime, Long endTime, Integer limit) {
+        return call(() -> requestImpl.getCandlestick(symbol, interval, startTime, endTime, limit));
+    }
+
+    @Override
+    public void getCandlestick(String symbol, CandlestickInterval interval, Long startTime, Long endTime, Integer limit, ResponseCallback<List<Candlestick>> callback) {
+        deliver(getCandlestick(symbol, interval, startTime, endTime, limit), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<MarkPrice>> getMarkPrice(String symbol) {
+        return call(() -> requestImpl.getMarkPrice(symbol));
+    }
+
+    @Override
+    public void getMarkPrice(String symbol, ResponseCallback<List<MarkPrice>> callback) {
+        deliver(getMarkPrice(symbol), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<FundingRate>> getFundingRate(String symbol, Long startTime, Long endTime, Integer limit) {
+        return call(() -> requestImpl.getFundingRate(symbol, startTime, endTime, limit));
+    }
+
+    @Override
+    public void getFundingRate(String symbol, Long startTime, Long endTime, Integer limit, ResponseCallback<List<FundingRate>> callback) {
+        deliver(getFundingRate(symbol, startTime, endTime, limit), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<PriceChangeTicker>> get24hrTickerPriceChange(String symbol) {
+        return call(() -> requestImpl.get24hrTickerPriceChange(symbol));
+    }
+
+    @Override
+    public void get24hrTickerPriceChange(String symbol, ResponseCallback<List<PriceChangeTicker>> callback) {
+        deliver(get24hrTickerPriceChange(symbol), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<SymbolPrice>> getSymbolPriceTicker(String symbol) {
+        return call(() -> requestImpl.getSymbolPriceTicker(symbol));
+    }
+
+    @Override
+    public void getSymbolPriceTicker(String symbol, ResponseCallback<List<SymbolPrice>> callback) {
+        deliver(getSymbolPriceTicker(symbol), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<SymbolOrderBook>> getSymbolOrderBookTicker(String symbol) {
+        return call(() -> requestImpl.getSymbolOrderBookTicker(symbol));
+    }
+
+    @Override
+    public void getSymbolOrderBookTicker(String symbol, ResponseCallback<List<SymbolOrderBook>> callback) {
+        deliver(getSymbolOrderBookTicker(symbol), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<LiquidationOrder>> getLiquidationOrders(String symbol, Long startTime, Long endTime, Integer limit) {
+        return call(() -> requestImpl.getLiquidationOrders(symbol, startTime, endTime, limit));
+    }
+
+    @Override
+    public void getLiquidationOrders(String symbol, Long startTime, Long endTime, Integer limit, ResponseCallback<List<LiquidationOrder>> callback) {
+        deliver(getLiquidationOrders(symbol, startTime, endTime, limit), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<Object>> postBatchOrders(String batchOrders, Long timestamp) {
+        return call(() -> requestImpl.postBatchOrders(batchOrders, timestamp));
+    }
+
+    @Override
+    public void postBatchOrders(String batchOrders, Long timestamp, ResponseCallback<List<Object>> callback) {
+        deliver(postBatchOrders(batchOrders, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<Order> postOrder(String symbol, OrderSide side, PositionSide positionSide, OrderType orderType,
+            TimeInForce timeInForce, String quantity, String price, String reduceOnly,
+            String newClientOrderId, String stopPrice, WorkingType workingType, NewOrderRespType newOrderRespType,
+            String closePosition, Long timestamp) {
+        Supplier<RestApiRequest<Order>> single = () -> requestImpl.postOrder(symbol, side, positionSide, orderType,
+                timeInForce, quantity, price, reduceOnly,
+                newClientOrderId, stopPrice, workingType, newOrderRespType, closePosition, timestamp);
+        if (orderBatcher == null || timestamp != null) {
+            return call(single);
+        }
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("symbol", symbol);
+        params.put("side", side);
+        params.put("positionSide", positionSide);
+        params.put("type", orderType);
+        params.put("timeInForce", timeInForce);
+        params.put("quantity", quantity);
+        params.put("price", price);
+        params.put("reduceOnly", reduceOnly);
+        params.put("newClientOrderId", newClientOrderId);
+        params.put("stopPrice", stopPrice);
+        params.put("workingType", workingType);
+        params.put("closePosition", closePosition);
+        params.put("newOrderRespType", newOrderRespType);
+        return orderBatcher.submitOrder(params, single);
+    }
+
+    @Override
+    public void postOrder(String symbol, OrderSide side, PositionSide positionSide, OrderType orderType,
+            TimeInForce timeInForce, String quantity, String price, String reduceOnly,
+            String newClientOrderId, String stopPrice, WorkingType workingType, NewOrderRespType newOrderRespType,
+            String closePosition, Long timestamp,
+            ResponseCallback<Order> callback) {
+        deliver(postOrder(symbol, side, positionSide, orderType,
+                timeInForce, quantity, price, reduceOnly,
+                newClientOrderId, stopPrice, workingType, newOrderRespType, closePosition, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<Order> cancelOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp) {
+        Supplier<RestApiRequest<Order>> single = () -> requestImpl.cancelOrder(symbol, orderId, origClientOrderId,
+                timestamp);
+        if (orderBatcher == null || timestamp != null || symbol == null
+                || (orderId == null && origClientOrderId == null)) {
+            return call(single);
+        }
+        return orderBatcher.submitCancel(symbol, orderId, origClientOrderId, single);
+    }
+
+    @Override
+    public void cancelOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp, ResponseCallback<Order> callback) {
+        deliver(cancelOrder(symbol, orderId, origClientOrderId, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<ResponseResult> cancelAllOpenOrder(String symbol, Long timestamp) {
+        return call(() -> requestImpl.cancelAllOpenOrder(symbol, timestamp));
+    }
+
+    @Override
+    public void cancelAllOpenOrder(String symbol, Long timestamp, ResponseCallback<ResponseResult> callback) {
+        deliver(cancelAllOpenOrder(symbol, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<Object>> batchCancelOrders(String symbol, String orderIdList, String origClientOrderIdList, Long timestamp) {
+        return call(() -> requestImpl.batchCancelOrders(symbol, orderIdList, origClientOrderIdList, timestamp));
+    }
+
+    @Override
+    public void batchCancelOrders(String symbol, String orderIdList, String origClientOrderIdList, Long timestamp, ResponseCallback<List<Object>> callback) {
+        deliver(batchCancelOrders(symbol, orderIdList, origClientOrderIdList, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<ResponseResult> changePositionSide(boolean dual, Long timestamp) {
+        return call(() -> requestImpl.changePositionSide(dual, timestamp));
+    }
+
+    @Override
+    public void changePositionSide(boolean dual, Long timestamp, ResponseCallback<ResponseResult> callback) {
+        deliver(changePositionSide(dual, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<ResponseResult> changeMarginType(String symbolName, String marginType, Long timestamp) {
+        return call(() -> requestImpl.changeMarginType(symbolName, marginType, timestamp));
+    }
+
+    @Override
+    public void changeMarginType(String symbolName, String marginType, Long timestamp, ResponseCallback<ResponseResult> callback) {
+        deliver(changeMarginType(symbolName, marginType, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<JSONObject> addIsolatedPositionMargin(String symbolName, int type, String amount, PositionSide positionSide, Long timestamp) {
+        return call(() -> requestImpl.addPositionMargin(symbolName, type, amount, positionSide, timestamp));
+    }
+
+    @Override
+    public void addIsolatedPositionMargin(String symbolName, int type, String amount, PositionSide positionSide, Long timestamp, ResponseCallback<JSONObject> callback) {
+        deliver(addIsolatedPositionMargin(symbolName, type, amount, positionSide, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<WalletDeltaLog>> getPositionMarginHistory(String symbolName, int type, long startTime, long endTime, int limit) {
+        return call(() -> requestImpl.getPositionMarginHistory(symbolName, type, startTime, endTime, limit));
+    }
+
+    @Override
+    public void getPositionMarginHistory(String symbolName, int type, long startTime, long endTime, int limit, ResponseCallback<List<WalletDeltaLog>> callback) {
+        deliver(getPositionMarginHistory(symbolName, type, startTime, endTime, limit), callback);
+    }
+
+    @Override
+    public CompletableFuture<JSONObject> getPositionSide(Long timestamp) {
+        return call(() -> requestImpl.getPositionSide(timestamp));
+    }
+
+    @Override
+    public void getPositionSide(Long timestamp, ResponseCallback<JSONObject> callback) {
+        deliver(getPositionSide(timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<Order> getOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp) {
+        return call(() -> requestImpl.getOrder(symbol, orderId, origClientOrderId, timestamp));
+    }
+
+    @Override
+    public void getOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp, ResponseCallback<Order> callback) {
+        deliver(getOrder(symbol, orderId, origClientOrderId, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<Order>> getOpenOrders(String symbol, Long timestamp) {
+        return call(() -> requestImpl.getOpenOrders(symbol, timestamp));
+    }
+
+    @Override
+    public void getOpenOrders(String symbol, Long timestamp, ResponseCallback<List<Order>> callback) {
+        deliver(getOpenOrders(symbol, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<Order>> getAllOrders(String symbol, Long orderId, Long startTime, Long endTime, Integer limit, Long timestamp) {
+        return call(() -> requestImpl.getAllOrders(symbol, orderId, startTime, endTime, limit, timestamp));
+    }
+
+    @Override
+    public void getAllOrders(String symbol, Long orderId, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<Order>> callback) {
+        deliver(getAllOrders(symbol, orderId, startTime, endTime, limit, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<AccountBalance>> getBalance(Long timestamp) {
+        return call(() -> requestImpl.getBalance(timestamp));
+    }
+
+    @Override
+    public void getBalance(Long timestamp, ResponseCallback<List<AccountBalance>> callback) {
+        deliver(getBalance(timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<AccountInformation> getAccountInformation(Long timestamp) {
+        return call(() -> requestImpl.getAccountInformation(timestamp));
+    }
+
+    @Override
+    public void getAccountInformation(Long timestamp, ResponseCallback<AccountInformation> callback) {
+        deliver(getAccountInformation(timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<Leverage> changeInitialLeverage(String symbol, Integer leverage, Long timestamp) {
+        return call(() -> requestImpl.changeInitialLeverage(symbol, leverage, timestamp));
+    }
+
+    @Override
+    public void changeInitialLeverage(String symbol, Integer leverage, Long timestamp, ResponseCallback<Leverage> callback) {
+        deliver(changeInitialLeverage(symbol, leverage, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<PositionRisk>> getPositionRisk(String symbol, Long timestamp) {
+        return call(() -> requestImpl.getPositionRisk(symbol, timestamp));
+    }
+
+    @Override
+    public void getPositionRisk(String symbol, Long timestamp, ResponseCallback<List<PositionRisk>> callback) {
+        deliver(getPositionRisk(symbol, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<MyTrade>> getAccountTrades(String symbol, Long startTime, Long endTime, Long fromId, Integer limit, Long timestamp) {
+        return call(() -> requestImpl.getAccountTrades(symbol, startTime, endTime, fromId, limit, timestamp));
+    }
+
+    @Override
+    public void getAccountTrades(String symbol, Long startTime, Long endTime, Long fromId, Integer limit, Long timestamp, ResponseCallback<List<MyTrade>> callback) {
+        deliver(getAccountTrades(symbol, startTime, endTime, fromId, limit, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<Income>> getIncomeHistory(String symbol, IncomeType incomeType, Long startTime, Long endTime, Integer limit, Long timestamp) {
+        return call(() -> requestImpl.getIncomeHistory(symbol, incomeType, startTime, endTime, limit, timestamp));
+    }
+
+    @Override
+    public void getIncomeHistory(String symbol, IncomeType incomeType, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<Income>> callback) {
+        deliver(getIncomeHistory(symbol, incomeType, startTime, endTime, limit, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<String> startUserDataStream(Long timestamp) {
+        return call(() -> requestImpl.startUserDataStream(timestamp));
+    }
+
+    @Override
+    public void startUserDataStream(Long timestamp, ResponseCallback<String> callback) {
+        deliver(startUserDataStream(timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<String> keepUserDataStream(String listenKey, Long timestamp) {
+        return call(() -> requestImpl.keepUserDataStream(listenKey, timestamp));
+    }
+
+    @Override
+    public void keepUserDataStream(String listenKey, Long timestamp, ResponseCallback<String> callback) {
+        deliver(keepUserDataStream(listenKey, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<String> closeUserDataStream(String listenKey, Long timestamp) {
+        return call(() -> requestImpl.closeUserDataStream(listenKey, timestamp));
+    }
+
+    @Override
+    public void closeUserDataStream(String listenKey, Long timestamp, ResponseCallback<String> callback) {
+        deliver(closeUserDataStream(listenKey, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<OpenInterestStat>> getOpenInterestStat(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
+        return call(() -> requestImpl.getOpenInterestStat(symbol, period, startTime, endTime, limit, timestamp));
+    }
+
+    @Override
+    public void getOpenInterestStat(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<OpenInterestStat>> callback) {
+        deliver(getOpenInterestStat(symbol, period, startTime, endTime, limit, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<CommonLongShortRatio>> getTopTraderAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
+        return call(() -> requestImpl.getTopTraderAccountRatio(symbol, period, startTime, endTime, limit, timestamp));
+    }
+
+    @Override
+    public void getTopTraderAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<CommonLongShortRatio>> callback) {
+        deliver(getTopTraderAccountRatio(symbol, period, startTime, endTime, limit, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<CommonLongShortRatio>> getTopTraderPositionRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
+        return call(() -> requestImpl.getTopTraderPositionRatio(symbol, period, startTime, endTime, limit, timestamp));
+    }
+
+    @Override
+    public void getTopTraderPositionRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<CommonLongShortRatio>> callback) {
+        deliver(getTopTraderPositionRatio(symbol, period, startTime, endTime, limit, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<CommonLongShortRatio>> getGlobalAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
+        return call(() -> requestImpl.getGlobalAccountRatio(symbol, period, startTime, endTime, limit, timestamp));
+    }
+
+    @Override
+    public void getGlobalAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<CommonLongShortRatio>> callback) {
+        deliver(getGlobalAccountRatio(symbol, period, startTime, endTime, limit, timestamp), callback);
+    }
+
+    @Override
+    public CompletableFuture<List<TakerLongShortStat>> getTakerLongShortRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
+        return call(() -> requestImpl.getTakerLongShortRatio(symbol, period, startTime, endTime, limit, timestamp));
+    }
+
+    @Override
+    public void getTakerLongShortRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp, ResponseCallback<List<TakerLongShortStat>> callback) {
+        deliver(getTakerLongShortRatio(symbol, period, startTime, endTime, limit, timestamp), callback);
+    }
+
+}
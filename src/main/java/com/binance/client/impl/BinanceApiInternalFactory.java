@@ -1,10 +1,16 @@
 package com.binance.client.impl;
 
+import com.binance.client.AsyncRequestClient;
 import com.binance.client.RequestOptions;
 import com.binance.client.SubscriptionClient;
 import com.binance.client.SubscriptionOptions;
 import com.binance.client.SyncRequestClient;
+import com.binance.client.model.LatencyRecorder;
 import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 
 public final class BinanceApiInternalFactory {
 
@@ -20,7 +26,25 @@ public final class BinanceApiInternalFactory {
     public SyncRequestClient createSyncRequestClient(String apiKey, String secretKey, RequestOptions options) {
         RequestOptions requestOptions = new RequestOptions(options);
         RestApiRequestImpl requestImpl = new RestApiRequestImpl(apiKey, secretKey, requestOptions);
-        return new SyncRequestImpl(requestImpl);
+        RestApiInvoker invoker = createInvoker(requestOptions);
+        startTimeSync(requestImpl, invoker, requestOptions);
+        return new SyncRequestImpl(requestImpl, invoker);
+    }
+
+    public AsyncRequestClient createAsyncRequestClient(String apiKey, String secretKey, RequestOptions options) {
+        RequestOptions requestOptions = new RequestOptions(options);
+        RestApiRequestImpl requestImpl = new RestApiRequestImpl(apiKey, secretKey, requestOptions);
+        RestApiInvoker invoker = createInvoker(requestOptions);
+        startTimeSync(requestImpl, invoker, requestOptions);
+        OrderBatcher orderBatcher = requestOptions.getOrderBatchWindowMicros() > 0
+                ? new OrderBatcher(requestImpl, invoker, requestOptions.getAsyncExecutor(),
+                        requestOptions.getOrderBatchWindowMicros())
+                : null;
+        return new AsyncRequestImpl(requestImpl, invoker, requestOptions.getAsyncExecutor(), orderBatcher);
+    }
+
+    public LatencyRecorder createLatencyRecorder() {
+        return new LatencyHistogram();
     }
 
     public SubscriptionClient createSubscriptionClient(SubscriptionOptions options) {
@@ -32,8 +56,51 @@ public final class BinanceApiInternalFactory {
         } catch (Exception e) {
 
         }
-        SubscriptionClient webSocketStreamClient = new WebSocketStreamClientImpl(subscriptionOptions);
+        SubscriptionClient webSocketStreamClient = new WebSocketStreamClientImpl(subscriptionOptions,
+                new RestApiInvoker(createHttpClient(subscriptionOptions), null, subscriptionOptions.getMetrics()));
         return webSocketStreamClient;
     }
 
+    private RestApiInvoker createInvoker(RequestOptions options) {
+        RateLimiter rateLimiter = options.isRateLimitEnabled()
+                ? new RateLimiter(options.getRateLimits(), options.getRateLimitMaxWaitMs()) : null;
+        return new RestApiInvoker(createHttpClient(options), rateLimiter, options.getMetrics());
+    }
+
+    private void startTimeSync(RestApiRequestImpl requestImpl, RestApiInvoker invoker, RequestOptions options) {
+        if (options.isTimeSyncEnabled() && options.getTimeSyncIntervalMs() > 0) {
+            requestImpl.getServerClock().startSync(invoker, requestImpl, options.getTimeSyncIntervalMs());
+        }
+    }
+
+    private OkHttpClient createHttpClient(RequestOptions options) {
+        if (options.getHttpClient() != null) {
+            return options.getHttpClient();
+        }
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(options.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(options.getMaxIdleConnections(),
+                        options.getKeepAliveDurationMs(), TimeUnit.MILLISECONDS))
+                .connectTimeout(options.getConnectTimeoutMs(), TimeUnit.MILLISECONDS)
+                .readTimeout(options.getReadTimeoutMs(), TimeUnit.MILLISECONDS)
+                .writeTimeout(options.getWriteTimeoutMs(), TimeUnit.MILLISECONDS);
+        if (options.getProtocols() != null) {
+            builder.protocols(options.getProtocols());
+        }
+        return builder.build();
+    }
+
+    private OkHttpClient createHttpClient(SubscriptionOptions options) {
+        if (options.getHttpClient() != null) {
+            return options.getHttpClient();
+        }
+        return new OkHttpClient.Builder()
+                .connectTimeout(options.getConnectTimeoutMs(), TimeUnit.MILLISECONDS)
+                .pingInterval(options.getPingIntervalMs(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
 }
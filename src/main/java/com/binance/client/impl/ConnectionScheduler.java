@@ -0,0 +1,105 @@
+package com.binance.client.impl;
+
+import com.binance.client.model.enums.ReconnectPriority;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Paces the connection attempts of a subscription client with a token bucket of
+ * connections per second. Connections are opened right away while there are
+ * tokens; the others wait in one queue per priority, and as tokens come back
+ * the highest priority waiting the longest goes first.
+ */
+class ConnectionScheduler {
+
+    private final double permitsPerMs;
+    private final double capacity;
+    private final TimingWheel wheel = TimingWheel.shared();
+    private final Deque<WebSocketConnection>[] queues;
+    private final Set<WebSocketConnection> waiting = new HashSet<>();
+    private double tokens;
+    private long lastRefillMs;
+    private TimingWheel.Timeout drain = null;
+
+    /**
+     * @param connectionsPerSecond The rate, and burst, of connection attempts,
+     *                             or 0 for no limit.
+     */
+    @SuppressWarnings("unchecked")
+    ConnectionScheduler(double connectionsPerSecond) {
+        this.permitsPerMs = connectionsPerSecond / 1_000;
+        this.capacity = Math.max(1, connectionsPerSecond);
+        this.tokens = capacity;
+        this.lastRefillMs = System.currentTimeMillis();
+        this.queues = new Deque[ReconnectPriority.values().length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Open the connection when its turn comes. A connection already waiting
+     * keeps its place.
+     */
+    void submit(WebSocketConnection connection) {
+        if (permitsPerMs <= 0) {
+            connection.connect();
+            return;
+        }
+        synchronized (this) {
+            if (!waiting.add(connection)) {
+                return;
+            }
+            queues[connection.getReconnectPriority().ordinal()].addLast(connection);
+        }
+        drain();
+    }
+
+    /**
+     * Drop a closed connection from the queues.
+     */
+    synchronized void remove(WebSocketConnection connection) {
+        if (!waiting.remove(connection)) {
+            return;
+        }
+        for (Deque<WebSocketConnection> queue : queues) {
+            queue.remove(connection);
+        }
+    }
+
+    private void drain() {
+        List<WebSocketConnection> ready = new ArrayList<>();
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now > lastRefillMs) {
+                tokens = Math.min(capacity, tokens + (now - lastRefillMs) * permitsPerMs);
+                lastRefillMs = now;
+            }
+            for (Deque<WebSocketConnection> queue : queues) {
+                while (tokens >= 1 && !queue.isEmpty()) {
+                    tokens--;
+                    WebSocketConnection connection = queue.pollFirst();
+                    waiting.remove(connection);
+                    ready.add(connection);
+                }
+            }
+            if (drain == null && !waiting.isEmpty()) {
+                long waitMs = (long) Math.ceil((1 - tokens) / permitsPerMs);
+                drain = wheel.schedule(() -> {
+                    synchronized (this) {
+                        drain = null;
+                    }
+                    drain();
+                }, waitMs);
+            }
+        }
+        // Connect outside the lock, connections take their own lock to connect.
+        for (WebSocketConnection connection : ready) {
+            connection.connect();
+        }
+    }
+}
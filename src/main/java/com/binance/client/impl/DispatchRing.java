@@ -0,0 +1,74 @@
+package com.binance.client.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring with a single producer and a single consumer. The head
+ * is claimed with a CAS rather than written plainly, so the producer may also
+ * take the oldest entry to make room when the ring is full.
+ */
+class DispatchRing {
+
+    private final AtomicReferenceArray<Object> buffer;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity The capacity, rounded up to a power of two.
+     */
+    DispatchRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.capacity = size;
+        this.mask = size - 1;
+    }
+
+    /**
+     * Called by the producer only.
+     *
+     * @return False if the ring is full.
+     */
+    boolean offer(Object entry) {
+        long t = tail.get();
+        if (t - head.get() >= capacity) {
+            return false;
+        }
+        buffer.lazySet((int) t & mask, entry);
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Take the oldest entry. Called by the consumer, or by the producer to
+     * discard the oldest entry.
+     *
+     * @return The entry, or null if the ring is empty.
+     */
+    Object poll() {
+        while (true) {
+            long h = head.get();
+            if (h >= tail.get()) {
+                return null;
+            }
+            int index = (int) h & mask;
+            Object entry = buffer.get(index);
+            if (head.compareAndSet(h, h + 1)) {
+                // The producer may already have reused the slot, so clear it only if unchanged.
+                buffer.compareAndSet(index, entry, null);
+                return entry;
+            }
+        }
+    }
+
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,276 @@
+package com.binance.client.impl;
+
+import com.binance.client.ClientMetrics;
+import com.binance.client.impl.utils.FrameScanner;
+import com.binance.client.impl.utils.JsonWrapper;
+import com.binance.client.model.DispatchQueueStats;
+import com.binance.client.model.enums.DispatchOverflowPolicy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands the messages of one connection from its reader thread to a dispatch
+ * thread, which parses them and calls the listeners. Each subscription applies
+ * its own {@link DispatchOverflowPolicy} when the ring is full.
+ */
+class DispatchStage {
+
+    /**
+     * Parses and delivers the messages of a stage on its dispatch thread.
+     *
+     * @param <P> The payload, a JsonWrapper or raw text.
+     */
+    interface Receiver<P> {
+
+        /**
+         * @param receivedNanos The {@link System#nanoTime()} at which the reader
+         *                      thread received the message.
+         */
+        void receive(WebsocketRequest<?> target, P payload, long receivedNanos);
+    }
+
+    /**
+     * A message queued for one subscription, as a JsonWrapper or as raw text.
+     */
+    private static final class Frame {
+
+        final WebsocketRequest<?> target;
+        final Object payload;
+        final long receivedNanos;
+
+        Frame(WebsocketRequest<?> target, Object payload, long receivedNanos) {
+            this.target = target;
+            this.payload = payload;
+            this.receivedNanos = receivedNanos;
+        }
+    }
+
+    /**
+     * The newest undelivered message of a conflating subscription. The slot sits in
+     * the ring at most once, queued when its value goes from empty to set.
+     */
+    private static final class Conflated {
+
+        final WebsocketRequest<?> target;
+        final AtomicReference<Object> latest = new AtomicReference<>();
+        // When the newest message was received, so conflated latencies start there.
+        volatile long receivedNanos = 0;
+
+        Conflated(WebsocketRequest<?> target) {
+            this.target = target;
+        }
+    }
+
+    /**
+     * The newest undelivered payload per symbol of a conflating latest-value
+     * subscription, kept as raw text so superseded payloads are never parsed. The
+     * slot is queued when it goes from clean to dirty.
+     */
+    private static final class LatestBySymbol {
+
+        final WebsocketRequest<?> target;
+        final Map<String, String> latest = new ConcurrentHashMap<>();
+        final AtomicBoolean queued = new AtomicBoolean();
+        volatile boolean array = false;
+        volatile long receivedNanos = 0;
+
+        LatestBySymbol(WebsocketRequest<?> target) {
+            this.target = target;
+        }
+    }
+
+    private final int connectionId;
+    private final DispatchRing ring;
+    private final WebSocketDispatcher.Worker worker;
+    private final Receiver<JsonWrapper> receiver;
+    private final Receiver<String> rawReceiver;
+    private final ClientMetrics metrics;
+    private final Map<WebsocketRequest<?>, Conflated> conflatedSlots = new ConcurrentHashMap<>();
+    private final Map<WebsocketRequest<?>, LatestBySymbol> latestSlots = new ConcurrentHashMap<>();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong conflated = new AtomicLong();
+    private volatile int maxDepth = 0;
+    private volatile boolean closed = false;
+
+    DispatchStage(int connectionId, int capacity, WebSocketDispatcher.Worker worker,
+            Receiver<JsonWrapper> receiver, Receiver<String> rawReceiver, ClientMetrics metrics) {
+        this.connectionId = connectionId;
+        this.ring = new DispatchRing(capacity);
+        this.worker = worker;
+        this.receiver = receiver;
+        this.rawReceiver = rawReceiver;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Queue a message for a subscription. Called by the reader thread only.
+     */
+    void dispatch(WebsocketRequest<?> target, JsonWrapper json, long receivedNanos) {
+        offer(target, json, receivedNanos);
+    }
+
+    /**
+     * Queue the raw text of a message for a subscription parsed by its frame
+     * parser. Called by the reader thread only.
+     */
+    void dispatchRaw(WebsocketRequest<?> target, String payload, long receivedNanos) {
+        offer(target, payload, receivedNanos);
+    }
+
+    private void offer(WebsocketRequest<?> target, Object payload, long receivedNanos) {
+        if (target.overflowPolicy == DispatchOverflowPolicy.CONFLATE) {
+            Conflated slot = conflatedSlots.computeIfAbsent(target, Conflated::new);
+            slot.receivedNanos = receivedNanos;
+            if (slot.latest.getAndSet(payload) != null) {
+                conflated.incrementAndGet();
+                return;
+            }
+            enqueue(slot, DispatchOverflowPolicy.BLOCK);
+        } else {
+            enqueue(new Frame(target, payload, receivedNanos), target.overflowPolicy);
+        }
+    }
+
+    /**
+     * Keep the raw payload of a latest-value subscription as the newest of its
+     * symbol. An array payload is split into its elements, each keyed by its own
+     * symbol. Called by the reader thread only.
+     */
+    void dispatchLatest(WebsocketRequest<?> target, String payload, long receivedNanos) {
+        LatestBySymbol slot = latestSlots.computeIfAbsent(target, LatestBySymbol::new);
+        slot.receivedNanos = receivedNanos;
+        if (payload.startsWith("[")) {
+            slot.array = true;
+            for (String element : FrameScanner.elements(payload)) {
+                putLatest(slot, element);
+            }
+        } else {
+            putLatest(slot, payload);
+        }
+        if (slot.queued.compareAndSet(false, true)) {
+            enqueue(slot, DispatchOverflowPolicy.BLOCK);
+        }
+    }
+
+    private void putLatest(LatestBySymbol slot, String payload) {
+        String symbol = FrameScanner.stringField(payload, "s");
+        if (slot.latest.put(symbol != null ? symbol : "", payload) != null) {
+            conflated.incrementAndGet();
+        }
+    }
+
+    private void enqueue(Object entry, DispatchOverflowPolicy policy) {
+        while (!ring.offer(entry)) {
+            if (closed) {
+                // Nothing drains a closed stage, so a full ring never gets room again.
+                return;
+            }
+            if (policy == DispatchOverflowPolicy.DROP_OLDEST) {
+                discard(ring.poll());
+            } else {
+                worker.signal();
+                worker.backOff();
+            }
+        }
+        int depth = ring.size();
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+        metrics.onDispatchQueueDepth(connectionId, depth);
+        worker.signal();
+    }
+
+    private void discard(Object entry) {
+        if (entry == null) {
+            return;
+        }
+        dropped.incrementAndGet();
+        if (entry instanceof Conflated) {
+            // Empty the slot so the next message of the subscription queues it again.
+            ((Conflated) entry).latest.set(null);
+        } else if (entry instanceof LatestBySymbol) {
+            // Keep the payloads, they go out with the next message of the subscription.
+            ((LatestBySymbol) entry).queued.set(false);
+        }
+    }
+
+    /**
+     * Deliver up to the given number of queued messages. Called by the dispatch
+     * thread only.
+     *
+     * @return The number of messages delivered.
+     */
+    int drain(int limit) {
+        int count = 0;
+        while (count < limit) {
+            Object entry = ring.poll();
+            if (entry == null) {
+                break;
+            }
+            if (entry instanceof Frame) {
+                Frame frame = (Frame) entry;
+                deliver(frame.target, frame.payload, frame.receivedNanos);
+            } else if (entry instanceof Conflated) {
+                Conflated slot = (Conflated) entry;
+                Object payload = slot.latest.getAndSet(null);
+                if (payload != null) {
+                    deliver(slot.target, payload, slot.receivedNanos);
+                }
+            } else {
+                drainLatest((LatestBySymbol) entry);
+            }
+            count++;
+        }
+        if (count > 0) {
+            delivered.addAndGet(count);
+        }
+        return count;
+    }
+
+    private void deliver(WebsocketRequest<?> target, Object payload, long receivedNanos) {
+        if (payload instanceof String) {
+            rawReceiver.receive(target, (String) payload, receivedNanos);
+        } else {
+            receiver.receive(target, (JsonWrapper) payload, receivedNanos);
+        }
+    }
+
+    private void drainLatest(LatestBySymbol slot) {
+        // Clear the flag first, so a payload put meanwhile queues the slot again.
+        slot.queued.set(false);
+        long receivedNanos = slot.receivedNanos;
+        StringBuilder array = slot.array ? new StringBuilder("[") : null;
+        for (String symbol : slot.latest.keySet()) {
+            String payload = slot.latest.remove(symbol);
+            if (payload == null) {
+                continue;
+            }
+            if (array == null) {
+                rawReceiver.receive(slot.target, payload, receivedNanos);
+            } else {
+                array.append(array.length() > 1 ? "," : "").append(payload);
+            }
+        }
+        if (array != null && array.length() > 1) {
+            rawReceiver.receive(slot.target, array.append(']').toString(), receivedNanos);
+        }
+    }
+
+    boolean isEmpty() {
+        return ring.size() == 0;
+    }
+
+    void close() {
+        closed = true;
+        worker.remove(this);
+    }
+
+    DispatchQueueStats getStats() {
+        return new DispatchQueueStats(connectionId, ring.capacity(), ring.size(), maxDepth, delivered.get(),
+                dropped.get(), conflated.get());
+    }
+}
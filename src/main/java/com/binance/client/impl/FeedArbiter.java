@@ -0,0 +1,188 @@
+package com.binance.client.impl;
+
+import com.binance.client.impl.utils.FrameScanner;
+import com.binance.client.model.FeedLegStats;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Picks the first arrival of each event among the legs of a redundant
+ * subscription, which are connections carrying the same stream. Events are
+ * keyed by their update id where the stream has one, "u" for depth and book
+ * tickers and "a" for aggregate trades, and by event time "E" and content
+ * otherwise. An event is passed on if its key is newer than the last one passed
+ * on, so the listener sees each event once and in order.
+ * <p>
+ * The legs call {@link Leg#accept(String)} and queue the event on the dispatch
+ * stage they share holding the arbiter's lock, but nothing more: the dispatch
+ * thread parses the events and calls the listener, never from two legs at once,
+ * in the order they were passed on.
+ */
+class FeedArbiter {
+
+    private static final long MISSING = Long.MIN_VALUE;
+    // Recent first arrivals, to time the legs that receive the same event later.
+    private static final int WINS = 256;
+    private static final int HASHES = 64;
+
+    private final String streamName;
+    private final String idField;
+    private final Leg[] legs;
+    private long lastId = MISSING;
+    // The content hashes of the events passed on with the last event time.
+    private final int[] hashes = new int[HASHES];
+    private int hashCount = 0;
+    private final long[] winIds = new long[WINS];
+    private final int[] winHashes = new int[WINS];
+    private final long[] winNanos = new long[WINS];
+    private long winCount = 0;
+
+    FeedArbiter(String streamName, List<String> uris) {
+        this.streamName = streamName;
+        this.idField = idField(streamName);
+        this.legs = new Leg[uris.size()];
+        for (int i = 0; i < legs.length; i++) {
+            legs[i] = new Leg(i, uris.get(i));
+        }
+    }
+
+    private static String idField(String streamName) {
+        String name = streamName.toLowerCase(Locale.ROOT);
+        if (name.startsWith("!")) {
+            // All market streams mix the update ids of every symbol.
+            return "E";
+        }
+        if (name.contains("@depth") || name.endsWith("@bookticker")) {
+            return "u";
+        }
+        if (name.endsWith("@aggtrade")) {
+            return "a";
+        }
+        return "E";
+    }
+
+    String getStreamName() {
+        return streamName;
+    }
+
+    Leg getLeg(int index) {
+        return legs[index];
+    }
+
+    int getLegCount() {
+        return legs.length;
+    }
+
+    synchronized List<FeedLegStats> getStats() {
+        List<FeedLegStats> stats = new ArrayList<>(legs.length);
+        for (Leg leg : legs) {
+            stats.add(new FeedLegStats(streamName, leg.index, leg.uri, leg.received, leg.firstArrivals,
+                    leg.lagCount > 0 ? leg.lagTotalNanos / leg.lagCount / 1_000 : 0, leg.maxLagNanos / 1_000,
+                    leg.received > 0 ? leg.eventLatencyTotalMs / leg.received : 0));
+        }
+        return stats;
+    }
+
+    private boolean seen(int hash) {
+        for (int i = 0; i < hashCount; i++) {
+            if (hashes[i] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void win(long id, int hash, long nowNanos) {
+        if (hashCount < HASHES) {
+            hashes[hashCount++] = hash;
+        }
+        int slot = (int) (winCount++ % WINS);
+        winIds[slot] = id;
+        winHashes[slot] = hash;
+        winNanos[slot] = nowNanos;
+    }
+
+    /**
+     * @return When the event was first received, or 0 if it is too old.
+     */
+    private long firstArrival(long id, int hash) {
+        for (long win = winCount - 1; win >= 0 && win >= winCount - WINS; win--) {
+            int i = (int) (win % WINS);
+            if (winIds[i] == id && winHashes[i] == hash) {
+                return winNanos[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * One connection of the subscription.
+     */
+    final class Leg {
+
+        private final int index;
+        private final String uri;
+        private long received = 0;
+        private long firstArrivals = 0;
+        private long lagCount = 0;
+        private long lagTotalNanos = 0;
+        private long maxLagNanos = 0;
+        private long eventLatencyTotalMs = 0;
+
+        private Leg(int index, String uri) {
+            this.index = index;
+            this.uri = uri;
+        }
+
+        FeedArbiter getArbiter() {
+            return FeedArbiter.this;
+        }
+
+        String getUri() {
+            return uri;
+        }
+
+        /**
+         * Must be called holding the arbiter's lock.
+         *
+         * @return True if the frame is the first arrival of its event, or has no
+         *         key to tell.
+         */
+        boolean accept(String text) {
+            long nowNanos = System.nanoTime();
+            // All market arrays share one event time, found in their first element.
+            int from = text.startsWith("[") ? text.indexOf('{') : 0;
+            long id = from >= 0 ? FrameScanner.longField(text, from, idField, MISSING) : MISSING;
+            if (id == MISSING) {
+                return true;
+            }
+            received++;
+            long eventTime = "E".equals(idField) ? id : FrameScanner.longField(text, from, "E", MISSING);
+            if (eventTime != MISSING) {
+                eventLatencyTotalMs += System.currentTimeMillis() - eventTime;
+            }
+            int hash = "E".equals(idField) ? text.hashCode() : 0;
+            if (id > lastId) {
+                lastId = id;
+                hashCount = 0;
+                win(id, hash, nowNanos);
+                firstArrivals++;
+                return true;
+            }
+            if (id == lastId && "E".equals(idField) && !seen(hash)) {
+                win(id, hash, nowNanos);
+                firstArrivals++;
+                return true;
+            }
+            long firstNanos = firstArrival(id, hash);
+            if (firstNanos != 0) {
+                long lag = nowNanos - firstNanos;
+                lagCount++;
+                lagTotalNanos += lag;
+                maxLagNanos = Math.max(maxLagNanos, lag);
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.binance.client.impl;
+
+import com.binance.client.model.LatencyDistribution;
+import com.binance.client.model.LatencyRecorder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in nanoseconds with log-linear buckets, in the manner
+ * of HdrHistogram. Values below 64 have a bucket each, and each power of two
+ * above is split into 32 buckets, so a value is kept to within about 3%.
+ * Recording takes a few atomic adds and allocates nothing. Values above about 68
+ * seconds share the last bucket, but still count toward the mean and maximum.
+ */
+final class LatencyHistogram implements LatencyRecorder {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 1024;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record one value. Negative values, which only come from clock offsets, are
+     * recorded as 0.
+     */
+    @Override
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts.getAndIncrement(index(nanos));
+        totalNanos.getAndAdd(nanos);
+        long max;
+        while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {
+            // Retry, another thread raised the maximum meanwhile.
+        }
+    }
+
+    static int index(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int index = (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+        return Math.min(index, BUCKETS - 1);
+    }
+
+    /**
+     * @return The highest value that falls in a bucket.
+     */
+    static long highestValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long top = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+    /**
+     * @param reset True to start over, so the next snapshot covers the values
+     *              recorded from now on.
+     */
+    @Override
+    public LatencyDistribution snapshot(boolean reset) {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = reset ? counts.getAndSet(i, 0) : counts.get(i);
+            count += snapshot[i];
+        }
+        long total = reset ? totalNanos.getAndSet(0) : totalNanos.get();
+        long max = reset ? maxNanos.getAndSet(0) : maxNanos.get();
+        return new LatencyDistribution(count, count > 0 ? total / count : 0,
+                percentile(snapshot, count, max, 50), percentile(snapshot, count, max, 90),
+                percentile(snapshot, count, max, 99), percentile(snapshot, count, max, 99.9), max);
+    }
+
+    private static long percentile(long[] snapshot, long count, long max, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), max);
+            }
+        }
+        return max;
+    }
+}
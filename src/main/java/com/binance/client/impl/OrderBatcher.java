@@ -0,0 +1,230 @@
+package com.binance.client.impl;
+
+import com.alibaba.fastjson.JSON;
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.ResponseResult;
+import com.binance.client.model.trade.Order;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Collects postOrder and cancelOrder calls arriving within a short window and sends
+ * them as /fapi/v1/batchOrders calls. Every caller still gets the future of its own
+ * order, completed from its slot in the batch response.
+ */
+class OrderBatcher {
+
+    static final int MAX_BATCH_ORDERS = 5;
+    static final int MAX_BATCH_CANCELS = 10;
+
+    private static final class PendingOrder {
+
+        final Map<String, String> params;
+        final Supplier<RestApiRequest<Order>> single;
+        final CompletableFuture<Order> future = new CompletableFuture<>();
+
+        PendingOrder(Map<String, String> params, Supplier<RestApiRequest<Order>> single) {
+            this.params = params;
+            this.single = single;
+        }
+    }
+
+    private static final class PendingCancel {
+
+        final Long orderId;
+        final String origClientOrderId;
+        final Supplier<RestApiRequest<Order>> single;
+        final CompletableFuture<Order> future = new CompletableFuture<>();
+
+        PendingCancel(Long orderId, String origClientOrderId, Supplier<RestApiRequest<Order>> single) {
+            this.orderId = orderId;
+            this.origClientOrderId = origClientOrderId;
+            this.single = single;
+        }
+    }
+
+    private final RestApiRequestImpl requestImpl;
+    private final RestApiInvoker invoker;
+    private final Executor executor;
+    private final long windowMicros;
+    private final ScheduledExecutorService scheduler;
+
+    private List<PendingOrder> pendingOrders = new ArrayList<>();
+    private final Map<String, List<PendingCancel>> pendingCancels = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    OrderBatcher(RestApiRequestImpl requestImpl, RestApiInvoker invoker, Executor executor, long windowMicros) {
+        this.requestImpl = requestImpl;
+        this.invoker = invoker;
+        this.executor = executor;
+        this.windowMicros = windowMicros;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "binance-order-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue an order for the next batch.
+     *
+     * @param params The order parameters in batchOrders format, null values are skipped.
+     * @param single Builds the equivalent single order request, used when the batch holds one order.
+     */
+    CompletableFuture<Order> submitOrder(Map<String, Object> params, Supplier<RestApiRequest<Order>> single) {
+        Map<String, String> order = new LinkedHashMap<>();
+        params.forEach((key, value) -> {
+            if (value != null && !"".equals(value.toString())) {
+                order.put(key, value.toString());
+            }
+        });
+        PendingOrder pending = new PendingOrder(order, single);
+        List<PendingOrder> full = null;
+        synchronized (this) {
+            pendingOrders.add(pending);
+            if (pendingOrders.size() >= MAX_BATCH_ORDERS) {
+                full = pendingOrders;
+                pendingOrders = new ArrayList<>();
+            } else {
+                scheduleFlush();
+            }
+        }
+        if (full != null) {
+            sendOrders(full);
+        }
+        return pending.future;
+    }
+
+    /**
+     * Queue a cancel for the next batch of the same symbol.
+     */
+    CompletableFuture<Order> submitCancel(String symbol, Long orderId, String origClientOrderId,
+            Supplier<RestApiRequest<Order>> single) {
+        PendingCancel pending = new PendingCancel(orderId, origClientOrderId, single);
+        String key = symbol + (orderId != null ? "#orderId" : "#origClientOrderId");
+        List<PendingCancel> full = null;
+        synchronized (this) {
+            List<PendingCancel> cancels = pendingCancels.computeIfAbsent(key, k -> new ArrayList<>());
+            cancels.add(pending);
+            if (cancels.size() >= MAX_BATCH_CANCELS) {
+                full = pendingCancels.remove(key);
+            } else {
+                scheduleFlush();
+            }
+        }
+        if (full != null) {
+            sendCancels(symbol, full);
+        }
+        return pending.future;
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            scheduler.schedule(this::flush, windowMicros, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    private void flush() {
+        List<PendingOrder> orders;
+        Map<String, List<PendingCancel>> cancels;
+        synchronized (this) {
+            flushScheduled = false;
+            orders = pendingOrders;
+            pendingOrders = new ArrayList<>();
+            cancels = new LinkedHashMap<>(pendingCancels);
+            pendingCancels.clear();
+        }
+        if (!orders.isEmpty()) {
+            sendOrders(orders);
+        }
+        cancels.forEach((key, list) -> sendCancels(key.substring(0, key.indexOf('#')), list));
+    }
+
+    private void sendOrders(List<PendingOrder> orders) {
+        if (orders.size() == 1) {
+            PendingOrder pending = orders.get(0);
+            sendSingle(pending.single, pending.future);
+            return;
+        }
+        List<CompletableFuture<Order>> futures = new ArrayList<>();
+        List<Map<String, String>> params = new ArrayList<>();
+        for (PendingOrder pending : orders) {
+            futures.add(pending.future);
+            params.add(pending.params);
+        }
+        sendBatch(() -> requestImpl.postBatchOrders(JSON.toJSONString(params), null), futures);
+    }
+
+    private void sendCancels(String symbol, List<PendingCancel> cancels) {
+        if (cancels.size() == 1) {
+            PendingCancel pending = cancels.get(0);
+            sendSingle(pending.single, pending.future);
+            return;
+        }
+        List<CompletableFuture<Order>> futures = new ArrayList<>();
+        List<Object> ids = new ArrayList<>();
+        boolean byOrderId = cancels.get(0).orderId != null;
+        for (PendingCancel pending : cancels) {
+            futures.add(pending.future);
+            ids.add(byOrderId ? pending.orderId : pending.origClientOrderId);
+        }
+        String idList = JSON.toJSONString(ids);
+        sendBatch(() -> requestImpl.batchCancelOrders(symbol, byOrderId ? idList : null,
+                byOrderId ? null : idList, null), futures);
+    }
+
+    private void sendSingle(Supplier<RestApiRequest<Order>> single, CompletableFuture<Order> future) {
+        try {
+            invoker.callAsync(single.get(), executor).whenComplete((order, error) -> {
+                if (error == null) {
+                    future.complete(order);
+                } else {
+                    future.completeExceptionally(unwrap(error));
+                }
+            });
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void sendBatch(Supplier<RestApiRequest<List<Object>>> batch, List<CompletableFuture<Order>> futures) {
+        try {
+            invoker.callAsync(batch.get(), executor).whenComplete((results, error) -> {
+                if (error != null) {
+                    Throwable cause = unwrap(error);
+                    futures.forEach(future -> future.completeExceptionally(cause));
+                    return;
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    Object result = i < results.size() ? results.get(i) : null;
+                    if (result instanceof Order) {
+                        futures.get(i).complete((Order) result);
+                    } else if (result instanceof ResponseResult) {
+                        ResponseResult responseResult = (ResponseResult) result;
+                        futures.get(i).completeExceptionally(new BinanceApiException(BinanceApiException.EXEC_ERROR,
+                                "[Executing] " + responseResult.getCode() + ": " + responseResult.getMsg()));
+                    } else {
+                        futures.get(i).completeExceptionally(new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                                "[Batch] No result for order " + i + " in batch response"));
+                    }
+                }
+            });
+        } catch (Exception e) {
+            futures.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
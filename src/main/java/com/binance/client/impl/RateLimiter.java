@@ -0,0 +1,312 @@
+package com.binance.client.impl;
+
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.market.RateLimit;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import okhttp3.Headers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client side counters for the REQUEST_WEIGHT and ORDERS limits published by
+ * exchangeInfo. Like the exchange, usage is counted in fixed windows aligned to
+ * the interval (a 1 minute limit resets on the minute), and the usage the server
+ * reports in the X-MBX-USED-WEIGHT-* and X-MBX-ORDER-COUNT-* headers replaces the
+ * local count for the current window.
+ */
+class RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+    static final String REQUEST_WEIGHT = "REQUEST_WEIGHT";
+    static final String ORDERS = "ORDERS";
+    private static final String USED_WEIGHT_HEADER = "x-mbx-used-weight-";
+    private static final String ORDER_COUNT_HEADER = "x-mbx-order-count-";
+
+    private static ScheduledExecutorService scheduler;
+
+    private static final class Window {
+
+        final String type;
+        final long intervalMs;
+        final long capacity;
+        long windowStartMs;
+        long used;
+
+        Window(String type, long intervalMs, long capacity, long now) {
+            this.type = type;
+            this.intervalMs = intervalMs;
+            this.capacity = capacity;
+            this.windowStartMs = now - now % intervalMs;
+        }
+
+        void roll(long now) {
+            long start = now - now % intervalMs;
+            if (start != windowStartMs) {
+                windowStartMs = start;
+                used = 0;
+            }
+        }
+
+        long waitMs(int amount, long now) {
+            if (amount > capacity) {
+                throw new BinanceApiException(BinanceApiException.RATE_LIMIT_ERROR,
+                        "[RateLimit] Request needs " + amount + " " + type + " but the limit is " + capacity);
+            }
+            return used + amount <= capacity ? 0 : windowStartMs + intervalMs - now;
+        }
+    }
+
+    private final List<Window> windows = new ArrayList<>();
+    private final long maxWaitMs;
+    private final LongSupplier clock;
+    private long blockedUntilMs = 0;
+
+    RateLimiter(List<RateLimit> rateLimits, long maxWaitMs) {
+        this(rateLimits, maxWaitMs, System::currentTimeMillis);
+    }
+
+    RateLimiter(List<RateLimit> rateLimits, long maxWaitMs, LongSupplier clock) {
+        this.maxWaitMs = maxWaitMs;
+        this.clock = clock;
+        updateRateLimits(rateLimits != null ? rateLimits : defaultRateLimits());
+    }
+
+    static List<RateLimit> defaultRateLimits() {
+        List<RateLimit> limits = new LinkedList<>();
+        limits.add(rateLimit(REQUEST_WEIGHT, "MINUTE", 1, 2400));
+        limits.add(rateLimit(ORDERS, "MINUTE", 1, 1200));
+        limits.add(rateLimit(ORDERS, "SECOND", 10, 300));
+        return limits;
+    }
+
+    private static RateLimit rateLimit(String type, String interval, long intervalNum, long limit) {
+        RateLimit rateLimit = new RateLimit();
+        rateLimit.setRateLimitType(type);
+        rateLimit.setInterval(interval);
+        rateLimit.setIntervalNum(intervalNum);
+        rateLimit.setLimit(limit);
+        return rateLimit;
+    }
+
+    /**
+     * Replace the windows with the given limits, keeping the usage of windows whose
+     * type and interval did not change.
+     */
+    synchronized void updateRateLimits(List<RateLimit> rateLimits) {
+        long now = clock.getAsLong();
+        List<Window> updated = new ArrayList<>();
+        for (RateLimit rateLimit : rateLimits) {
+            if (!REQUEST_WEIGHT.equals(rateLimit.getRateLimitType()) && !ORDERS.equals(rateLimit.getRateLimitType())) {
+                continue;
+            }
+            long intervalMs = intervalToMs(rateLimit.getInterval(), rateLimit.getIntervalNum());
+            if (intervalMs <= 0 || rateLimit.getLimit() == null || rateLimit.getLimit() <= 0) {
+                continue;
+            }
+            Window window = new Window(rateLimit.getRateLimitType(), intervalMs, rateLimit.getLimit(), now);
+            Window previous = find(rateLimit.getRateLimitType(), intervalMs);
+            if (previous != null) {
+                previous.roll(now);
+                window.used = previous.used;
+            }
+            updated.add(window);
+        }
+        windows.clear();
+        windows.addAll(updated);
+    }
+
+    /**
+     * Count a request against the current windows, waiting up to the configured
+     * maximum for the windows to roll when they are full.
+     */
+    void acquire(int weight, int orders) {
+        long deadline = clock.getAsLong() + maxWaitMs;
+        while (true) {
+            long waitMs = tryAcquire(weight, orders);
+            if (waitMs == 0) {
+                return;
+            }
+            checkWait(waitMs, deadline);
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BinanceApiException(BinanceApiException.SYS_ERROR, "[RateLimit] Interrupted while waiting", e);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #acquire(int, int)}, but waits on a timer thread instead of the
+     * calling thread.
+     */
+    CompletableFuture<Void> acquireAsync(int weight, int orders) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        acquireAsync(weight, orders, clock.getAsLong() + maxWaitMs, future);
+        return future;
+    }
+
+    private void acquireAsync(int weight, int orders, long deadline, CompletableFuture<Void> future) {
+        try {
+            long waitMs = tryAcquire(weight, orders);
+            if (waitMs == 0) {
+                future.complete(null);
+                return;
+            }
+            checkWait(waitMs, deadline);
+            scheduler().schedule(() -> acquireAsync(weight, orders, deadline, future), waitMs, TimeUnit.MILLISECONDS);
+        } catch (BinanceApiException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void checkWait(long waitMs, long deadline) {
+        if (clock.getAsLong() + waitMs > deadline) {
+            throw new BinanceApiException(BinanceApiException.RATE_LIMIT_ERROR,
+                    "[RateLimit] Request rejected locally, limit is available again in " + waitMs + " ms");
+        }
+    }
+
+    /**
+     * @return 0 if the request has been counted, otherwise the time in millisecond
+     * until the full windows roll.
+     */
+    synchronized long tryAcquire(int weight, int orders) {
+        long now = clock.getAsLong();
+        if (now < blockedUntilMs) {
+            return blockedUntilMs - now;
+        }
+        long waitMs = 0;
+        for (Window window : windows) {
+            window.roll(now);
+            int amount = REQUEST_WEIGHT.equals(window.type) ? weight : orders;
+            if (amount > 0) {
+                waitMs = Math.max(waitMs, window.waitMs(amount, now));
+            }
+        }
+        if (waitMs > 0) {
+            return waitMs;
+        }
+        for (Window window : windows) {
+            window.used += REQUEST_WEIGHT.equals(window.type) ? weight : orders;
+        }
+        return 0;
+    }
+
+    /**
+     * Take the usage reported by the server as the count of the current windows and
+     * back off when the server answered 429 or 418.
+     */
+    synchronized void onResponse(int code, Headers headers) {
+        long now = clock.getAsLong();
+        for (String name : headers.names()) {
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            String type;
+            String interval;
+            if (lowerName.startsWith(USED_WEIGHT_HEADER)) {
+                type = REQUEST_WEIGHT;
+                interval = lowerName.substring(USED_WEIGHT_HEADER.length());
+            } else if (lowerName.startsWith(ORDER_COUNT_HEADER)) {
+                type = ORDERS;
+                interval = lowerName.substring(ORDER_COUNT_HEADER.length());
+            } else {
+                continue;
+            }
+            Window window = find(type, headerIntervalToMs(interval));
+            if (window == null) {
+                continue;
+            }
+            try {
+                long used = Long.parseLong(headers.get(name).trim());
+                window.roll(now);
+                window.used = used;
+            } catch (NumberFormatException e) {
+                log.debug("[RateLimit] Ignore malformed header {}: {}", name, headers.get(name));
+            }
+        }
+        if (code == 429 || code == 418) {
+            long retryAfterMs = 60_000;
+            String retryAfter = headers.get("Retry-After");
+            if (retryAfter != null) {
+                try {
+                    retryAfterMs = Long.parseLong(retryAfter.trim()) * 1000;
+                } catch (NumberFormatException e) {
+                    log.debug("[RateLimit] Ignore malformed Retry-After: {}", retryAfter);
+                }
+            }
+            blockedUntilMs = Math.max(blockedUntilMs, now + retryAfterMs);
+            log.warn("[RateLimit] Server answered " + code + ", requests are held for " + retryAfterMs + " ms");
+        }
+    }
+
+    private Window find(String type, long intervalMs) {
+        for (Window window : windows) {
+            if (window.type.equals(type) && window.intervalMs == intervalMs) {
+                return window;
+            }
+        }
+        return null;
+    }
+
+    private static long intervalToMs(String interval, Long intervalNum) {
+        long num = intervalNum != null ? intervalNum : 1;
+        if (interval == null) {
+            return -1;
+        }
+        switch (interval) {
+            case "SECOND":
+                return num * 1_000L;
+            case "MINUTE":
+                return num * 60_000L;
+            case "HOUR":
+                return num * 3_600_000L;
+            case "DAY":
+                return num * 86_400_000L;
+            default:
+                return -1;
+        }
+    }
+
+    private static long headerIntervalToMs(String interval) {
+        if (interval.length() < 2) {
+            return -1;
+        }
+        try {
+            long num = Long.parseLong(interval.substring(0, interval.length() - 1));
+            switch (interval.charAt(interval.length() - 1)) {
+                case 's':
+                    return intervalToMs("SECOND", num);
+                case 'm':
+                    return intervalToMs("MINUTE", num);
+                case 'h':
+                    return intervalToMs("HOUR", num);
+                case 'd':
+                    return intervalToMs("DAY", num);
+                default:
+                    return -1;
+            }
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "binance-rate-limiter");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler;
+    }
+}
@@ -1,20 +1,66 @@
 package com.binance.client.impl;
 
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.binance.client.ClientMetrics;
 import com.binance.client.exception.BinanceApiException;
+import com.binance.client.impl.utils.JsonStreamReader;
 import com.binance.client.impl.utils.JsonWrapper;
+import com.binance.client.model.market.RateLimit;
 
-abstract class RestApiInvoker {
+class RestApiInvoker {
 
     private static final Logger log = LoggerFactory.getLogger(RestApiInvoker.class);
-    private static final OkHttpClient client = new OkHttpClient();
+    private static final String USED_WEIGHT_HEADER = "X-MBX-USED-WEIGHT-1M";
+    private final OkHttpClient client;
+    private final RateLimiter rateLimiter;
+    private final ClientMetrics metrics;
+
+    RestApiInvoker(OkHttpClient client) {
+        this(client, null);
+    }
+
+    RestApiInvoker(OkHttpClient client, RateLimiter rateLimiter) {
+        this(client, rateLimiter, ClientMetrics.NOOP);
+    }
+
+    RestApiInvoker(OkHttpClient client, RateLimiter rateLimiter, ClientMetrics metrics) {
+        this.client = client;
+        this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
+    }
+
+    ClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    void updateRateLimits(List<RateLimit> rateLimits) {
+        if (rateLimiter != null && rateLimits != null && !rateLimits.isEmpty()) {
+            rateLimiter.updateRateLimits(rateLimits);
+        }
+    }
 
     static void checkResponse(JsonWrapper json) {
         try {
@@ -47,33 +93,191 @@ abstract class RestApiInvoker {
         }
     }
 
-    static <T> T callSync(RestApiRequest<T> request) {
+    <T> T callSync(RestApiRequest<T> request) {
         try {
-            String str;
-            log.debug("Request URL " + request.request.url());
-            Response response = client.newCall(request.request).execute();
-            // System.out.println(response.body().string());
-            if (response != null && response.body() != null) {
-                str = response.body().string();
-                response.close();
-            } else {
-                throw new BinanceApiException(BinanceApiException.ENV_ERROR,
-                        "[Invoking] Cannot get the response from server");
+            if (rateLimiter != null) {
+                rateLimiter.acquire(request.weight, request.orderCount);
             }
-            log.debug("Response =====> " + str);
-            JsonWrapper jsonWrapper = JsonWrapper.parseFromString(str);
-            checkResponse(jsonWrapper);
-            return request.jsonParser.parseJson(jsonWrapper);
+            log.debug("Request URL {}", request.request.url());
+            long sentNanos = System.nanoTime();
+            Response response = client.newCall(request.request).execute();
+            return readAndParse(request, response, sentNanos);
         } catch (BinanceApiException e) {
+            onError(request, e);
             throw e;
         } catch (Exception e) {
+            metrics.onError(endpoint(request), BinanceApiException.ENV_ERROR);
             throw new BinanceApiException(BinanceApiException.ENV_ERROR,
                     "[Invoking] Unexpected error: " + e.getMessage());
         }
     }
 
-    static WebSocket createWebSocket(Request request, WebSocketListener listener) {
+    <T> CompletableFuture<T> callAsync(RestApiRequest<T> request, Executor executor) {
+        if (rateLimiter == null) {
+            return enqueue(request, executor);
+        }
+        return rateLimiter.acquireAsync(request.weight, request.orderCount)
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        onError(request, e);
+                    }
+                })
+                .thenCompose(ignored -> enqueue(request, executor));
+    }
+
+    /**
+     * @return The endpoint path the request was tagged with when it was built,
+     *         so it is not extracted from the URL each time.
+     */
+    private static String endpoint(RestApiRequest<?> request) {
+        String path = request.request.tag(String.class);
+        return path != null ? path : request.request.url().encodedPath();
+    }
+
+    private void onError(RestApiRequest<?> request, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        metrics.onError(endpoint(request), cause instanceof BinanceApiException
+                ? ((BinanceApiException) cause).getErrType() : BinanceApiException.ENV_ERROR);
+    }
+
+    private static long usedWeight(Response response) {
+        String value = response.header(USED_WEIGHT_HEADER);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private <T> CompletableFuture<T> enqueue(RestApiRequest<T> request, Executor executor) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        log.debug("Request URL {}", request.request.url());
+        long sentNanos = System.nanoTime();
+        client.newCall(request.request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                metrics.onError(endpoint(request), BinanceApiException.ENV_ERROR);
+                future.completeExceptionally(new BinanceApiException(BinanceApiException.ENV_ERROR,
+                        "[Invoking] Unexpected error: " + e.getMessage(), e));
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                Runnable parse = () -> {
+                    try {
+                        future.complete(readAndParse(request, response, sentNanos));
+                    } catch (Exception e) {
+                        BinanceApiException exception = wrapException(e);
+                        metrics.onError(endpoint(request), exception.getErrType());
+                        future.completeExceptionally(exception);
+                    }
+                };
+                if (executor == null) {
+                    parse.run();
+                } else {
+                    try {
+                        executor.execute(parse);
+                    } catch (RejectedExecutionException e) {
+                        response.close();
+                        metrics.onError(endpoint(request), BinanceApiException.SYS_ERROR);
+                        future.completeExceptionally(new BinanceApiException(BinanceApiException.SYS_ERROR,
+                                "[Invoking] Async executor rejected the response", e));
+                    }
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Parse a successful response straight from the body stream when the request
+     * has a stream parser, otherwise read the body as text and parse it as JSON.
+     * The response is reported to the metrics either way.
+     */
+    private <T> T readAndParse(RestApiRequest<T> request, Response response, long sentNanos) throws IOException {
+        long receivedNanos = System.nanoTime();
+        if (response != null) {
+            request.sentTimeMs = response.sentRequestAtMillis();
+            request.receivedTimeMs = response.receivedResponseAtMillis();
+        }
+        if (response != null && rateLimiter != null) {
+            rateLimiter.onResponse(response.code(), response.headers());
+        }
+        ByteCounter body = response != null && response.body() != null
+                ? new ByteCounter(response.body().source()) : null;
+        try {
+            if (request.streamParser != null && body != null && response.isSuccessful()) {
+                try (ResponseBody ignored = response.body()) {
+                    log.debug("Response =====> streaming {}", request.request.url());
+                    return request.streamParser.parseStream(new JsonStreamReader(Okio.buffer(body)));
+                }
+            }
+            return parseResponse(request, readResponse(response, body));
+        } finally {
+            if (response != null) {
+                metrics.onRequest(endpoint(request), response.code(), receivedNanos - sentNanos,
+                        body != null ? body.bytes : -1, System.nanoTime() - receivedNanos, request.weight,
+                        usedWeight(response));
+            }
+        }
+    }
+
+    private String readResponse(Response response, Source source) throws IOException {
+        String str;
+        if (source != null) {
+            try (ResponseBody body = response.body()) {
+                MediaType contentType = body.contentType();
+                Charset charset = contentType != null
+                        ? contentType.charset(StandardCharsets.UTF_8) : StandardCharsets.UTF_8;
+                str = Okio.buffer(source).readString(charset);
+            }
+        } else {
+            throw new BinanceApiException(BinanceApiException.ENV_ERROR,
+                    "[Invoking] Cannot get the response from server");
+        }
+        log.debug("Response =====> {}", str);
+        return str;
+    }
+
+    private static <T> T parseResponse(RestApiRequest<T> request, String str) {
+        JsonWrapper jsonWrapper = JsonWrapper.parseFromString(str);
+        checkResponse(jsonWrapper);
+        return request.jsonParser.parseJson(jsonWrapper);
+    }
+
+    private static BinanceApiException wrapException(Exception e) {
+        if (e instanceof BinanceApiException) {
+            return (BinanceApiException) e;
+        }
+        return new BinanceApiException(BinanceApiException.ENV_ERROR,
+                "[Invoking] Unexpected error: " + e.getMessage(), e);
+    }
+
+    WebSocket createWebSocket(Request request, WebSocketListener listener) {
         return client.newWebSocket(request, listener);
     }
 
+    /**
+     * Counts the bytes read from a response body, chunked or not.
+     */
+    private static final class ByteCounter extends ForwardingSource {
+
+        long bytes = 0;
+
+        ByteCounter(Source delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (read > 0) {
+                bytes += read;
+            }
+            return read;
+        }
+    }
 }
@@ -6,4 +6,10 @@ public class RestApiRequest<T> {
 
   public Request request;
   RestApiJsonParser<T> jsonParser;
+  RestApiStreamParser<T> streamParser;
+  int weight = 1;
+  int orderCount = 0;
+  // Stamped by the invoker from the HTTP exchange itself, for clock samples.
+  long sentTimeMs = 0;
+  long receivedTimeMs = 0;
 }
@@ -1,5 +1,6 @@
 package com.binance.client.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -9,6 +10,7 @@ import com.alibaba.fastjson.JSONArray;
 import com.alibaba.fastjson.JSONObject;
 import com.binance.client.RequestOptions;
 import com.binance.client.exception.BinanceApiException;
+import com.binance.client.impl.utils.JsonStreamReader;
 import com.binance.client.impl.utils.JsonWrapperArray;
 import com.binance.client.impl.utils.UrlParamsBuilder;
 import com.binance.client.model.ResponseResult;
@@ -24,11 +26,27 @@ class RestApiRequestImpl {
     private String apiKey;
     private String secretKey;
     private String serverUrl;
+    private final ServerClock serverClock = new ServerClock();
+    private final ApiSignature apiSignature;
 
     RestApiRequestImpl(String apiKey, String secretKey, RequestOptions options) {
         this.apiKey = apiKey;
         this.secretKey = secretKey;
         this.serverUrl = options.getUrl();
+        this.apiSignature = new ApiSignature(options.isTimeSyncEnabled() ? serverClock : null,
+                options.getRecvWindowMs());
+    }
+
+    ServerClock getServerClock() {
+        return serverClock;
+    }
+
+    /**
+     * @return A request builder tagged with the endpoint path, which the invoker
+     *         reports the request's metrics under.
+     */
+    private static Request.Builder newBuilder(String url, String address) {
+        return new Request.Builder().url(url).tag(String.class, address);
     }
 
     private Request createRequestByGet(String address, UrlParamsBuilder builder) {
@@ -45,16 +63,16 @@ class RestApiRequestImpl {
         System.out.print(requestUrl);
         if (builder != null) {
             if (builder.hasPostParam()) {
-                return new Request.Builder().url(requestUrl).post(builder.buildPostBody())
+                return newBuilder(requestUrl, address).post(builder.buildPostBody())
                         .addHeader("Content-Type", "application/json")
                         .addHeader("client_SDK_Version", "binance_futures-1.0.1-java").build();
             } else {
-                return new Request.Builder().url(requestUrl + builder.buildUrl())
+                return newBuilder(requestUrl + builder.buildUrl(), address)
                         .addHeader("Content-Type", "application/x-www-form-urlencoded")
                         .addHeader("client_SDK_Version", "binance_futures-1.0.1-java").build();
             }
         } else {
-            return new Request.Builder().url(requestUrl).addHeader("Content-Type", "application/x-www-form-urlencoded")
+            return newBuilder(requestUrl, address).addHeader("Content-Type", "application/x-www-form-urlencoded")
                     .addHeader("client_SDK_Version", "binance_futures-1.0.1-java")
                     .build();
         }
@@ -66,17 +84,17 @@ class RestApiRequestImpl {
                     "[Invoking] Builder is null when create request with Signature");
         }
         String requestUrl = url + address;
-        new ApiSignature().createSignature(apiKey, secretKey, timestamp, builder);
+        apiSignature.createSignature(apiKey, secretKey, timestamp, builder);
         if (builder.hasPostParam()) {
             requestUrl += builder.buildUrl();
-            return new Request.Builder().url(requestUrl).post(builder.buildPostBody())
+            return newBuilder(requestUrl, address).post(builder.buildPostBody())
                     .addHeader("Content-Type", "application/json")
                     .addHeader("X-MBX-APIKEY", apiKey)
                     .addHeader("client_SDK_Version", "binance_futures-1.0.1-java")
                     .build();
         } else if (builder.checkMethod("PUT")) {
             requestUrl += builder.buildUrl();
-            return new Request.Builder().url(requestUrl)
+            return newBuilder(requestUrl, address)
                     .put(builder.buildPostBody())
                     .addHeader("Content-Type", "application/x-www-form-urlencoded")
                     .addHeader("X-MBX-APIKEY", apiKey)
@@ -84,7 +102,7 @@ class RestApiRequestImpl {
                     .build();
         } else if (builder.checkMethod("DELETE")) {
             requestUrl += builder.buildUrl();
-            return new Request.Builder().url(requestUrl)
+            return newBuilder(requestUrl, address)
                     .delete()
                     .addHeader("Content-Type", "application/x-www-form-urlencoded")
                     .addHeader("client_SDK_Version", "binance_futures-1.0.1-java")
@@ -92,7 +110,7 @@ class RestApiRequestImpl {
                     .build();
         } else {
             requestUrl += builder.buildUrl();
-            return new Request.Builder().url(requestUrl)
+            return newBuilder(requestUrl, address)
                     .addHeader("Content-Type", "application/x-www-form-urlencoded")
                     .addHeader("client_SDK_Version", "binance_futures-1.0.1-java")
                     .addHeader("X-MBX-APIKEY", apiKey)
@@ -124,28 +142,28 @@ class RestApiRequestImpl {
         String requestUrl = url + address;
         requestUrl += builder.buildUrl();
         if (builder.hasPostParam()) {
-            return new Request.Builder().url(requestUrl)
+            return newBuilder(requestUrl, address)
                     .post(builder.buildPostBody())
                     .addHeader("Content-Type", "application/json")
                     .addHeader("X-MBX-APIKEY", apiKey)
                     .addHeader("client_SDK_Version", "binance_futures-1.0.1-java")
                     .build();
         } else if (builder.checkMethod("DELETE")) {
-            return new Request.Builder().url(requestUrl)
+            return newBuilder(requestUrl, address)
                     .delete()
                     .addHeader("Content-Type", "application/x-www-form-urlencoded")
                     .addHeader("X-MBX-APIKEY", apiKey)
                     .addHeader("client_SDK_Version", "binance_futures-1.0.1-java")
                     .build();
         } else if (builder.checkMethod("PUT")) {
-            return new Request.Builder().url(requestUrl)
+            return newBuilder(requestUrl, address)
                     .put(builder.buildPostBody())
                     .addHeader("Content-Type", "application/x-www-form-urlencoded")
                     .addHeader("X-MBX-APIKEY", apiKey)
                     .addHeader("client_SDK_Version", "binance_futures-1.0.1-java")
                     .build();
         } else {
-            return new Request.Builder().url(requestUrl)
+            return newBuilder(requestUrl, address)
                     .addHeader("Content-Type", "application/x-www-form-urlencoded")
                     .addHeader("X-MBX-APIKEY", apiKey)
                     .addHeader("client_SDK_Version", "binance_futures-1.0.1-java")
@@ -157,6 +175,15 @@ class RestApiRequestImpl {
         return createRequestWithApikey(serverUrl, address, builder);
     }
 
+    RestApiRequest<Long> getServerTime() {
+        RestApiRequest<Long> request = new RestApiRequest<>();
+        UrlParamsBuilder builder = UrlParamsBuilder.build();
+        request.request = createRequestByGet("/fapi/v1/time", builder);
+
+        request.jsonParser = (jsonWrapper -> jsonWrapper.getLong("serverTime"));
+        return request;
+    }
+
     RestApiRequest<ExchangeInformation> getExchangeInformation() {
         RestApiRequest<ExchangeInformation> request = new RestApiRequest<>();
         UrlParamsBuilder builder = UrlParamsBuilder.build();
@@ -227,6 +254,7 @@ class RestApiRequestImpl {
                 .putToUrl("symbol", symbol)
                 .putToUrl("limit", limit);
         request.request = createRequestByGet("/fapi/v1/depth", builder);
+        request.weight = depthWeight(limit);
 
         request.jsonParser = (jsonWrapper -> {
             OrderBook result = new OrderBook();
@@ -254,6 +282,27 @@ class RestApiRequestImpl {
 
             return result;
         });
+        request.streamParser = (reader -> {
+            OrderBook result = new OrderBook();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "lastUpdateId":
+                        result.setLastUpdateId(reader.nextLong());
+                        break;
+                    case "bids":
+                        result.setBids(readOrderBookEntries(reader));
+                        break;
+                    case "asks":
+                        result.setAsks(readOrderBookEntries(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return result;
+        });
         return request;
     }
 
@@ -290,6 +339,7 @@ class RestApiRequestImpl {
                 .putToUrl("limit", limit)
                 .putToUrl("fromId", fromId);
         request.request = createRequestByGetWithApikey("/fapi/v1/historicalTrades", builder);
+        request.weight = 5;
 
         request.jsonParser = (jsonWrapper -> {
             List<Trade> result = new LinkedList<>();
@@ -338,6 +388,45 @@ class RestApiRequestImpl {
 
             return result;
         });
+        request.streamParser = (reader -> {
+            List<AggregateTrade> result = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                AggregateTrade element = new AggregateTrade();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "a":
+                            element.setId(reader.nextLong());
+                            break;
+                        case "p":
+                            element.setPrice(reader.nextBigDecimal());
+                            break;
+                        case "q":
+                            element.setQty(reader.nextBigDecimal());
+                            break;
+                        case "f":
+                            element.setFirstId(reader.nextLong());
+                            break;
+                        case "l":
+                            element.setLastId(reader.nextLong());
+                            break;
+                        case "T":
+                            element.setTime(reader.nextLong());
+                            break;
+                        case "m":
+                            element.setIsBuyerMaker(reader.nextBoolean());
+                            break;
+                        default:
+                            reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                result.add(element);
+            }
+            reader.endArray();
+            return result;
+        });
         return request;
     }
 
@@ -351,6 +440,7 @@ class RestApiRequestImpl {
                 .putToUrl("endTime", endTime)
                 .putToUrl("limit", limit);
         request.request = createRequestByGet("/fapi/v1/klines", builder);
+        request.weight = candlestickWeight(limit);
 
         request.jsonParser = (jsonWrapper -> {
             List<Candlestick> result = new LinkedList<>();
@@ -374,6 +464,33 @@ class RestApiRequestImpl {
 
             return result;
         });
+        request.streamParser = (reader -> {
+            List<Candlestick> result = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                Candlestick element = new Candlestick();
+                reader.beginArray();
+                element.setOpenTime(reader.nextLong());
+                element.setOpen(reader.nextBigDecimal());
+                element.setHigh(reader.nextBigDecimal());
+                element.setLow(reader.nextBigDecimal());
+                element.setClose(reader.nextBigDecimal());
+                element.setVolume(reader.nextBigDecimal());
+                element.setCloseTime(reader.nextLong());
+                element.setQuoteAssetVolume(reader.nextBigDecimal());
+                element.setNumTrades(reader.nextInt());
+                element.setTakerBuyBaseAssetVolume(reader.nextBigDecimal());
+                element.setTakerBuyQuoteAssetVolume(reader.nextBigDecimal());
+                element.setIgnore(reader.nextBigDecimal());
+                while (reader.hasNext()) {
+                    reader.skipValue();
+                }
+                reader.endArray();
+                result.add(element);
+            }
+            reader.endArray();
+            return result;
+        });
         return request;
     }
 
@@ -437,6 +554,7 @@ class RestApiRequestImpl {
         UrlParamsBuilder builder = UrlParamsBuilder.build()
                 .putToUrl("symbol", symbol);
         request.request = createRequestByGet("/fapi/v1/ticker/24hr", builder);
+        request.weight = StringUtils.isBlank(symbol) ? 40 : 1;
 
         request.jsonParser = (jsonWrapper -> {
             List<PriceChangeTicker> result = new LinkedList<>();
@@ -477,6 +595,7 @@ class RestApiRequestImpl {
         UrlParamsBuilder builder = UrlParamsBuilder.build()
                 .putToUrl("symbol", symbol);
         request.request = createRequestByGet("/fapi/v1/ticker/price", builder);
+        request.weight = StringUtils.isBlank(symbol) ? 2 : 1;
 
         request.jsonParser = (jsonWrapper -> {
             List<SymbolPrice> result = new LinkedList<>();
@@ -503,6 +622,7 @@ class RestApiRequestImpl {
         UrlParamsBuilder builder = UrlParamsBuilder.build()
                 .putToUrl("symbol", symbol);
         request.request = createRequestByGet("/fapi/v1/ticker/bookTicker", builder);
+        request.weight = StringUtils.isBlank(symbol) ? 2 : 1;
 
         request.jsonParser = (jsonWrapper -> {
             List<SymbolOrderBook> result = new LinkedList<>();
@@ -536,6 +656,7 @@ class RestApiRequestImpl {
                 .putToUrl("endTime", endTime)
                 .putToUrl("limit", limit);
         request.request = createRequestByGetWithApikey("/fapi/v1/allForceOrders", builder);
+        request.weight = StringUtils.isBlank(symbol) ? 50 : 20;
 
         request.jsonParser = (jsonWrapper -> {
             List<LiquidationOrder> result = new LinkedList<>();
@@ -565,6 +686,8 @@ class RestApiRequestImpl {
         UrlParamsBuilder builder = UrlParamsBuilder.build()
                 .putToUrl("batchOrders", batchOrders);
         request.request = createRequestByPostWithSignature("/fapi/v1/batchOrders", timestamp, builder);
+        request.weight = 5;
+        request.orderCount = batchOrderCount(batchOrders);
 
         request.jsonParser = (jsonWrapper -> {
             JSONObject jsonObject = jsonWrapper.getJson();
@@ -626,6 +749,7 @@ class RestApiRequestImpl {
                 .putToUrl("newOrderRespType", newOrderRespType);
 
         request.request = createRequestByPostWithSignature("/fapi/v1/order", timestamp, builder);
+        request.orderCount = 1;
 
         request.jsonParser = (jsonWrapper -> {
             Order result = new Order();
@@ -874,6 +998,7 @@ class RestApiRequestImpl {
         UrlParamsBuilder builder = UrlParamsBuilder.build()
                 .putToUrl("symbol", symbol);
         request.request = createRequestByGetWithSignature("/fapi/v1/openOrders", timestamp, builder);
+        request.weight = StringUtils.isBlank(symbol) ? 40 : 1;
 
         request.jsonParser = (jsonWrapper -> {
             List<Order> result = new LinkedList<>();
@@ -912,6 +1037,7 @@ class RestApiRequestImpl {
                 .putToUrl("endTime", endTime)
                 .putToUrl("limit", limit);
         request.request = createRequestByGetWithSignature("/fapi/v1/allOrders", timestamp, builder);
+        request.weight = 5;
 
         request.jsonParser = (jsonWrapper -> {
             List<Order> result = new LinkedList<>();
@@ -945,6 +1071,7 @@ class RestApiRequestImpl {
         RestApiRequest<List<AccountBalance>> request = new RestApiRequest<>();
         UrlParamsBuilder builder = UrlParamsBuilder.build();
         request.request = createRequestByGetWithSignature("/fapi/v1/balance", timestamp, builder);
+        request.weight = 5;
 
         request.jsonParser = (jsonWrapper -> {
             List<AccountBalance> result = new LinkedList<>();
@@ -965,6 +1092,7 @@ class RestApiRequestImpl {
         RestApiRequest<AccountInformation> request = new RestApiRequest<>();
         UrlParamsBuilder builder = UrlParamsBuilder.build();
         request.request = createRequestByGetWithSignature("/fapi/v1/account", timestamp, builder);
+        request.weight = 5;
 
         request.jsonParser = (jsonWrapper -> {
             AccountInformation result = new AccountInformation();
@@ -1049,6 +1177,7 @@ class RestApiRequestImpl {
         	builder.putToUrl("symbol", symbol);
         }
         request.request = createRequestByGetWithSignature("/fapi/v1/positionRisk", timestamp, builder);
+        request.weight = 5;
 
         request.jsonParser = (jsonWrapper -> {
             List<PositionRisk> result = new LinkedList<>();
@@ -1087,12 +1216,14 @@ class RestApiRequestImpl {
                 .putToUrl("fromId", fromId)
                 .putToUrl("limit", limit);
         request.request = createRequestByGetWithSignature("/fapi/v1/userTrades", timestamp, builder);
+        request.weight = 5;
 
         request.jsonParser = (jsonWrapper -> {
             List<MyTrade> result = new LinkedList<>();
             JsonWrapperArray dataArray = jsonWrapper.getJsonArray("data");
             dataArray.forEach((item) -> {
                 MyTrade element = new MyTrade();
+                element.setId(item.containKey("id") ? item.getLong("id") : null);
                 element.setIsBuyer(item.getBoolean("buyer"));
                 element.setCommission(item.getBigDecimal("commission"));
                 element.setCommissionAsset(item.getString("commissionAsset"));
@@ -1125,6 +1256,7 @@ class RestApiRequestImpl {
                 .putToUrl("endTime", endTime)
                 .putToUrl("limit", limit);
         request.request = createRequestByGetWithSignature("/fapi/v1/income", timestamp, builder);
+        request.weight = 30;
 
         request.jsonParser = (jsonWrapper -> {
             List<Income> result = new LinkedList<>();
@@ -1136,6 +1268,7 @@ class RestApiRequestImpl {
                 element.setIncome(item.getBigDecimal("income"));
                 element.setAsset(item.getString("asset"));
                 element.setTime(item.getLong("time"));
+                element.setTranId(item.containKey("tranId") ? item.getLong("tranId") : null);
                 result.add(element);
             });
             return result;
@@ -1337,4 +1470,55 @@ class RestApiRequestImpl {
         return request;
     }
 
+    private static int depthWeight(Integer limit) {
+        if (limit == null) {
+            return 10;
+        } else if (limit <= 50) {
+            return 2;
+        } else if (limit <= 100) {
+            return 5;
+        } else if (limit <= 500) {
+            return 10;
+        } else {
+            return 20;
+        }
+    }
+
+    private static int candlestickWeight(Integer limit) {
+        if (limit == null) {
+            return 5;
+        } else if (limit < 100) {
+            return 1;
+        } else if (limit < 500) {
+            return 2;
+        } else if (limit <= 1000) {
+            return 5;
+        } else {
+            return 10;
+        }
+    }
+
+    private static List<OrderBookEntry> readOrderBookEntries(JsonStreamReader reader) throws IOException {
+        List<OrderBookEntry> result = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            OrderBookEntry element = new OrderBookEntry();
+            reader.beginArray();
+            element.setPrice(reader.nextBigDecimal());
+            element.setQty(reader.nextBigDecimal());
+            reader.endArray();
+            result.add(element);
+        }
+        reader.endArray();
+        return result;
+    }
+
+    private static int batchOrderCount(String batchOrders) {
+        try {
+            return JSONArray.parseArray(batchOrders).size();
+        } catch (Exception e) {
+            return 5;
+        }
+    }
+
 }
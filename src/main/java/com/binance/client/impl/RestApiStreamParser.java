@@ -0,0 +1,10 @@
+package com.binance.client.impl;
+
+import com.binance.client.impl.utils.JsonStreamReader;
+import java.io.IOException;
+
+@FunctionalInterface
+public interface RestApiStreamParser<T> {
+
+  T parseStream(JsonStreamReader reader) throws IOException;
+}
@@ -0,0 +1,41 @@
+package com.binance.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The list of a flyweight array event and its elements, refilled in place for
+ * each frame. Elements are kept when a frame has fewer of them, so a frame no
+ * longer than an earlier one allocates nothing.
+ */
+class ReusableList<T> {
+
+    private final Supplier<T> factory;
+    private final List<T> elements = new ArrayList<>();
+    private final List<T> list = new ArrayList<>();
+
+    ReusableList(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return The list, emptied.
+     */
+    List<T> clear() {
+        list.clear();
+        return list;
+    }
+
+    /**
+     * @return The element to fill for the next index of the list. It is not
+     *         added to the list.
+     */
+    T next() {
+        int index = list.size();
+        if (index == elements.size()) {
+            elements.add(factory.get());
+        }
+        return elements.get(index);
+    }
+}
@@ -0,0 +1,139 @@
+package com.binance.client.impl;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Estimates the offset between the local clock and the server clock the NTP way:
+ * each sample is a (send, server, receive) triple, the offset is measured against
+ * the midpoint of the round trip, and the sample with the smallest round trip
+ * among the recent ones is trusted. The spread of the other samples around it is
+ * reported as jitter.
+ */
+class ServerClock {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerClock.class);
+    private static final int MAX_SAMPLES = 8;
+    // Shared by the clocks of all clients, so creating clients costs no thread.
+    private static final ScheduledExecutorService SYNC_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "binance-time-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final long[] offsets = new long[MAX_SAMPLES];
+    private final long[] delays = new long[MAX_SAMPLES];
+    private int sampleCount = 0;
+    private int nextSample = 0;
+
+    private volatile long offsetMs = 0;
+    private volatile long delayMs = 0;
+    private volatile long jitterMs = 0;
+
+    private ScheduledFuture<?> sync;
+
+    synchronized void addSample(long sendTimeMs, long receiveTimeMs, long serverTimeMs) {
+        long delay = receiveTimeMs - sendTimeMs;
+        if (delay < 0 || serverTimeMs <= 0) {
+            return;
+        }
+        offsets[nextSample] = serverTimeMs - (sendTimeMs + delay / 2);
+        delays[nextSample] = delay;
+        nextSample = (nextSample + 1) % MAX_SAMPLES;
+        sampleCount = Math.min(sampleCount + 1, MAX_SAMPLES);
+
+        int best = 0;
+        for (int i = 1; i < sampleCount; i++) {
+            if (delays[i] < delays[best]) {
+                best = i;
+            }
+        }
+        double sum = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            double diff = offsets[i] - offsets[best];
+            sum += diff * diff;
+        }
+        offsetMs = offsets[best];
+        delayMs = delays[best];
+        jitterMs = sampleCount > 1 ? Math.round(Math.sqrt(sum / (sampleCount - 1))) : 0;
+        log.debug("[Time] offset {} ms, delay {} ms, jitter {} ms", offsetMs, delayMs, jitterMs);
+    }
+
+    /**
+     * Record a sample timed by the send and receive stamps the invoker put on the
+     * request, so neither the rate limiter wait nor the parse counts in the round
+     * trip.
+     */
+    void addSample(RestApiRequest<?> request, Long serverTimeMs) {
+        if (serverTimeMs != null && request.sentTimeMs > 0) {
+            addSample(request.sentTimeMs, request.receivedTimeMs, serverTimeMs);
+        }
+    }
+
+    /**
+     * @return The local time corrected by the estimated server clock offset.
+     */
+    long currentTimeMillis() {
+        return System.currentTimeMillis() + offsetMs;
+    }
+
+    long getOffsetMs() {
+        return offsetMs;
+    }
+
+    long getDelayMs() {
+        return delayMs;
+    }
+
+    long getJitterMs() {
+        return jitterMs;
+    }
+
+    /**
+     * Call /fapi/v1/time and record the result as a sample.
+     *
+     * @return The server time.
+     */
+    long sample(RestApiInvoker invoker, RestApiRequestImpl requestImpl) {
+        RestApiRequest<Long> request = requestImpl.getServerTime();
+        Long serverTime = invoker.callSync(request);
+        addSample(request, serverTime);
+        return serverTime;
+    }
+
+    /**
+     * Sample the server time periodically on the shared daemon thread. The task
+     * only holds the client weakly, and stops once the client is collected.
+     */
+    synchronized void startSync(RestApiInvoker invoker, RestApiRequestImpl requestImpl, long intervalMs) {
+        if (sync != null) {
+            return;
+        }
+        WeakReference<RestApiRequestImpl> client = new WeakReference<>(requestImpl);
+        sync = SYNC_SCHEDULER.scheduleWithFixedDelay(() -> {
+            RestApiRequestImpl current = client.get();
+            if (current == null) {
+                stopSync();
+                return;
+            }
+            try {
+                sample(invoker, current);
+            } catch (Exception e) {
+                log.warn("[Time] Failed to sample server time: " + e.getMessage());
+            }
+        }, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void stopSync() {
+        if (sync != null) {
+            sync.cancel(false);
+            sync = null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.binance.client.impl;
+
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import com.binance.client.impl.utils.FrameScanner;
+import com.binance.client.impl.utils.JsonWrapper;
+import com.binance.client.model.StreamLatencyStats;
+
+/**
+ * The latency histograms of one subscription. The event time is read on the
+ * reader thread as a message comes in; the parse and listener times are taken
+ * by whichever thread delivers it.
+ */
+class StreamLatency {
+
+    private static final long MISSING = Long.MIN_VALUE;
+    private static final long NANOS_PER_MS = 1_000_000L;
+
+    private final String streamName;
+    private final LatencyHistogram exchangeToReceive = new LatencyHistogram();
+    private final LatencyHistogram receiveToParsed = new LatencyHistogram();
+    private final LatencyHistogram parsedToListenerDone = new LatencyHistogram();
+
+    StreamLatency(String streamName) {
+        this.streamName = streamName;
+    }
+
+    String getStreamName() {
+        return streamName;
+    }
+
+    /**
+     * Record the time from the event time "E" of a raw payload to its receipt.
+     * All market arrays share one event time, found in their first element.
+     */
+    void onReceived(String payload, long receivedTime) {
+        int from = payload.startsWith("[") ? payload.indexOf('{') : 0;
+        if (from >= 0) {
+            onReceived(FrameScanner.longField(payload, from, "E", MISSING), receivedTime);
+        }
+    }
+
+    /**
+     * Record the time from the event time "E" of a parsed payload to its receipt.
+     * Arrays come wrapped under "data".
+     */
+    void onReceived(JsonWrapper payload, long receivedTime) {
+        JSONObject json = payload.getJson();
+        Object data = json.get("data");
+        if (!json.containsKey("E") && data instanceof JSONArray && !((JSONArray) data).isEmpty()
+                && ((JSONArray) data).get(0) instanceof JSONObject) {
+            json = ((JSONArray) data).getJSONObject(0);
+        }
+        Long eventTime = json.getLong("E");
+        onReceived(eventTime != null ? eventTime : MISSING, receivedTime);
+    }
+
+    private void onReceived(long eventTime, long receivedTime) {
+        if (eventTime != MISSING) {
+            exchangeToReceive.record((receivedTime - eventTime) * NANOS_PER_MS);
+        }
+    }
+
+    void onDelivered(long receivedNanos, long parsedNanos, long doneNanos) {
+        receiveToParsed.record(parsedNanos - receivedNanos);
+        parsedToListenerDone.record(doneNanos - parsedNanos);
+    }
+
+    StreamLatencyStats snapshot(boolean reset) {
+        return new StreamLatencyStats(streamName, exchangeToReceive.snapshot(reset),
+                receiveToParsed.snapshot(reset), parsedToListenerDone.snapshot(reset));
+    }
+}
@@ -12,77 +12,88 @@ import java.util.List;
 public class SyncRequestImpl implements SyncRequestClient {
 
     private final RestApiRequestImpl requestImpl;
+    private final RestApiInvoker invoker;
 
-    SyncRequestImpl(RestApiRequestImpl requestImpl) {
+    SyncRequestImpl(RestApiRequestImpl requestImpl, RestApiInvoker invoker) {
         this.requestImpl = requestImpl;
+        this.invoker = invoker;
     }
 
     
+    @Override
+    public Long getServerTime() {
+        return requestImpl.getServerClock().sample(invoker, requestImpl);
+    }
+    
     @Override
     public ExchangeInformation getExchangeInformation() {
-        return RestApiInvoker.callSync(requestImpl.getExchangeInformation());
+        RestApiRequest<ExchangeInformation> request = requestImpl.getExchangeInformation();
+        ExchangeInformation exchangeInformation = invoker.callSync(request);
+        requestImpl.getServerClock().addSample(request, exchangeInformation.getServerTime());
+        invoker.updateRateLimits(exchangeInformation.getRateLimits());
+        return exchangeInformation;
     }
     
     @Override
     public OrderBook getOrderBook(String symbol, Integer limit) {
-        return RestApiInvoker.callSync(requestImpl.getOrderBook(symbol, limit));
+        return invoker.callSync(requestImpl.getOrderBook(symbol, limit));
     }
     
     @Override
     public List<Trade> getRecentTrades(String symbol, Integer limit) {
-        return RestApiInvoker.callSync(requestImpl.getRecentTrades(symbol, limit));
+        return invoker.callSync(requestImpl.getRecentTrades(symbol, limit));
     }
     
     @Override
     public List<Trade> getOldTrades(String symbol, Integer limit, Long fromId) {
-        return RestApiInvoker.callSync(requestImpl.getOldTrades(symbol, limit, fromId));
+        return invoker.callSync(requestImpl.getOldTrades(symbol, limit, fromId));
     }
     
     @Override
     public List<AggregateTrade> getAggregateTrades(String symbol, Long fromId, Long startTime, 
             Long endTime, Integer limit) {
-        return RestApiInvoker.callSync(requestImpl.getAggregateTrades(symbol, fromId, startTime, endTime, limit));
+        return invoker.callSync(requestImpl.getAggregateTrades(symbol, fromId, startTime, endTime, limit));
     }
     
     @Override
     public List<Candlestick> getCandlestick(String symbol, CandlestickInterval interval, Long startTime, 
             Long endTime, Integer limit) {
-        return RestApiInvoker.callSync(requestImpl.getCandlestick(symbol, interval, startTime, endTime, limit));
+        return invoker.callSync(requestImpl.getCandlestick(symbol, interval, startTime, endTime, limit));
     }
     
     @Override
     public List<MarkPrice> getMarkPrice(String symbol) {
-        return RestApiInvoker.callSync(requestImpl.getMarkPrice(symbol));
+        return invoker.callSync(requestImpl.getMarkPrice(symbol));
     }
     
     @Override
     public List<FundingRate> getFundingRate(String symbol, Long startTime, Long endTime, Integer limit) {
-        return RestApiInvoker.callSync(requestImpl.getFundingRate(symbol, startTime, endTime, limit));
+        return invoker.callSync(requestImpl.getFundingRate(symbol, startTime, endTime, limit));
     }
     
     @Override
     public List<PriceChangeTicker> get24hrTickerPriceChange(String symbol) {
-        return RestApiInvoker.callSync(requestImpl.get24hrTickerPriceChange(symbol));
+        return invoker.callSync(requestImpl.get24hrTickerPriceChange(symbol));
     }
     
     @Override
     public List<SymbolPrice> getSymbolPriceTicker(String symbol) {
-        return RestApiInvoker.callSync(requestImpl.getSymbolPriceTicker(symbol));
+        return invoker.callSync(requestImpl.getSymbolPriceTicker(symbol));
     }
     
     @Override
     public List<SymbolOrderBook> getSymbolOrderBookTicker(String symbol) {
-        return RestApiInvoker.callSync(requestImpl.getSymbolOrderBookTicker(symbol));
+        return invoker.callSync(requestImpl.getSymbolOrderBookTicker(symbol));
     }
     
     @Override
     public List<LiquidationOrder> getLiquidationOrders(String symbol, Long startTime, Long endTime, Integer limit) {
-        return RestApiInvoker.callSync(requestImpl.getLiquidationOrders(symbol, startTime, endTime, limit));
+        return invoker.callSync(requestImpl.getLiquidationOrders(symbol, startTime, endTime, limit));
     }
 
     @Override
     public List<Object> postBatchOrders(String batchOrders, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.postBatchOrders(batchOrders, timestamp));
+        return invoker.callSync(requestImpl.postBatchOrders(batchOrders, timestamp));
     }
     
     @Override
@@ -90,134 +101,134 @@ public class SyncRequestImpl implements SyncRequestClient {
             TimeInForce timeInForce, String quantity, String price, String reduceOnly,
             String newClientOrderId, String stopPrice, WorkingType workingType, NewOrderRespType newOrderRespType,
             String closePosition, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.postOrder(symbol, side, positionSide, orderType,
+        return invoker.callSync(requestImpl.postOrder(symbol, side, positionSide, orderType,
                 timeInForce, quantity, price, reduceOnly, 
                 newClientOrderId, stopPrice, workingType,newOrderRespType, closePosition, timestamp));
     }
     
     @Override
     public Order cancelOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.cancelOrder(symbol, orderId, origClientOrderId, timestamp));
+        return invoker.callSync(requestImpl.cancelOrder(symbol, orderId, origClientOrderId, timestamp));
     }
 
     @Override
     public ResponseResult cancelAllOpenOrder(String symbol, Long timestamp) {
-      return RestApiInvoker.callSync(requestImpl.cancelAllOpenOrder(symbol, timestamp));
+      return invoker.callSync(requestImpl.cancelAllOpenOrder(symbol, timestamp));
     }
 
     @Override
     public List<Object> batchCancelOrders(String symbol, String orderIdList, String origClientOrderIdList, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.batchCancelOrders(symbol, orderIdList, origClientOrderIdList, timestamp));
+        return invoker.callSync(requestImpl.batchCancelOrders(symbol, orderIdList, origClientOrderIdList, timestamp));
     }
 
     @Override
     public ResponseResult changePositionSide(boolean dual, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.changePositionSide(dual, timestamp));
+        return invoker.callSync(requestImpl.changePositionSide(dual, timestamp));
     }
 
     @Override
     public ResponseResult changeMarginType(String symbolName, String marginType, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.changeMarginType(symbolName, marginType, timestamp));
+        return invoker.callSync(requestImpl.changeMarginType(symbolName, marginType, timestamp));
     }
 
     @Override
     public JSONObject addIsolatedPositionMargin(String symbolName, int type, String amount, PositionSide positionSide, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.addPositionMargin(symbolName, type, amount, positionSide, timestamp));
+        return invoker.callSync(requestImpl.addPositionMargin(symbolName, type, amount, positionSide, timestamp));
     }
 
     @Override
     public List<WalletDeltaLog> getPositionMarginHistory(String symbolName, int type, long startTime, long endTime, int limit) {
-        return RestApiInvoker.callSync(requestImpl.getPositionMarginHistory(symbolName, type, startTime, endTime, limit));
+        return invoker.callSync(requestImpl.getPositionMarginHistory(symbolName, type, startTime, endTime, limit));
     }
 
 
     @Override
     public JSONObject getPositionSide(Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getPositionSide(timestamp));
+        return invoker.callSync(requestImpl.getPositionSide(timestamp));
     }
 
     @Override
     public Order getOrder(String symbol, Long orderId, String origClientOrderId, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getOrder(symbol, orderId, origClientOrderId, timestamp));
+        return invoker.callSync(requestImpl.getOrder(symbol, orderId, origClientOrderId, timestamp));
     }
     
     @Override
     public List<Order> getOpenOrders(String symbol, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getOpenOrders(symbol, timestamp));
+        return invoker.callSync(requestImpl.getOpenOrders(symbol, timestamp));
     }
     
     @Override
     public List<Order> getAllOrders(String symbol, Long orderId, Long startTime, Long endTime, Integer limit, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getAllOrders(symbol, orderId, startTime, endTime, limit, timestamp));
+        return invoker.callSync(requestImpl.getAllOrders(symbol, orderId, startTime, endTime, limit, timestamp));
     }
     
     @Override
     public List<AccountBalance> getBalance(Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getBalance(timestamp));
+        return invoker.callSync(requestImpl.getBalance(timestamp));
     }
     
     @Override
     public AccountInformation getAccountInformation(Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getAccountInformation(timestamp));
+        return invoker.callSync(requestImpl.getAccountInformation(timestamp));
     }
     
     @Override
     public Leverage changeInitialLeverage(String symbol, Integer leverage, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.changeInitialLeverage(symbol, leverage, timestamp));
+        return invoker.callSync(requestImpl.changeInitialLeverage(symbol, leverage, timestamp));
     }
     
     @Override
     public List<PositionRisk> getPositionRisk(String symbol, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getPositionRisk(symbol, timestamp));
+        return invoker.callSync(requestImpl.getPositionRisk(symbol, timestamp));
     }
     
     @Override
     public List<MyTrade> getAccountTrades(String symbol, Long startTime, Long endTime, Long fromId, Integer limit, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getAccountTrades(symbol, startTime, endTime, fromId, limit, timestamp));
+        return invoker.callSync(requestImpl.getAccountTrades(symbol, startTime, endTime, fromId, limit, timestamp));
     }
     
     @Override
     public List<Income> getIncomeHistory(String symbol, IncomeType incomeType, Long startTime, Long endTime, Integer limit, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getIncomeHistory(symbol, incomeType, startTime, endTime, limit, timestamp));
+        return invoker.callSync(requestImpl.getIncomeHistory(symbol, incomeType, startTime, endTime, limit, timestamp));
     }
     
     @Override
     public String startUserDataStream(Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.startUserDataStream(timestamp));
+        return invoker.callSync(requestImpl.startUserDataStream(timestamp));
     }
     
     @Override
     public String keepUserDataStream(String listenKey, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.keepUserDataStream(listenKey, timestamp));
+        return invoker.callSync(requestImpl.keepUserDataStream(listenKey, timestamp));
     }
     
     @Override
     public String closeUserDataStream(String listenKey, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.closeUserDataStream(listenKey, timestamp));
+        return invoker.callSync(requestImpl.closeUserDataStream(listenKey, timestamp));
     }
 
     @Override
     public List<OpenInterestStat> getOpenInterestStat(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getOpenInterestStat(symbol, period, startTime, endTime, limit, timestamp));
+        return invoker.callSync(requestImpl.getOpenInterestStat(symbol, period, startTime, endTime, limit, timestamp));
     }
 
     @Override
     public List<CommonLongShortRatio> getTopTraderAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getTopTraderAccountRatio(symbol, period, startTime, endTime, limit, timestamp));
+        return invoker.callSync(requestImpl.getTopTraderAccountRatio(symbol, period, startTime, endTime, limit, timestamp));
     }
 
     @Override
     public List<CommonLongShortRatio> getTopTraderPositionRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getTopTraderPositionRatio(symbol, period, startTime, endTime, limit, timestamp));
+        return invoker.callSync(requestImpl.getTopTraderPositionRatio(symbol, period, startTime, endTime, limit, timestamp));
     }
 
     @Override
     public List<CommonLongShortRatio> getGlobalAccountRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getGlobalAccountRatio(symbol, period, startTime, endTime, limit, timestamp));
+        return invoker.callSync(requestImpl.getGlobalAccountRatio(symbol, period, startTime, endTime, limit, timestamp));
     }
 
     @Override
     public List<TakerLongShortStat> getTakerLongShortRatio(String symbol, PeriodType period, Long startTime, Long endTime, Integer limit, Long timestamp) {
-        return RestApiInvoker.callSync(requestImpl.getTakerLongShortRatio(symbol, period, startTime, endTime, limit, timestamp));
+        return invoker.callSync(requestImpl.getTakerLongShortRatio(symbol, period, startTime, endTime, limit, timestamp));
     }
 }
@@ -7,9 +7,28 @@ import okhttp3.WebSocketListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.alibaba.fastjson.JSONObject;
+import com.binance.client.ClientMetrics;
 import com.binance.client.constant.BinanceApiConstants;
 import com.binance.client.exception.BinanceApiException;
+import com.binance.client.impl.utils.Channels;
+import com.binance.client.impl.utils.FrameScanner;
 import com.binance.client.impl.utils.JsonWrapper;
+import com.binance.client.model.DispatchQueueStats;
+import com.binance.client.model.enums.DispatchOverflowPolicy;
+import com.binance.client.model.enums.ReconnectPriority;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class WebSocketConnection extends WebSocketListener {
 
@@ -17,6 +36,12 @@ public class WebSocketConnection extends WebSocketListener {
 
     private static int connectionCounter = 0;
 
+    private static final long REQUEST_TIMEOUT_MS = 10_000L;
+    // Streams added or removed within one wheel tick share a request, and requests
+    // go out at most every 200 ms, under the server's 10 messages per second.
+    private static final long BATCH_WINDOW_MS = 10L;
+    private static final long CONTROL_FRAME_INTERVAL_MS = 200L;
+
     public enum ConnectionState {
         IDLE, DELAY_CONNECT, CONNECTED, CLOSED_ON_ERROR
     }
@@ -24,63 +49,435 @@ public class WebSocketConnection extends WebSocketListener {
     private WebSocket webSocket = null;
 
     private volatile long lastReceivedTime = 0;
+    // The nanoTime of the frame being handled, read by the reader thread only.
+    private long receivedNanos = 0;
+    private volatile long openedTime = 0;
 
     private volatile ConnectionState state = ConnectionState.IDLE;
-    private int delayInSecond = 0;
 
     private final WebsocketRequest request;
+    private final Map<String, List<WebsocketRequest<?>>> streams;
+    private final Map<String, CompletableFuture<Void>> subscriptions;
+    private final Map<Long, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final Deque<Batch> outbox = new ArrayDeque<>();
+    private TimingWheel.Timeout flushTimeout = null;
+    private long lastControlFrameTime = 0;
+    private final CompletableFuture<Void> subscribed = new CompletableFuture<>();
+    private DispatchStage dispatchStage = null;
+    private boolean sharedDispatchStage = false;
+    private FeedArbiter.Leg leg = null;
     private final Request okhttpRequest;
     private final WebSocketWatchDog watchDog;
+    private final RestApiInvoker invoker;
+    private final ClientMetrics metrics;
     private final int connectionId;
     private final boolean autoClose;
 
-    private String subscriptionUrl = BinanceApiConstants.WS_API_BASE_URL;
+    private final String subscriptionUrl;
 
-    WebSocketConnection(WebsocketRequest request,
+    WebSocketConnection(WebsocketRequest request, RestApiInvoker invoker,
             WebSocketWatchDog watchDog) {
-        this(request, watchDog, false);
+        this(request, invoker, watchDog, false);
+    }
+
+    WebSocketConnection(WebsocketRequest request, RestApiInvoker invoker, WebSocketWatchDog watchDog,
+            boolean autoClose) {
+        this(request, invoker, watchDog, autoClose, BinanceApiConstants.WS_API_BASE_URL);
     }
 
-    WebSocketConnection(WebsocketRequest request, WebSocketWatchDog watchDog, boolean autoClose) {
+    WebSocketConnection(WebsocketRequest request, RestApiInvoker invoker, WebSocketWatchDog watchDog,
+            boolean autoClose, String subscriptionUrl) {
         this.connectionId = WebSocketConnection.connectionCounter++;
         this.request = request;
         this.autoClose = autoClose;
+        this.subscriptionUrl = subscriptionUrl;
+
+        this.streams = null;
+        this.subscriptions = null;
 
         this.okhttpRequest = request.authHandler == null ? new Request.Builder().url(subscriptionUrl).build()
                 : new Request.Builder().url(subscriptionUrl).build();
         this.watchDog = watchDog;
+        this.invoker = invoker;
+        this.metrics = invoker != null ? invoker.getMetrics() : ClientMetrics.NOOP;
         log.info("[Sub] Connection [id: " + this.connectionId + "] created for " + request.name);
     }
 
+    /**
+     * Create a connection to the combined stream endpoint carrying several
+     * streams. Frames are routed to the request of their stream name.
+     */
+    WebSocketConnection(RestApiInvoker invoker, WebSocketWatchDog watchDog) {
+        this(invoker, watchDog, BinanceApiConstants.WS_COMBINED_API_BASE_URL);
+    }
+
+    WebSocketConnection(RestApiInvoker invoker, WebSocketWatchDog watchDog, String subscriptionUrl) {
+        this.connectionId = WebSocketConnection.connectionCounter++;
+        this.request = null;
+        this.autoClose = false;
+        this.streams = new ConcurrentHashMap<>();
+        this.subscriptions = new ConcurrentHashMap<>();
+        this.subscriptionUrl = subscriptionUrl;
+        this.okhttpRequest = new Request.Builder().url(subscriptionUrl).build();
+        this.watchDog = watchDog;
+        this.invoker = invoker;
+        this.metrics = invoker != null ? invoker.getMetrics() : ClientMetrics.NOOP;
+        log.info("[Sub] Connection [id: " + this.connectionId + "] created for multiplexed streams");
+    }
+
+    boolean isMultiplexed() {
+        return streams != null;
+    }
+
+    /**
+     * @return The number of distinct streams carried by a multiplexed connection.
+     */
+    int getStreamCount() {
+        return streams != null ? streams.size() : 1;
+    }
+
+    /**
+     * @return The reconnect priority of the connection's stream, the highest
+     *         of its streams on a multiplexed connection.
+     */
+    ReconnectPriority getReconnectPriority() {
+        if (streams == null) {
+            return request.reconnectPriority;
+        }
+        ReconnectPriority priority = ReconnectPriority.LOW;
+        for (List<WebsocketRequest<?>> requests : streams.values()) {
+            for (WebsocketRequest<?> streamRequest : requests) {
+                if (streamRequest.reconnectPriority.compareTo(priority) < 0) {
+                    priority = streamRequest.reconnectPriority;
+                }
+            }
+        }
+        return priority;
+    }
+
+    /**
+     * A SUBSCRIBE or UNSUBSCRIBE request waiting for the server's response.
+     */
+    private static final class PendingRequest {
+
+        final String method;
+        final TimingWheel.Timeout timeout;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        PendingRequest(String method, TimingWheel.Timeout timeout) {
+            this.method = method;
+            this.timeout = timeout;
+        }
+    }
+
+    /**
+     * The streams of one SUBSCRIBE or UNSUBSCRIBE request waiting to be sent, with
+     * the futures completed by its response.
+     */
+    private static final class Batch {
+
+        final String method;
+        final Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+
+        Batch(String method) {
+            this.method = method;
+        }
+    }
+
+    /**
+     * Hand the messages to the dispatcher's threads instead of calling the
+     * listeners on the reader thread. Must be called before connecting.
+     */
+    void attachDispatcher(WebSocketDispatcher dispatcher) {
+        this.dispatchStage = dispatcher.register(connectionId, this::onReceive, this::onReceiveRaw);
+    }
+
+    /**
+     * Queue the events on the dispatch stage of another leg of the same redundant
+     * subscription, so one dispatch thread calls the listener, in the order the
+     * arbiter passed the events on. Must be called before connecting.
+     */
+    void shareDispatchStage(WebSocketConnection leg) {
+        this.dispatchStage = leg.dispatchStage;
+        this.sharedDispatchStage = true;
+    }
+
+    /**
+     * Make the connection a leg of a redundant subscription: only the events it
+     * receives before the other legs are passed on. Must be called before
+     * connecting.
+     */
+    void setLeg(FeedArbiter.Leg leg) {
+        this.leg = leg;
+    }
+
+    boolean isLeg() {
+        return leg != null;
+    }
+
+    /**
+     * @return The arbiter of the redundant subscription, or null if the
+     *         connection is not a leg.
+     */
+    FeedArbiter getArbiter() {
+        return leg != null ? leg.getArbiter() : null;
+    }
+
+    /**
+     * @return The dispatch queue statistics, or null without a dispatcher or if
+     *         the stage belongs to another leg.
+     */
+    DispatchQueueStats getDispatchStats() {
+        return dispatchStage != null && !sharedDispatchStage ? dispatchStage.getStats() : null;
+    }
+
+    /**
+     * @return True if the connection carries the stream.
+     */
+    boolean hasStream(String streamName) {
+        if (streams != null) {
+            return streams.containsKey(streamKey(streamName));
+        }
+        return request.streamName != null && request.streamName.equalsIgnoreCase(streamName);
+    }
+
+    /**
+     * @return The requests of the stream on the connection, empty if it does not
+     *         carry it.
+     */
+    List<WebsocketRequest<?>> getRequests(String streamName) {
+        if (streams != null) {
+            List<WebsocketRequest<?>> requests = streams.get(streamKey(streamName));
+            return requests != null ? new ArrayList<>(requests) : Collections.emptyList();
+        }
+        return hasStream(streamName) ? Collections.singletonList(request) : Collections.emptyList();
+    }
+
+    /**
+     * @return The future of a single stream connection, completed when the server
+     *         acknowledges its subscription.
+     */
+    CompletableFuture<Void> getSubscribedFuture() {
+        return subscribed;
+    }
+
+    /**
+     * Add a stream to a multiplexed connection. It is subscribed with the next
+     * batch when the connection is open, otherwise with the other streams once it
+     * opens.
+     *
+     * @return A future completed when the server acknowledges the subscription.
+     */
+    CompletableFuture<Void> addStream(WebsocketRequest<?> streamRequest) {
+        String key = streamKey(streamRequest.streamName);
+        streamRequest.lastReceivedTime = System.currentTimeMillis();
+        streams.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(streamRequest);
+        log.info("[Sub][" + this.connectionId + "] Added " + streamRequest.name);
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> existing = subscriptions.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        if (state == ConnectionState.CONNECTED) {
+            queueRequest("SUBSCRIBE", streamRequest.streamName, created);
+        }
+        return created;
+    }
+
+    /**
+     * Remove a stream and all its listeners from a multiplexed connection, and
+     * unsubscribe it with the next batch if the connection is open.
+     *
+     * @return A future completed when the server acknowledges the unsubscription.
+     */
+    CompletableFuture<Void> removeStream(String streamName) {
+        String key = streamKey(streamName);
+        List<WebsocketRequest<?>> removed = streams.remove(key);
+        CompletableFuture<Void> subscription = subscriptions.remove(key);
+        if (removed == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        log.info("[Sub][" + this.connectionId + "] Removed " + streamName);
+        if (subscription != null) {
+            subscription.completeExceptionally(new BinanceApiException(BinanceApiException.SUBSCRIPTION_ERROR,
+                    "[Sub] Stream " + streamName + " is unsubscribed"));
+        }
+        if (state != ConnectionState.CONNECTED) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> unsubscribed = new CompletableFuture<>();
+        queueRequest("UNSUBSCRIBE", removed.get(0).streamName, unsubscribed);
+        return unsubscribed;
+    }
+
+    /**
+     * Queue a stream for the next request of the given method. Streams queued in
+     * a row with the same method go out as one request, and the requests are sent
+     * in order, paced to one per {@link #CONTROL_FRAME_INTERVAL_MS}.
+     */
+    private void queueRequest(String method, String name, CompletableFuture<Void> future) {
+        synchronized (outbox) {
+            Batch batch = outbox.peekLast();
+            if (batch == null || !batch.method.equals(method)) {
+                batch = new Batch(method);
+                outbox.addLast(batch);
+            }
+            CompletableFuture<Void> previous = batch.futures.put(name, future);
+            if (previous != null && previous != future) {
+                link(future, previous);
+            }
+            scheduleFlush(BATCH_WINDOW_MS);
+        }
+    }
+
+    /**
+     * Must be called holding the outbox lock.
+     */
+    private void scheduleFlush(long delayMs) {
+        if (flushTimeout == null) {
+            flushTimeout = TimingWheel.shared().schedule(this::flush, delayMs);
+        }
+    }
+
+    /**
+     * Send the oldest queued request if the pacing allows, and schedule the next.
+     */
+    private void flush() {
+        Batch batch;
+        synchronized (outbox) {
+            flushTimeout = null;
+            if (outbox.isEmpty()) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long waitMs = lastControlFrameTime + CONTROL_FRAME_INTERVAL_MS - now;
+            if (waitMs > 0) {
+                scheduleFlush(waitMs);
+                return;
+            }
+            batch = outbox.pollFirst();
+            lastControlFrameTime = now;
+            if (!outbox.isEmpty()) {
+                scheduleFlush(CONTROL_FRAME_INTERVAL_MS);
+            }
+        }
+        if (state != ConnectionState.CONNECTED) {
+            drop(batch);
+            return;
+        }
+        CompletableFuture<Void> ack = sendRequest(batch.method, new ArrayList<>(batch.futures.keySet()));
+        batch.futures.values().forEach(future -> link(ack, future));
+    }
+
+    private void dropQueuedRequests() {
+        List<Batch> dropped;
+        synchronized (outbox) {
+            dropped = new ArrayList<>(outbox);
+            outbox.clear();
+            if (flushTimeout != null) {
+                flushTimeout.cancel();
+                flushTimeout = null;
+            }
+        }
+        dropped.forEach(WebSocketConnection::drop);
+    }
+
+    /**
+     * Give up a queued request with its socket. Unsubscribed streams are gone with
+     * the socket, and subscribed ones are subscribed again, linked to the same
+     * futures, when the connection opens.
+     */
+    private static void drop(Batch batch) {
+        if ("UNSUBSCRIBE".equals(batch.method)) {
+            batch.futures.values().forEach(future -> future.complete(null));
+        }
+    }
+
+    /**
+     * Send a request with the next request id and track it until the server
+     * responds.
+     */
+    private CompletableFuture<Void> sendRequest(String method, List<String> names) {
+        long id = Channels.nextRequestId();
+        PendingRequest pending = new PendingRequest(method,
+                TimingWheel.shared().schedule(() -> expireRequest(id), REQUEST_TIMEOUT_MS));
+        pendingRequests.put(id, pending);
+        send(Channels.request(method, id, names));
+        return pending.future;
+    }
+
+    private static void link(CompletableFuture<Void> source, CompletableFuture<Void> target) {
+        source.whenComplete((result, e) -> {
+            if (e != null) {
+                target.completeExceptionally(e);
+            } else {
+                target.complete(null);
+            }
+        });
+    }
+
+    /**
+     * Fail a request the server has not answered in time.
+     */
+    private void expireRequest(long id) {
+        PendingRequest pending = pendingRequests.remove(id);
+        if (pending != null) {
+            pending.future.completeExceptionally(new BinanceApiException(BinanceApiException.SUBSCRIPTION_ERROR,
+                    "[Sub] No response to " + pending.method + " request " + id));
+        }
+    }
+
+    /**
+     * @param defaultLimitMs The receive limit of the streams without their own.
+     * @return The time by which the connection must receive a message. On a
+     *         multiplexed connection, also the earliest deadline of the streams
+     *         with their own limit, each counted from its last message.
+     */
+    long getSilenceDeadline(int defaultLimitMs) {
+        if (streams == null) {
+            return lastReceivedTime + (request.receiveLimitMs > 0 ? request.receiveLimitMs : defaultLimitMs);
+        }
+        long deadline = lastReceivedTime + defaultLimitMs;
+        for (List<WebsocketRequest<?>> requests : streams.values()) {
+            if (requests.isEmpty()) {
+                continue;
+            }
+            WebsocketRequest<?> streamRequest = requests.get(0);
+            if (streamRequest.receiveLimitMs > 0) {
+                deadline = Math.min(deadline,
+                        Math.max(streamRequest.lastReceivedTime, openedTime) + streamRequest.receiveLimitMs);
+            }
+        }
+        return deadline;
+    }
+
+    private static String streamKey(String streamName) {
+        return streamName.toLowerCase(Locale.ROOT);
+    }
+
     int getConnectionId() {
         return this.connectionId;
     }
 
-    void connect() {
+    synchronized void connect() {
         if (state == ConnectionState.CONNECTED) {
             log.info("[Sub][" + this.connectionId + "] Already connected");
             return;
         }
         log.info("[Sub][" + this.connectionId + "] Connecting...");
-        webSocket = RestApiInvoker.createWebSocket(okhttpRequest, this);
+        webSocket = invoker.createWebSocket(okhttpRequest, this);
     }
 
-    void reConnect(int delayInSecond) {
-        log.warn("[Sub][" + this.connectionId + "] Reconnecting after " + delayInSecond + " seconds later");
+    /**
+     * Drop the connection and leave it to the watchdog to connect again.
+     */
+    synchronized void reConnect() {
         if (webSocket != null) {
             webSocket.cancel();
             webSocket = null;
         }
-        this.delayInSecond = delayInSecond;
         state = ConnectionState.DELAY_CONNECT;
-    }
-
-    void reConnect() {
-        if (delayInSecond != 0) {
-            delayInSecond--;
-        } else {
-            connect();
-        }
+        watchDog.onConnectionLost(this);
     }
 
     long getLastReceivedTime() {
@@ -103,50 +500,290 @@ public class WebSocketConnection extends WebSocketListener {
     public void onMessage(WebSocket webSocket, String text) {
         super.onMessage(webSocket, text);
         lastReceivedTime = System.currentTimeMillis();
+        receivedNanos = System.nanoTime();
 
         log.debug("[On Message]:{}", text);
         try {
-            JsonWrapper jsonWrapper = JsonWrapper.parseFromString(text);
-
-            if (jsonWrapper.containKey("result") || jsonWrapper.containKey("id")) {
-                // onReceiveAndClose(jsonWrapper);
-            } else {
-                onReceiveAndClose(jsonWrapper);
+            if (leg == null || FrameScanner.field(text, "id") != null) {
+                onText(text);
+                return;
             }
-
+            synchronized (leg.getArbiter()) {
+                if (!leg.accept(text)) {
+                    return;
+                }
+                // Only queue the raw frame under the lock; the dispatch thread the legs
+                // share parses it and calls the listener.
+                if (isConflatedLatest(request)) {
+                    dispatchStage.dispatchLatest(request, text, receivedNanos);
+                } else {
+                    dispatchStage.dispatchRaw(request, text, receivedNanos);
+                }
+            }
+            received(request, text);
         } catch (Exception e) {
             log.error("[On Message][{}]: catch exception:", connectionId, e);
             closeOnError();
         }
     }
 
+    private void onText(String text) {
+        if (dispatchStage != null && dispatchLatest(text)) {
+            return;
+        }
+        if (deliverText(text)) {
+            return;
+        }
+        JsonWrapper jsonWrapper = JsonWrapper.parseFromString(text);
+
+        if (streams != null && jsonWrapper.containKey("stream")) {
+            onCombinedMessage(jsonWrapper);
+        } else if (jsonWrapper.containKey("result") || jsonWrapper.containKey("id")) {
+            onResponse(jsonWrapper);
+        } else if (streams == null) {
+            onReceiveAndClose(jsonWrapper);
+        }
+    }
+
+    /**
+     * Hand the frame of a conflating latest-value subscription to the dispatch
+     * stage as raw text. Only the stream name is looked up here; the payload is
+     * parsed by the dispatch thread if it is still the newest of its symbol.
+     *
+     * @return False if the frame takes the regular path.
+     */
+    private boolean dispatchLatest(String text) {
+        if (streams == null) {
+            if (!isConflatedLatest(request) || FrameScanner.field(text, "id") != null) {
+                return false;
+            }
+            received(request, text);
+            dispatchStage.dispatchLatest(request, text, receivedNanos);
+            return true;
+        }
+        String streamName = FrameScanner.stringField(text, "stream");
+        List<WebsocketRequest<?>> requests = streamName != null ? streams.get(streamKey(streamName)) : null;
+        if (requests == null || requests.isEmpty() || !isConflatedLatest(requests.get(0))) {
+            return false;
+        }
+        String data = FrameScanner.field(text, "data");
+        if (data == null) {
+            return false;
+        }
+        requests.get(0).lastReceivedTime = lastReceivedTime;
+        for (WebsocketRequest<?> streamRequest : requests) {
+            received(streamRequest, data);
+            dispatchStage.dispatchLatest(streamRequest, data, receivedNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Hand the frame of a subscription with a frame parser to it as text, so the
+     * frame is never turned into a JSON tree.
+     *
+     * @return False if the frame takes the regular path.
+     */
+    private boolean deliverText(String text) {
+        if (streams == null) {
+            if (request.frameParser == null || FrameScanner.field(text, "id") != null) {
+                return false;
+            }
+            deliverText(request, text);
+            return true;
+        }
+        String streamName = FrameScanner.stringField(text, "stream");
+        List<WebsocketRequest<?>> requests = streamName != null ? streams.get(streamKey(streamName)) : null;
+        if (requests == null || requests.isEmpty() || requests.get(0).frameParser == null) {
+            return false;
+        }
+        String data = FrameScanner.field(text, "data");
+        if (data == null) {
+            return false;
+        }
+        requests.get(0).lastReceivedTime = lastReceivedTime;
+        for (WebsocketRequest<?> streamRequest : requests) {
+            deliverText(streamRequest, data);
+        }
+        return true;
+    }
+
+    private void deliverText(WebsocketRequest<?> target, String payload) {
+        received(target, payload);
+        if (dispatchStage != null) {
+            dispatchStage.dispatchRaw(target, payload, receivedNanos);
+        } else {
+            onReceiveRaw(target, payload, receivedNanos);
+        }
+    }
+
+    private void received(WebsocketRequest<?> target, String payload) {
+        metrics.onMessage(target.streamName);
+        if (target.latency != null) {
+            target.latency.onReceived(payload, lastReceivedTime);
+        }
+    }
+
+    private void received(WebsocketRequest<?> target, JsonWrapper payload) {
+        metrics.onMessage(target.streamName);
+        if (target.latency != null) {
+            target.latency.onReceived(payload, lastReceivedTime);
+        }
+    }
+
+    private static boolean isConflatedLatest(WebsocketRequest<?> target) {
+        return target.latestValue && target.overflowPolicy == DispatchOverflowPolicy.CONFLATE;
+    }
+
+    /**
+     * Parse and deliver a payload kept as raw text, with the frame parser of the
+     * subscription if it has one.
+     */
+    @SuppressWarnings("unchecked")
+    private void onReceiveRaw(WebsocketRequest target, String payload, long receivedNanos) {
+        if (target.frameParser != null) {
+            Object obj = null;
+            try {
+                obj = target.frameParser.parseFrame(payload);
+            } catch (Exception e) {
+                onError(target, "Failed to parse server's response: " + e.getMessage(), e);
+                log.error("[Sub][" + this.connectionId + "] Failed to parse server's response: " + e.getMessage());
+            }
+            callListener(target, obj, receivedNanos);
+            return;
+        }
+        JsonWrapper jsonWrapper;
+        try {
+            jsonWrapper = JsonWrapper.parseFromString(payload);
+        } catch (Exception e) {
+            onError(target, "Failed to parse server's response: " + e.getMessage(), e);
+            log.error("[Sub][" + this.connectionId + "] Failed to parse server's response: " + e.getMessage());
+            return;
+        }
+        onReceive(target, jsonWrapper, receivedNanos);
+    }
+
+    /**
+     * Complete the request a response belongs to. Errors come either as
+     * {"error": {"code", "msg"}, "id"} or as {"code", "msg", "id"}.
+     */
+    private void onResponse(JsonWrapper jsonWrapper) {
+        BinanceApiException error = null;
+        if (jsonWrapper.containKey("error")) {
+            JsonWrapper detail = jsonWrapper.getJsonObject("error");
+            error = new BinanceApiException(BinanceApiException.SUBSCRIPTION_ERROR,
+                    "[Sub] " + detail.getStringOrDefault("code", "") + ": " + detail.getStringOrDefault("msg", ""));
+        } else if (jsonWrapper.containKey("code")) {
+            error = new BinanceApiException(BinanceApiException.SUBSCRIPTION_ERROR,
+                    "[Sub] " + jsonWrapper.getString("code") + ": " + jsonWrapper.getStringOrDefault("msg", ""));
+        }
+        if (error != null) {
+            log.error("[Sub][" + this.connectionId + "] Request failed " + error.getMessage());
+        }
+        if (streams == null) {
+            complete(subscribed, error);
+        }
+        Object id = jsonWrapper.getJson().get("id");
+        PendingRequest pending = id instanceof Number ? pendingRequests.remove(((Number) id).longValue()) : null;
+        if (pending != null) {
+            pending.timeout.cancel();
+            complete(pending.future, error);
+        }
+    }
+
+    private static void complete(CompletableFuture<Void> future, BinanceApiException error) {
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(null);
+        }
+    }
+
+    /**
+     * Route a combined stream frame, {"stream": name, "data": payload}, to the
+     * requests of its stream. Array payloads are passed with their "data" key, the
+     * way single stream frames holding an array are wrapped.
+     */
+    private void onCombinedMessage(JsonWrapper jsonWrapper) {
+        List<WebsocketRequest<?>> requests = streams.get(streamKey(jsonWrapper.getString("stream")));
+        if (requests == null || requests.isEmpty()) {
+            log.debug("[Sub][{}] Drop frame of unknown stream {}", connectionId, jsonWrapper.getString("stream"));
+            return;
+        }
+        requests.get(0).lastReceivedTime = lastReceivedTime;
+        JsonWrapper data = jsonWrapper.getJson().get("data") instanceof JSONObject
+                ? jsonWrapper.getJsonObject("data") : jsonWrapper;
+        for (WebsocketRequest<?> streamRequest : requests) {
+            deliver(streamRequest, data);
+        }
+    }
+
     private void onError(String errorMessage, Throwable e) {
-        if (request.errorHandler != null) {
-            BinanceApiException exception = new BinanceApiException(BinanceApiException.SUBSCRIPTION_ERROR, errorMessage, e);
-            request.errorHandler.onError(exception);
+        if (streams != null) {
+            streams.values().forEach(requests -> requests.forEach(
+                    streamRequest -> onError(streamRequest, errorMessage, e)));
+        } else {
+            onError(request, errorMessage, e);
         }
         log.error("[Sub][" + this.connectionId + "] " + errorMessage);
     }
 
+    private void onError(WebsocketRequest<?> target, String errorMessage, Throwable e) {
+        metrics.onError(target.streamName, BinanceApiException.SUBSCRIPTION_ERROR);
+        if (target.errorHandler != null) {
+            BinanceApiException exception = new BinanceApiException(BinanceApiException.SUBSCRIPTION_ERROR, errorMessage, e);
+            target.errorHandler.onError(exception);
+        }
+    }
+
+    private void deliver(WebsocketRequest<?> target, JsonWrapper jsonWrapper) {
+        received(target, jsonWrapper);
+        if (dispatchStage != null) {
+            dispatchStage.dispatch(target, jsonWrapper, receivedNanos);
+        } else {
+            onReceive(target, jsonWrapper, receivedNanos);
+        }
+    }
+
     private void onReceiveAndClose(JsonWrapper jsonWrapper) {
-        onReceive(jsonWrapper);
+        deliver(request, jsonWrapper);
         if (autoClose) {
             close();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void onReceive(JsonWrapper jsonWrapper) {
+    private void onReceive(WebsocketRequest target, JsonWrapper jsonWrapper, long receivedNanos) {
         Object obj = null;
         try {
-            obj = request.jsonParser.parseJson(jsonWrapper);
+            obj = target.jsonParser.parseJson(jsonWrapper);
         } catch (Exception e) {
-            onError("Failed to parse server's response: " + e.getMessage(), e);
+            onError(target, "Failed to parse server's response: " + e.getMessage(), e);
+            log.error("[Sub][" + this.connectionId + "] Failed to parse server's response: " + e.getMessage());
         }
+        callListener(target, obj, receivedNanos);
+    }
+
+    /**
+     * Call the listener, timing the parse before it and the listener itself if
+     * the subscription tracks its latency.
+     */
+    private void callListener(WebsocketRequest<?> target, Object obj, long receivedNanos) {
+        StreamLatency latency = target.latency;
+        long parsedNanos = latency != null ? System.nanoTime() : 0;
+        callListener(target, obj);
+        if (latency != null) {
+            latency.onDelivered(receivedNanos, parsedNanos, System.nanoTime());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void callListener(WebsocketRequest target, Object obj) {
         try {
-            request.updateCallback.onReceive(obj);
+            target.updateCallback.onReceive(obj);
         } catch (Exception e) {
-            onError("Process error: " + e.getMessage() + " You should capture the exception in your error handler", e);
+            onError(target, "Process error: " + e.getMessage()
+                    + " You should capture the exception in your error handler", e);
+            log.error("[Sub][" + this.connectionId + "] Process error: " + e.getMessage());
         }
     }
 
@@ -156,17 +793,44 @@ public class WebSocketConnection extends WebSocketListener {
 
     public void close() {
         log.info("[Sub][" + this.connectionId + "] Closing normally");
-        webSocket.cancel();
-        webSocket = null;
+        if (webSocket != null) {
+            webSocket.cancel();
+            webSocket = null;
+        }
         watchDog.onClosedNormally(this);
+        if (dispatchStage != null) {
+            dispatchStage.close();
+        }
+        BinanceApiException closed = new BinanceApiException(BinanceApiException.SUBSCRIPTION_ERROR,
+                "[Sub] Connection is closed");
+        pendingRequests.values().forEach(pending -> {
+            pending.timeout.cancel();
+            pending.future.completeExceptionally(closed);
+        });
+        pendingRequests.clear();
+        dropQueuedRequests();
+        if (subscriptions != null) {
+            subscriptions.values().forEach(future -> future.completeExceptionally(closed));
+        }
+        subscribed.completeExceptionally(closed);
     }
 
+    /**
+     * A close from the server, like the one every 24 hours, is handled as a lost
+     * connection.
+     */
     @Override
-    public void onClosed(WebSocket webSocket, int code, String reason) {
+    public synchronized void onClosed(WebSocket webSocket, int code, String reason) {
         super.onClosed(webSocket, code, reason);
+        if (webSocket != this.webSocket) {
+            return;
+        }
+        this.webSocket = null;
         if (state == ConnectionState.CONNECTED) {
             state = ConnectionState.IDLE;
         }
+        log.warn("[Sub][" + this.connectionId + "] Closed by server: " + code + " " + reason);
+        watchDog.onConnectionLost(this);
     }
 
     @SuppressWarnings("unchecked")
@@ -175,25 +839,62 @@ public class WebSocketConnection extends WebSocketListener {
         super.onOpen(webSocket, response);
         this.webSocket = webSocket;
         log.info("[Sub][" + this.connectionId + "] Connected to server");
-        watchDog.onConnectionCreated(this);
+        lastReceivedTime = System.currentTimeMillis();
+        openedTime = lastReceivedTime;
+        if (streams != null) {
+            // Mark the connection open before taking the snapshot, so a stream added
+            // meanwhile is subscribed by addStream rather than missed.
+            state = ConnectionState.CONNECTED;
+            watchDog.onConnectionCreated(this);
+            for (List<WebsocketRequest<?>> requests : streams.values()) {
+                String name = requests.get(0).streamName;
+                CompletableFuture<Void> subscription = subscriptions.get(streamKey(name));
+                queueRequest("SUBSCRIBE", name, subscription != null && !subscription.isDone()
+                        ? subscription : new CompletableFuture<>());
+            }
+            return;
+        }
         if (request.connectionHandler != null) {
             request.connectionHandler.handle(this);
         }
         state = ConnectionState.CONNECTED;
-        lastReceivedTime = System.currentTimeMillis();
+        watchDog.onConnectionCreated(this);
     }
 
+    /**
+     * Failures of a socket the connection has already dropped, when it was
+     * cancelled for a reconnect, are ignored.
+     */
     @Override
-    public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+    public synchronized void onFailure(WebSocket webSocket, Throwable t, Response response) {
+        if (webSocket != this.webSocket) {
+            return;
+        }
         onError("Unexpected error: " + t.getMessage(), t);
         closeOnError();
     }
 
-    private void closeOnError() {
+    /**
+     * On a lost connection, a pending UNSUBSCRIBE is done since the stream will not
+     * be resubscribed, and a pending SUBSCRIBE is retried when the connection
+     * opens again.
+     */
+    private synchronized void closeOnError() {
+        dropQueuedRequests();
+        for (Iterator<PendingRequest> it = pendingRequests.values().iterator(); it.hasNext();) {
+            PendingRequest pending = it.next();
+            it.remove();
+            pending.timeout.cancel();
+            if ("UNSUBSCRIBE".equals(pending.method)) {
+                pending.future.complete(null);
+            }
+        }
         if (webSocket != null) {
             this.webSocket.cancel();
+            this.webSocket = null;
             state = ConnectionState.CLOSED_ON_ERROR;
             log.error("[Sub][" + this.connectionId + "] Connection is closing due to error");
+            watchDog.onConnectionLost(this);
         }
     }
 }
@@ -0,0 +1,182 @@
+package com.binance.client.impl;
+
+import com.binance.client.ClientMetrics;
+import com.binance.client.SubscriptionOptions;
+import com.binance.client.impl.utils.JsonWrapper;
+import com.binance.client.model.enums.DispatchWaitStrategy;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The dispatch threads of a subscription client. Every connection's stage is
+ * drained by one thread, so each ring keeps a single consumer, and the stages
+ * are spread over the threads in turn.
+ */
+class WebSocketDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketDispatcher.class);
+    private static final int DRAIN_BATCH = 256;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BACK_OFF_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long SHUTDOWN_TIMEOUT_MS = 1000;
+
+    private final DispatchWaitStrategy waitStrategy;
+    private final ClientMetrics metrics;
+    private final int queueCapacity;
+    private final Worker[] workers;
+    private final AtomicInteger nextWorker = new AtomicInteger();
+
+    WebSocketDispatcher(SubscriptionOptions options) {
+        this.waitStrategy = options.getDispatchWaitStrategy();
+        this.metrics = options.getMetrics();
+        this.queueCapacity = options.getDispatchQueueCapacity();
+        this.workers = new Worker[options.getDispatchThreads()];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker("binance-ws-dispatch-" + i);
+        }
+    }
+
+    DispatchStage register(int connectionId, DispatchStage.Receiver<JsonWrapper> receiver,
+            DispatchStage.Receiver<String> rawReceiver) {
+        Worker worker = workers[Math.floorMod(nextWorker.getAndIncrement(), workers.length)];
+        DispatchStage stage = new DispatchStage(connectionId, queueCapacity, worker, receiver, rawReceiver,
+                metrics);
+        worker.add(stage);
+        return stage;
+    }
+
+    /**
+     * Stop the dispatch threads, waiting a moment for each to finish the message
+     * it is delivering. Messages still queued are dropped.
+     */
+    void shutdown() {
+        for (Worker worker : workers) {
+            worker.stop();
+        }
+        for (Worker worker : workers) {
+            worker.join();
+        }
+    }
+
+    final class Worker implements Runnable {
+
+        // Copied on write, so the thread walks the stages without allocating.
+        private volatile DispatchStage[] stages = new DispatchStage[0];
+        private final Thread thread;
+        private volatile boolean parked = false;
+        private volatile boolean running = true;
+
+        Worker(String name) {
+            thread = new Thread(this, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                int count = 0;
+                for (DispatchStage stage : stages) {
+                    try {
+                        count += stage.drain(DRAIN_BATCH);
+                    } catch (Exception e) {
+                        log.error("[Dispatch] Unexpected error: " + e.getMessage(), e);
+                    }
+                }
+                if (count == 0) {
+                    idle();
+                }
+            }
+        }
+
+        private void idle() {
+            switch (waitStrategy) {
+                case BUSY_SPIN:
+                    break;
+                case YIELD:
+                    Thread.yield();
+                    break;
+                default:
+                    parked = true;
+                    // Check again after announcing the park, or a signal sent meanwhile is lost.
+                    if (running && isEmpty()) {
+                        LockSupport.parkNanos(this, PARK_NANOS);
+                    }
+                    parked = false;
+            }
+        }
+
+        private boolean isEmpty() {
+            for (DispatchStage stage : stages) {
+                if (!stage.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Wake the thread if it is parked. Called by reader threads.
+         */
+        void signal() {
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        /**
+         * Wait briefly for room in a full ring. Called by reader threads.
+         */
+        void backOff() {
+            switch (waitStrategy) {
+                case BUSY_SPIN:
+                    break;
+                case YIELD:
+                    Thread.yield();
+                    break;
+                default:
+                    LockSupport.parkNanos(BACK_OFF_NANOS);
+            }
+        }
+
+        synchronized void add(DispatchStage stage) {
+            DispatchStage[] added = Arrays.copyOf(stages, stages.length + 1);
+            added[stages.length] = stage;
+            stages = added;
+        }
+
+        synchronized void remove(DispatchStage stage) {
+            DispatchStage[] current = stages;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == stage) {
+                    DispatchStage[] removed = new DispatchStage[current.length - 1];
+                    System.arraycopy(current, 0, removed, 0, i);
+                    System.arraycopy(current, i + 1, removed, i, current.length - i - 1);
+                    stages = removed;
+                    return;
+                }
+            }
+        }
+
+        private void stop() {
+            running = false;
+            LockSupport.unpark(thread);
+        }
+
+        private void join() {
+            if (Thread.currentThread() == thread) {
+                // Shut down from a listener: the thread ends once the listener returns.
+                return;
+            }
+            try {
+                thread.join(SHUTDOWN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
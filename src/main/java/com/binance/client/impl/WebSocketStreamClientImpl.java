@@ -10,160 +10,359 @@ import com.binance.client.model.event.CandlestickEvent;
 import com.binance.client.model.event.LiquidationOrderEvent;
 import com.binance.client.model.event.MarkPriceEvent;
 import com.binance.client.model.event.OrderBookEvent;
+import com.binance.client.model.event.PriceLevelUpdate;
 import com.binance.client.model.event.SymbolBookTickerEvent;
 import com.binance.client.model.event.SymbolMiniTickerEvent;
 import com.binance.client.model.event.SymbolTickerEvent;
+import com.binance.client.model.market.ExchangeInfoEntry;
 import com.binance.client.model.user.UserDataUpdateEvent;
 
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.DispatchQueueStats;
+import com.binance.client.model.FeedLegStats;
+import com.binance.client.model.StreamLatencyStats;
+import com.binance.client.model.enums.DispatchOverflowPolicy;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class WebSocketStreamClientImpl implements SubscriptionClient {
 
     private final SubscriptionOptions options;
     private WebSocketWatchDog watchDog;
+    private ConnectionScheduler scheduler;
+    private WebSocketDispatcher dispatcher;
 
     private final WebsocketRequestImpl requestImpl;
+    private final RestApiInvoker invoker;
 
     private final List<WebSocketConnection> connections = new LinkedList<>();
+    private final List<FeedArbiter> arbiters = new LinkedList<>();
+    private final List<StreamLatency> latencies = new LinkedList<>();
 
-    WebSocketStreamClientImpl(SubscriptionOptions options) {
+    WebSocketStreamClientImpl(SubscriptionOptions options, RestApiInvoker invoker) {
         this.watchDog = null;
         this.options = Objects.requireNonNull(options);
+        this.invoker = Objects.requireNonNull(invoker);
 
-        this.requestImpl = new WebsocketRequestImpl();
+        this.requestImpl = new WebsocketRequestImpl(options.isFixedPointDecimals(), options.isFlyweightEvents(),
+                options.isFrameParsingEnabled());
     }
 
-    private <T> void createConnection(WebsocketRequest<T> request, boolean autoClose) {
+    private synchronized <T> CompletableFuture<Void> createConnection(WebsocketRequest<T> request,
+            boolean autoClose) {
         if (watchDog == null) {
-            watchDog = new WebSocketWatchDog(options);
+            scheduler = new ConnectionScheduler(options.getConnectionsPerSecond());
+            watchDog = new WebSocketWatchDog(options, scheduler);
         }
-        WebSocketConnection connection = new WebSocketConnection(request, watchDog, autoClose);
+        if (dispatcher == null && (options.isDispatchEnabled() || options.isConflationEnabled()
+                || options.getRedundantConnections() > 1)) {
+            dispatcher = new WebSocketDispatcher(options);
+        }
+        request.overflowPolicy = options.isConflationEnabled() && request.latestValue
+                ? DispatchOverflowPolicy.CONFLATE : options.getOverflowPolicy(request.streamName);
+        request.receiveLimitMs = options.getReceiveLimitMs(request.streamName);
+        if (options.getReconnectPriority(request.streamName) != null) {
+            request.reconnectPriority = options.getReconnectPriority(request.streamName);
+        }
+        if (options.isLatencyTrackingEnabled() && !autoClose) {
+            request.latency = new StreamLatency(request.streamName);
+            latencies.add(request.latency);
+        }
+        if (options.getRedundantConnections() > 1 && !autoClose && request.streamName != null) {
+            return redundant(request);
+        }
+        if (options.isMultiplexEnabled() && !autoClose && request.streamName != null) {
+            return multiplex(request);
+        }
+        WebSocketConnection connection = new WebSocketConnection(request, invoker, watchDog, autoClose,
+                streamUrl(options.getUri(), "/ws"));
         if (autoClose == false) {
+            attachDispatcher(connection);
             connections.add(connection);
         }
-        connection.connect();
+        scheduler.submit(connection);
+        return connection.getSubscribedFuture();
+    }
+
+    private <T> CompletableFuture<Void> createConnection(WebsocketRequest<T> request) {
+        return createConnection(request, false);
+    }
+
+    /**
+     * Put the stream on the first multiplexed connection with room left, or on a
+     * new one.
+     */
+    private CompletableFuture<Void> multiplex(WebsocketRequest<?> request) {
+        for (WebSocketConnection connection : connections) {
+            if (connection.isMultiplexed() && (connection.hasStream(request.streamName)
+                    || connection.getStreamCount() < options.getMaxStreamsPerConnection())) {
+                return connection.addStream(request);
+            }
+        }
+        WebSocketConnection connection = new WebSocketConnection(invoker, watchDog,
+                streamUrl(options.getUri(), "/stream"));
+        attachDispatcher(connection);
+        CompletableFuture<Void> subscribed = connection.addStream(request);
+        connections.add(connection);
+        scheduler.submit(connection);
+        return subscribed;
+    }
+
+    /**
+     * Carry the stream on several connections, alternating between the stream
+     * servers, and pass the listener the first arrival of each event. The legs
+     * share the dispatch stage of the first one. The subscription succeeds as
+     * soon as one leg is subscribed.
+     */
+    private CompletableFuture<Void> redundant(WebsocketRequest<?> request) {
+        List<String> servers = new ArrayList<>();
+        servers.add(options.getUri());
+        servers.addAll(options.getStandbyUris());
+        List<String> uris = new ArrayList<>();
+        for (int i = 0; i < options.getRedundantConnections(); i++) {
+            uris.add(servers.get(i % servers.size()));
+        }
+        FeedArbiter arbiter = new FeedArbiter(request.streamName, uris);
+        arbiters.add(arbiter);
+        CompletableFuture<Void> subscribed = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        WebSocketConnection first = null;
+        for (int i = 0; i < uris.size(); i++) {
+            WebSocketConnection connection = new WebSocketConnection(request, invoker, watchDog, false,
+                    streamUrl(uris.get(i), "/ws"));
+            connection.setLeg(arbiter.getLeg(i));
+            if (first == null) {
+                attachDispatcher(connection);
+                first = connection;
+            } else {
+                connection.shareDispatchStage(first);
+            }
+            connections.add(connection);
+            connection.getSubscribedFuture().whenComplete((result, e) -> {
+                if (e == null) {
+                    subscribed.complete(null);
+                } else if (failures.incrementAndGet() == uris.size()) {
+                    subscribed.completeExceptionally(e);
+                }
+            });
+            scheduler.submit(connection);
+        }
+        return subscribed;
+    }
+
+    /**
+     * @return The endpoint under a stream server URI.
+     */
+    private String streamUrl(String uri, String path) {
+        return (uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri) + path;
+    }
+
+    private void attachDispatcher(WebSocketConnection connection) {
+        if (dispatcher != null) {
+            connection.attachDispatcher(dispatcher);
+        }
     }
 
-    private <T> void createConnection(WebsocketRequest<T> request) {
-        createConnection(request, false);
+    @Override
+    public synchronized List<DispatchQueueStats> getDispatchQueueStats() {
+        List<DispatchQueueStats> stats = new ArrayList<>();
+        for (WebSocketConnection connection : connections) {
+            DispatchQueueStats connectionStats = connection.getDispatchStats();
+            if (connectionStats != null) {
+                stats.add(connectionStats);
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public synchronized List<FeedLegStats> getFeedLegStats() {
+        List<FeedLegStats> stats = new ArrayList<>();
+        for (FeedArbiter arbiter : arbiters) {
+            stats.addAll(arbiter.getStats());
+        }
+        return stats;
+    }
+
+    @Override
+    public synchronized List<StreamLatencyStats> getStreamLatencyStats(boolean reset) {
+        List<StreamLatencyStats> stats = new ArrayList<>();
+        for (StreamLatency latency : latencies) {
+            stats.add(latency.snapshot(reset));
+        }
+        return stats;
     }
 
     @Override
-    public void unsubscribeAll() {
+    public synchronized void unsubscribeAll() {
         for (WebSocketConnection connection : connections) {
-            watchDog.onClosedNormally(connection);
             connection.close();
         }
         connections.clear();
+        arbiters.clear();
+        latencies.clear();
+        if (dispatcher != null) {
+            // Every stage is removed now, so nothing is left to drain.
+            dispatcher.shutdown();
+            dispatcher = null;
+        }
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> unsubscribe(String streamName) {
+        FeedArbiter closed = null;
+        for (Iterator<WebSocketConnection> it = connections.iterator(); it.hasNext();) {
+            WebSocketConnection connection = it.next();
+            if (!connection.hasStream(streamName) || (closed != null && connection.getArbiter() != closed)) {
+                continue;
+            }
+            // Only the requests closed here leave the statistics, not other subscriptions of the stream.
+            connection.getRequests(streamName).forEach(request -> latencies.remove(request.latency));
+            if (!connection.isMultiplexed()) {
+                it.remove();
+                connection.close();
+                if (!connection.isLeg()) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                // Go on with the other legs of the redundant subscription.
+                closed = connection.getArbiter();
+                arbiters.remove(closed);
+                continue;
+            }
+            if (connection.getStreamCount() > 1) {
+                return connection.removeStream(streamName);
+            }
+            it.remove();
+            // Close the emptied connection once the server has answered.
+            return connection.removeStream(streamName).whenComplete((result, e) -> connection.close());
+        }
+        if (closed != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.completeExceptionally(new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                "[Sub] Stream " + streamName + " is not subscribed"));
+        return future;
     }
 
     @Override
-    public void subscribeAggregateTradeEvent(String symbol,
+    public CompletableFuture<Void> subscribeAggregateTradeEvent(String symbol,
             SubscriptionListener<AggregateTradeEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeAggregateTradeEvent(symbol, subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeMarkPriceEvent(String symbol,
+    public CompletableFuture<Void> subscribeMarkPriceEvent(String symbol,
             SubscriptionListener<MarkPriceEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeMarkPriceEvent(symbol, subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeCandlestickEvent(String symbol, CandlestickInterval interval,
+    public CompletableFuture<Void> subscribeCandlestickEvent(String symbol, CandlestickInterval interval,
             SubscriptionListener<CandlestickEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeCandlestickEvent(symbol, interval, subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeSymbolMiniTickerEvent(String symbol,
+    public CompletableFuture<Void> subscribeSymbolMiniTickerEvent(String symbol,
             SubscriptionListener<SymbolMiniTickerEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeSymbolMiniTickerEvent(symbol, subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeAllMiniTickerEvent(SubscriptionListener<List<SymbolMiniTickerEvent>> subscriptionListener, 
+    public CompletableFuture<Void> subscribeAllMiniTickerEvent(SubscriptionListener<List<SymbolMiniTickerEvent>> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeAllMiniTickerEvent(subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeSymbolTickerEvent(String symbol,
+    public CompletableFuture<Void> subscribeSymbolTickerEvent(String symbol,
             SubscriptionListener<SymbolTickerEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeSymbolTickerEvent(symbol, subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeAllTickerEvent(SubscriptionListener<List<SymbolTickerEvent>> subscriptionListener, 
+    public CompletableFuture<Void> subscribeAllTickerEvent(SubscriptionListener<List<SymbolTickerEvent>> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeAllTickerEvent(subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeSymbolBookTickerEvent(String symbol,
+    public CompletableFuture<Void> subscribeSymbolBookTickerEvent(String symbol,
             SubscriptionListener<SymbolBookTickerEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeSymbolBookTickerEvent(symbol, subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeAllBookTickerEvent(SubscriptionListener<SymbolBookTickerEvent> subscriptionListener, 
+    public CompletableFuture<Void> subscribeAllBookTickerEvent(SubscriptionListener<SymbolBookTickerEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeAllBookTickerEvent(subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeSymbolLiquidationOrderEvent(String symbol,
+    public CompletableFuture<Void> subscribeSymbolLiquidationOrderEvent(String symbol,
             SubscriptionListener<LiquidationOrderEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeSymbolLiquidationOrderEvent(symbol, subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeAllLiquidationOrderEvent(SubscriptionListener<LiquidationOrderEvent> subscriptionListener, 
+    public CompletableFuture<Void> subscribeAllLiquidationOrderEvent(SubscriptionListener<LiquidationOrderEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeAllLiquidationOrderEvent(subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeBookDepthEvent(String symbol, Integer limit,
+    public CompletableFuture<Void> subscribeBookDepthEvent(String symbol, Integer limit,
             SubscriptionListener<OrderBookEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeBookDepthEvent(symbol, limit, subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeDiffDepthEvent(String symbol,
+    public CompletableFuture<Void> subscribeDiffDepthEvent(String symbol,
             SubscriptionListener<OrderBookEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeDiffDepthEvent(symbol, subscriptionListener, errorHandler));
     }
 
     @Override
-    public void subscribeUserDataEvent(String listenKey,
+    public CompletableFuture<Void> subscribeDiffDepthEvent(String symbol, ExchangeInfoEntry symbolInfo,
+            SubscriptionListener<PriceLevelUpdate> subscriptionListener,
+            SubscriptionErrorHandler errorHandler) {
+        return createConnection(requestImpl.subscribeDiffDepthEvent(symbol, symbolInfo.getPricePrecision().intValue(),
+                symbolInfo.getQuantityPrecision().intValue(), subscriptionListener, errorHandler));
+    }
+
+    @Override
+    public CompletableFuture<Void> subscribeUserDataEvent(String listenKey,
             SubscriptionListener<UserDataUpdateEvent> subscriptionListener, 
             SubscriptionErrorHandler errorHandler) {
-        createConnection(
+        return createConnection(
                 requestImpl.subscribeUserDataEvent(listenKey, subscriptionListener, errorHandler));
     }
 
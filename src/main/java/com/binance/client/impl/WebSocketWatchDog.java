@@ -2,52 +2,144 @@ package com.binance.client.impl;
 
 import com.binance.client.SubscriptionOptions;
 import com.binance.client.impl.WebSocketConnection.ConnectionState;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Watches the connections of a subscription client on the shared timing wheel.
+ * An open connection has a timeout at its silence deadline, which is only
+ * checked when it expires and pushed back if messages came in meanwhile, and a
+ * lost connection has a reconnect after a backoff delay, then waits its turn in
+ * the client's connection scheduler. Nothing is polled, so the work does not
+ * grow with the number of connections.
+ */
 class WebSocketWatchDog {
 
-    private final CopyOnWriteArrayList<WebSocketConnection> TIME_HELPER = new CopyOnWriteArrayList<>();
-    private final SubscriptionOptions options;
     private static final Logger log = LoggerFactory.getLogger(WebSocketConnection.class);
 
-    WebSocketWatchDog(SubscriptionOptions subscriptionOptions) {
+    private final SubscriptionOptions options;
+    private final ConnectionScheduler scheduler;
+    private final TimingWheel wheel = TimingWheel.shared();
+    private final Map<WebSocketConnection, Watch> watches = new ConcurrentHashMap<>();
+
+    WebSocketWatchDog(SubscriptionOptions subscriptionOptions, ConnectionScheduler scheduler) {
         this.options = Objects.requireNonNull(subscriptionOptions);
-        long t = 1_000;
-        ScheduledExecutorService exec = Executors.newScheduledThreadPool(1);
-        exec.scheduleAtFixedRate(() -> {
-            TIME_HELPER.forEach(connection -> {
-                if (connection.getState() == ConnectionState.CONNECTED) {
-                    // Check response
-                    if (options.isAutoReconnect()) {
-                        long ts = System.currentTimeMillis() - connection.getLastReceivedTime();
-                        if (ts > options.getReceiveLimitMs()) {
-                            log.warn("[Sub][" + connection.getConnectionId() + "] No response from server");
-                            connection.reConnect(options.getConnectionDelayOnFailure());
-                        }
-                    }
-                } else if (connection.getState() == ConnectionState.DELAY_CONNECT) {
-                    connection.reConnect();
-                } else if (connection.getState() == ConnectionState.CLOSED_ON_ERROR) {
-                    if (options.isAutoReconnect()) {
-                        connection.reConnect(options.getConnectionDelayOnFailure());
-                    }
-                }
-            });
-        }, t, t, TimeUnit.MILLISECONDS);
-        Runtime.getRuntime().addShutdownHook(new Thread(exec::shutdown));
+        this.scheduler = Objects.requireNonNull(scheduler);
+    }
+
+    /**
+     * The timeouts and reconnect attempts of one connection.
+     */
+    private static final class Watch {
+
+        final WebSocketConnection connection;
+        TimingWheel.Timeout silence = null;
+        TimingWheel.Timeout reconnect = null;
+        int attempts = 0;
+        long openedTime = 0;
+
+        Watch(WebSocketConnection connection) {
+            this.connection = connection;
+        }
+
+        void cancel() {
+            if (silence != null) {
+                silence.cancel();
+                silence = null;
+            }
+            if (reconnect != null) {
+                reconnect.cancel();
+                reconnect = null;
+            }
+        }
     }
 
     void onConnectionCreated(WebSocketConnection connection) {
-        TIME_HELPER.addIfAbsent(connection);
+        Watch watch = watches.computeIfAbsent(connection, Watch::new);
+        synchronized (watch) {
+            watch.cancel();
+            watch.openedTime = System.currentTimeMillis();
+            if (options.isAutoReconnect()) {
+                watchSilence(watch, watch.openedTime);
+            }
+        }
     }
 
     void onClosedNormally(WebSocketConnection connection) {
-        TIME_HELPER.remove(connection);
+        scheduler.remove(connection);
+        Watch watch = watches.remove(connection);
+        if (watch != null) {
+            synchronized (watch) {
+                watch.cancel();
+            }
+        }
+    }
+
+    /**
+     * Schedule the reconnect of a dropped connection, unless one is already
+     * scheduled. The delay is random, up to a limit doubling with each attempt.
+     * The attempts start over once a connection has stayed open longer than the
+     * longest delay.
+     */
+    void onConnectionLost(WebSocketConnection connection) {
+        if (!options.isAutoReconnect()) {
+            return;
+        }
+        Watch watch = watches.computeIfAbsent(connection, Watch::new);
+        long delayMs;
+        synchronized (watch) {
+            if (watch.reconnect != null) {
+                return;
+            }
+            watch.cancel();
+            long now = System.currentTimeMillis();
+            long maxDelayMs = options.getConnectionDelayOnFailure() * 1_000L;
+            if (watch.openedTime > 0 && now - watch.openedTime > maxDelayMs) {
+                watch.attempts = 0;
+            }
+            watch.openedTime = 0;
+            long ceiling = Math.min(maxDelayMs, options.getReconnectInitialDelayMs() << Math.min(watch.attempts, 20));
+            watch.attempts++;
+            delayMs = ThreadLocalRandom.current().nextLong(ceiling + 1);
+            watch.reconnect = wheel.schedule(() -> reconnect(watch), delayMs);
+        }
+        options.getMetrics().onReconnect(connection.getConnectionId());
+        log.warn("[Sub][" + connection.getConnectionId() + "] Reconnecting in " + delayMs + " ms");
+    }
+
+    private void reconnect(Watch watch) {
+        synchronized (watch) {
+            if (watches.get(watch.connection) != watch) {
+                return;
+            }
+            watch.reconnect = null;
+        }
+        scheduler.submit(watch.connection);
+    }
+
+    private void watchSilence(Watch watch, long now) {
+        long deadline = watch.connection.getSilenceDeadline(options.getReceiveLimitMs());
+        watch.silence = wheel.schedule(() -> checkSilence(watch), deadline - now);
+    }
+
+    private void checkSilence(Watch watch) {
+        WebSocketConnection connection = watch.connection;
+        synchronized (watch) {
+            if (watches.get(connection) != watch || connection.getState() != ConnectionState.CONNECTED) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            if (connection.getSilenceDeadline(options.getReceiveLimitMs()) > now) {
+                watchSilence(watch, now);
+                return;
+            }
+            watch.silence = null;
+        }
+        log.warn("[Sub][" + connection.getConnectionId() + "] No response from server");
+        connection.reConnect();
     }
 }
@@ -0,0 +1,11 @@
+package com.binance.client.impl;
+
+/**
+ * Parses an event straight from the text of a frame, without the JSON tree
+ * {@link RestApiJsonParser} works on.
+ */
+@FunctionalInterface
+public interface WebsocketFrameParser<T> {
+
+  T parseFrame(String text);
+}
@@ -3,6 +3,8 @@ package com.binance.client.impl;
 import com.binance.client.SubscriptionErrorHandler;
 import com.binance.client.SubscriptionListener;
 import com.binance.client.impl.utils.Handler;
+import com.binance.client.model.enums.DispatchOverflowPolicy;
+import com.binance.client.model.enums.ReconnectPriority;
 
 class WebsocketRequest<T> {
 
@@ -13,9 +15,22 @@ class WebsocketRequest<T> {
 
     String signatureVersion = "2";
     String name;
+    String streamName;
     Handler<WebSocketConnection> connectionHandler;
     Handler<WebSocketConnection> authHandler = null;
     final SubscriptionListener<T> updateCallback;
     RestApiJsonParser<T> jsonParser;
+    // Set for streams parsed from the frame text rather than from the JSON tree.
+    WebsocketFrameParser<T> frameParser = null;
     final SubscriptionErrorHandler errorHandler;
+    DispatchOverflowPolicy overflowPolicy = DispatchOverflowPolicy.BLOCK;
+    // True for streams where only the newest event of each symbol ("s") matters.
+    boolean latestValue = false;
+    ReconnectPriority reconnectPriority = ReconnectPriority.NORMAL;
+    // The silence after which the stream is taken as lost, 0 for the connection's default.
+    int receiveLimitMs = 0;
+    // Stamped by multiplexed connections, which watch each of their streams.
+    volatile long lastReceivedTime = 0;
+    // Set when latency tracking is enabled.
+    StreamLatency latency = null;
 }
@@ -3,23 +3,29 @@ package com.binance.client.impl;
 import java.math.BigDecimal;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Supplier;
 
+import com.alibaba.fastjson.JSONArray;
 import com.binance.client.impl.utils.JsonWrapper;
 import com.binance.client.impl.utils.JsonWrapperArray;
 
 import com.binance.client.SubscriptionErrorHandler;
 import com.binance.client.SubscriptionListener;
 import com.binance.client.impl.utils.Channels;
+import com.binance.client.impl.utils.FrameReader;
 import com.binance.client.model.enums.CandlestickInterval;
+import com.binance.client.model.enums.ReconnectPriority;
 import com.binance.client.model.event.AggregateTradeEvent;
 import com.binance.client.model.event.CandlestickEvent;
 import com.binance.client.model.event.LiquidationOrderEvent;
 import com.binance.client.model.event.MarkPriceEvent;
 import com.binance.client.model.event.OrderBookEvent;
+import com.binance.client.model.event.PriceLevelUpdate;
 import com.binance.client.model.event.SymbolBookTickerEvent;
 import com.binance.client.model.event.SymbolMiniTickerEvent;
 import com.binance.client.model.event.SymbolTickerEvent;
 import com.binance.client.model.market.OrderBookEntry;
+import com.binance.client.model.market.PriceLevelBook;
 import com.binance.client.model.user.AccountUpdate;
 import com.binance.client.model.user.BalanceUpdate;
 import com.binance.client.model.user.OrderUpdate;
@@ -28,7 +34,46 @@ import com.binance.client.model.user.UserDataUpdateEvent;
 
 class WebsocketRequestImpl {
 
+    private final boolean fixedPoint;
+    private final boolean flyweight;
+    private final boolean frameParsing;
+
     WebsocketRequestImpl() {
+        this(false, false, false);
+    }
+
+    /**
+     * @param fixedPoint   Whether the market event parsers set the Decimal fields
+     *                     rather than the BigDecimal ones.
+     * @param flyweight    Whether each market subscription refills one event
+     *                     instance rather than creating one per message. Implies
+     *                     frame parsing.
+     * @param frameParsing Whether the events are parsed from the frame text
+     *                     rather than from a JSON tree.
+     */
+    WebsocketRequestImpl(boolean fixedPoint, boolean flyweight, boolean frameParsing) {
+        this.fixedPoint = fixedPoint;
+        this.flyweight = flyweight;
+        this.frameParsing = frameParsing || flyweight;
+    }
+
+    /**
+     * @return The factory of a subscription's events, handing back the same
+     *         instance every time in flyweight mode.
+     */
+    private <T> Supplier<T> events(Supplier<T> factory) {
+        if (!flyweight) {
+            return factory;
+        }
+        T event = factory.get();
+        return () -> event;
+    }
+
+    /**
+     * @return The list refilled for each message in flyweight mode, or null.
+     */
+    private <T> ReusableList<T> eventList(Supplier<T> factory) {
+        return flyweight ? new ReusableList<>(factory) : null;
     }
 
     WebsocketRequest<AggregateTradeEvent> subscribeAggregateTradeEvent(String symbol,
@@ -39,22 +84,33 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<AggregateTradeEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***Aggregate Trade for " + symbol + "***"; 
+        request.streamName = Channels.aggregateTradeStream(symbol);
         request.connectionHandler = (connection) -> connection.send(Channels.aggregateTradeChannel(symbol));
 
+        Supplier<AggregateTradeEvent> events = events(AggregateTradeEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            AggregateTradeEvent result = new AggregateTradeEvent();
+            AggregateTradeEvent result = events.get();
             result.setEventType(jsonWrapper.getString("e"));
             result.setEventTime(jsonWrapper.getLong("E"));
             result.setSymbol(jsonWrapper.getString("s"));
             result.setId(jsonWrapper.getLong("a"));
-            result.setPrice(jsonWrapper.getBigDecimal("p"));
-            result.setQty(jsonWrapper.getBigDecimal("q"));
+            if (fixedPoint) {
+                result.setPriceDecimal(jsonWrapper.getDecimal("p"));
+                result.setQtyDecimal(jsonWrapper.getDecimal("q"));
+            } else {
+                result.setPrice(jsonWrapper.getBigDecimal("p"));
+                result.setQty(jsonWrapper.getBigDecimal("q"));
+            }
             result.setFirstId(jsonWrapper.getLong("f"));
             result.setLastId(jsonWrapper.getLong("l"));
             result.setTime(jsonWrapper.getLong("T"));
             result.setIsBuyerMaker(jsonWrapper.getBoolean("m"));
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readAggregateTrade(reader.reset(text), events.get());
+        }
         return request;
     }
 
@@ -66,18 +122,30 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<MarkPriceEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***Mark Price for " + symbol + "***"; 
+        request.streamName = Channels.markPriceStream(symbol);
+        request.latestValue = true;
         request.connectionHandler = (connection) -> connection.send(Channels.markPriceChannel(symbol));
 
+        Supplier<MarkPriceEvent> events = events(MarkPriceEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            MarkPriceEvent result = new MarkPriceEvent();
+            MarkPriceEvent result = events.get();
             result.setEventType(jsonWrapper.getString("e"));
             result.setEventTime(jsonWrapper.getLong("E"));
             result.setSymbol(jsonWrapper.getString("s"));
-            result.setMarkPrice(jsonWrapper.getBigDecimal("p"));
-            result.setFundingRate(jsonWrapper.getBigDecimal("r"));
+            if (fixedPoint) {
+                result.setMarkPriceDecimal(jsonWrapper.getDecimal("p"));
+                result.setFundingRateDecimal(jsonWrapper.getDecimal("r"));
+            } else {
+                result.setMarkPrice(jsonWrapper.getBigDecimal("p"));
+                result.setFundingRate(jsonWrapper.getBigDecimal("r"));
+            }
             result.setNextFundingTime(jsonWrapper.getLong("T"));
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readMarkPrice(reader.reset(text), events.get());
+        }
         return request;
     }
 
@@ -89,10 +157,12 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<CandlestickEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***Candlestick for " + symbol + "***"; 
+        request.streamName = Channels.candlestickStream(symbol, interval);
         request.connectionHandler = (connection) -> connection.send(Channels.candlestickChannel(symbol, interval));
 
+        Supplier<CandlestickEvent> events = events(CandlestickEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            CandlestickEvent result = new CandlestickEvent();
+            CandlestickEvent result = events.get();
             result.setEventType(jsonWrapper.getString("e"));
             result.setEventTime(jsonWrapper.getLong("E"));
             result.setSymbol(jsonWrapper.getString("s"));
@@ -103,19 +173,37 @@ class WebsocketRequestImpl {
             result.setInterval(jsondata.getString("i"));
             result.setFirstTradeId(jsondata.getLong("f"));
             result.setLastTradeId(jsondata.getLong("L"));
-            result.setOpen(jsondata.getBigDecimal("o"));
-            result.setClose(jsondata.getBigDecimal("c"));
-            result.setHigh(jsondata.getBigDecimal("h"));
-            result.setLow(jsondata.getBigDecimal("l"));
-            result.setVolume(jsondata.getBigDecimal("v"));
+            if (fixedPoint) {
+                result.setOpenDecimal(jsondata.getDecimal("o"));
+                result.setCloseDecimal(jsondata.getDecimal("c"));
+                result.setHighDecimal(jsondata.getDecimal("h"));
+                result.setLowDecimal(jsondata.getDecimal("l"));
+                result.setVolumeDecimal(jsondata.getDecimal("v"));
+            } else {
+                result.setOpen(jsondata.getBigDecimal("o"));
+                result.setClose(jsondata.getBigDecimal("c"));
+                result.setHigh(jsondata.getBigDecimal("h"));
+                result.setLow(jsondata.getBigDecimal("l"));
+                result.setVolume(jsondata.getBigDecimal("v"));
+            }
             result.setNumTrades(jsondata.getLong("n"));
             result.setIsClosed(jsondata.getBoolean("x"));
-            result.setQuoteAssetVolume(jsondata.getBigDecimal("q"));
-            result.setTakerBuyBaseAssetVolume(jsondata.getBigDecimal("V"));
-            result.setTakerBuyQuoteAssetVolume(jsondata.getBigDecimal("Q"));
+            if (fixedPoint) {
+                result.setQuoteAssetVolumeDecimal(jsondata.getDecimal("q"));
+                result.setTakerBuyBaseAssetVolumeDecimal(jsondata.getDecimal("V"));
+                result.setTakerBuyQuoteAssetVolumeDecimal(jsondata.getDecimal("Q"));
+            } else {
+                result.setQuoteAssetVolume(jsondata.getBigDecimal("q"));
+                result.setTakerBuyBaseAssetVolume(jsondata.getBigDecimal("V"));
+                result.setTakerBuyQuoteAssetVolume(jsondata.getBigDecimal("Q"));
+            }
             result.setIgnore(jsondata.getLong("B"));
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readCandlestick(reader.reset(text), events.get());
+        }
         return request;
     }
 
@@ -127,21 +215,38 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<SymbolMiniTickerEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***Individual Symbol Mini Ticker for " + symbol + "***"; 
+        request.streamName = Channels.miniTickerStream(symbol);
+        request.reconnectPriority = ReconnectPriority.LOW;
+        request.latestValue = true;
         request.connectionHandler = (connection) -> connection.send(Channels.miniTickerChannel(symbol));
 
+        Supplier<SymbolMiniTickerEvent> events = events(SymbolMiniTickerEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            SymbolMiniTickerEvent result = new SymbolMiniTickerEvent();
+            SymbolMiniTickerEvent result = events.get();
             result.setEventType(jsonWrapper.getString("e"));
             result.setEventTime(jsonWrapper.getLong("E"));
             result.setSymbol(jsonWrapper.getString("s"));
-            result.setOpen(jsonWrapper.getBigDecimal("o"));
-            result.setClose(jsonWrapper.getBigDecimal("c"));
-            result.setHigh(jsonWrapper.getBigDecimal("h"));
-            result.setLow(jsonWrapper.getBigDecimal("l"));
-            result.setTotalTradedBaseAssetVolume(jsonWrapper.getBigDecimal("v"));
-            result.setTotalTradedQuoteAssetVolume(jsonWrapper.getBigDecimal("q"));
+            if (fixedPoint) {
+                result.setOpenDecimal(jsonWrapper.getDecimal("o"));
+                result.setCloseDecimal(jsonWrapper.getDecimal("c"));
+                result.setHighDecimal(jsonWrapper.getDecimal("h"));
+                result.setLowDecimal(jsonWrapper.getDecimal("l"));
+                result.setTotalTradedBaseAssetVolumeDecimal(jsonWrapper.getDecimal("v"));
+                result.setTotalTradedQuoteAssetVolumeDecimal(jsonWrapper.getDecimal("q"));
+            } else {
+                result.setOpen(jsonWrapper.getBigDecimal("o"));
+                result.setClose(jsonWrapper.getBigDecimal("c"));
+                result.setHigh(jsonWrapper.getBigDecimal("h"));
+                result.setLow(jsonWrapper.getBigDecimal("l"));
+                result.setTotalTradedBaseAssetVolume(jsonWrapper.getBigDecimal("v"));
+                result.setTotalTradedQuoteAssetVolume(jsonWrapper.getBigDecimal("q"));
+            }
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readMiniTicker(reader.reset(text), events.get());
+        }
         return request;
     }
 
@@ -152,26 +257,52 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<List<SymbolMiniTickerEvent>> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***All Market Mini Tickers"; 
+        request.streamName = Channels.miniTickerStream();
+        request.reconnectPriority = ReconnectPriority.LOW;
+        request.latestValue = true;
         request.connectionHandler = (connection) -> connection.send(Channels.miniTickerChannel());
 
+        ReusableList<SymbolMiniTickerEvent> miniTickers = eventList(SymbolMiniTickerEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            List<SymbolMiniTickerEvent> result = new LinkedList<>();
+            List<SymbolMiniTickerEvent> result = miniTickers != null ? miniTickers.clear() : new LinkedList<>();
             JsonWrapperArray dataArray = jsonWrapper.getJsonArray("data");
             dataArray.forEach(item -> {
-                SymbolMiniTickerEvent element = new SymbolMiniTickerEvent();
+                SymbolMiniTickerEvent element = miniTickers != null ? miniTickers.next() : new SymbolMiniTickerEvent();
                 element.setEventType(item.getString("e"));
                 element.setEventTime(item.getLong("E"));
                 element.setSymbol(item.getString("s"));
-                element.setOpen(item.getBigDecimal("o"));
-                element.setClose(item.getBigDecimal("c"));
-                element.setHigh(item.getBigDecimal("h"));
-                element.setLow(item.getBigDecimal("l"));
-                element.setTotalTradedBaseAssetVolume(item.getBigDecimal("v"));
-                element.setTotalTradedQuoteAssetVolume(item.getBigDecimal("q"));
+                if (fixedPoint) {
+                    element.setOpenDecimal(item.getDecimal("o"));
+                    element.setCloseDecimal(item.getDecimal("c"));
+                    element.setHighDecimal(item.getDecimal("h"));
+                    element.setLowDecimal(item.getDecimal("l"));
+                    element.setTotalTradedBaseAssetVolumeDecimal(item.getDecimal("v"));
+                    element.setTotalTradedQuoteAssetVolumeDecimal(item.getDecimal("q"));
+                } else {
+                    element.setOpen(item.getBigDecimal("o"));
+                    element.setClose(item.getBigDecimal("c"));
+                    element.setHigh(item.getBigDecimal("h"));
+                    element.setLow(item.getBigDecimal("l"));
+                    element.setTotalTradedBaseAssetVolume(item.getBigDecimal("v"));
+                    element.setTotalTradedQuoteAssetVolume(item.getBigDecimal("q"));
+                }
                 result.add(element);
             });
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> {
+                List<SymbolMiniTickerEvent> result = miniTickers != null ? miniTickers.clear() : new LinkedList<>();
+                reader.reset(text).beginArray();
+                while (reader.hasNext()) {
+                    result.add(readMiniTicker(reader,
+                            miniTickers != null ? miniTickers.next() : new SymbolMiniTickerEvent()));
+                }
+                reader.endArray();
+                return result;
+            };
+        }
         return request;
     }
 
@@ -183,23 +314,39 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<SymbolTickerEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***Individual Symbol Ticker for " + symbol + "***"; 
+        request.streamName = Channels.tickerStream(symbol);
+        request.reconnectPriority = ReconnectPriority.LOW;
         request.connectionHandler = (connection) -> connection.send(Channels.tickerChannel(symbol));
 
+        Supplier<SymbolTickerEvent> events = events(SymbolTickerEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            SymbolTickerEvent result = new SymbolTickerEvent();
+            SymbolTickerEvent result = events.get();
             result.setEventType(jsonWrapper.getString("e"));
             result.setEventTime(jsonWrapper.getLong("E"));
             result.setSymbol(jsonWrapper.getString("s"));
-            result.setPriceChange(jsonWrapper.getBigDecimal("p"));
-            result.setPriceChangePercent(jsonWrapper.getBigDecimal("P"));
-            result.setWeightedAvgPrice(jsonWrapper.getBigDecimal("w"));
-            result.setLastPrice(jsonWrapper.getBigDecimal("c"));
-            result.setLastQty(jsonWrapper.getBigDecimal("Q"));
-            result.setOpen(jsonWrapper.getBigDecimal("o"));
-            result.setHigh(jsonWrapper.getBigDecimal("h"));
-            result.setLow(jsonWrapper.getBigDecimal("l"));
-            result.setTotalTradedBaseAssetVolume(jsonWrapper.getBigDecimal("v"));
-            result.setTotalTradedQuoteAssetVolume(jsonWrapper.getBigDecimal("q"));
+            if (fixedPoint) {
+                result.setPriceChangeDecimal(jsonWrapper.getDecimal("p"));
+                result.setPriceChangePercentDecimal(jsonWrapper.getDecimal("P"));
+                result.setWeightedAvgPriceDecimal(jsonWrapper.getDecimal("w"));
+                result.setLastPriceDecimal(jsonWrapper.getDecimal("c"));
+                result.setLastQtyDecimal(jsonWrapper.getDecimal("Q"));
+                result.setOpenDecimal(jsonWrapper.getDecimal("o"));
+                result.setHighDecimal(jsonWrapper.getDecimal("h"));
+                result.setLowDecimal(jsonWrapper.getDecimal("l"));
+                result.setTotalTradedBaseAssetVolumeDecimal(jsonWrapper.getDecimal("v"));
+                result.setTotalTradedQuoteAssetVolumeDecimal(jsonWrapper.getDecimal("q"));
+            } else {
+                result.setPriceChange(jsonWrapper.getBigDecimal("p"));
+                result.setPriceChangePercent(jsonWrapper.getBigDecimal("P"));
+                result.setWeightedAvgPrice(jsonWrapper.getBigDecimal("w"));
+                result.setLastPrice(jsonWrapper.getBigDecimal("c"));
+                result.setLastQty(jsonWrapper.getBigDecimal("Q"));
+                result.setOpen(jsonWrapper.getBigDecimal("o"));
+                result.setHigh(jsonWrapper.getBigDecimal("h"));
+                result.setLow(jsonWrapper.getBigDecimal("l"));
+                result.setTotalTradedBaseAssetVolume(jsonWrapper.getBigDecimal("v"));
+                result.setTotalTradedQuoteAssetVolume(jsonWrapper.getBigDecimal("q"));
+            }
             result.setOpenTime(jsonWrapper.getLong("O"));
             result.setCloseTime(jsonWrapper.getLong("C"));
             result.setFirstId(jsonWrapper.getLong("F"));
@@ -207,6 +354,10 @@ class WebsocketRequestImpl {
             result.setCount(jsonWrapper.getLong("n"));
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readTicker(reader.reset(text), events.get());
+        }
         return request;
     }
 
@@ -217,26 +368,42 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<List<SymbolTickerEvent>> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***All Market Tickers"; 
+        request.streamName = Channels.tickerStream();
+        request.reconnectPriority = ReconnectPriority.LOW;
         request.connectionHandler = (connection) -> connection.send(Channels.tickerChannel());
 
+        ReusableList<SymbolTickerEvent> tickers = eventList(SymbolTickerEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            List<SymbolTickerEvent> result = new LinkedList<>();
+            List<SymbolTickerEvent> result = tickers != null ? tickers.clear() : new LinkedList<>();
             JsonWrapperArray dataArray = jsonWrapper.getJsonArray("data");
             dataArray.forEach(item -> {
-                SymbolTickerEvent element = new SymbolTickerEvent();
+                SymbolTickerEvent element = tickers != null ? tickers.next() : new SymbolTickerEvent();
                 element.setEventType(item.getString("e"));
                 element.setEventTime(item.getLong("E"));
                 element.setSymbol(item.getString("s"));
-                element.setPriceChange(item.getBigDecimal("p"));
-                element.setPriceChangePercent(item.getBigDecimal("P"));
-                element.setWeightedAvgPrice(item.getBigDecimal("w"));
-                element.setLastPrice(item.getBigDecimal("c"));
-                element.setLastQty(item.getBigDecimal("Q"));
-                element.setOpen(item.getBigDecimal("o"));
-                element.setHigh(item.getBigDecimal("h"));
-                element.setLow(item.getBigDecimal("l"));
-                element.setTotalTradedBaseAssetVolume(item.getBigDecimal("v"));
-                element.setTotalTradedQuoteAssetVolume(item.getBigDecimal("q"));
+                if (fixedPoint) {
+                    element.setPriceChangeDecimal(item.getDecimal("p"));
+                    element.setPriceChangePercentDecimal(item.getDecimal("P"));
+                    element.setWeightedAvgPriceDecimal(item.getDecimal("w"));
+                    element.setLastPriceDecimal(item.getDecimal("c"));
+                    element.setLastQtyDecimal(item.getDecimal("Q"));
+                    element.setOpenDecimal(item.getDecimal("o"));
+                    element.setHighDecimal(item.getDecimal("h"));
+                    element.setLowDecimal(item.getDecimal("l"));
+                    element.setTotalTradedBaseAssetVolumeDecimal(item.getDecimal("v"));
+                    element.setTotalTradedQuoteAssetVolumeDecimal(item.getDecimal("q"));
+                } else {
+                    element.setPriceChange(item.getBigDecimal("p"));
+                    element.setPriceChangePercent(item.getBigDecimal("P"));
+                    element.setWeightedAvgPrice(item.getBigDecimal("w"));
+                    element.setLastPrice(item.getBigDecimal("c"));
+                    element.setLastQty(item.getBigDecimal("Q"));
+                    element.setOpen(item.getBigDecimal("o"));
+                    element.setHigh(item.getBigDecimal("h"));
+                    element.setLow(item.getBigDecimal("l"));
+                    element.setTotalTradedBaseAssetVolume(item.getBigDecimal("v"));
+                    element.setTotalTradedQuoteAssetVolume(item.getBigDecimal("q"));
+                }
                 element.setOpenTime(item.getLong("O"));
                 element.setCloseTime(item.getLong("C"));
                 element.setFirstId(item.getLong("F"));
@@ -247,6 +414,18 @@ class WebsocketRequestImpl {
            
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> {
+                List<SymbolTickerEvent> result = tickers != null ? tickers.clear() : new LinkedList<>();
+                reader.reset(text).beginArray();
+                while (reader.hasNext()) {
+                    result.add(readTicker(reader, tickers != null ? tickers.next() : new SymbolTickerEvent()));
+                }
+                reader.endArray();
+                return result;
+            };
+        }
         return request;
     }
 
@@ -258,18 +437,32 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<SymbolBookTickerEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***Individual Symbol Book Ticker for " + symbol + "***"; 
+        request.streamName = Channels.bookTickerStream(symbol);
+        request.latestValue = true;
         request.connectionHandler = (connection) -> connection.send(Channels.bookTickerChannel(symbol));
 
+        Supplier<SymbolBookTickerEvent> events = events(SymbolBookTickerEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            SymbolBookTickerEvent result = new SymbolBookTickerEvent();
+            SymbolBookTickerEvent result = events.get();
             result.setOrderBookUpdateId(jsonWrapper.getLong("u"));
             result.setSymbol(jsonWrapper.getString("s"));
-            result.setBestBidPrice(jsonWrapper.getBigDecimal("b"));
-            result.setBestBidQty(jsonWrapper.getBigDecimal("B"));
-            result.setBestAskPrice(jsonWrapper.getBigDecimal("a"));
-            result.setBestAskQty(jsonWrapper.getBigDecimal("A"));
+            if (fixedPoint) {
+                result.setBestBidPriceDecimal(jsonWrapper.getDecimal("b"));
+                result.setBestBidQtyDecimal(jsonWrapper.getDecimal("B"));
+                result.setBestAskPriceDecimal(jsonWrapper.getDecimal("a"));
+                result.setBestAskQtyDecimal(jsonWrapper.getDecimal("A"));
+            } else {
+                result.setBestBidPrice(jsonWrapper.getBigDecimal("b"));
+                result.setBestBidQty(jsonWrapper.getBigDecimal("B"));
+                result.setBestAskPrice(jsonWrapper.getBigDecimal("a"));
+                result.setBestAskQty(jsonWrapper.getBigDecimal("A"));
+            }
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readBookTicker(reader.reset(text), events.get());
+        }
         return request;
     }
 
@@ -280,18 +473,32 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<SymbolBookTickerEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***All Market Book Tickers***"; 
+        request.streamName = Channels.bookTickerStream();
+        request.latestValue = true;
         request.connectionHandler = (connection) -> connection.send(Channels.bookTickerChannel());
 
+        Supplier<SymbolBookTickerEvent> events = events(SymbolBookTickerEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            SymbolBookTickerEvent result = new SymbolBookTickerEvent();
+            SymbolBookTickerEvent result = events.get();
             result.setOrderBookUpdateId(jsonWrapper.getLong("u"));
             result.setSymbol(jsonWrapper.getString("s"));
-            result.setBestBidPrice(jsonWrapper.getBigDecimal("b"));
-            result.setBestBidQty(jsonWrapper.getBigDecimal("B"));
-            result.setBestAskPrice(jsonWrapper.getBigDecimal("a"));
-            result.setBestAskQty(jsonWrapper.getBigDecimal("A"));
+            if (fixedPoint) {
+                result.setBestBidPriceDecimal(jsonWrapper.getDecimal("b"));
+                result.setBestBidQtyDecimal(jsonWrapper.getDecimal("B"));
+                result.setBestAskPriceDecimal(jsonWrapper.getDecimal("a"));
+                result.setBestAskQtyDecimal(jsonWrapper.getDecimal("A"));
+            } else {
+                result.setBestBidPrice(jsonWrapper.getBigDecimal("b"));
+                result.setBestBidQty(jsonWrapper.getBigDecimal("B"));
+                result.setBestAskPrice(jsonWrapper.getBigDecimal("a"));
+                result.setBestAskQty(jsonWrapper.getBigDecimal("A"));
+            }
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readBookTicker(reader.reset(text), events.get());
+        }
         return request;
     }
 
@@ -303,10 +510,12 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<LiquidationOrderEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***Individual Symbol Liquidation Order for " + symbol + "***"; 
+        request.streamName = Channels.liquidationOrderStream(symbol);
         request.connectionHandler = (connection) -> connection.send(Channels.liquidationOrderChannel(symbol));
 
+        Supplier<LiquidationOrderEvent> events = events(LiquidationOrderEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            LiquidationOrderEvent result = new LiquidationOrderEvent();
+            LiquidationOrderEvent result = events.get();
             result.setEventType(jsonWrapper.getString("e"));
             result.setEventTime(jsonWrapper.getLong("E"));
             JsonWrapper jsondata = jsonWrapper.getJsonObject("o");
@@ -314,15 +523,30 @@ class WebsocketRequestImpl {
             result.setSide(jsondata.getString("S"));
             result.setType(jsondata.getString("o"));
             result.setTimeInForce(jsondata.getString("f"));
-            result.setOrigQty(jsondata.getBigDecimal("q"));
-            result.setPrice(jsondata.getBigDecimal("p"));
-            result.setAveragePrice(jsondata.getBigDecimal("ap"));
+            if (fixedPoint) {
+                result.setOrigQtyDecimal(jsondata.getDecimal("q"));
+                result.setPriceDecimal(jsondata.getDecimal("p"));
+                result.setAveragePriceDecimal(jsondata.getDecimal("ap"));
+            } else {
+                result.setOrigQty(jsondata.getBigDecimal("q"));
+                result.setPrice(jsondata.getBigDecimal("p"));
+                result.setAveragePrice(jsondata.getBigDecimal("ap"));
+            }
             result.setOrderStatus(jsondata.getString("X"));
-            result.setLastFilledQty(jsondata.getBigDecimal("l"));
-            result.setLastFilledAccumulatedQty(jsondata.getBigDecimal("z"));
+            if (fixedPoint) {
+                result.setLastFilledQtyDecimal(jsondata.getDecimal("l"));
+                result.setLastFilledAccumulatedQtyDecimal(jsondata.getDecimal("z"));
+            } else {
+                result.setLastFilledQty(jsondata.getBigDecimal("l"));
+                result.setLastFilledAccumulatedQty(jsondata.getBigDecimal("z"));
+            }
             result.setTime(jsondata.getLong("T"));
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readLiquidationOrder(reader.reset(text), events.get());
+        }
         return request;
     }
 
@@ -333,10 +557,12 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<LiquidationOrderEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***All Liquidation Orders***"; 
+        request.streamName = Channels.liquidationOrderStream();
         request.connectionHandler = (connection) -> connection.send(Channels.liquidationOrderChannel());
 
+        Supplier<LiquidationOrderEvent> events = events(LiquidationOrderEvent::new);
         request.jsonParser = (jsonWrapper) -> {
-            LiquidationOrderEvent result = new LiquidationOrderEvent();
+            LiquidationOrderEvent result = events.get();
             result.setEventType(jsonWrapper.getString("e"));
             result.setEventTime(jsonWrapper.getLong("E"));
             JsonWrapper jsondata = jsonWrapper.getJsonObject("o");
@@ -344,15 +570,30 @@ class WebsocketRequestImpl {
             result.setSide(jsondata.getString("S"));
             result.setType(jsondata.getString("o"));
             result.setTimeInForce(jsondata.getString("f"));
-            result.setOrigQty(jsondata.getBigDecimal("q"));
-            result.setPrice(jsondata.getBigDecimal("p"));
-            result.setAveragePrice(jsondata.getBigDecimal("ap"));
+            if (fixedPoint) {
+                result.setOrigQtyDecimal(jsondata.getDecimal("q"));
+                result.setPriceDecimal(jsondata.getDecimal("p"));
+                result.setAveragePriceDecimal(jsondata.getDecimal("ap"));
+            } else {
+                result.setOrigQty(jsondata.getBigDecimal("q"));
+                result.setPrice(jsondata.getBigDecimal("p"));
+                result.setAveragePrice(jsondata.getBigDecimal("ap"));
+            }
             result.setOrderStatus(jsondata.getString("X"));
-            result.setLastFilledQty(jsondata.getBigDecimal("l"));
-            result.setLastFilledAccumulatedQty(jsondata.getBigDecimal("z"));
+            if (fixedPoint) {
+                result.setLastFilledQtyDecimal(jsondata.getDecimal("l"));
+                result.setLastFilledAccumulatedQtyDecimal(jsondata.getDecimal("z"));
+            } else {
+                result.setLastFilledQty(jsondata.getBigDecimal("l"));
+                result.setLastFilledAccumulatedQty(jsondata.getBigDecimal("z"));
+            }
             result.setTime(jsondata.getLong("T"));
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readLiquidationOrder(reader.reset(text), events.get());
+        }
         return request;
     }
 
@@ -365,10 +606,15 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<OrderBookEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***Partial Book Depth for " + symbol + "***"; 
+        request.streamName = Channels.bookDepthStream(symbol, limit);
+        request.reconnectPriority = ReconnectPriority.HIGH;
         request.connectionHandler = (connection) -> connection.send(Channels.bookDepthChannel(symbol, limit));
 
+        Supplier<OrderBookEvent> events = events(OrderBookEvent::new);
+        ReusableList<OrderBookEntry> bidEntries = eventList(OrderBookEntry::new);
+        ReusableList<OrderBookEntry> askEntries = eventList(OrderBookEntry::new);
         request.jsonParser = (jsonWrapper) -> {
-            OrderBookEvent result = new OrderBookEvent();
+            OrderBookEvent result = events.get();
             result.setEventType(jsonWrapper.getString("e"));
             result.setEventTime(jsonWrapper.getLong("E"));
             result.setTransactionTime(jsonWrapper.getLong("T"));
@@ -377,28 +623,42 @@ class WebsocketRequestImpl {
             result.setLastUpdateId(jsonWrapper.getLong("u"));
             result.setLastUpdateIdInlastStream(jsonWrapper.getLong("pu"));
 
-            List<OrderBookEntry> elementList = new LinkedList<>();
+            List<OrderBookEntry> elementList = bidEntries != null ? bidEntries.clear() : new LinkedList<>();
             JsonWrapperArray dataArray = jsonWrapper.getJsonArray("b");
             dataArray.forEachAsArray((item) -> {
-                OrderBookEntry element = new OrderBookEntry();
-                element.setPrice(item.getBigDecimalAt(0));
-                element.setQty(item.getBigDecimalAt(1));
+                OrderBookEntry element = bidEntries != null ? bidEntries.next() : new OrderBookEntry();
+                if (fixedPoint) {
+                    element.setPriceDecimal(item.getDecimalAt(0));
+                    element.setQtyDecimal(item.getDecimalAt(1));
+                } else {
+                    element.setPrice(item.getBigDecimalAt(0));
+                    element.setQty(item.getBigDecimalAt(1));
+                }
                 elementList.add(element);
             });
             result.setBids(elementList);
 
-            List<OrderBookEntry> askList = new LinkedList<>();
+            List<OrderBookEntry> askList = askEntries != null ? askEntries.clear() : new LinkedList<>();
             JsonWrapperArray askArray = jsonWrapper.getJsonArray("a");
             askArray.forEachAsArray((item) -> {
-                OrderBookEntry element = new OrderBookEntry();
-                element.setPrice(item.getBigDecimalAt(0));
-                element.setQty(item.getBigDecimalAt(1));
+                OrderBookEntry element = askEntries != null ? askEntries.next() : new OrderBookEntry();
+                if (fixedPoint) {
+                    element.setPriceDecimal(item.getDecimalAt(0));
+                    element.setQtyDecimal(item.getDecimalAt(1));
+                } else {
+                    element.setPrice(item.getBigDecimalAt(0));
+                    element.setQty(item.getBigDecimalAt(1));
+                }
                 askList.add(element);
             });
             result.setAsks(askList);
             
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readOrderBook(reader.reset(text), events.get(), bidEntries, askEntries);
+        }
         return request;
     }
 
@@ -410,10 +670,15 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<OrderBookEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***Partial Book Depth for " + symbol + "***"; 
+        request.streamName = Channels.diffDepthStream(symbol);
+        request.reconnectPriority = ReconnectPriority.HIGH;
         request.connectionHandler = (connection) -> connection.send(Channels.diffDepthChannel(symbol));
 
+        Supplier<OrderBookEvent> events = events(OrderBookEvent::new);
+        ReusableList<OrderBookEntry> bidEntries = eventList(OrderBookEntry::new);
+        ReusableList<OrderBookEntry> askEntries = eventList(OrderBookEntry::new);
         request.jsonParser = (jsonWrapper) -> {
-            OrderBookEvent result = new OrderBookEvent();
+            OrderBookEvent result = events.get();
             result.setEventType(jsonWrapper.getString("e"));
             result.setEventTime(jsonWrapper.getLong("E"));
             result.setTransactionTime(jsonWrapper.getLong("T"));
@@ -422,28 +687,88 @@ class WebsocketRequestImpl {
             result.setLastUpdateId(jsonWrapper.getLong("u"));
             result.setLastUpdateIdInlastStream(jsonWrapper.getLong("pu"));
 
-            List<OrderBookEntry> elementList = new LinkedList<>();
+            List<OrderBookEntry> elementList = bidEntries != null ? bidEntries.clear() : new LinkedList<>();
             JsonWrapperArray dataArray = jsonWrapper.getJsonArray("b");
             dataArray.forEachAsArray((item) -> {
-                OrderBookEntry element = new OrderBookEntry();
-                element.setPrice(item.getBigDecimalAt(0));
-                element.setQty(item.getBigDecimalAt(1));
+                OrderBookEntry element = bidEntries != null ? bidEntries.next() : new OrderBookEntry();
+                if (fixedPoint) {
+                    element.setPriceDecimal(item.getDecimalAt(0));
+                    element.setQtyDecimal(item.getDecimalAt(1));
+                } else {
+                    element.setPrice(item.getBigDecimalAt(0));
+                    element.setQty(item.getBigDecimalAt(1));
+                }
                 elementList.add(element);
             });
             result.setBids(elementList);
 
-            List<OrderBookEntry> askList = new LinkedList<>();
+            List<OrderBookEntry> askList = askEntries != null ? askEntries.clear() : new LinkedList<>();
             JsonWrapperArray askArray = jsonWrapper.getJsonArray("a");
             askArray.forEachAsArray((item) -> {
-                OrderBookEntry element = new OrderBookEntry();
-                element.setPrice(item.getBigDecimalAt(0));
-                element.setQty(item.getBigDecimalAt(1));
+                OrderBookEntry element = askEntries != null ? askEntries.next() : new OrderBookEntry();
+                if (fixedPoint) {
+                    element.setPriceDecimal(item.getDecimalAt(0));
+                    element.setQtyDecimal(item.getDecimalAt(1));
+                } else {
+                    element.setPrice(item.getBigDecimalAt(0));
+                    element.setQty(item.getBigDecimalAt(1));
+                }
                 askList.add(element);
             });
             result.setAsks(askList);
             
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readOrderBook(reader.reset(text), events.get(), bidEntries, askEntries);
+        }
+        return request;
+    }
+
+    WebsocketRequest<PriceLevelUpdate> subscribeDiffDepthEvent(String symbol, int priceScale, int qtyScale,
+            SubscriptionListener<PriceLevelUpdate> subscriptionListener,
+            SubscriptionErrorHandler errorHandler) {
+        InputChecker.checker()
+                .shouldNotNull(symbol, "symbol")
+                .shouldNotNull(subscriptionListener, "listener");
+        WebsocketRequest<PriceLevelUpdate> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
+        request.name = "***Diff Depth Levels for " + symbol + "***";
+        request.streamName = Channels.diffDepthStream(symbol);
+        request.reconnectPriority = ReconnectPriority.HIGH;
+        request.connectionHandler = (connection) -> connection.send(Channels.diffDepthChannel(symbol));
+
+        Supplier<PriceLevelUpdate> events = events(PriceLevelUpdate::new);
+        request.jsonParser = (jsonWrapper) -> {
+            PriceLevelUpdate result = events.get();
+            result.clear();
+            result.setEventType(jsonWrapper.getString("e"));
+            result.setEventTime(jsonWrapper.getLong("E"));
+            result.setTransactionTime(jsonWrapper.getLong("T"));
+            result.setSymbol(jsonWrapper.getString("s"));
+            result.setFirstUpdateId(jsonWrapper.getLong("U"));
+            result.setLastUpdateId(jsonWrapper.getLong("u"));
+            result.setLastUpdateIdInlastStream(jsonWrapper.getLong("pu"));
+            // Read the level strings straight from the parsed frame, without entries or BigDecimals.
+            JSONArray bids = jsonWrapper.getJson().getJSONArray("b");
+            for (int i = 0; i < bids.size(); i++) {
+                JSONArray level = bids.getJSONArray(i);
+                result.addBid(PriceLevelBook.parseScaled(level.getString(0), priceScale),
+                        PriceLevelBook.parseScaled(level.getString(1), qtyScale));
+            }
+            JSONArray asks = jsonWrapper.getJson().getJSONArray("a");
+            for (int i = 0; i < asks.size(); i++) {
+                JSONArray level = asks.getJSONArray(i);
+                result.addAsk(PriceLevelBook.parseScaled(level.getString(0), priceScale),
+                        PriceLevelBook.parseScaled(level.getString(1), qtyScale));
+            }
+            return result;
+        };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readPriceLevelUpdate(reader.reset(text), events.get(), priceScale,
+                    qtyScale);
+        }
         return request;
     }
 
@@ -455,6 +780,8 @@ class WebsocketRequestImpl {
                 .shouldNotNull(subscriptionListener, "listener");
         WebsocketRequest<UserDataUpdateEvent> request = new WebsocketRequest<>(subscriptionListener, errorHandler);
         request.name = "***User Data***"; 
+        request.streamName = Channels.userDataStream(listenKey);
+        request.reconnectPriority = ReconnectPriority.HIGH;
         request.connectionHandler = (connection) -> connection.send(Channels.userDataChannel(listenKey));
 
         request.jsonParser = (jsonWrapper) -> {
@@ -477,7 +804,7 @@ class WebsocketRequestImpl {
                 accountUpdate.setBalances(balanceList);
 
                 List<PositionUpdate> positionList = new LinkedList<>();
-                JsonWrapperArray datalist = jsonWrapper.getJsonObject("a").getJsonArray("B");
+                JsonWrapperArray datalist = jsonWrapper.getJsonObject("a").getJsonArray("P");
                 datalist.forEach(item -> {
                     PositionUpdate position = new PositionUpdate();
                     position.setSymbol(item.getString("s"));
@@ -525,7 +852,847 @@ class WebsocketRequestImpl {
             
             return result;
         };
+        if (frameParsing) {
+            FrameReader reader = new FrameReader();
+            request.frameParser = (text) -> readUserData(reader.reset(text));
+        }
         return request;
     }
 
+    private AggregateTradeEvent readAggregateTrade(FrameReader reader, AggregateTradeEvent result) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'e':
+                    result.setEventType(reader.nextString(result.getEventType()));
+                    break;
+                case 'E':
+                    result.setEventTime(reader.nextLong());
+                    break;
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'a':
+                    result.setId(reader.nextLong());
+                    break;
+                case 'p':
+                    if (fixedPoint) {
+                        result.setPriceDecimal(reader.nextDecimal());
+                    } else {
+                        result.setPrice(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'q':
+                    if (fixedPoint) {
+                        result.setQtyDecimal(reader.nextDecimal());
+                    } else {
+                        result.setQty(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'f':
+                    result.setFirstId(reader.nextLong());
+                    break;
+                case 'l':
+                    result.setLastId(reader.nextLong());
+                    break;
+                case 'T':
+                    result.setTime(reader.nextLong());
+                    break;
+                case 'm':
+                    result.setIsBuyerMaker(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private MarkPriceEvent readMarkPrice(FrameReader reader, MarkPriceEvent result) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'e':
+                    result.setEventType(reader.nextString(result.getEventType()));
+                    break;
+                case 'E':
+                    result.setEventTime(reader.nextLong());
+                    break;
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'p':
+                    if (fixedPoint) {
+                        result.setMarkPriceDecimal(reader.nextDecimal());
+                    } else {
+                        result.setMarkPrice(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'r':
+                    if (fixedPoint) {
+                        result.setFundingRateDecimal(reader.nextDecimal());
+                    } else {
+                        result.setFundingRate(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'T':
+                    result.setNextFundingTime(reader.nextLong());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private CandlestickEvent readCandlestick(FrameReader reader, CandlestickEvent result) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'e':
+                    result.setEventType(reader.nextString(result.getEventType()));
+                    break;
+                case 'E':
+                    result.setEventTime(reader.nextLong());
+                    break;
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'k':
+                    readCandlestickData(reader, result);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private void readCandlestickData(FrameReader reader, CandlestickEvent result) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 't':
+                    result.setStartTime(reader.nextLong());
+                    break;
+                case 'T':
+                    result.setCloseTime(reader.nextLong());
+                    break;
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'i':
+                    result.setInterval(reader.nextString(result.getInterval()));
+                    break;
+                case 'f':
+                    result.setFirstTradeId(reader.nextLong());
+                    break;
+                case 'L':
+                    result.setLastTradeId(reader.nextLong());
+                    break;
+                case 'o':
+                    if (fixedPoint) {
+                        result.setOpenDecimal(reader.nextDecimal());
+                    } else {
+                        result.setOpen(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'c':
+                    if (fixedPoint) {
+                        result.setCloseDecimal(reader.nextDecimal());
+                    } else {
+                        result.setClose(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'h':
+                    if (fixedPoint) {
+                        result.setHighDecimal(reader.nextDecimal());
+                    } else {
+                        result.setHigh(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'l':
+                    if (fixedPoint) {
+                        result.setLowDecimal(reader.nextDecimal());
+                    } else {
+                        result.setLow(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'v':
+                    if (fixedPoint) {
+                        result.setVolumeDecimal(reader.nextDecimal());
+                    } else {
+                        result.setVolume(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'n':
+                    result.setNumTrades(reader.nextLong());
+                    break;
+                case 'x':
+                    result.setIsClosed(reader.nextBoolean());
+                    break;
+                case 'q':
+                    if (fixedPoint) {
+                        result.setQuoteAssetVolumeDecimal(reader.nextDecimal());
+                    } else {
+                        result.setQuoteAssetVolume(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'V':
+                    if (fixedPoint) {
+                        result.setTakerBuyBaseAssetVolumeDecimal(reader.nextDecimal());
+                    } else {
+                        result.setTakerBuyBaseAssetVolume(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'Q':
+                    if (fixedPoint) {
+                        result.setTakerBuyQuoteAssetVolumeDecimal(reader.nextDecimal());
+                    } else {
+                        result.setTakerBuyQuoteAssetVolume(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'B':
+                    result.setIgnore(reader.nextLong());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    private SymbolMiniTickerEvent readMiniTicker(FrameReader reader, SymbolMiniTickerEvent result) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'e':
+                    result.setEventType(reader.nextString(result.getEventType()));
+                    break;
+                case 'E':
+                    result.setEventTime(reader.nextLong());
+                    break;
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'o':
+                    if (fixedPoint) {
+                        result.setOpenDecimal(reader.nextDecimal());
+                    } else {
+                        result.setOpen(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'c':
+                    if (fixedPoint) {
+                        result.setCloseDecimal(reader.nextDecimal());
+                    } else {
+                        result.setClose(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'h':
+                    if (fixedPoint) {
+                        result.setHighDecimal(reader.nextDecimal());
+                    } else {
+                        result.setHigh(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'l':
+                    if (fixedPoint) {
+                        result.setLowDecimal(reader.nextDecimal());
+                    } else {
+                        result.setLow(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'v':
+                    if (fixedPoint) {
+                        result.setTotalTradedBaseAssetVolumeDecimal(reader.nextDecimal());
+                    } else {
+                        result.setTotalTradedBaseAssetVolume(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'q':
+                    if (fixedPoint) {
+                        result.setTotalTradedQuoteAssetVolumeDecimal(reader.nextDecimal());
+                    } else {
+                        result.setTotalTradedQuoteAssetVolume(reader.nextBigDecimal());
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private SymbolTickerEvent readTicker(FrameReader reader, SymbolTickerEvent result) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'e':
+                    result.setEventType(reader.nextString(result.getEventType()));
+                    break;
+                case 'E':
+                    result.setEventTime(reader.nextLong());
+                    break;
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'p':
+                    if (fixedPoint) {
+                        result.setPriceChangeDecimal(reader.nextDecimal());
+                    } else {
+                        result.setPriceChange(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'P':
+                    if (fixedPoint) {
+                        result.setPriceChangePercentDecimal(reader.nextDecimal());
+                    } else {
+                        result.setPriceChangePercent(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'w':
+                    if (fixedPoint) {
+                        result.setWeightedAvgPriceDecimal(reader.nextDecimal());
+                    } else {
+                        result.setWeightedAvgPrice(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'c':
+                    if (fixedPoint) {
+                        result.setLastPriceDecimal(reader.nextDecimal());
+                    } else {
+                        result.setLastPrice(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'Q':
+                    if (fixedPoint) {
+                        result.setLastQtyDecimal(reader.nextDecimal());
+                    } else {
+                        result.setLastQty(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'o':
+                    if (fixedPoint) {
+                        result.setOpenDecimal(reader.nextDecimal());
+                    } else {
+                        result.setOpen(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'h':
+                    if (fixedPoint) {
+                        result.setHighDecimal(reader.nextDecimal());
+                    } else {
+                        result.setHigh(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'l':
+                    if (fixedPoint) {
+                        result.setLowDecimal(reader.nextDecimal());
+                    } else {
+                        result.setLow(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'v':
+                    if (fixedPoint) {
+                        result.setTotalTradedBaseAssetVolumeDecimal(reader.nextDecimal());
+                    } else {
+                        result.setTotalTradedBaseAssetVolume(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'q':
+                    if (fixedPoint) {
+                        result.setTotalTradedQuoteAssetVolumeDecimal(reader.nextDecimal());
+                    } else {
+                        result.setTotalTradedQuoteAssetVolume(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'O':
+                    result.setOpenTime(reader.nextLong());
+                    break;
+                case 'C':
+                    result.setCloseTime(reader.nextLong());
+                    break;
+                case 'F':
+                    result.setFirstId(reader.nextLong());
+                    break;
+                case 'L':
+                    result.setLastId(reader.nextLong());
+                    break;
+                case 'n':
+                    result.setCount(reader.nextLong());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private SymbolBookTickerEvent readBookTicker(FrameReader reader, SymbolBookTickerEvent result) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'u':
+                    result.setOrderBookUpdateId(reader.nextLong());
+                    break;
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'b':
+                    if (fixedPoint) {
+                        result.setBestBidPriceDecimal(reader.nextDecimal());
+                    } else {
+                        result.setBestBidPrice(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'B':
+                    if (fixedPoint) {
+                        result.setBestBidQtyDecimal(reader.nextDecimal());
+                    } else {
+                        result.setBestBidQty(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'a':
+                    if (fixedPoint) {
+                        result.setBestAskPriceDecimal(reader.nextDecimal());
+                    } else {
+                        result.setBestAskPrice(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'A':
+                    if (fixedPoint) {
+                        result.setBestAskQtyDecimal(reader.nextDecimal());
+                    } else {
+                        result.setBestAskQty(reader.nextBigDecimal());
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private LiquidationOrderEvent readLiquidationOrder(FrameReader reader, LiquidationOrderEvent result) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'e':
+                    result.setEventType(reader.nextString(result.getEventType()));
+                    break;
+                case 'E':
+                    result.setEventTime(reader.nextLong());
+                    break;
+                case 'o':
+                    readLiquidationOrderData(reader, result);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private void readLiquidationOrderData(FrameReader reader, LiquidationOrderEvent result) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'S':
+                    result.setSide(reader.nextString(result.getSide()));
+                    break;
+                case 'o':
+                    result.setType(reader.nextString(result.getType()));
+                    break;
+                case 'f':
+                    result.setTimeInForce(reader.nextString(result.getTimeInForce()));
+                    break;
+                case 'q':
+                    if (fixedPoint) {
+                        result.setOrigQtyDecimal(reader.nextDecimal());
+                    } else {
+                        result.setOrigQty(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'p':
+                    if (fixedPoint) {
+                        result.setPriceDecimal(reader.nextDecimal());
+                    } else {
+                        result.setPrice(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'X':
+                    result.setOrderStatus(reader.nextString(result.getOrderStatus()));
+                    break;
+                case 'l':
+                    if (fixedPoint) {
+                        result.setLastFilledQtyDecimal(reader.nextDecimal());
+                    } else {
+                        result.setLastFilledQty(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'z':
+                    if (fixedPoint) {
+                        result.setLastFilledAccumulatedQtyDecimal(reader.nextDecimal());
+                    } else {
+                        result.setLastFilledAccumulatedQty(reader.nextBigDecimal());
+                    }
+                    break;
+                case 'T':
+                    result.setTime(reader.nextLong());
+                    break;
+                case FrameReader.LONG_NAME:
+                    if (!reader.nameEquals("ap")) {
+                        reader.skipValue();
+                    } else if (fixedPoint) {
+                        result.setAveragePriceDecimal(reader.nextDecimal());
+                    } else {
+                        result.setAveragePrice(reader.nextBigDecimal());
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    private OrderBookEvent readOrderBook(FrameReader reader, OrderBookEvent result,
+            ReusableList<OrderBookEntry> bidEntries, ReusableList<OrderBookEntry> askEntries) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'e':
+                    result.setEventType(reader.nextString(result.getEventType()));
+                    break;
+                case 'E':
+                    result.setEventTime(reader.nextLong());
+                    break;
+                case 'T':
+                    result.setTransactionTime(reader.nextLong());
+                    break;
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'U':
+                    result.setFirstUpdateId(reader.nextLong());
+                    break;
+                case 'u':
+                    result.setLastUpdateId(reader.nextLong());
+                    break;
+                case 'b':
+                    result.setBids(readOrderBookEntries(reader, bidEntries));
+                    break;
+                case 'a':
+                    result.setAsks(readOrderBookEntries(reader, askEntries));
+                    break;
+                case FrameReader.LONG_NAME:
+                    if (reader.nameEquals("pu")) {
+                        result.setLastUpdateIdInlastStream(reader.nextLong());
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private List<OrderBookEntry> readOrderBookEntries(FrameReader reader, ReusableList<OrderBookEntry> entries) {
+        List<OrderBookEntry> result = entries != null ? entries.clear() : new LinkedList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            OrderBookEntry element = entries != null ? entries.next() : new OrderBookEntry();
+            reader.beginArray();
+            if (fixedPoint) {
+                element.setPriceDecimal(reader.nextDecimal());
+                element.setQtyDecimal(reader.nextDecimal());
+            } else {
+                element.setPrice(reader.nextBigDecimal());
+                element.setQty(reader.nextBigDecimal());
+            }
+            reader.endArray();
+            result.add(element);
+        }
+        reader.endArray();
+        return result;
+    }
+
+    private PriceLevelUpdate readPriceLevelUpdate(FrameReader reader, PriceLevelUpdate result, int priceScale,
+            int qtyScale) {
+        result.clear();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'e':
+                    result.setEventType(reader.nextString(result.getEventType()));
+                    break;
+                case 'E':
+                    result.setEventTime(reader.nextLong());
+                    break;
+                case 'T':
+                    result.setTransactionTime(reader.nextLong());
+                    break;
+                case 's':
+                    result.setSymbol(reader.nextString(result.getSymbol()));
+                    break;
+                case 'U':
+                    result.setFirstUpdateId(reader.nextLong());
+                    break;
+                case 'u':
+                    result.setLastUpdateId(reader.nextLong());
+                    break;
+                case 'b':
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        reader.beginArray();
+                        long price = reader.nextScaled(priceScale);
+                        result.addBid(price, reader.nextScaled(qtyScale));
+                        reader.endArray();
+                    }
+                    reader.endArray();
+                    break;
+                case 'a':
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        reader.beginArray();
+                        long price = reader.nextScaled(priceScale);
+                        result.addAsk(price, reader.nextScaled(qtyScale));
+                        reader.endArray();
+                    }
+                    reader.endArray();
+                    break;
+                case FrameReader.LONG_NAME:
+                    if (reader.nameEquals("pu")) {
+                        result.setLastUpdateIdInlastStream(reader.nextLong());
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private UserDataUpdateEvent readUserData(FrameReader reader) {
+        UserDataUpdateEvent result = new UserDataUpdateEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'e':
+                    result.setEventType(reader.nextString(null));
+                    break;
+                case 'E':
+                    result.setEventTime(reader.nextLong());
+                    break;
+                case 'T':
+                    result.setTransactionTime(reader.nextLong());
+                    break;
+                case 'a':
+                    if (reader.peekObject()) {
+                        result.setAccountUpdate(readAccountUpdate(reader));
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                case 'o':
+                    if (reader.peekObject()) {
+                        result.setOrderUpdate(readOrderUpdate(reader));
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private static AccountUpdate readAccountUpdate(FrameReader reader) {
+        AccountUpdate result = new AccountUpdate();
+        List<BalanceUpdate> balanceList = new LinkedList<>();
+        List<PositionUpdate> positionList = new LinkedList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 'B':
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        balanceList.add(readBalance(reader));
+                    }
+                    reader.endArray();
+                    break;
+                case 'P':
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        positionList.add(readPosition(reader));
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        result.setBalances(balanceList);
+        result.setPositions(positionList);
+        return result;
+    }
+
+    private static BalanceUpdate readBalance(FrameReader reader) {
+        BalanceUpdate balance = new BalanceUpdate();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            char name = reader.nextName();
+            if (name == 'a') {
+                balance.setAsset(reader.nextString(null));
+            } else if (name == FrameReader.LONG_NAME && reader.nameEquals("wb")) {
+                balance.setWalletBalance(reader.nextBigDecimal());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return balance;
+    }
+
+    private static PositionUpdate readPosition(FrameReader reader) {
+        PositionUpdate position = new PositionUpdate();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            char name = reader.nextName();
+            if (name == 's') {
+                position.setSymbol(reader.nextString(null));
+            } else if (name != FrameReader.LONG_NAME) {
+                reader.skipValue();
+            } else if (reader.nameEquals("pa")) {
+                position.setAmount(reader.nextBigDecimal());
+            } else if (reader.nameEquals("ep")) {
+                position.setEntryPrice(reader.nextBigDecimal());
+            } else if (reader.nameEquals("cr")) {
+                position.setPreFee(reader.nextBigDecimal());
+            } else if (reader.nameEquals("up")) {
+                position.setUnrealizedPnl(reader.nextBigDecimal());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return position;
+    }
+
+    private static OrderUpdate readOrderUpdate(FrameReader reader) {
+        OrderUpdate orderUpdate = new OrderUpdate();
+        orderUpdate.setSymbol("");
+        orderUpdate.setCommissionAsset("");
+        orderUpdate.setCommissionAmount(BigDecimal.ZERO);
+        orderUpdate.setActivationPrice(BigDecimal.ZERO);
+        orderUpdate.setCallbackRate(BigDecimal.ZERO);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case 's':
+                    orderUpdate.setSymbol(reader.nextString(null));
+                    break;
+                case 'c':
+                    orderUpdate.setClientOrderId(reader.nextString(null));
+                    break;
+                case 'S':
+                    orderUpdate.setSide(reader.nextString(null));
+                    break;
+                case 'o':
+                    orderUpdate.setType(reader.nextString(null));
+                    break;
+                case 'f':
+                    orderUpdate.setTimeInForce(reader.nextString(null));
+                    break;
+                case 'q':
+                    orderUpdate.setOrigQty(reader.nextBigDecimal());
+                    break;
+                case 'p':
+                    orderUpdate.setPrice(reader.nextBigDecimal());
+                    break;
+                case 'x':
+                    orderUpdate.setExecutionType(reader.nextString(null));
+                    break;
+                case 'X':
+                    orderUpdate.setOrderStatus(reader.nextString(null));
+                    break;
+                case 'i':
+                    orderUpdate.setOrderId(reader.nextLong());
+                    break;
+                case 'l':
+                    orderUpdate.setLastFilledQty(reader.nextBigDecimal());
+                    break;
+                case 'z':
+                    orderUpdate.setCumulativeFilledQty(reader.nextBigDecimal());
+                    break;
+                case 'L':
+                    orderUpdate.setLastFilledPrice(reader.nextBigDecimal());
+                    break;
+                case 'N':
+                    orderUpdate.setCommissionAsset(reader.nextString(null));
+                    break;
+                case 'n':
+                    orderUpdate.setCommissionAmount(reader.nextBigDecimal());
+                    break;
+                case 'T':
+                    orderUpdate.setOrderTradeTime(reader.nextLong());
+                    break;
+                case 't':
+                    orderUpdate.setTradeID(reader.nextLong());
+                    break;
+                case 'b':
+                    orderUpdate.setBidsNotional(reader.nextBigDecimal());
+                    break;
+                case 'a':
+                    orderUpdate.setAsksNotional(reader.nextBigDecimal());
+                    break;
+                case 'm':
+                    orderUpdate.setIsMarkerSide(reader.nextBoolean());
+                    break;
+                case 'R':
+                    orderUpdate.setIsReduceOnly(reader.nextBoolean());
+                    break;
+                case FrameReader.LONG_NAME:
+                    if (reader.nameEquals("ap")) {
+                        orderUpdate.setAvgPrice(reader.nextBigDecimal());
+                    } else if (reader.nameEquals("sp")) {
+                        orderUpdate.setStopPrice(reader.nextBigDecimal());
+                    } else if (reader.nameEquals("wt")) {
+                        orderUpdate.setWorkingType(reader.nextString(null));
+                    } else if (reader.nameEquals("AP")) {
+                        orderUpdate.setActivationPrice(reader.nextBigDecimal());
+                    } else if (reader.nameEquals("cr")) {
+                        orderUpdate.setCallbackRate(reader.nextBigDecimal());
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return orderUpdate;
+    }
+
 }
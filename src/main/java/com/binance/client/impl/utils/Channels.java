@@ -3,150 +3,165 @@ package com.binance.client.impl.utils;
 import com.alibaba.fastjson.JSONArray;
 import com.alibaba.fastjson.JSONObject;
 import com.binance.client.model.enums.CandlestickInterval;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class Channels {
 
     public static final String OP_SUB = "sub";
     public static final String OP_REQ = "req";
 
-    public static String aggregateTradeChannel(String symbol) {
+    private static final AtomicLong requestIdCounter = new AtomicLong();
+
+    /**
+     * @return The next id of a SUBSCRIBE or UNSUBSCRIBE request, increasing over
+     *         the life of the process so responses can be matched to requests.
+     */
+    public static long nextRequestId() {
+        return requestIdCounter.incrementAndGet();
+    }
+
+    /**
+     * Build a SUBSCRIBE message for the given stream names.
+     */
+    public static String subscribe(List<String> streams) {
+        return request("SUBSCRIBE", nextRequestId(), streams);
+    }
+
+    /**
+     * Build a request message, SUBSCRIBE or UNSUBSCRIBE, for the given stream names.
+     */
+    public static String request(String method, long id, List<String> streams) {
         JSONObject json = new JSONObject();
         JSONArray params = new JSONArray();
-        params.add(symbol + "@aggTrade");
+        params.addAll(streams);
         json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
+        json.put("id", id);
+        json.put("method", method);
         return json.toJSONString();
     }
+
+    /**
+     * Stream names take the symbol in lowercase. The multiplexed connections
+     * route frames by the lowercase name, and the server rejects a SUBSCRIBE with
+     * an uppercase symbol, along with every other stream in the same request.
+     */
+    private static String lower(String symbol) {
+        return symbol != null ? symbol.toLowerCase(Locale.ROOT) : null;
+    }
+
+    public static String aggregateTradeStream(String symbol) {
+        return lower(symbol) + "@aggTrade";
+    }
+
+    public static String aggregateTradeChannel(String symbol) {
+        return subscribe(Collections.singletonList(aggregateTradeStream(symbol)));
+    }
   
+    public static String markPriceStream(String symbol) {
+        return lower(symbol) + "@markPrice";
+    }
+
     public static String markPriceChannel(String symbol) {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add(symbol + "@markPrice");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(markPriceStream(symbol)));
     }
   
+    public static String candlestickStream(String symbol, CandlestickInterval interval) {
+        return lower(symbol) + "@kline_" + interval;
+    }
+
     public static String candlestickChannel(String symbol, CandlestickInterval interval) {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add(symbol + "@kline_" + interval);
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(candlestickStream(symbol, interval)));
     }
   
+    public static String miniTickerStream(String symbol) {
+        return lower(symbol) + "@miniTicker";
+    }
+
     public static String miniTickerChannel(String symbol) {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add(symbol + "@miniTicker");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(miniTickerStream(symbol)));
     }
   
+    public static String miniTickerStream() {
+        return "!miniTicker@arr";
+    }
+
     public static String miniTickerChannel() {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add("!miniTicker@arr");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(miniTickerStream()));
     }
   
+    public static String tickerStream(String symbol) {
+        return lower(symbol) + "@ticker";
+    }
+
     public static String tickerChannel(String symbol) {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add(symbol + "@ticker");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(tickerStream(symbol)));
     }
   
+    public static String tickerStream() {
+        return "!ticker@arr";
+    }
+
     public static String tickerChannel() {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add("!ticker@arr");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(tickerStream()));
     }
   
+    public static String bookTickerStream(String symbol) {
+        return lower(symbol) + "@bookTicker";
+    }
+
     public static String bookTickerChannel(String symbol) {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add(symbol + "@bookTicker");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(bookTickerStream(symbol)));
     }
   
+    public static String bookTickerStream() {
+        return "!bookTicker";
+    }
+
     public static String bookTickerChannel() {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add("!bookTicker");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(bookTickerStream()));
     }
   
+    public static String liquidationOrderStream(String symbol) {
+        return lower(symbol) + "@forceOrder";
+    }
+
     public static String liquidationOrderChannel(String symbol) {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add(symbol + "@forceOrder");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(liquidationOrderStream(symbol)));
     }
   
+    public static String liquidationOrderStream() {
+        return "!forceOrder@arr";
+    }
+
     public static String liquidationOrderChannel() {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add("!forceOrder@arr");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(liquidationOrderStream()));
     }
   
+    public static String bookDepthStream(String symbol, Integer limit) {
+        return lower(symbol) + "@depth" + limit;
+    }
+
     public static String bookDepthChannel(String symbol, Integer limit) {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add(symbol + "@depth" + limit);
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(bookDepthStream(symbol, limit)));
     }
   
+    public static String diffDepthStream(String symbol) {
+        return lower(symbol) + "@depth";
+    }
+
     public static String diffDepthChannel(String symbol) {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add(symbol + "@depth");
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(diffDepthStream(symbol)));
     }
   
+    public static String userDataStream(String listenKey) {
+        return listenKey;
+    }
+
     public static String userDataChannel(String listenKey) {
-        JSONObject json = new JSONObject();
-        JSONArray params = new JSONArray();
-        params.add(listenKey);
-        json.put("params", params);
-        json.put("id", System.currentTimeMillis());
-        json.put("method", "SUBSCRIBE");
-        return json.toJSONString();
+        return subscribe(Collections.singletonList(userDataStream(listenKey)));
     }
   
 }
\ No newline at end of file
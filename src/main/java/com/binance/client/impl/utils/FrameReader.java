@@ -0,0 +1,325 @@
+package com.binance.client.impl.utils;
+
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.Decimal;
+import com.binance.client.model.market.PriceLevelBook;
+import java.math.BigDecimal;
+
+/**
+ * Pull reader over the text of a websocket frame. Unlike {@link JsonWrapper} it
+ * builds no tree: names are matched in place and numbers are read straight from
+ * the characters, so an event can be filled without allocating. Numbers are
+ * accepted both plain and quoted, the way the streams send prices and
+ * quantities. A reader is reset for each frame and must not be shared between
+ * threads.
+ */
+public class FrameReader {
+
+    /**
+     * Returned by {@link #nextName()} for a name of more than one character.
+     */
+    public static final char LONG_NAME = 0;
+
+    private String text = "";
+    private int pos = 0;
+    private int nameStart = 0;
+    private int nameEnd = 0;
+    private int valueStart = 0;
+    private int valueEnd = 0;
+    private boolean quoted = false;
+
+    public FrameReader reset(String text) {
+        this.text = text;
+        this.pos = 0;
+        return this;
+    }
+
+    public void beginObject() {
+        expect('{');
+    }
+
+    public void endObject() {
+        expect('}');
+    }
+
+    public void beginArray() {
+        expect('[');
+    }
+
+    public void endArray() {
+        expect(']');
+    }
+
+    /**
+     * @return True if the current object or array has another element.
+     */
+    public boolean hasNext() {
+        char c = peekToken();
+        return c != '}' && c != ']';
+    }
+
+    /**
+     * @return True if the next value is an object.
+     */
+    public boolean peekObject() {
+        return peekToken() == '{';
+    }
+
+    /**
+     * Read the next field name. Stream schemas use one-letter names, so those
+     * are returned as a character to switch on; longer ones are checked with
+     * {@link #nameEquals(String)}.
+     *
+     * @return The name if it is one character, {@link #LONG_NAME} otherwise.
+     */
+    public char nextName() {
+        if (peekToken() != '"') {
+            throw syntaxError("Expected a field name");
+        }
+        nameStart = pos + 1;
+        pos = stringEnd(pos);
+        nameEnd = pos - 1;
+        return nameEnd - nameStart == 1 ? text.charAt(nameStart) : LONG_NAME;
+    }
+
+    /**
+     * @return True if the name last read is the given one.
+     */
+    public boolean nameEquals(String name) {
+        return nameEnd - nameStart == name.length() && text.startsWith(name, nameStart);
+    }
+
+    public long nextLong() {
+        readValue();
+        int i = valueStart;
+        boolean negative = i < valueEnd && text.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == valueEnd) {
+            throw syntaxError("Expected a long");
+        }
+        long value = 0;
+        for (; i < valueEnd; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw syntaxError("Expected a long");
+            }
+            if (value > (Long.MAX_VALUE - 9) / 10) {
+                throw syntaxError("Long out of range");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    public boolean nextBoolean() {
+        readValue();
+        if (isLiteral("true")) {
+            return true;
+        }
+        if (isLiteral("false")) {
+            return false;
+        }
+        throw syntaxError("Expected a boolean");
+    }
+
+    /**
+     * Read a string, handing back the previous value when the text is the same,
+     * so a field that rarely changes, like the symbol, does not allocate.
+     *
+     * @param previous The value the field held so far, or null.
+     * @return The string, null for a null literal.
+     */
+    public String nextString(String previous) {
+        readValue();
+        if (!quoted && isLiteral("null")) {
+            return null;
+        }
+        int length = valueEnd - valueStart;
+        for (int i = valueStart; i < valueEnd; i++) {
+            if (text.charAt(i) == '\\') {
+                return unescape();
+            }
+        }
+        if (previous != null && previous.length() == length && text.startsWith(previous, valueStart)) {
+            return previous;
+        }
+        return text.substring(valueStart, valueEnd);
+    }
+
+    /**
+     * Read a decimal as a long scaled by 10^scale, see
+     * {@link PriceLevelBook#parseScaled(CharSequence, int)}.
+     */
+    public long nextScaled(int scale) {
+        readValue();
+        return PriceLevelBook.parseScaled(text, valueStart, valueEnd, scale);
+    }
+
+    public Decimal nextDecimal() {
+        readValue();
+        try {
+            return Decimal.parse(text, valueStart, valueEnd);
+        } catch (NumberFormatException e) {
+            throw syntaxError(e.getMessage());
+        }
+    }
+
+    /**
+     * @return The decimal without trailing zeros, as
+     *         {@link JsonWrapper#getBigDecimal(String)} returns it.
+     */
+    public BigDecimal nextBigDecimal() {
+        readValue();
+        try {
+            BigDecimal value = new BigDecimal(text.substring(valueStart, valueEnd)).stripTrailingZeros();
+            return value.scale() < 0 ? value.setScale(0) : value;
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected a decimal");
+        }
+    }
+
+    public void skipValue() {
+        char c = peekToken();
+        if (c != '{' && c != '[') {
+            readValue();
+            return;
+        }
+        int depth = 0;
+        do {
+            c = peekToken();
+            if (c == '"') {
+                pos = stringEnd(pos);
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            } else {
+                readValue();
+                continue;
+            }
+            pos++;
+        } while (depth > 0);
+    }
+
+    /**
+     * Mark the bounds of the next string or literal, without its quotes.
+     */
+    private void readValue() {
+        char c = peekToken();
+        quoted = c == '"';
+        if (quoted) {
+            valueStart = pos + 1;
+            pos = stringEnd(pos);
+            valueEnd = pos - 1;
+            return;
+        }
+        valueStart = pos;
+        while (pos < text.length()) {
+            c = text.charAt(pos);
+            if (c == ',' || c == '}' || c == ']' || c == ':' || c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                break;
+            }
+            pos++;
+        }
+        valueEnd = pos;
+        if (valueEnd == valueStart) {
+            throw syntaxError("Expected a value");
+        }
+    }
+
+    private boolean isLiteral(String literal) {
+        return valueEnd - valueStart == literal.length() && text.startsWith(literal, valueStart);
+    }
+
+    /**
+     * Skip whitespace and separators and return the next character without
+     * consuming it.
+     */
+    private char peekToken() {
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == ',' || c == ':') {
+                pos++;
+            } else {
+                return c;
+            }
+        }
+        throw syntaxError("Unexpected end of input");
+    }
+
+    private void expect(char c) {
+        if (peekToken() != c) {
+            throw syntaxError("Expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    /**
+     * @return The index after the closing quote of the string opening at start.
+     */
+    private int stringEnd(int start) {
+        int i = start + 1;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private String unescape() {
+        StringBuilder builder = new StringBuilder(valueEnd - valueStart);
+        for (int i = valueStart; i < valueEnd; i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 >= valueEnd) {
+                builder.append(c);
+                continue;
+            }
+            c = text.charAt(++i);
+            switch (c) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 >= valueEnd) {
+                        throw syntaxError("Unterminated escape");
+                    }
+                    try {
+                        builder.append((char) Integer.parseInt(text.substring(i + 1, i + 5), 16));
+                    } catch (NumberFormatException e) {
+                        throw syntaxError("Malformed unicode escape");
+                    }
+                    i += 4;
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static BinanceApiException syntaxError(String message) {
+        return new BinanceApiException(BinanceApiException.RUNTIME_ERROR, "[Frame] " + message);
+    }
+}
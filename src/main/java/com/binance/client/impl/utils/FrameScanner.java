@@ -0,0 +1,187 @@
+package com.binance.client.impl.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds top-level fields and array elements in the text of a websocket frame
+ * without parsing it, so a frame can be routed or keyed before deciding whether
+ * it is worth a full parse. Values are returned as raw JSON text.
+ */
+public abstract class FrameScanner {
+
+    /**
+     * @return The raw value of a top-level field of an object, or null if the
+     *         text is not an object or has no such field.
+     */
+    public static String field(String text, String name) {
+        int start = valueStart(text, 0, name);
+        return start < 0 ? null : text.substring(start, valueEnd(text, start));
+    }
+
+    /**
+     * @return The value of a top-level integer field, or the default value if
+     *         the text has no such field or it is not an integer. Nothing is
+     *         allocated.
+     */
+    public static long longField(String text, String name, long defaultValue) {
+        return longField(text, 0, name, defaultValue);
+    }
+
+    /**
+     * @return The value of a top-level integer field of the object starting at
+     *         the given index, like the first element of an array, or the
+     *         default value. Nothing is allocated.
+     */
+    public static long longField(String text, int from, String name, long defaultValue) {
+        int i = valueStart(text, from, name);
+        if (i < 0) {
+            return defaultValue;
+        }
+        int length = text.length();
+        boolean negative = i < length && text.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        long value = 0;
+        int start = i;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (i == start || (i < length && ",}] \t\r\n".indexOf(text.charAt(i)) < 0)) {
+            return defaultValue;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * @return The index of the value of a top-level field of the object at the
+     *         given index, or -1.
+     */
+    private static int valueStart(String text, int from, String name) {
+        int length = text.length();
+        int i = skipWhitespace(text, from);
+        if (i >= length || text.charAt(i) != '{') {
+            return -1;
+        }
+        i++;
+        while (true) {
+            i = skipWhitespace(text, i);
+            if (i >= length || text.charAt(i) != '"') {
+                return -1;
+            }
+            int keyEnd = stringEnd(text, i);
+            boolean match = keyEnd - i - 2 == name.length() && text.startsWith(name, i + 1);
+            i = skipWhitespace(text, keyEnd);
+            if (i >= length || text.charAt(i) != ':') {
+                return -1;
+            }
+            i = skipWhitespace(text, i + 1);
+            if (match) {
+                return i;
+            }
+            i = skipWhitespace(text, valueEnd(text, i));
+            if (i >= length || text.charAt(i) != ',') {
+                return -1;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * @return The value of a top-level string field without its quotes, or null.
+     *         Escapes are kept as they are.
+     */
+    public static String stringField(String text, String name) {
+        String value = field(text, name);
+        if (value == null || value.length() < 2 || value.charAt(0) != '"') {
+            return null;
+        }
+        return value.substring(1, value.length() - 1);
+    }
+
+    /**
+     * @return The raw elements of an array, or an empty list if the text is not an
+     *         array.
+     */
+    public static List<String> elements(String text) {
+        List<String> elements = new ArrayList<>();
+        int length = text.length();
+        int i = skipWhitespace(text, 0);
+        if (i >= length || text.charAt(i) != '[') {
+            return elements;
+        }
+        i = skipWhitespace(text, i + 1);
+        while (i < length && text.charAt(i) != ']') {
+            int end = valueEnd(text, i);
+            elements.add(text.substring(i, end));
+            i = skipWhitespace(text, end);
+            if (i < length && text.charAt(i) == ',') {
+                i = skipWhitespace(text, i + 1);
+            }
+        }
+        return elements;
+    }
+
+    private static int skipWhitespace(String text, int i) {
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int stringEnd(String text, int start) {
+        int i = start + 1;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return text.length();
+    }
+
+    private static int valueEnd(String text, int start) {
+        int length = text.length();
+        if (start >= length) {
+            return length;
+        }
+        char c = text.charAt(start);
+        if (c == '"') {
+            return stringEnd(text, start);
+        }
+        if (c != '{' && c != '[') {
+            int i = start;
+            while (i < length && ",}] \t\r\n".indexOf(text.charAt(i)) < 0) {
+                i++;
+            }
+            return i;
+        }
+        int depth = 0;
+        int i = start;
+        while (i < length) {
+            c = text.charAt(i);
+            if (c == '"') {
+                i = stringEnd(text, i);
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (--depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,381 @@
+package com.binance.client.impl.utils;
+
+import com.binance.client.exception.BinanceApiException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import okio.Buffer;
+import okio.BufferedSource;
+
+/**
+ * Pull reader over the bytes of a JSON document. Values are read straight from the
+ * source as they are needed, so a response can be turned into model objects
+ * without holding the whole body as a String or a DOM. Numbers are accepted both
+ * plain and quoted, the way the API sends prices and quantities.
+ */
+public class JsonStreamReader {
+
+    private static final int MAX_FAST_DIGITS = 18;
+
+    private final BufferedSource source;
+    private final Buffer buffer;
+    private char[] chars = new char[32];
+
+    public JsonStreamReader(BufferedSource source) {
+        this.source = source;
+        this.buffer = source.buffer();
+    }
+
+    public void beginObject() throws IOException {
+        expect('{');
+    }
+
+    public void endObject() throws IOException {
+        expect('}');
+    }
+
+    public void beginArray() throws IOException {
+        expect('[');
+    }
+
+    public void endArray() throws IOException {
+        expect(']');
+    }
+
+    /**
+     * @return True if the current object or array has another element.
+     */
+    public boolean hasNext() throws IOException {
+        byte b = peekToken();
+        return b != '}' && b != ']';
+    }
+
+    /**
+     * @return True if the next value is an array.
+     */
+    public boolean peekArray() throws IOException {
+        return peekToken() == '[';
+    }
+
+    public String nextName() throws IOException {
+        if (peekToken() != '"') {
+            throw syntaxError("Expected a field name");
+        }
+        return readQuoted();
+    }
+
+    /**
+     * @return The next string, number or literal as text, null for a null literal.
+     */
+    public String nextString() throws IOException {
+        if (peekToken() == '"') {
+            return readQuoted();
+        }
+        int length = readLiteral();
+        if (isNull(length)) {
+            return null;
+        }
+        return new String(chars, 0, length);
+    }
+
+    public Long nextLong() throws IOException {
+        boolean quoted = openNumber();
+        if (!quoted && isNullLiteral()) {
+            return null;
+        }
+        boolean negative = false;
+        if (buffer.getByte(0) == '-') {
+            negative = true;
+            buffer.skip(1);
+        }
+        long value = 0;
+        int digits = 0;
+        while (source.request(1)) {
+            byte b = buffer.getByte(0);
+            if (b < '0' || b > '9') {
+                break;
+            }
+            try {
+                value = Math.addExact(Math.multiplyExact(value, 10), b - '0');
+            } catch (ArithmeticException e) {
+                throw syntaxError("Long out of range");
+            }
+            digits++;
+            buffer.skip(1);
+        }
+        if (digits == 0) {
+            throw syntaxError("Expected a long");
+        }
+        closeNumber(quoted);
+        return negative ? -value : value;
+    }
+
+    public Integer nextInt() throws IOException {
+        Long value = nextLong();
+        if (value == null) {
+            return null;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw syntaxError("Integer out of range " + value);
+        }
+        return value.intValue();
+    }
+
+    /**
+     * Read a decimal without creating an intermediate String. Values of up to 18
+     * significant digits are built from their unscaled long value. Trailing zeros
+     * are stripped, as {@link JsonWrapper#getBigDecimal(String)} does.
+     */
+    public BigDecimal nextBigDecimal() throws IOException {
+        boolean quoted = openNumber();
+        if (!quoted && isNullLiteral()) {
+            return null;
+        }
+        int length = 0;
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        boolean fast = true;
+        while (source.request(1)) {
+            byte b = buffer.getByte(0);
+            if (b >= '0' && b <= '9') {
+                unscaled = unscaled * 10 + (b - '0');
+                if (++digits > MAX_FAST_DIGITS) {
+                    fast = false;
+                }
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.') {
+                scale = 0;
+            } else if (b == '-' && length == 0) {
+                // sign is applied below
+            } else if (b == 'e' || b == 'E' || b == '+' || b == '-') {
+                fast = false;
+            } else {
+                break;
+            }
+            append(length++, (char) b);
+            buffer.skip(1);
+        }
+        if (digits == 0) {
+            throw syntaxError("Expected a decimal");
+        }
+        closeNumber(quoted);
+        if (!fast) {
+            BigDecimal value = new BigDecimal(chars, 0, length).stripTrailingZeros();
+            return value.scale() < 0 ? value.setScale(0) : value;
+        }
+        while (scale > 0 && unscaled % 10 == 0) {
+            unscaled /= 10;
+            scale--;
+        }
+        return BigDecimal.valueOf(chars[0] == '-' ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    public Boolean nextBoolean() throws IOException {
+        if (peekToken() == '"') {
+            return Boolean.valueOf(readQuoted());
+        }
+        int length = readLiteral();
+        if (isNull(length)) {
+            return null;
+        }
+        if (length == 4 && chars[0] == 't' && chars[1] == 'r' && chars[2] == 'u' && chars[3] == 'e') {
+            return Boolean.TRUE;
+        }
+        if (length == 5 && chars[0] == 'f' && chars[1] == 'a' && chars[2] == 'l' && chars[3] == 's'
+                && chars[4] == 'e') {
+            return Boolean.FALSE;
+        }
+        throw syntaxError("Expected a boolean");
+    }
+
+    /**
+     * Skip the next value, including nested objects and arrays.
+     */
+    public void skipValue() throws IOException {
+        byte b = peekToken();
+        if (b == '"') {
+            skipQuoted();
+            return;
+        }
+        if (b != '{' && b != '[') {
+            readLiteral();
+            return;
+        }
+        int depth = 0;
+        do {
+            b = peekToken();
+            if (b == '"') {
+                skipQuoted();
+                continue;
+            }
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            } else {
+                readLiteral();
+                continue;
+            }
+            buffer.skip(1);
+        } while (depth > 0);
+    }
+
+    /**
+     * Skip whitespace and separators and return the next byte without consuming it.
+     */
+    private byte peekToken() throws IOException {
+        while (true) {
+            if (!source.request(1)) {
+                throw syntaxError("Unexpected end of input");
+            }
+            byte b = buffer.getByte(0);
+            if (b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == ',' || b == ':') {
+                buffer.skip(1);
+            } else {
+                return b;
+            }
+        }
+    }
+
+    private void expect(char c) throws IOException {
+        if (peekToken() != c) {
+            throw syntaxError("Expected '" + c + "'");
+        }
+        buffer.skip(1);
+    }
+
+    private boolean openNumber() throws IOException {
+        if (peekToken() == '"') {
+            buffer.skip(1);
+            if (!source.request(1)) {
+                throw syntaxError("Unexpected end of input");
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void closeNumber(boolean quoted) throws IOException {
+        if (quoted) {
+            if (!source.request(1) || buffer.getByte(0) != '"') {
+                throw syntaxError("Malformed number");
+            }
+            buffer.skip(1);
+        }
+    }
+
+    private boolean isNullLiteral() throws IOException {
+        if (buffer.getByte(0) != 'n') {
+            return false;
+        }
+        if (!isNull(readLiteral())) {
+            throw syntaxError("Expected a number");
+        }
+        return true;
+    }
+
+    private boolean isNull(int length) {
+        return length == 4 && chars[0] == 'n' && chars[1] == 'u' && chars[2] == 'l' && chars[3] == 'l';
+    }
+
+    private int readLiteral() throws IOException {
+        int length = 0;
+        while (source.request(1)) {
+            byte b = buffer.getByte(0);
+            if (b == ',' || b == '}' || b == ']' || b == ':' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                break;
+            }
+            append(length++, (char) b);
+            buffer.skip(1);
+        }
+        if (length == 0) {
+            throw syntaxError("Expected a value");
+        }
+        return length;
+    }
+
+    private String readQuoted() throws IOException {
+        buffer.skip(1);
+        StringBuilder builder = null;
+        while (true) {
+            long end = source.indexOf((byte) '"');
+            if (end == -1) {
+                throw syntaxError("Unterminated string");
+            }
+            long escape = buffer.indexOf((byte) '\\', 0, end);
+            if (escape == -1) {
+                String tail = buffer.readUtf8(end);
+                buffer.skip(1);
+                return builder == null ? tail : builder.append(tail).toString();
+            }
+            if (builder == null) {
+                builder = new StringBuilder();
+            }
+            builder.append(buffer.readUtf8(escape));
+            buffer.skip(1);
+            builder.append(readEscape());
+        }
+    }
+
+    private char readEscape() throws IOException {
+        if (!source.request(1)) {
+            throw syntaxError("Unterminated escape");
+        }
+        byte b = buffer.readByte();
+        switch (b) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (!source.request(4)) {
+                    throw syntaxError("Unterminated escape");
+                }
+                try {
+                    return (char) Integer.parseInt(buffer.readUtf8(4), 16);
+                } catch (NumberFormatException e) {
+                    throw syntaxError("Malformed unicode escape");
+                }
+            default:
+                return (char) b;
+        }
+    }
+
+    private void skipQuoted() throws IOException {
+        buffer.skip(1);
+        while (true) {
+            long end = source.indexOf((byte) '"');
+            if (end == -1) {
+                throw syntaxError("Unterminated string");
+            }
+            long escape = buffer.indexOf((byte) '\\', 0, end);
+            if (escape == -1) {
+                buffer.skip(end + 1);
+                return;
+            }
+            buffer.skip(escape + 1);
+            readEscape();
+        }
+    }
+
+    private void append(int index, char c) {
+        if (index == chars.length) {
+            char[] grown = new char[chars.length * 2];
+            System.arraycopy(chars, 0, grown, 0, chars.length);
+            chars = grown;
+        }
+        chars[index] = c;
+    }
+
+    private static BinanceApiException syntaxError(String message) {
+        return new BinanceApiException(BinanceApiException.RUNTIME_ERROR, "[Json] " + message);
+    }
+}
@@ -5,6 +5,7 @@ import com.alibaba.fastjson.JSONArray;
 import com.alibaba.fastjson.JSONException;
 import com.alibaba.fastjson.JSONObject;
 import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.Decimal;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -19,10 +20,12 @@ public class JsonWrapper {
     public static JsonWrapper parseFromString(String text) {
         try {
             JSONObject jsonObject;
-            if(JSON.parse(text) instanceof JSONArray) {
-                jsonObject = (JSONObject) JSON.parse("{data:" + text + "}");
+            Object parsed = JSON.parse(text);
+            if (parsed instanceof JSONArray) {
+                jsonObject = new JSONObject();
+                jsonObject.put("data", parsed);
             } else {
-                jsonObject = (JSONObject) JSON.parse(text);
+                jsonObject = (JSONObject) parsed;
             }
             if (jsonObject != null) {
                 return new JsonWrapper(jsonObject);
@@ -173,6 +176,45 @@ public class JsonWrapper {
         }
     }
 
+    public Decimal getDecimal(String name) {
+        checkMandatoryField(name);
+        try {
+            return toDecimal(json.get(name));
+        } catch (Exception e) {
+            throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                    "[Json] Get decimal error: " + name + " " + e.getMessage());
+        }
+    }
+
+    public Decimal getDecimalOrDefault(String name, Decimal defValue) {
+        if (!containKey(name)) {
+            return defValue;
+        }
+        try {
+            return toDecimal(json.get(name));
+        } catch (Exception e) {
+            throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                    "[Json] Get decimal error: " + name + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Prices and quantities come as strings, which are parsed without going
+     * through BigDecimal.
+     */
+    static Decimal toDecimal(Object value) {
+        if (value instanceof String) {
+            return Decimal.parse((String) value);
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            return Decimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof BigDecimal) {
+            return Decimal.valueOf((BigDecimal) value);
+        }
+        return Decimal.parse(String.valueOf(value));
+    }
+
     public JsonWrapper getJsonObject(String name) {
         checkMandatoryField(name);
         return new JsonWrapper(json.getJSONObject(name));
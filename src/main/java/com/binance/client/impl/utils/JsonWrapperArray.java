@@ -4,6 +4,7 @@ import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONArray;
 import com.alibaba.fastjson.JSONObject;
 import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.Decimal;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.LinkedList;
@@ -87,6 +88,15 @@ public class JsonWrapperArray {
 
     }
 
+    public Decimal getDecimalAt(int index) {
+        try {
+            return JsonWrapper.toDecimal(getObjectAt(index));
+        } catch (RuntimeException e) {
+            throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                    "[Json] Cannot get decimal at index " + index + " in array: " + e.getMessage());
+        }
+    }
+
     public String getStringAt(int index) {
 
         try {
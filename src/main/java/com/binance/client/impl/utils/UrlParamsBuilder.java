@@ -143,29 +143,32 @@ public class UrlParamsBuilder {
     }
 
     public String buildUrl() {
-        Map<String, String> map = new LinkedHashMap<>(paramsMap.map);
-        StringBuilder head = new StringBuilder("");
-        return "?" + AppendUrl(map, head);
-
+        StringBuilder head = new StringBuilder("?");
+        appendQuery(head);
+        return head.toString();
     }
 
     public String buildSignature() {
-        Map<String, String> map = new LinkedHashMap<>(paramsMap.map);
         StringBuilder head = new StringBuilder();
-        return AppendUrl(map, head);
-
+        appendQuery(head);
+        return head.toString();
     }
 
-    private String AppendUrl(Map<String, String> map, StringBuilder stringBuilder) {
-        for (Map.Entry<String, String> entry : map.entrySet()) {
-            if (!("").equals(stringBuilder.toString())) {
-                stringBuilder.append("&");
+    /**
+     * Append the url parameters as "k1=v1&k2=v2" without the leading '?'.
+     *
+     * @param stringBuilder The builder to append to, may be reused by the caller.
+     */
+    public void appendQuery(StringBuilder stringBuilder) {
+        int start = stringBuilder.length();
+        for (Map.Entry<String, String> entry : paramsMap.map.entrySet()) {
+            if (stringBuilder.length() > start) {
+                stringBuilder.append('&');
             }
             stringBuilder.append(entry.getKey());
-            stringBuilder.append("=");
-            stringBuilder.append(urlEncode(entry.getValue()));
+            stringBuilder.append('=');
+            appendEncoded(stringBuilder, entry.getValue());
         }
-        return stringBuilder.toString();
     }
 
     public RequestBody buildPostBody() {
@@ -202,4 +205,19 @@ public class UrlParamsBuilder {
             throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR, "[URL] UTF-8 encoding not supported!");
         }
     }
+
+    private static void appendEncoded(StringBuilder stringBuilder, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (!isUnreserved(s.charAt(i))) {
+                stringBuilder.append(urlEncode(s));
+                return;
+            }
+        }
+        stringBuilder.append(s);
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '*';
+    }
 }
@@ -0,0 +1,275 @@
+package com.binance.client.model;
+
+import java.math.BigDecimal;
+
+/**
+ * An immutable fixed-point decimal: a long mantissa and a scale of 0 to 18
+ * decimals. Values are kept without trailing zeros, so equal values have equal
+ * representations. Arithmetic is exact and throws {@link ArithmeticException}
+ * when a result does not fit, instead of rounding.
+ */
+public final class Decimal extends Number implements Comparable<Decimal> {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    public static final Decimal ZERO = new Decimal(0, 0);
+
+    public static final Decimal ONE = new Decimal(1, 0);
+
+    private final long mantissa;
+
+    private final byte scale;
+
+    private Decimal(long mantissa, int scale) {
+        this.mantissa = mantissa;
+        this.scale = (byte) scale;
+    }
+
+    /**
+     * @return The value mantissa * 10^-scale.
+     */
+    public static Decimal valueOf(long mantissa, int scale) {
+        if (scale < 0) {
+            if (-scale > MAX_SCALE) {
+                throw new ArithmeticException("Decimal overflow");
+            }
+            return valueOf(Math.multiplyExact(mantissa, POWERS_OF_TEN[-scale]), 0);
+        }
+        while (scale > 0 && mantissa % 10 == 0) {
+            mantissa /= 10;
+            scale--;
+        }
+        if (scale > MAX_SCALE) {
+            throw new ArithmeticException("Decimal scale " + scale + " is over " + MAX_SCALE);
+        }
+        if (mantissa == 0) {
+            return ZERO;
+        }
+        if (mantissa == 1 && scale == 0) {
+            return ONE;
+        }
+        return new Decimal(mantissa, scale);
+    }
+
+    public static Decimal valueOf(long value) {
+        return valueOf(value, 0);
+    }
+
+    /**
+     * @throws ArithmeticException If the value needs more than 18 decimals or
+     *                             does not fit a long mantissa.
+     */
+    public static Decimal valueOf(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.scale() < 0) {
+            stripped = stripped.setScale(0);
+        }
+        return valueOf(stripped.unscaledValue().longValueExact(), stripped.scale());
+    }
+
+    /**
+     * Parse a plain decimal like "-123.4500" without creating a BigDecimal.
+     * Exponents and values of more than 18 digits are taken through BigDecimal.
+     *
+     * @throws NumberFormatException If the text is not a number.
+     */
+    public static Decimal parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parse the decimal between two indexes of the text, as
+     * {@link #parse(CharSequence)}.
+     */
+    public static Decimal parse(CharSequence text, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (end > start && (text.charAt(start) == '-' || text.charAt(start) == '+')) {
+            negative = text.charAt(start) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        boolean sawDigit = false;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return parseSlow(text.subSequence(start, end));
+            }
+            sawDigit = true;
+            if (digits > 0 || c != '0') {
+                digits++;
+            }
+            if (digits > MAX_SCALE) {
+                return parseSlow(text.subSequence(start, end));
+            }
+            mantissa = mantissa * 10 + (c - '0');
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (!sawDigit) {
+            throw new NumberFormatException("Invalid decimal " + text.subSequence(start, end));
+        }
+        if (scale > MAX_SCALE) {
+            return parseSlow(text.subSequence(start, end));
+        }
+        return valueOf(negative ? -mantissa : mantissa, Math.max(scale, 0));
+    }
+
+    private static Decimal parseSlow(CharSequence text) {
+        try {
+            return valueOf(new BigDecimal(text.toString()));
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Decimal out of range " + text);
+        }
+    }
+
+    public long getMantissa() {
+        return mantissa;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public Decimal add(Decimal other) {
+        int common = Math.max(scale, other.scale);
+        return valueOf(Math.addExact(rescale(common), other.rescale(common)), common);
+    }
+
+    public Decimal subtract(Decimal other) {
+        int common = Math.max(scale, other.scale);
+        return valueOf(Math.subtractExact(rescale(common), other.rescale(common)), common);
+    }
+
+    public Decimal multiply(Decimal other) {
+        return valueOf(Math.multiplyExact(mantissa, other.mantissa), scale + other.scale);
+    }
+
+    public Decimal negate() {
+        return mantissa == 0 ? this : new Decimal(Math.negateExact(mantissa), scale);
+    }
+
+    public Decimal abs() {
+        return mantissa < 0 ? negate() : this;
+    }
+
+    public int signum() {
+        return Long.signum(mantissa);
+    }
+
+    /**
+     * @return The mantissa at a larger scale.
+     * @throws ArithmeticException If it does not fit a long.
+     */
+    private long rescale(int target) {
+        return target == scale ? mantissa : Math.multiplyExact(mantissa, POWERS_OF_TEN[target - scale]);
+    }
+
+    @Override
+    public int compareTo(Decimal other) {
+        if (scale == other.scale) {
+            return Long.compare(mantissa, other.mantissa);
+        }
+        if (signum() != other.signum()) {
+            return Integer.compare(signum(), other.signum());
+        }
+        int common = Math.max(scale, other.scale);
+        try {
+            return Long.compare(rescale(common), other.rescale(common));
+        } catch (ArithmeticException e) {
+            return toBigDecimal().compareTo(other.toBigDecimal());
+        }
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(mantissa, scale);
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        return mantissa / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        // Both operands are exact doubles below 2^53, so the quotient is correctly rounded.
+        if (Math.abs(mantissa) < 1L << 53) {
+            return mantissa / (double) POWERS_OF_TEN[scale];
+        }
+        return Double.parseDouble(toString());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Decimal)) {
+            return false;
+        }
+        Decimal other = (Decimal) o;
+        return mantissa == other.mantissa && scale == other.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(mantissa) + scale;
+    }
+
+    /**
+     * @return The plain representation, like "0.0012" or "-150".
+     */
+    @Override
+    public String toString() {
+        if (scale == 0) {
+            return Long.toString(mantissa);
+        }
+        if (mantissa == Long.MIN_VALUE) {
+            return toBigDecimal().toPlainString();
+        }
+        String digits = Long.toString(Math.abs(mantissa));
+        StringBuilder builder = new StringBuilder(digits.length() + scale + 3);
+        if (mantissa < 0) {
+            builder.append('-');
+        }
+        int point = digits.length() - scale;
+        if (point <= 0) {
+            builder.append("0.");
+            for (int i = point; i < 0; i++) {
+                builder.append('0');
+            }
+            builder.append(digits);
+        } else {
+            builder.append(digits, 0, point).append('.').append(digits, point, digits.length());
+        }
+        return builder.toString();
+    }
+}
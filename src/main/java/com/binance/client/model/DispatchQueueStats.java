@@ -0,0 +1,78 @@
+package com.binance.client.model;
+
+import com.binance.client.constant.BinanceApiConstants;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A snapshot of the dispatch queue of one websocket connection.
+ */
+public class DispatchQueueStats {
+
+    private final int connectionId;
+    private final int capacity;
+    private final int depth;
+    private final int maxDepth;
+    private final long delivered;
+    private final long dropped;
+    private final long conflated;
+
+    public DispatchQueueStats(int connectionId, int capacity, int depth, int maxDepth, long delivered, long dropped,
+            long conflated) {
+        this.connectionId = connectionId;
+        this.capacity = capacity;
+        this.depth = depth;
+        this.maxDepth = maxDepth;
+        this.delivered = delivered;
+        this.dropped = dropped;
+        this.conflated = conflated;
+    }
+
+    public int getConnectionId() {
+        return connectionId;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of messages waiting to be delivered.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return The highest depth seen since the connection was created.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getDelivered() {
+        return delivered;
+    }
+
+    /**
+     * @return The number of messages discarded by the drop oldest policy.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return The number of messages replaced by a newer one of the same
+     *         subscription before delivery.
+     */
+    public long getConflated() {
+        return conflated;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
+                .append("connectionId", connectionId).append("capacity", capacity).append("depth", depth)
+                .append("maxDepth", maxDepth).append("delivered", delivered).append("dropped", dropped)
+                .append("conflated", conflated).toString();
+    }
+}
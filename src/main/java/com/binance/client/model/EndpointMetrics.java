@@ -0,0 +1,77 @@
+package com.binance.client.model;
+
+import com.binance.client.constant.BinanceApiConstants;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A snapshot of the requests to one REST endpoint.
+ */
+public class EndpointMetrics {
+
+    private final String path;
+    private final long requests;
+    private final long responseBytes;
+    private final long weight;
+    private final LatencyDistribution latency;
+    private final LatencyDistribution parseTime;
+
+    public EndpointMetrics(String path, long requests, long responseBytes, long weight, LatencyDistribution latency,
+            LatencyDistribution parseTime) {
+        this.path = path;
+        this.requests = requests;
+        this.responseBytes = responseBytes;
+        this.weight = weight;
+        this.latency = latency;
+        this.parseTime = parseTime;
+    }
+
+    /**
+     * @return The endpoint path, like "/fapi/v1/depth".
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return The number of requests that got a response.
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return The total length of the response bodies, leaving out those of
+     *         unknown length.
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @return The total weight of the requests.
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return The time from sending a request to receiving its response headers.
+     */
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return The time to read and parse a response body.
+     */
+    public LatencyDistribution getParseTime() {
+        return parseTime;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
+                .append("path", path).append("requests", requests).append("responseBytes", responseBytes)
+                .append("weight", weight).append("latency", latency).append("parseTime", parseTime).toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.binance.client.model;
+
+import com.binance.client.constant.BinanceApiConstants;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A snapshot of one connection, or leg, of a redundant subscription.
+ */
+public class FeedLegStats {
+
+    private final String streamName;
+    private final int leg;
+    private final String uri;
+    private final long received;
+    private final long firstArrivals;
+    private final long meanLagMicros;
+    private final long maxLagMicros;
+    private final long meanEventLatencyMs;
+
+    public FeedLegStats(String streamName, int leg, String uri, long received, long firstArrivals,
+            long meanLagMicros, long maxLagMicros, long meanEventLatencyMs) {
+        this.streamName = streamName;
+        this.leg = leg;
+        this.uri = uri;
+        this.received = received;
+        this.firstArrivals = firstArrivals;
+        this.meanLagMicros = meanLagMicros;
+        this.maxLagMicros = maxLagMicros;
+        this.meanEventLatencyMs = meanEventLatencyMs;
+    }
+
+    public String getStreamName() {
+        return streamName;
+    }
+
+    /**
+     * @return The index of the leg, from 0.
+     */
+    public int getLeg() {
+        return leg;
+    }
+
+    /**
+     * @return The stream server the leg connects to.
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * @return The number of events the leg received.
+     */
+    public long getReceived() {
+        return received;
+    }
+
+    /**
+     * @return The number of events the leg received before the other legs,
+     *         which are the ones passed to the listener.
+     */
+    public long getFirstArrivals() {
+        return firstArrivals;
+    }
+
+    /**
+     * @return The mean time by which the leg received an event after the
+     *         first leg to receive it, over the events it was not first for.
+     */
+    public long getMeanLagMicros() {
+        return meanLagMicros;
+    }
+
+    public long getMaxLagMicros() {
+        return maxLagMicros;
+    }
+
+    /**
+     * @return The mean time from the event time set by the exchange to its
+     *         receipt on this leg, which includes the clock offset.
+     */
+    public long getMeanEventLatencyMs() {
+        return meanEventLatencyMs;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
+                .append("streamName", streamName).append("leg", leg).append("uri", uri)
+                .append("received", received).append("firstArrivals", firstArrivals)
+                .append("meanLagMicros", meanLagMicros).append("maxLagMicros", maxLagMicros)
+                .append("meanEventLatencyMs", meanEventLatencyMs).toString();
+    }
+}
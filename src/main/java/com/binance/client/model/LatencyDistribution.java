@@ -0,0 +1,74 @@
+package com.binance.client.model;
+
+import com.binance.client.constant.BinanceApiConstants;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A snapshot of a latency histogram. The percentiles are accurate to about 3%.
+ */
+public class LatencyDistribution {
+
+    private final long count;
+    private final long meanNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    public LatencyDistribution(long count, long meanNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+            long p999Nanos, long maxNanos) {
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @return The number of values recorded.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getMeanNanos() {
+        return meanNanos;
+    }
+
+    /**
+     * @return The median.
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * @return The 99.9th percentile.
+     */
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
+                .append("count", count).append("meanNanos", meanNanos).append("p50Nanos", p50Nanos)
+                .append("p90Nanos", p90Nanos).append("p99Nanos", p99Nanos).append("p999Nanos", p999Nanos)
+                .append("maxNanos", maxNanos).toString();
+    }
+}
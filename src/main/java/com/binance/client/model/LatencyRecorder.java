@@ -0,0 +1,28 @@
+package com.binance.client.model;
+
+import com.binance.client.impl.BinanceApiInternalFactory;
+
+/**
+ * Records latencies in nanoseconds into a histogram, for metrics kept by the
+ * application. Recording is thread safe, lock free and allocates nothing.
+ */
+public interface LatencyRecorder {
+
+    /**
+     * @return A log-linear histogram accurate to about 3%.
+     */
+    static LatencyRecorder create() {
+        return BinanceApiInternalFactory.getInstance().createLatencyRecorder();
+    }
+
+    /**
+     * Record one value. Negative values are recorded as 0.
+     */
+    void record(long nanos);
+
+    /**
+     * @param reset True to start over, so the next snapshot covers the values
+     *              recorded from now on.
+     */
+    LatencyDistribution snapshot(boolean reset);
+}
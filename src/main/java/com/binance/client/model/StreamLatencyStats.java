@@ -0,0 +1,60 @@
+package com.binance.client.model;
+
+import com.binance.client.constant.BinanceApiConstants;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A snapshot of the latencies of one subscription, split at the points where a
+ * message is received, parsed and handed back by the listener.
+ */
+public class StreamLatencyStats {
+
+    private final String streamName;
+    private final LatencyDistribution exchangeToReceive;
+    private final LatencyDistribution receiveToParsed;
+    private final LatencyDistribution parsedToListenerDone;
+
+    public StreamLatencyStats(String streamName, LatencyDistribution exchangeToReceive,
+            LatencyDistribution receiveToParsed, LatencyDistribution parsedToListenerDone) {
+        this.streamName = streamName;
+        this.exchangeToReceive = exchangeToReceive;
+        this.receiveToParsed = receiveToParsed;
+        this.parsedToListenerDone = parsedToListenerDone;
+    }
+
+    public String getStreamName() {
+        return streamName;
+    }
+
+    /**
+     * @return The time from the event time set by the exchange to the receipt of
+     *         the message, to the millisecond. It includes the offset of the
+     *         local clock from the exchange's; negative values count as 0.
+     */
+    public LatencyDistribution getExchangeToReceive() {
+        return exchangeToReceive;
+    }
+
+    /**
+     * @return The time from the receipt of a message to the end of its parsing,
+     *         including the wait in the dispatch queue.
+     */
+    public LatencyDistribution getReceiveToParsed() {
+        return receiveToParsed;
+    }
+
+    /**
+     * @return The time spent in the listener.
+     */
+    public LatencyDistribution getParsedToListenerDone() {
+        return parsedToListenerDone;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
+                .append("streamName", streamName).append("exchangeToReceive", exchangeToReceive)
+                .append("receiveToParsed", receiveToParsed).append("parsedToListenerDone", parsedToListenerDone)
+                .toString();
+    }
+}
@@ -26,6 +26,25 @@ public enum CandlestickInterval {
         this.code = code;
     }
 
+    /**
+     * @return The nominal length of the interval in millisecond, MONTHLY counts as 31 days.
+     */
+    public long getDurationMs() {
+        long num = Long.parseLong(code.substring(0, code.length() - 1));
+        switch (code.charAt(code.length() - 1)) {
+            case 'm':
+                return num * 60_000L;
+            case 'h':
+                return num * 3_600_000L;
+            case 'd':
+                return num * 86_400_000L;
+            case 'w':
+                return num * 7 * 86_400_000L;
+            default:
+                return num * 31 * 86_400_000L;
+        }
+    }
+
     @Override
     public String toString() {
         return code;
@@ -0,0 +1,16 @@
+package com.binance.client.model.enums;
+
+/**
+ * What the reader thread does with a message of a subscription when the
+ * dispatch queue of its connection is full.
+ */
+public enum DispatchOverflowPolicy {
+
+    /** Wait for room, which stops reading from the socket meanwhile. */
+    BLOCK,
+    /** Discard the oldest queued message to make room. */
+    DROP_OLDEST,
+    /** Keep only the newest message of the subscription that is not delivered yet. */
+    CONFLATE;
+
+}
@@ -0,0 +1,16 @@
+package com.binance.client.model.enums;
+
+/**
+ * How an idle dispatch thread waits for the next message, and how a reader
+ * thread waits for room in a full queue.
+ */
+public enum DispatchWaitStrategy {
+
+    /** Poll continuously. Lowest latency, keeps a core busy. */
+    BUSY_SPIN,
+    /** Poll and yield the core between attempts. */
+    YIELD,
+    /** Park until the reader thread signals a new message. */
+    PARK;
+
+}
@@ -0,0 +1,18 @@
+package com.binance.client.model.enums;
+
+/**
+ * The order in which lost connections get the connection attempts of the
+ * subscription client when they are limited, see
+ * {@link com.binance.client.SubscriptionOptions#setConnectionsPerSecond(double)}.
+ * A connection carrying several streams takes the highest priority among them.
+ */
+public enum ReconnectPriority {
+
+    /** Streams a local state is built from, like user data and depth. */
+    HIGH,
+    /** Trades, candlesticks, mark prices and the other market streams. */
+    NORMAL,
+    /** Streams for display, like the tickers. */
+    LOW;
+
+}
@@ -1,31 +1,42 @@
 package com.binance.client.model.event;
 
 import com.binance.client.constant.BinanceApiConstants;
+import com.binance.client.model.Decimal;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigDecimal;
 
+/**
+ * An aggregate trade. The numeric fields are kept as primitives, so an event
+ * refilled in place by a flyweight subscription does not box them. The boxed
+ * getters allocate for most values; listeners on the hot path read the
+ * primitive ones, like {@link #getIdValue()}. The boxed setters keep null as 0.
+ */
 public class AggregateTradeEvent {
 
     private String eventType;
 
-    private Long eventTime;
+    private long eventTime;
 
     private String symbol;
 
-    private Long id;
+    private long id;
 
     private BigDecimal price;
 
+    private Decimal priceDecimal;
+
     private BigDecimal qty;
 
-    private Long firstId;
+    private Decimal qtyDecimal;
+
+    private long firstId;
 
-    private Long lastId;
+    private long lastId;
 
-    private Long time;
+    private long time;
 
-    private Boolean isBuyerMaker;
+    private boolean isBuyerMaker;
 
     public String getEventType() {
         return eventType;
@@ -39,10 +50,18 @@ public class AggregateTradeEvent {
         return eventTime;
     }
 
-    public void setEventTime(Long eventTime) {
+    public long getEventTimeValue() {
+        return eventTime;
+    }
+
+    public void setEventTime(long eventTime) {
         this.eventTime = eventTime;
     }
 
+    public void setEventTime(Long eventTime) {
+        this.eventTime = eventTime != null ? eventTime : 0;
+    }
+
     public String getSymbol() {
         return symbol;
     }
@@ -55,63 +74,135 @@ public class AggregateTradeEvent {
         return id;
     }
 
-    public void setId(Long id) {
+    public long getIdValue() {
+        return id;
+    }
+
+    public void setId(long id) {
         this.id = id;
     }
 
+    public void setId(Long id) {
+        this.id = id != null ? id : 0;
+    }
+
     public BigDecimal getPrice() {
+        if (price == null && priceDecimal != null) {
+            price = priceDecimal.toBigDecimal();
+        }
         return price;
     }
 
     public void setPrice(BigDecimal price) {
         this.price = price;
+        this.priceDecimal = null;
+    }
+
+    public Decimal getPriceDecimal() {
+        if (priceDecimal == null && price != null) {
+            priceDecimal = Decimal.valueOf(price);
+        }
+        return priceDecimal;
+    }
+
+    public void setPriceDecimal(Decimal priceDecimal) {
+        this.priceDecimal = priceDecimal;
+        this.price = null;
     }
 
     public BigDecimal getQty() {
+        if (qty == null && qtyDecimal != null) {
+            qty = qtyDecimal.toBigDecimal();
+        }
         return qty;
     }
 
     public void setQty(BigDecimal qty) {
         this.qty = qty;
+        this.qtyDecimal = null;
+    }
+
+    public Decimal getQtyDecimal() {
+        if (qtyDecimal == null && qty != null) {
+            qtyDecimal = Decimal.valueOf(qty);
+        }
+        return qtyDecimal;
+    }
+
+    public void setQtyDecimal(Decimal qtyDecimal) {
+        this.qtyDecimal = qtyDecimal;
+        this.qty = null;
     }
 
     public Long getFirstId() {
         return firstId;
     }
 
-    public void setFirstId(Long firstId) {
+    public long getFirstIdValue() {
+        return firstId;
+    }
+
+    public void setFirstId(long firstId) {
         this.firstId = firstId;
     }
 
+    public void setFirstId(Long firstId) {
+        this.firstId = firstId != null ? firstId : 0;
+    }
+
     public Long getLastId() {
         return lastId;
     }
 
-    public void setLastId(Long lastId) {
+    public long getLastIdValue() {
+        return lastId;
+    }
+
+    public void setLastId(long lastId) {
         this.lastId = lastId;
     }
 
+    public void setLastId(Long lastId) {
+        this.lastId = lastId != null ? lastId : 0;
+    }
+
     public Long getTime() {
         return time;
     }
 
-    public void setTime(Long time) {
+    public long getTimeValue() {
+        return time;
+    }
+
+    public void setTime(long time) {
         this.time = time;
     }
 
+    public void setTime(Long time) {
+        this.time = time != null ? time : 0;
+    }
+
     public Boolean getIsBuyerMaker() {
         return isBuyerMaker;
     }
 
-    public void setIsBuyerMaker(Boolean isBuyerMaker) {
+    public boolean isBuyerMaker() {
+        return isBuyerMaker;
+    }
+
+    public void setIsBuyerMaker(boolean isBuyerMaker) {
         this.isBuyerMaker = isBuyerMaker;
     }
 
+    public void setIsBuyerMaker(Boolean isBuyerMaker) {
+        this.isBuyerMaker = isBuyerMaker != null && isBuyerMaker;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE).append("eventType", eventType)
-                .append("eventTime", eventTime).append("symbol", symbol).append("id", id).append("price", price)
-                .append("qty", qty).append("firstId", firstId).append("lastId", lastId).append("time", time)
+                .append("eventTime", eventTime).append("symbol", symbol).append("id", id).append("price", getPrice())
+                .append("qty", getQty()).append("firstId", firstId).append("lastId", lastId).append("time", time)
                 .append("isBuyerMaker", isBuyerMaker).toString();
     }
 }
@@ -1,6 +1,7 @@
 package com.binance.client.model.event;
 
 import com.binance.client.constant.BinanceApiConstants;
+import com.binance.client.model.Decimal;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigDecimal;
@@ -25,24 +26,40 @@ public class CandlestickEvent {
 
     private BigDecimal open;
 
+    private Decimal openDecimal;
+
     private BigDecimal close;
 
+    private Decimal closeDecimal;
+
     private BigDecimal high;
 
+    private Decimal highDecimal;
+
     private BigDecimal low;
 
+    private Decimal lowDecimal;
+
     private BigDecimal volume;
 
+    private Decimal volumeDecimal;
+
     private Long numTrades;
 
     private Boolean isClosed;
 
     private BigDecimal quoteAssetVolume;
 
+    private Decimal quoteAssetVolumeDecimal;
+
     private BigDecimal takerBuyBaseAssetVolume;
 
+    private Decimal takerBuyBaseAssetVolumeDecimal;
+
     private BigDecimal takerBuyQuoteAssetVolume;
 
+    private Decimal takerBuyQuoteAssetVolumeDecimal;
+
     private Long ignore;
 
     public String getEventType() {
@@ -110,43 +127,123 @@ public class CandlestickEvent {
     }
 
     public BigDecimal getOpen() {
+        if (open == null && openDecimal != null) {
+            open = openDecimal.toBigDecimal();
+        }
         return open;
     }
 
     public void setOpen(BigDecimal open) {
         this.open = open;
+        this.openDecimal = null;
+    }
+
+    public Decimal getOpenDecimal() {
+        if (openDecimal == null && open != null) {
+            openDecimal = Decimal.valueOf(open);
+        }
+        return openDecimal;
+    }
+
+    public void setOpenDecimal(Decimal openDecimal) {
+        this.openDecimal = openDecimal;
+        this.open = null;
     }
 
     public BigDecimal getClose() {
+        if (close == null && closeDecimal != null) {
+            close = closeDecimal.toBigDecimal();
+        }
         return close;
     }
 
     public void setClose(BigDecimal close) {
         this.close = close;
+        this.closeDecimal = null;
+    }
+
+    public Decimal getCloseDecimal() {
+        if (closeDecimal == null && close != null) {
+            closeDecimal = Decimal.valueOf(close);
+        }
+        return closeDecimal;
+    }
+
+    public void setCloseDecimal(Decimal closeDecimal) {
+        this.closeDecimal = closeDecimal;
+        this.close = null;
     }
 
     public BigDecimal getHigh() {
+        if (high == null && highDecimal != null) {
+            high = highDecimal.toBigDecimal();
+        }
         return high;
     }
 
     public void setHigh(BigDecimal high) {
         this.high = high;
+        this.highDecimal = null;
+    }
+
+    public Decimal getHighDecimal() {
+        if (highDecimal == null && high != null) {
+            highDecimal = Decimal.valueOf(high);
+        }
+        return highDecimal;
+    }
+
+    public void setHighDecimal(Decimal highDecimal) {
+        this.highDecimal = highDecimal;
+        this.high = null;
     }
 
     public BigDecimal getLow() {
+        if (low == null && lowDecimal != null) {
+            low = lowDecimal.toBigDecimal();
+        }
         return low;
     }
 
     public void setLow(BigDecimal low) {
         this.low = low;
+        this.lowDecimal = null;
+    }
+
+    public Decimal getLowDecimal() {
+        if (lowDecimal == null && low != null) {
+            lowDecimal = Decimal.valueOf(low);
+        }
+        return lowDecimal;
+    }
+
+    public void setLowDecimal(Decimal lowDecimal) {
+        this.lowDecimal = lowDecimal;
+        this.low = null;
     }
 
     public BigDecimal getVolume() {
+        if (volume == null && volumeDecimal != null) {
+            volume = volumeDecimal.toBigDecimal();
+        }
         return volume;
     }
 
     public void setVolume(BigDecimal volume) {
         this.volume = volume;
+        this.volumeDecimal = null;
+    }
+
+    public Decimal getVolumeDecimal() {
+        if (volumeDecimal == null && volume != null) {
+            volumeDecimal = Decimal.valueOf(volume);
+        }
+        return volumeDecimal;
+    }
+
+    public void setVolumeDecimal(Decimal volumeDecimal) {
+        this.volumeDecimal = volumeDecimal;
+        this.volume = null;
     }
 
     public Long getNumTrades() {
@@ -166,27 +263,75 @@ public class CandlestickEvent {
     }
 
     public BigDecimal getQuoteAssetVolume() {
+        if (quoteAssetVolume == null && quoteAssetVolumeDecimal != null) {
+            quoteAssetVolume = quoteAssetVolumeDecimal.toBigDecimal();
+        }
         return quoteAssetVolume;
     }
 
     public void setQuoteAssetVolume(BigDecimal quoteAssetVolume) {
         this.quoteAssetVolume = quoteAssetVolume;
+        this.quoteAssetVolumeDecimal = null;
+    }
+
+    public Decimal getQuoteAssetVolumeDecimal() {
+        if (quoteAssetVolumeDecimal == null && quoteAssetVolume != null) {
+            quoteAssetVolumeDecimal = Decimal.valueOf(quoteAssetVolume);
+        }
+        return quoteAssetVolumeDecimal;
+    }
+
+    public void setQuoteAssetVolumeDecimal(Decimal quoteAssetVolumeDecimal) {
+        this.quoteAssetVolumeDecimal = quoteAssetVolumeDecimal;
+        this.quoteAssetVolume = null;
     }
 
     public BigDecimal getTakerBuyBaseAssetVolume() {
+        if (takerBuyBaseAssetVolume == null && takerBuyBaseAssetVolumeDecimal != null) {
+            takerBuyBaseAssetVolume = takerBuyBaseAssetVolumeDecimal.toBigDecimal();
+        }
         return takerBuyBaseAssetVolume;
     }
 
     public void setTakerBuyBaseAssetVolume(BigDecimal takerBuyBaseAssetVolume) {
         this.takerBuyBaseAssetVolume = takerBuyBaseAssetVolume;
+        this.takerBuyBaseAssetVolumeDecimal = null;
+    }
+
+    public Decimal getTakerBuyBaseAssetVolumeDecimal() {
+        if (takerBuyBaseAssetVolumeDecimal == null && takerBuyBaseAssetVolume != null) {
+            takerBuyBaseAssetVolumeDecimal = Decimal.valueOf(takerBuyBaseAssetVolume);
+        }
+        return takerBuyBaseAssetVolumeDecimal;
+    }
+
+    public void setTakerBuyBaseAssetVolumeDecimal(Decimal takerBuyBaseAssetVolumeDecimal) {
+        this.takerBuyBaseAssetVolumeDecimal = takerBuyBaseAssetVolumeDecimal;
+        this.takerBuyBaseAssetVolume = null;
     }
 
     public BigDecimal getTakerBuyQuoteAssetVolume() {
+        if (takerBuyQuoteAssetVolume == null && takerBuyQuoteAssetVolumeDecimal != null) {
+            takerBuyQuoteAssetVolume = takerBuyQuoteAssetVolumeDecimal.toBigDecimal();
+        }
         return takerBuyQuoteAssetVolume;
     }
 
     public void setTakerBuyQuoteAssetVolume(BigDecimal takerBuyQuoteAssetVolume) {
         this.takerBuyQuoteAssetVolume = takerBuyQuoteAssetVolume;
+        this.takerBuyQuoteAssetVolumeDecimal = null;
+    }
+
+    public Decimal getTakerBuyQuoteAssetVolumeDecimal() {
+        if (takerBuyQuoteAssetVolumeDecimal == null && takerBuyQuoteAssetVolume != null) {
+            takerBuyQuoteAssetVolumeDecimal = Decimal.valueOf(takerBuyQuoteAssetVolume);
+        }
+        return takerBuyQuoteAssetVolumeDecimal;
+    }
+
+    public void setTakerBuyQuoteAssetVolumeDecimal(Decimal takerBuyQuoteAssetVolumeDecimal) {
+        this.takerBuyQuoteAssetVolumeDecimal = takerBuyQuoteAssetVolumeDecimal;
+        this.takerBuyQuoteAssetVolume = null;
     }
 
     public Long getIgnore() {
@@ -202,11 +347,11 @@ public class CandlestickEvent {
         return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE).append("eventType", eventType)
                 .append("eventTime", eventTime).append("symbol", symbol).append("startTime", startTime)
                 .append("closeTime", closeTime).append("symbol", symbol).append("interval", interval)
-                .append("firstTradeId", firstTradeId).append("lastTradeId", lastTradeId).append("open", open)
-                .append("close", close).append("high", high).append("low", low).append("volume", volume)
+                .append("firstTradeId", firstTradeId).append("lastTradeId", lastTradeId).append("open", getOpen())
+                .append("close", getClose()).append("high", getHigh()).append("low", getLow()).append("volume", getVolume())
                 .append("numTrades", numTrades).append("isClosed", isClosed)
-                .append("quoteAssetVolume", quoteAssetVolume).append("takerBuyBaseAssetVolume", takerBuyBaseAssetVolume)
-                .append("takerBuyQuoteAssetVolume", takerBuyQuoteAssetVolume).append("ignore", ignore).toString();
+                .append("quoteAssetVolume", getQuoteAssetVolume()).append("takerBuyBaseAssetVolume", getTakerBuyBaseAssetVolume())
+                .append("takerBuyQuoteAssetVolume", getTakerBuyQuoteAssetVolume()).append("ignore", ignore).toString();
     }
 
 }
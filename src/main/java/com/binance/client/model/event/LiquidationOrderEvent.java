@@ -1,6 +1,7 @@
 package com.binance.client.model.event;
 
 import com.binance.client.constant.BinanceApiConstants;
+import com.binance.client.model.Decimal;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigDecimal;
@@ -21,16 +22,26 @@ public class LiquidationOrderEvent {
 
     private BigDecimal origQty;
 
+    private Decimal origQtyDecimal;
+
     private BigDecimal price;
 
+    private Decimal priceDecimal;
+
     private BigDecimal averagePrice;
 
+    private Decimal averagePriceDecimal;
+
     private String orderStatus;
 
     private BigDecimal lastFilledQty;
 
+    private Decimal lastFilledQtyDecimal;
+
     private BigDecimal lastFilledAccumulatedQty;
 
+    private Decimal lastFilledAccumulatedQtyDecimal;
+
     private Long time;
 
     public String getEventType() {
@@ -82,27 +93,75 @@ public class LiquidationOrderEvent {
     }
 
     public BigDecimal getOrigQty() {
+        if (origQty == null && origQtyDecimal != null) {
+            origQty = origQtyDecimal.toBigDecimal();
+        }
         return origQty;
     }
 
     public void setOrigQty(BigDecimal origQty) {
         this.origQty = origQty;
+        this.origQtyDecimal = null;
+    }
+
+    public Decimal getOrigQtyDecimal() {
+        if (origQtyDecimal == null && origQty != null) {
+            origQtyDecimal = Decimal.valueOf(origQty);
+        }
+        return origQtyDecimal;
+    }
+
+    public void setOrigQtyDecimal(Decimal origQtyDecimal) {
+        this.origQtyDecimal = origQtyDecimal;
+        this.origQty = null;
     }
 
     public BigDecimal getPrice() {
+        if (price == null && priceDecimal != null) {
+            price = priceDecimal.toBigDecimal();
+        }
         return price;
     }
 
     public void setPrice(BigDecimal price) {
         this.price = price;
+        this.priceDecimal = null;
+    }
+
+    public Decimal getPriceDecimal() {
+        if (priceDecimal == null && price != null) {
+            priceDecimal = Decimal.valueOf(price);
+        }
+        return priceDecimal;
+    }
+
+    public void setPriceDecimal(Decimal priceDecimal) {
+        this.priceDecimal = priceDecimal;
+        this.price = null;
     }
 
     public BigDecimal getAveragePrice() {
+        if (averagePrice == null && averagePriceDecimal != null) {
+            averagePrice = averagePriceDecimal.toBigDecimal();
+        }
         return averagePrice;
     }
 
     public void setAveragePrice(BigDecimal averagePrice) {
         this.averagePrice = averagePrice;
+        this.averagePriceDecimal = null;
+    }
+
+    public Decimal getAveragePriceDecimal() {
+        if (averagePriceDecimal == null && averagePrice != null) {
+            averagePriceDecimal = Decimal.valueOf(averagePrice);
+        }
+        return averagePriceDecimal;
+    }
+
+    public void setAveragePriceDecimal(Decimal averagePriceDecimal) {
+        this.averagePriceDecimal = averagePriceDecimal;
+        this.averagePrice = null;
     }
 
     public String getOrderStatus() {
@@ -114,19 +173,51 @@ public class LiquidationOrderEvent {
     }
 
     public BigDecimal getLastFilledQty() {
+        if (lastFilledQty == null && lastFilledQtyDecimal != null) {
+            lastFilledQty = lastFilledQtyDecimal.toBigDecimal();
+        }
         return lastFilledQty;
     }
 
     public void setLastFilledQty(BigDecimal lastFilledQty) {
         this.lastFilledQty = lastFilledQty;
+        this.lastFilledQtyDecimal = null;
+    }
+
+    public Decimal getLastFilledQtyDecimal() {
+        if (lastFilledQtyDecimal == null && lastFilledQty != null) {
+            lastFilledQtyDecimal = Decimal.valueOf(lastFilledQty);
+        }
+        return lastFilledQtyDecimal;
+    }
+
+    public void setLastFilledQtyDecimal(Decimal lastFilledQtyDecimal) {
+        this.lastFilledQtyDecimal = lastFilledQtyDecimal;
+        this.lastFilledQty = null;
     }
 
     public BigDecimal getLastFilledAccumulatedQty() {
+        if (lastFilledAccumulatedQty == null && lastFilledAccumulatedQtyDecimal != null) {
+            lastFilledAccumulatedQty = lastFilledAccumulatedQtyDecimal.toBigDecimal();
+        }
         return lastFilledAccumulatedQty;
     }
 
     public void setLastFilledAccumulatedQty(BigDecimal lastFilledAccumulatedQty) {
         this.lastFilledAccumulatedQty = lastFilledAccumulatedQty;
+        this.lastFilledAccumulatedQtyDecimal = null;
+    }
+
+    public Decimal getLastFilledAccumulatedQtyDecimal() {
+        if (lastFilledAccumulatedQtyDecimal == null && lastFilledAccumulatedQty != null) {
+            lastFilledAccumulatedQtyDecimal = Decimal.valueOf(lastFilledAccumulatedQty);
+        }
+        return lastFilledAccumulatedQtyDecimal;
+    }
+
+    public void setLastFilledAccumulatedQtyDecimal(Decimal lastFilledAccumulatedQtyDecimal) {
+        this.lastFilledAccumulatedQtyDecimal = lastFilledAccumulatedQtyDecimal;
+        this.lastFilledAccumulatedQty = null;
     }
 
     public Long getTime() {
@@ -141,9 +232,9 @@ public class LiquidationOrderEvent {
     public String toString() {
         return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE).append("eventType", eventType)
                 .append("eventTime", eventTime).append("symbol", symbol).append("side", side).append("type", type)
-                .append("timeInForce", timeInForce).append("origQty", origQty).append("price", price)
-                .append("averagePrice", averagePrice).append("orderStatus", orderStatus)
-                .append("lastFilledQty", lastFilledQty).append("lastFilledAccumulatedQty", lastFilledAccumulatedQty)
+                .append("timeInForce", timeInForce).append("origQty", getOrigQty()).append("price", getPrice())
+                .append("averagePrice", getAveragePrice()).append("orderStatus", orderStatus)
+                .append("lastFilledQty", getLastFilledQty()).append("lastFilledAccumulatedQty", getLastFilledAccumulatedQty())
                 .append("time", time).toString();
     }
 }
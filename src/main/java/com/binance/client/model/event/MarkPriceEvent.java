@@ -1,6 +1,7 @@
 package com.binance.client.model.event;
 
 import com.binance.client.constant.BinanceApiConstants;
+import com.binance.client.model.Decimal;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigDecimal;
@@ -15,8 +16,12 @@ public class MarkPriceEvent {
 
     private BigDecimal markPrice;
 
+    private Decimal markPriceDecimal;
+
     private BigDecimal fundingRate;
 
+    private Decimal fundingRateDecimal;
+
     private Long nextFundingTime;
 
     public String getEventType() {
@@ -44,19 +49,51 @@ public class MarkPriceEvent {
     }
 
     public BigDecimal getMarkPrice() {
+        if (markPrice == null && markPriceDecimal != null) {
+            markPrice = markPriceDecimal.toBigDecimal();
+        }
         return markPrice;
     }
 
     public void setMarkPrice(BigDecimal markPrice) {
         this.markPrice = markPrice;
+        this.markPriceDecimal = null;
+    }
+
+    public Decimal getMarkPriceDecimal() {
+        if (markPriceDecimal == null && markPrice != null) {
+            markPriceDecimal = Decimal.valueOf(markPrice);
+        }
+        return markPriceDecimal;
+    }
+
+    public void setMarkPriceDecimal(Decimal markPriceDecimal) {
+        this.markPriceDecimal = markPriceDecimal;
+        this.markPrice = null;
     }
 
     public BigDecimal getFundingRate() {
+        if (fundingRate == null && fundingRateDecimal != null) {
+            fundingRate = fundingRateDecimal.toBigDecimal();
+        }
         return fundingRate;
     }
 
     public void setFundingRate(BigDecimal fundingRate) {
         this.fundingRate = fundingRate;
+        this.fundingRateDecimal = null;
+    }
+
+    public Decimal getFundingRateDecimal() {
+        if (fundingRateDecimal == null && fundingRate != null) {
+            fundingRateDecimal = Decimal.valueOf(fundingRate);
+        }
+        return fundingRateDecimal;
+    }
+
+    public void setFundingRateDecimal(Decimal fundingRateDecimal) {
+        this.fundingRateDecimal = fundingRateDecimal;
+        this.fundingRate = null;
     }
 
     public Long getNextFundingTime() {
@@ -70,7 +107,7 @@ public class MarkPriceEvent {
     @Override
     public String toString() {
         return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE).append("eventType", eventType)
-                .append("eventTime", eventTime).append("symbol", symbol).append("markPrice", markPrice)
-                .append("fundingRate", fundingRate).append("nextFundingTime", nextFundingTime).toString();
+                .append("eventTime", eventTime).append("symbol", symbol).append("markPrice", getMarkPrice())
+                .append("fundingRate", getFundingRate()).append("nextFundingTime", nextFundingTime).toString();
     }
 }
@@ -0,0 +1,160 @@
+package com.binance.client.model.event;
+
+import com.binance.client.constant.BinanceApiConstants;
+import com.binance.client.exception.BinanceApiException;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A diff depth event with its levels in primitive arrays, prices in ticks and
+ * quantities in lots as in {@link com.binance.client.model.market.PriceLevelBook}.
+ * A zero quantity removes the level.
+ */
+public class PriceLevelUpdate {
+
+    private String eventType;
+
+    private long eventTime;
+
+    private long transactionTime;
+
+    private String symbol;
+
+    private long firstUpdateId;
+
+    private long lastUpdateId;
+
+    private long lastUpdateIdInlastStream;
+
+    private long[] bids = new long[16];
+
+    private int bidCount = 0;
+
+    private long[] asks = new long[16];
+
+    private int askCount = 0;
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public long getEventTime() {
+        return eventTime;
+    }
+
+    public void setEventTime(long eventTime) {
+        this.eventTime = eventTime;
+    }
+
+    public long getTransactionTime() {
+        return transactionTime;
+    }
+
+    public void setTransactionTime(long transactionTime) {
+        this.transactionTime = transactionTime;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public long getFirstUpdateId() {
+        return firstUpdateId;
+    }
+
+    public void setFirstUpdateId(long firstUpdateId) {
+        this.firstUpdateId = firstUpdateId;
+    }
+
+    public long getLastUpdateId() {
+        return lastUpdateId;
+    }
+
+    public void setLastUpdateId(long lastUpdateId) {
+        this.lastUpdateId = lastUpdateId;
+    }
+
+    public long getLastUpdateIdInlastStream() {
+        return lastUpdateIdInlastStream;
+    }
+
+    public void setLastUpdateIdInlastStream(long lastUpdateIdInlastStream) {
+        this.lastUpdateIdInlastStream = lastUpdateIdInlastStream;
+    }
+
+    /**
+     * Remove all levels, so the update can be filled again.
+     */
+    public void clear() {
+        bidCount = 0;
+        askCount = 0;
+    }
+
+    public void addBid(long priceTicks, long qtyLots) {
+        bids = add(bids, bidCount++, priceTicks, qtyLots);
+    }
+
+    public void addAsk(long priceTicks, long qtyLots) {
+        asks = add(asks, askCount++, priceTicks, qtyLots);
+    }
+
+    public int getBidCount() {
+        return bidCount;
+    }
+
+    public long getBidPrice(int index) {
+        return bids[check(index, bidCount) * 2];
+    }
+
+    public long getBidQty(int index) {
+        return bids[check(index, bidCount) * 2 + 1];
+    }
+
+    public int getAskCount() {
+        return askCount;
+    }
+
+    public long getAskPrice(int index) {
+        return asks[check(index, askCount) * 2];
+    }
+
+    public long getAskQty(int index) {
+        return asks[check(index, askCount) * 2 + 1];
+    }
+
+    private static long[] add(long[] levels, int index, long price, long qty) {
+        if (index * 2 == levels.length) {
+            long[] grown = new long[levels.length * 2];
+            System.arraycopy(levels, 0, grown, 0, levels.length);
+            levels = grown;
+        }
+        levels[index * 2] = price;
+        levels[index * 2 + 1] = qty;
+        return levels;
+    }
+
+    private static int check(int index, int count) {
+        if (index < 0 || index >= count) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "[Book] Level " + index + " is out of bound, count is " + count);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
+                .append("eventType", eventType).append("eventTime", eventTime)
+                .append("transactionTime", transactionTime).append("symbol", symbol)
+                .append("firstUpdateId", firstUpdateId).append("lastUpdateId", lastUpdateId)
+                .append("lastUpdateIdInlastStream", lastUpdateIdInlastStream).append("bidCount", bidCount)
+                .append("askCount", askCount).toString();
+    }
+}
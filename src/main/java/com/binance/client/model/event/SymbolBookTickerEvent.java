@@ -1,6 +1,7 @@
 package com.binance.client.model.event;
 
 import com.binance.client.constant.BinanceApiConstants;
+import com.binance.client.model.Decimal;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigDecimal;
@@ -13,12 +14,20 @@ public class SymbolBookTickerEvent {
 
     private BigDecimal bestBidPrice;
 
+    private Decimal bestBidPriceDecimal;
+
     private BigDecimal bestBidQty;
 
+    private Decimal bestBidQtyDecimal;
+
     private BigDecimal bestAskPrice;
 
+    private Decimal bestAskPriceDecimal;
+
     private BigDecimal bestAskQty;
 
+    private Decimal bestAskQtyDecimal;
+
     public Long getOrderBookUpdateId() {
         return orderBookUpdateId;
     }
@@ -36,42 +45,106 @@ public class SymbolBookTickerEvent {
     }
 
     public BigDecimal getBestBidPrice() {
+        if (bestBidPrice == null && bestBidPriceDecimal != null) {
+            bestBidPrice = bestBidPriceDecimal.toBigDecimal();
+        }
         return bestBidPrice;
     }
 
     public void setBestBidPrice(BigDecimal bestBidPrice) {
         this.bestBidPrice = bestBidPrice;
+        this.bestBidPriceDecimal = null;
+    }
+
+    public Decimal getBestBidPriceDecimal() {
+        if (bestBidPriceDecimal == null && bestBidPrice != null) {
+            bestBidPriceDecimal = Decimal.valueOf(bestBidPrice);
+        }
+        return bestBidPriceDecimal;
+    }
+
+    public void setBestBidPriceDecimal(Decimal bestBidPriceDecimal) {
+        this.bestBidPriceDecimal = bestBidPriceDecimal;
+        this.bestBidPrice = null;
     }
 
     public BigDecimal getBestBidQty() {
+        if (bestBidQty == null && bestBidQtyDecimal != null) {
+            bestBidQty = bestBidQtyDecimal.toBigDecimal();
+        }
         return bestBidQty;
     }
 
     public void setBestBidQty(BigDecimal bestBidQty) {
         this.bestBidQty = bestBidQty;
+        this.bestBidQtyDecimal = null;
+    }
+
+    public Decimal getBestBidQtyDecimal() {
+        if (bestBidQtyDecimal == null && bestBidQty != null) {
+            bestBidQtyDecimal = Decimal.valueOf(bestBidQty);
+        }
+        return bestBidQtyDecimal;
+    }
+
+    public void setBestBidQtyDecimal(Decimal bestBidQtyDecimal) {
+        this.bestBidQtyDecimal = bestBidQtyDecimal;
+        this.bestBidQty = null;
     }
 
     public BigDecimal getBestAskPrice() {
+        if (bestAskPrice == null && bestAskPriceDecimal != null) {
+            bestAskPrice = bestAskPriceDecimal.toBigDecimal();
+        }
         return bestAskPrice;
     }
 
     public void setBestAskPrice(BigDecimal bestAskPrice) {
         this.bestAskPrice = bestAskPrice;
+        this.bestAskPriceDecimal = null;
+    }
+
+    public Decimal getBestAskPriceDecimal() {
+        if (bestAskPriceDecimal == null && bestAskPrice != null) {
+            bestAskPriceDecimal = Decimal.valueOf(bestAskPrice);
+        }
+        return bestAskPriceDecimal;
+    }
+
+    public void setBestAskPriceDecimal(Decimal bestAskPriceDecimal) {
+        this.bestAskPriceDecimal = bestAskPriceDecimal;
+        this.bestAskPrice = null;
     }
 
     public BigDecimal getBestAskQty() {
+        if (bestAskQty == null && bestAskQtyDecimal != null) {
+            bestAskQty = bestAskQtyDecimal.toBigDecimal();
+        }
         return bestAskQty;
     }
 
     public void setBestAskQty(BigDecimal bestAskQty) {
         this.bestAskQty = bestAskQty;
+        this.bestAskQtyDecimal = null;
+    }
+
+    public Decimal getBestAskQtyDecimal() {
+        if (bestAskQtyDecimal == null && bestAskQty != null) {
+            bestAskQtyDecimal = Decimal.valueOf(bestAskQty);
+        }
+        return bestAskQtyDecimal;
+    }
+
+    public void setBestAskQtyDecimal(Decimal bestAskQtyDecimal) {
+        this.bestAskQtyDecimal = bestAskQtyDecimal;
+        this.bestAskQty = null;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
                 .append("orderBookUpdateId", orderBookUpdateId).append("symbol", symbol)
-                .append("bestBidPrice", bestBidPrice).append("bestBidQty", bestBidQty)
-                .append("bestAskPrice", bestAskPrice).append("bestAskQty", bestAskQty).toString();
+                .append("bestBidPrice", getBestBidPrice()).append("bestBidQty", getBestBidQty())
+                .append("bestAskPrice", getBestAskPrice()).append("bestAskQty", getBestAskQty()).toString();
     }
 }
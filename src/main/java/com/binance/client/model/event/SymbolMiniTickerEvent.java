@@ -1,6 +1,7 @@
 package com.binance.client.model.event;
 
 import com.binance.client.constant.BinanceApiConstants;
+import com.binance.client.model.Decimal;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigDecimal;
@@ -15,16 +16,28 @@ public class SymbolMiniTickerEvent {
 
     private BigDecimal open;
 
+    private Decimal openDecimal;
+
     private BigDecimal close;
 
+    private Decimal closeDecimal;
+
     private BigDecimal high;
 
+    private Decimal highDecimal;
+
     private BigDecimal low;
 
+    private Decimal lowDecimal;
+
     private BigDecimal totalTradedBaseAssetVolume;
 
+    private Decimal totalTradedBaseAssetVolumeDecimal;
+
     private BigDecimal totalTradedQuoteAssetVolume;
 
+    private Decimal totalTradedQuoteAssetVolumeDecimal;
+
     public String getEventType() {
         return eventType;
     }
@@ -50,59 +63,155 @@ public class SymbolMiniTickerEvent {
     }
 
     public BigDecimal getOpen() {
+        if (open == null && openDecimal != null) {
+            open = openDecimal.toBigDecimal();
+        }
         return open;
     }
 
     public void setOpen(BigDecimal open) {
         this.open = open;
+        this.openDecimal = null;
+    }
+
+    public Decimal getOpenDecimal() {
+        if (openDecimal == null && open != null) {
+            openDecimal = Decimal.valueOf(open);
+        }
+        return openDecimal;
+    }
+
+    public void setOpenDecimal(Decimal openDecimal) {
+        this.openDecimal = openDecimal;
+        this.open = null;
     }
 
     public BigDecimal getClose() {
+        if (close == null && closeDecimal != null) {
+            close = closeDecimal.toBigDecimal();
+        }
         return close;
     }
 
     public void setClose(BigDecimal close) {
         this.close = close;
+        this.closeDecimal = null;
+    }
+
+    public Decimal getCloseDecimal() {
+        if (closeDecimal == null && close != null) {
+            closeDecimal = Decimal.valueOf(close);
+        }
+        return closeDecimal;
+    }
+
+    public void setCloseDecimal(Decimal closeDecimal) {
+        this.closeDecimal = closeDecimal;
+        this.close = null;
     }
 
     public BigDecimal getHigh() {
+        if (high == null && highDecimal != null) {
+            high = highDecimal.toBigDecimal();
+        }
         return high;
     }
 
     public void setHigh(BigDecimal high) {
         this.high = high;
+        this.highDecimal = null;
+    }
+
+    public Decimal getHighDecimal() {
+        if (highDecimal == null && high != null) {
+            highDecimal = Decimal.valueOf(high);
+        }
+        return highDecimal;
+    }
+
+    public void setHighDecimal(Decimal highDecimal) {
+        this.highDecimal = highDecimal;
+        this.high = null;
     }
 
     public BigDecimal getLow() {
+        if (low == null && lowDecimal != null) {
+            low = lowDecimal.toBigDecimal();
+        }
         return low;
     }
 
     public void setLow(BigDecimal low) {
         this.low = low;
+        this.lowDecimal = null;
+    }
+
+    public Decimal getLowDecimal() {
+        if (lowDecimal == null && low != null) {
+            lowDecimal = Decimal.valueOf(low);
+        }
+        return lowDecimal;
+    }
+
+    public void setLowDecimal(Decimal lowDecimal) {
+        this.lowDecimal = lowDecimal;
+        this.low = null;
     }
 
     public BigDecimal getTotalTradedBaseAssetVolume() {
+        if (totalTradedBaseAssetVolume == null && totalTradedBaseAssetVolumeDecimal != null) {
+            totalTradedBaseAssetVolume = totalTradedBaseAssetVolumeDecimal.toBigDecimal();
+        }
         return totalTradedBaseAssetVolume;
     }
 
     public void setTotalTradedBaseAssetVolume(BigDecimal totalTradedBaseAssetVolume) {
         this.totalTradedBaseAssetVolume = totalTradedBaseAssetVolume;
+        this.totalTradedBaseAssetVolumeDecimal = null;
+    }
+
+    public Decimal getTotalTradedBaseAssetVolumeDecimal() {
+        if (totalTradedBaseAssetVolumeDecimal == null && totalTradedBaseAssetVolume != null) {
+            totalTradedBaseAssetVolumeDecimal = Decimal.valueOf(totalTradedBaseAssetVolume);
+        }
+        return totalTradedBaseAssetVolumeDecimal;
+    }
+
+    public void setTotalTradedBaseAssetVolumeDecimal(Decimal totalTradedBaseAssetVolumeDecimal) {
+        this.totalTradedBaseAssetVolumeDecimal = totalTradedBaseAssetVolumeDecimal;
+        this.totalTradedBaseAssetVolume = null;
     }
 
     public BigDecimal getTotalTradedQuoteAssetVolume() {
+        if (totalTradedQuoteAssetVolume == null && totalTradedQuoteAssetVolumeDecimal != null) {
+            totalTradedQuoteAssetVolume = totalTradedQuoteAssetVolumeDecimal.toBigDecimal();
+        }
         return totalTradedQuoteAssetVolume;
     }
 
     public void setTotalTradedQuoteAssetVolume(BigDecimal totalTradedQuoteAssetVolume) {
         this.totalTradedQuoteAssetVolume = totalTradedQuoteAssetVolume;
+        this.totalTradedQuoteAssetVolumeDecimal = null;
+    }
+
+    public Decimal getTotalTradedQuoteAssetVolumeDecimal() {
+        if (totalTradedQuoteAssetVolumeDecimal == null && totalTradedQuoteAssetVolume != null) {
+            totalTradedQuoteAssetVolumeDecimal = Decimal.valueOf(totalTradedQuoteAssetVolume);
+        }
+        return totalTradedQuoteAssetVolumeDecimal;
+    }
+
+    public void setTotalTradedQuoteAssetVolumeDecimal(Decimal totalTradedQuoteAssetVolumeDecimal) {
+        this.totalTradedQuoteAssetVolumeDecimal = totalTradedQuoteAssetVolumeDecimal;
+        this.totalTradedQuoteAssetVolume = null;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE).append("eventType", eventType)
-                .append("eventTime", eventTime).append("symbol", symbol).append("open", open).append("close", close)
-                .append("high", high).append("low", low)
-                .append("totalTradedBaseAssetVolume", totalTradedBaseAssetVolume)
-                .append("totalTradedQuoteAssetVolume", totalTradedQuoteAssetVolume).toString();
+                .append("eventTime", eventTime).append("symbol", symbol).append("open", getOpen()).append("close", getClose())
+                .append("high", getHigh()).append("low", getLow())
+                .append("totalTradedBaseAssetVolume", getTotalTradedBaseAssetVolume())
+                .append("totalTradedQuoteAssetVolume", getTotalTradedQuoteAssetVolume()).toString();
     }
 }
@@ -1,6 +1,7 @@
 package com.binance.client.model.event;
 
 import com.binance.client.constant.BinanceApiConstants;
+import com.binance.client.model.Decimal;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigDecimal;
@@ -15,24 +16,44 @@ public class SymbolTickerEvent {
 
     private BigDecimal priceChange;
 
+    private Decimal priceChangeDecimal;
+
     private BigDecimal priceChangePercent;
 
+    private Decimal priceChangePercentDecimal;
+
     private BigDecimal weightedAvgPrice;
 
+    private Decimal weightedAvgPriceDecimal;
+
     private BigDecimal lastPrice;
 
+    private Decimal lastPriceDecimal;
+
     private BigDecimal lastQty;
 
+    private Decimal lastQtyDecimal;
+
     private BigDecimal open;
 
+    private Decimal openDecimal;
+
     private BigDecimal high;
 
+    private Decimal highDecimal;
+
     private BigDecimal low;
 
+    private Decimal lowDecimal;
+
     private BigDecimal totalTradedBaseAssetVolume;
 
+    private Decimal totalTradedBaseAssetVolumeDecimal;
+
     private BigDecimal totalTradedQuoteAssetVolume;
 
+    private Decimal totalTradedQuoteAssetVolumeDecimal;
+
     private Long openTime;
 
     private Long closeTime;
@@ -68,83 +89,243 @@ public class SymbolTickerEvent {
     }
 
     public BigDecimal getPriceChange() {
+        if (priceChange == null && priceChangeDecimal != null) {
+            priceChange = priceChangeDecimal.toBigDecimal();
+        }
         return priceChange;
     }
 
     public void setPriceChange(BigDecimal priceChange) {
         this.priceChange = priceChange;
+        this.priceChangeDecimal = null;
+    }
+
+    public Decimal getPriceChangeDecimal() {
+        if (priceChangeDecimal == null && priceChange != null) {
+            priceChangeDecimal = Decimal.valueOf(priceChange);
+        }
+        return priceChangeDecimal;
+    }
+
+    public void setPriceChangeDecimal(Decimal priceChangeDecimal) {
+        this.priceChangeDecimal = priceChangeDecimal;
+        this.priceChange = null;
     }
 
     public BigDecimal getPriceChangePercent() {
+        if (priceChangePercent == null && priceChangePercentDecimal != null) {
+            priceChangePercent = priceChangePercentDecimal.toBigDecimal();
+        }
         return priceChangePercent;
     }
 
     public void setPriceChangePercent(BigDecimal priceChangePercent) {
         this.priceChangePercent = priceChangePercent;
+        this.priceChangePercentDecimal = null;
+    }
+
+    public Decimal getPriceChangePercentDecimal() {
+        if (priceChangePercentDecimal == null && priceChangePercent != null) {
+            priceChangePercentDecimal = Decimal.valueOf(priceChangePercent);
+        }
+        return priceChangePercentDecimal;
+    }
+
+    public void setPriceChangePercentDecimal(Decimal priceChangePercentDecimal) {
+        this.priceChangePercentDecimal = priceChangePercentDecimal;
+        this.priceChangePercent = null;
     }
 
     public BigDecimal getWeightedAvgPrice() {
+        if (weightedAvgPrice == null && weightedAvgPriceDecimal != null) {
+            weightedAvgPrice = weightedAvgPriceDecimal.toBigDecimal();
+        }
         return weightedAvgPrice;
     }
 
     public void setWeightedAvgPrice(BigDecimal weightedAvgPrice) {
         this.weightedAvgPrice = weightedAvgPrice;
+        this.weightedAvgPriceDecimal = null;
+    }
+
+    public Decimal getWeightedAvgPriceDecimal() {
+        if (weightedAvgPriceDecimal == null && weightedAvgPrice != null) {
+            weightedAvgPriceDecimal = Decimal.valueOf(weightedAvgPrice);
+        }
+        return weightedAvgPriceDecimal;
+    }
+
+    public void setWeightedAvgPriceDecimal(Decimal weightedAvgPriceDecimal) {
+        this.weightedAvgPriceDecimal = weightedAvgPriceDecimal;
+        this.weightedAvgPrice = null;
     }
 
     public BigDecimal getLastPrice() {
+        if (lastPrice == null && lastPriceDecimal != null) {
+            lastPrice = lastPriceDecimal.toBigDecimal();
+        }
         return lastPrice;
     }
 
     public void setLastPrice(BigDecimal lastPrice) {
         this.lastPrice = lastPrice;
+        this.lastPriceDecimal = null;
+    }
+
+    public Decimal getLastPriceDecimal() {
+        if (lastPriceDecimal == null && lastPrice != null) {
+            lastPriceDecimal = Decimal.valueOf(lastPrice);
+        }
+        return lastPriceDecimal;
+    }
+
+    public void setLastPriceDecimal(Decimal lastPriceDecimal) {
+        this.lastPriceDecimal = lastPriceDecimal;
+        this.lastPrice = null;
     }
 
     public BigDecimal getLastQty() {
+        if (lastQty == null && lastQtyDecimal != null) {
+            lastQty = lastQtyDecimal.toBigDecimal();
+        }
         return lastQty;
     }
 
     public void setLastQty(BigDecimal lastQty) {
         this.lastQty = lastQty;
+        this.lastQtyDecimal = null;
+    }
+
+    public Decimal getLastQtyDecimal() {
+        if (lastQtyDecimal == null && lastQty != null) {
+            lastQtyDecimal = Decimal.valueOf(lastQty);
+        }
+        return lastQtyDecimal;
+    }
+
+    public void setLastQtyDecimal(Decimal lastQtyDecimal) {
+        this.lastQtyDecimal = lastQtyDecimal;
+        this.lastQty = null;
     }
 
     public BigDecimal getOpen() {
+        if (open == null && openDecimal != null) {
+            open = openDecimal.toBigDecimal();
+        }
         return open;
     }
 
     public void setOpen(BigDecimal open) {
         this.open = open;
+        this.openDecimal = null;
+    }
+
+    public Decimal getOpenDecimal() {
+        if (openDecimal == null && open != null) {
+            openDecimal = Decimal.valueOf(open);
+        }
+        return openDecimal;
+    }
+
+    public void setOpenDecimal(Decimal openDecimal) {
+        this.openDecimal = openDecimal;
+        this.open = null;
     }
 
     public BigDecimal getHigh() {
+        if (high == null && highDecimal != null) {
+            high = highDecimal.toBigDecimal();
+        }
         return high;
     }
 
     public void setHigh(BigDecimal high) {
         this.high = high;
+        this.highDecimal = null;
+    }
+
+    public Decimal getHighDecimal() {
+        if (highDecimal == null && high != null) {
+            highDecimal = Decimal.valueOf(high);
+        }
+        return highDecimal;
+    }
+
+    public void setHighDecimal(Decimal highDecimal) {
+        this.highDecimal = highDecimal;
+        this.high = null;
     }
 
     public BigDecimal getLow() {
+        if (low == null && lowDecimal != null) {
+            low = lowDecimal.toBigDecimal();
+        }
         return low;
     }
 
     public void setLow(BigDecimal low) {
         this.low = low;
+        this.lowDecimal = null;
+    }
+
+    public Decimal getLowDecimal() {
+        if (lowDecimal == null && low != null) {
+            lowDecimal = Decimal.valueOf(low);
+        }
+        return lowDecimal;
+    }
+
+    public void setLowDecimal(Decimal lowDecimal) {
+        this.lowDecimal = lowDecimal;
+        this.low = null;
     }
 
     public BigDecimal getTotalTradedBaseAssetVolume() {
+        if (totalTradedBaseAssetVolume == null && totalTradedBaseAssetVolumeDecimal != null) {
+            totalTradedBaseAssetVolume = totalTradedBaseAssetVolumeDecimal.toBigDecimal();
+        }
         return totalTradedBaseAssetVolume;
     }
 
     public void setTotalTradedBaseAssetVolume(BigDecimal totalTradedBaseAssetVolume) {
         this.totalTradedBaseAssetVolume = totalTradedBaseAssetVolume;
+        this.totalTradedBaseAssetVolumeDecimal = null;
+    }
+
+    public Decimal getTotalTradedBaseAssetVolumeDecimal() {
+        if (totalTradedBaseAssetVolumeDecimal == null && totalTradedBaseAssetVolume != null) {
+            totalTradedBaseAssetVolumeDecimal = Decimal.valueOf(totalTradedBaseAssetVolume);
+        }
+        return totalTradedBaseAssetVolumeDecimal;
+    }
+
+    public void setTotalTradedBaseAssetVolumeDecimal(Decimal totalTradedBaseAssetVolumeDecimal) {
+        this.totalTradedBaseAssetVolumeDecimal = totalTradedBaseAssetVolumeDecimal;
+        this.totalTradedBaseAssetVolume = null;
     }
 
     public BigDecimal getTotalTradedQuoteAssetVolume() {
+        if (totalTradedQuoteAssetVolume == null && totalTradedQuoteAssetVolumeDecimal != null) {
+            totalTradedQuoteAssetVolume = totalTradedQuoteAssetVolumeDecimal.toBigDecimal();
+        }
         return totalTradedQuoteAssetVolume;
     }
 
     public void setTotalTradedQuoteAssetVolume(BigDecimal totalTradedQuoteAssetVolume) {
         this.totalTradedQuoteAssetVolume = totalTradedQuoteAssetVolume;
+        this.totalTradedQuoteAssetVolumeDecimal = null;
+    }
+
+    public Decimal getTotalTradedQuoteAssetVolumeDecimal() {
+        if (totalTradedQuoteAssetVolumeDecimal == null && totalTradedQuoteAssetVolume != null) {
+            totalTradedQuoteAssetVolumeDecimal = Decimal.valueOf(totalTradedQuoteAssetVolume);
+        }
+        return totalTradedQuoteAssetVolumeDecimal;
+    }
+
+    public void setTotalTradedQuoteAssetVolumeDecimal(Decimal totalTradedQuoteAssetVolumeDecimal) {
+        this.totalTradedQuoteAssetVolumeDecimal = totalTradedQuoteAssetVolumeDecimal;
+        this.totalTradedQuoteAssetVolume = null;
     }
 
     public Long getOpenTime() {
@@ -190,11 +371,11 @@ public class SymbolTickerEvent {
     @Override
     public String toString() {
         return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE).append("eventType", eventType)
-                .append("eventTime", eventTime).append("symbol", symbol).append("priceChange", priceChange)
-                .append("priceChangePercent", priceChangePercent).append("weightedAvgPrice", weightedAvgPrice)
-                .append("lastPrice", lastPrice).append("lastQty", lastQty).append("open", open).append("high", high)
-                .append("low", low).append("totalTradedBaseAssetVolume", totalTradedBaseAssetVolume)
-                .append("totalTradedQuoteAssetVolume", totalTradedQuoteAssetVolume).append("openTime", openTime)
+                .append("eventTime", eventTime).append("symbol", symbol).append("priceChange", getPriceChange())
+                .append("priceChangePercent", getPriceChangePercent()).append("weightedAvgPrice", getWeightedAvgPrice())
+                .append("lastPrice", getLastPrice()).append("lastQty", getLastQty()).append("open", getOpen()).append("high", getHigh())
+                .append("low", getLow()).append("totalTradedBaseAssetVolume", getTotalTradedBaseAssetVolume())
+                .append("totalTradedQuoteAssetVolume", getTotalTradedQuoteAssetVolume()).append("openTime", openTime)
                 .append("closeTime", closeTime).append("firstId", firstId).append("lastId", lastId)
                 .append("count", count).toString();
     }
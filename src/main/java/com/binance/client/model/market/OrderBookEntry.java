@@ -1,6 +1,7 @@
 package com.binance.client.model.market;
 
 import com.binance.client.constant.BinanceApiConstants;
+import com.binance.client.model.Decimal;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigDecimal;
@@ -9,27 +10,63 @@ public class OrderBookEntry {
 
     private BigDecimal price;
 
+    private Decimal priceDecimal;
+
     private BigDecimal qty;
 
+    private Decimal qtyDecimal;
+
     public BigDecimal getPrice() {
+        if (price == null && priceDecimal != null) {
+            price = priceDecimal.toBigDecimal();
+        }
         return price;
     }
 
     public void setPrice(BigDecimal price) {
         this.price = price;
+        this.priceDecimal = null;
+    }
+
+    public Decimal getPriceDecimal() {
+        if (priceDecimal == null && price != null) {
+            priceDecimal = Decimal.valueOf(price);
+        }
+        return priceDecimal;
+    }
+
+    public void setPriceDecimal(Decimal priceDecimal) {
+        this.priceDecimal = priceDecimal;
+        this.price = null;
     }
 
     public BigDecimal getQty() {
+        if (qty == null && qtyDecimal != null) {
+            qty = qtyDecimal.toBigDecimal();
+        }
         return qty;
     }
 
     public void setQty(BigDecimal qty) {
         this.qty = qty;
+        this.qtyDecimal = null;
+    }
+
+    public Decimal getQtyDecimal() {
+        if (qtyDecimal == null && qty != null) {
+            qtyDecimal = Decimal.valueOf(qty);
+        }
+        return qtyDecimal;
+    }
+
+    public void setQtyDecimal(Decimal qtyDecimal) {
+        this.qtyDecimal = qtyDecimal;
+        this.qty = null;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE).append("price", price)
-                .append("qty", qty).toString();
+        return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE).append("price", getPrice())
+                .append("qty", getQty()).toString();
     }
 }
@@ -0,0 +1,314 @@
+package com.binance.client.model.market;
+
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.event.PriceLevelUpdate;
+import java.math.BigDecimal;
+
+/**
+ * An order book held in sorted primitive arrays. Prices are kept in ticks and
+ * quantities in lots, that is scaled to longs by the symbol's price and quantity
+ * precision, so a level costs two longs instead of an entry and two BigDecimals.
+ * Updates are applied in place. Not thread safe.
+ */
+public class PriceLevelBook {
+
+    private static final int MAX_SCALE = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final int priceScale;
+    private final int qtyScale;
+    private final Side bids = new Side(true);
+    private final Side asks = new Side(false);
+
+    /**
+     * @param priceScale The number of decimals of a price, 1 tick is 10^-priceScale.
+     * @param qtyScale   The number of decimals of a quantity, 1 lot is 10^-qtyScale.
+     */
+    public PriceLevelBook(int priceScale, int qtyScale) {
+        checkScale(priceScale);
+        checkScale(qtyScale);
+        this.priceScale = priceScale;
+        this.qtyScale = qtyScale;
+    }
+
+    /**
+     * Create a book scaled by the price and quantity precision of a symbol.
+     */
+    public static PriceLevelBook of(ExchangeInfoEntry symbolInfo) {
+        return new PriceLevelBook(symbolInfo.getPricePrecision().intValue(),
+                symbolInfo.getQuantityPrecision().intValue());
+    }
+
+    public int getPriceScale() {
+        return priceScale;
+    }
+
+    public int getQtyScale() {
+        return qtyScale;
+    }
+
+    /**
+     * Set the quantity of a bid level, removing the level if the quantity is zero.
+     */
+    public void updateBid(long priceTicks, long qtyLots) {
+        bids.update(priceTicks, qtyLots);
+    }
+
+    /**
+     * Set the quantity of an ask level, removing the level if the quantity is zero.
+     */
+    public void updateAsk(long priceTicks, long qtyLots) {
+        asks.update(priceTicks, qtyLots);
+    }
+
+    /**
+     * Apply the levels of a diff. The diff must use the scales of this book.
+     */
+    public void apply(PriceLevelUpdate update) {
+        for (int i = 0; i < update.getBidCount(); i++) {
+            bids.update(update.getBidPrice(i), update.getBidQty(i));
+        }
+        for (int i = 0; i < update.getAskCount(); i++) {
+            asks.update(update.getAskPrice(i), update.getAskQty(i));
+        }
+    }
+
+    /**
+     * Replace the content of the book with a snapshot.
+     */
+    public void load(OrderBook snapshot) {
+        clear();
+        for (OrderBookEntry entry : snapshot.getBids()) {
+            bids.update(toTicks(entry.getPrice()), toLots(entry.getQty()));
+        }
+        for (OrderBookEntry entry : snapshot.getAsks()) {
+            asks.update(toTicks(entry.getPrice()), toLots(entry.getQty()));
+        }
+    }
+
+    public void clear() {
+        bids.size = 0;
+        asks.size = 0;
+    }
+
+    public int getBidCount() {
+        return bids.size;
+    }
+
+    public int getAskCount() {
+        return asks.size;
+    }
+
+    /**
+     * @param level The level, 0 for the highest bid.
+     */
+    public long getBidPrice(int level) {
+        return bids.prices[bids.check(level)];
+    }
+
+    public long getBidQty(int level) {
+        return bids.qtys[bids.check(level)];
+    }
+
+    /**
+     * @param level The level, 0 for the lowest ask.
+     */
+    public long getAskPrice(int level) {
+        return asks.prices[asks.check(level)];
+    }
+
+    public long getAskQty(int level) {
+        return asks.qtys[asks.check(level)];
+    }
+
+    /**
+     * @return The bid quantity at the price, zero if there is no such level.
+     */
+    public long getBidQtyAt(long priceTicks) {
+        int index = bids.search(priceTicks);
+        return index >= 0 ? bids.qtys[index] : 0;
+    }
+
+    /**
+     * @return The ask quantity at the price, zero if there is no such level.
+     */
+    public long getAskQtyAt(long priceTicks) {
+        int index = asks.search(priceTicks);
+        return index >= 0 ? asks.qtys[index] : 0;
+    }
+
+    public long toTicks(BigDecimal price) {
+        return scale(price, priceScale);
+    }
+
+    public long toLots(BigDecimal qty) {
+        return scale(qty, qtyScale);
+    }
+
+    public BigDecimal toPrice(long priceTicks) {
+        return BigDecimal.valueOf(priceTicks, priceScale);
+    }
+
+    public BigDecimal toQty(long qtyLots) {
+        return BigDecimal.valueOf(qtyLots, qtyScale);
+    }
+
+    /**
+     * Parse a decimal as a long scaled by 10^scale, without creating a
+     * BigDecimal. Digits past the scale must be zeros.
+     */
+    public static long parseScaled(CharSequence text, int scale) {
+        return parseScaled(text, 0, text.length(), scale);
+    }
+
+    /**
+     * Parse the decimal between two indexes of the text, as
+     * {@link #parseScaled(CharSequence, int)}.
+     */
+    public static long parseScaled(CharSequence text, int start, int end, int scale) {
+        int i = start;
+        boolean negative = end > start && text.charAt(start) == '-';
+        if (negative) {
+            i++;
+        }
+        long value = 0;
+        int decimals = -1;
+        int digits = 0;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && decimals < 0) {
+                decimals = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw parseError(text, start, end);
+            }
+            digits++;
+            if (decimals >= 0 && ++decimals > scale) {
+                if (c != '0') {
+                    throw new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                            "[Book] " + text.subSequence(start, end) + " has more than " + scale + " decimals");
+                }
+                continue;
+            }
+            if (value > (Long.MAX_VALUE - 9) / 10) {
+                throw parseError(text, start, end);
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (digits == 0) {
+            throw parseError(text, start, end);
+        }
+        int missing = scale - Math.max(decimals, 0);
+        if (missing > 0) {
+            if (value > Long.MAX_VALUE / POWERS_OF_TEN[missing]) {
+                throw parseError(text, start, end);
+            }
+            value *= POWERS_OF_TEN[missing];
+        }
+        return negative ? -value : value;
+    }
+
+    private static long scale(BigDecimal value, int scale) {
+        try {
+            return value.movePointRight(scale).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "[Book] " + value + " does not fit " + scale + " decimals");
+        }
+    }
+
+    private static BinanceApiException parseError(CharSequence text, int start, int end) {
+        return new BinanceApiException(BinanceApiException.RUNTIME_ERROR,
+                "[Book] Invalid decimal " + text.subSequence(start, end));
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                    "[Book] The scale must be between 0 and " + MAX_SCALE);
+        }
+    }
+
+    /**
+     * One side of the book, best level first.
+     */
+    private static final class Side {
+
+        final boolean descending;
+        long[] prices = new long[64];
+        long[] qtys = new long[64];
+        int size = 0;
+
+        Side(boolean descending) {
+            this.descending = descending;
+        }
+
+        /**
+         * @return The index of the price, or -(insertion point) - 1.
+         */
+        int search(long price) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long midPrice = prices[mid];
+                if (midPrice == price) {
+                    return mid;
+                }
+                if (descending ? midPrice > price : midPrice < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void update(long price, long qty) {
+            int index = search(price);
+            if (index >= 0) {
+                if (qty == 0) {
+                    System.arraycopy(prices, index + 1, prices, index, size - index - 1);
+                    System.arraycopy(qtys, index + 1, qtys, index, size - index - 1);
+                    size--;
+                } else {
+                    qtys[index] = qty;
+                }
+                return;
+            }
+            if (qty == 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == prices.length) {
+                long[] grownPrices = new long[size * 2];
+                long[] grownQtys = new long[size * 2];
+                System.arraycopy(prices, 0, grownPrices, 0, size);
+                System.arraycopy(qtys, 0, grownQtys, 0, size);
+                prices = grownPrices;
+                qtys = grownQtys;
+            }
+            System.arraycopy(prices, index, prices, index + 1, size - index);
+            System.arraycopy(qtys, index, qtys, index + 1, size - index);
+            prices[index] = price;
+            qtys[index] = qty;
+            size++;
+        }
+
+        int check(int level) {
+            if (level < 0 || level >= size) {
+                throw new BinanceApiException(BinanceApiException.INPUT_ERROR,
+                        "[Book] Level " + level + " is out of bound, size is " + size);
+            }
+            return level;
+        }
+    }
+}
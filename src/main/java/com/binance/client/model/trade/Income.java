@@ -17,6 +17,8 @@ public class Income {
 
     private Long time;
 
+    private Long tranId;
+
     public String getSymbol() {
         return symbol;
     }
@@ -57,10 +59,18 @@ public class Income {
         this.time = time;
     }
 
+    public Long getTranId() {
+        return tranId;
+    }
+
+    public void setTranId(Long tranId) {
+        this.tranId = tranId;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE).append("symbol", symbol)
                 .append("incomeType", incomeType).append("income", income).append("asset", asset).append("time", time)
-                .toString();
+                .append("tranId", tranId).toString();
     }
 }
@@ -0,0 +1,19 @@
+package com.binance.client.examples.async;
+
+import com.binance.client.AsyncRequestClient;
+import com.binance.client.RequestOptions;
+import com.binance.client.examples.constants.PrivateConfig;
+
+public class GetOrderBookAsync {
+    public static void main(String[] args) {
+        RequestOptions options = new RequestOptions();
+        AsyncRequestClient asyncRequestClient = AsyncRequestClient.create(PrivateConfig.API_KEY, PrivateConfig.SECRET_KEY,
+                options);
+
+        // future style
+        System.out.println(asyncRequestClient.getOrderBook("BTCUSDT", null).join());
+
+        // callback style
+        asyncRequestClient.getSymbolPriceTicker("BTCUSDT", System.out::println);
+    }
+}
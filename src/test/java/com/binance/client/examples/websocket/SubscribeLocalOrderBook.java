@@ -0,0 +1,25 @@
+package com.binance.client.examples.websocket;
+
+import com.binance.client.AsyncRequestClient;
+import com.binance.client.LocalOrderBook;
+import com.binance.client.RequestOptions;
+import com.binance.client.SubscriptionClient;
+import com.binance.client.examples.constants.PrivateConfig;
+
+public class SubscribeLocalOrderBook {
+
+    public static void main(String[] args) {
+
+        SubscriptionClient client = SubscriptionClient.create();
+        AsyncRequestClient asyncRequestClient = AsyncRequestClient.create(PrivateConfig.API_KEY,
+                PrivateConfig.SECRET_KEY, new RequestOptions());
+
+        LocalOrderBook book = new LocalOrderBook("btcusdt", client, asyncRequestClient);
+        book.start().join();
+        System.out.println(book.getBestBid() + " " + book.getBestAsk());
+        System.out.println(book.getTopBids(5));
+        book.close();
+
+    }
+
+}
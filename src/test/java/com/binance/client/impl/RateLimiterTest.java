@@ -0,0 +1,110 @@
+package com.binance.client.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.binance.client.exception.BinanceApiException;
+import com.binance.client.model.market.RateLimit;
+import java.util.LinkedList;
+import java.util.List;
+import okhttp3.Headers;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Drives the rate limiter with a fake clock and checks that usage is counted in
+ * fixed windows aligned to the interval.
+ */
+public class RateLimiterTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private long now;
+    private RateLimiter rateLimiter;
+
+    @Before
+    public void createRateLimiter() {
+        now = 1000 * MINUTE + 15_000;
+        rateLimiter = new RateLimiter(limits(10, 5), 0, () -> now);
+    }
+
+    @Test
+    public void testBurstWaitsForWindowToRoll() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(1, 0));
+        }
+        assertEquals(45_000, rateLimiter.tryAcquire(1, 0));
+
+        now += 44_999;
+        assertEquals(1, rateLimiter.tryAcquire(1, 0));
+
+        now += 1;
+        assertEquals(0, rateLimiter.tryAcquire(1, 0));
+    }
+
+    @Test
+    public void testFullWindowRejectsWithoutWait() {
+        assertEquals(0, rateLimiter.tryAcquire(10, 0));
+        try {
+            rateLimiter.acquire(1, 0);
+            fail("The request went out while the window is full");
+        } catch (BinanceApiException e) {
+            assertEquals(BinanceApiException.RATE_LIMIT_ERROR, e.getErrType());
+        }
+        assertTrue(rateLimiter.acquireAsync(1, 0).isCompletedExceptionally());
+    }
+
+    @Test
+    public void testOrdersCountedSeparately() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(1, 1));
+        }
+        assertEquals(45_000, rateLimiter.tryAcquire(1, 1));
+        assertEquals(0, rateLimiter.tryAcquire(1, 0));
+    }
+
+    @Test
+    public void testServerUsageReplacesLocalCount() {
+        rateLimiter.onResponse(200, Headers.of("X-MBX-USED-WEIGHT-1M", "10", "X-MBX-ORDER-COUNT-1M", "2"));
+        assertEquals(45_000, rateLimiter.tryAcquire(1, 0));
+        assertEquals(45_000, rateLimiter.tryAcquire(0, 4));
+        assertEquals(0, rateLimiter.tryAcquire(0, 3));
+
+        rateLimiter.onResponse(200, Headers.of("X-MBX-USED-WEIGHT-1M", "4"));
+        assertEquals(0, rateLimiter.tryAcquire(6, 0));
+        assertEquals(45_000, rateLimiter.tryAcquire(1, 0));
+    }
+
+    @Test
+    public void testUsageKeptWhenLimitsUpdated() {
+        assertEquals(0, rateLimiter.tryAcquire(8, 0));
+        rateLimiter.updateRateLimits(limits(20, 5));
+        assertEquals(0, rateLimiter.tryAcquire(12, 0));
+        assertEquals(45_000, rateLimiter.tryAcquire(1, 0));
+    }
+
+    @Test
+    public void testTooManyRequestsHoldsRequests() {
+        rateLimiter.onResponse(429, Headers.of("Retry-After", "2"));
+        assertEquals(2_000, rateLimiter.tryAcquire(1, 0));
+        now += 2_000;
+        assertEquals(0, rateLimiter.tryAcquire(1, 0));
+    }
+
+    private static List<RateLimit> limits(long weight, long orders) {
+        List<RateLimit> limits = new LinkedList<>();
+        limits.add(limit(RateLimiter.REQUEST_WEIGHT, weight));
+        limits.add(limit(RateLimiter.ORDERS, orders));
+        return limits;
+    }
+
+    private static RateLimit limit(String type, long limit) {
+        RateLimit rateLimit = new RateLimit();
+        rateLimit.setRateLimitType(type);
+        rateLimit.setInterval("MINUTE");
+        rateLimit.setIntervalNum(1L);
+        rateLimit.setLimit(limit);
+        return rateLimit;
+    }
+}
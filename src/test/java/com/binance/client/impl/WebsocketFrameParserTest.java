@@ -0,0 +1,131 @@
+package com.binance.client.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.binance.client.impl.utils.JsonWrapper;
+import com.binance.client.model.enums.CandlestickInterval;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Feeds each recorded frame through the JsonWrapper parser and the frame parser
+ * of its subscription, and checks that both give the same event, getter by
+ * getter, down to the nested entries.
+ */
+public class WebsocketFrameParserTest {
+
+    private static final String RECORDED = "benchmarks/src/main/resources/recorded/ws";
+    private static final String[] STREAMS = {"aggTrade", "markPriceUpdate", "kline", "24hrMiniTicker",
+        "allMiniTickers", "24hrTicker", "allTickers", "bookTicker", "forceOrder", "depth5", "depthUpdate",
+        "ACCOUNT_UPDATE", "ORDER_TRADE_UPDATE"};
+
+    @Test
+    public void testFrameParsersMatchJsonParsers() throws Exception {
+        checkAll(false, false);
+    }
+
+    @Test
+    public void testFixedPointFrameParsersMatchJsonParsers() throws Exception {
+        checkAll(true, false);
+    }
+
+    @Test
+    public void testFlyweightFrameParsersMatchJsonParsers() throws Exception {
+        checkAll(false, true);
+    }
+
+    private void checkAll(boolean fixedPointDecimals, boolean flyweightEvents) throws Exception {
+        for (String stream : STREAMS) {
+            String frame = frame(stream);
+            WebsocketRequest<?> request = subscribe(
+                    new WebsocketRequestImpl(fixedPointDecimals, flyweightEvents, true), stream);
+            assertNotNull(stream + " has no frame parser", request.frameParser);
+            Object expected = request.jsonParser.parseJson(JsonWrapper.parseFromString(frame));
+            Object actual = request.frameParser.parseFrame(frame);
+            int fields = compare(stream, expected, actual);
+            assertTrue(stream + " compared no fields", fields > 0);
+        }
+    }
+
+    private static String frame(String stream) throws IOException {
+        return new String(Files.readAllBytes(Paths.get(RECORDED, stream + ".json")), StandardCharsets.UTF_8).trim();
+    }
+
+    private static WebsocketRequest<?> subscribe(WebsocketRequestImpl requestImpl, String stream) {
+        switch (stream) {
+            case "aggTrade":
+                return requestImpl.subscribeAggregateTradeEvent("btcusdt", event -> { }, null);
+            case "markPriceUpdate":
+                return requestImpl.subscribeMarkPriceEvent("btcusdt", event -> { }, null);
+            case "kline":
+                return requestImpl.subscribeCandlestickEvent("btcusdt", CandlestickInterval.ONE_MINUTE,
+                        event -> { }, null);
+            case "24hrMiniTicker":
+                return requestImpl.subscribeSymbolMiniTickerEvent("btcusdt", event -> { }, null);
+            case "allMiniTickers":
+                return requestImpl.subscribeAllMiniTickerEvent(event -> { }, null);
+            case "24hrTicker":
+                return requestImpl.subscribeSymbolTickerEvent("btcusdt", event -> { }, null);
+            case "allTickers":
+                return requestImpl.subscribeAllTickerEvent(event -> { }, null);
+            case "bookTicker":
+                return requestImpl.subscribeSymbolBookTickerEvent("btcusdt", event -> { }, null);
+            case "forceOrder":
+                return requestImpl.subscribeSymbolLiquidationOrderEvent("btcusdt", event -> { }, null);
+            case "depth5":
+                return requestImpl.subscribeBookDepthEvent("btcusdt", 5, event -> { }, null);
+            case "depthUpdate":
+                return requestImpl.subscribeDiffDepthEvent("btcusdt", event -> { }, null);
+            default:
+                return requestImpl.subscribeUserDataEvent("listenKey", event -> { }, null);
+        }
+    }
+
+    /**
+     * Compare two parsed values: model objects getter by getter, lists element by
+     * element, anything else with equals.
+     *
+     * @return The number of non-null leaf values compared.
+     */
+    private static int compare(String path, Object expected, Object actual) throws Exception {
+        if (expected == null || actual == null) {
+            assertEquals(path, expected, actual);
+            return 0;
+        }
+        if (expected instanceof List) {
+            List<?> expectedList = (List<?>) expected;
+            List<?> actualList = (List<?>) actual;
+            assertEquals(path + ".size", expectedList.size(), actualList.size());
+            int fields = 0;
+            for (int i = 0; i < expectedList.size(); i++) {
+                fields += compare(path + "[" + i + "]", expectedList.get(i), actualList.get(i));
+            }
+            return fields;
+        }
+        if (!expected.getClass().getName().startsWith("com.binance.client.model.")
+                || expected.getClass().isEnum() || expected instanceof Comparable) {
+            assertEquals(path, expected, actual);
+            return 1;
+        }
+        assertEquals(path, expected.getClass(), actual.getClass());
+        int fields = 0;
+        for (Method getter : expected.getClass().getMethods()) {
+            String name = getter.getName();
+            if (getter.getParameterCount() != 0 || Modifier.isStatic(getter.getModifiers())
+                    || getter.getDeclaringClass() == Object.class
+                    || !(name.startsWith("get") || name.startsWith("is"))) {
+                continue;
+            }
+            fields += compare(path + "." + name, getter.invoke(expected), getter.invoke(actual));
+        }
+        return fields;
+    }
+}